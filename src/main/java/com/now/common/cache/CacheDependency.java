@@ -0,0 +1,138 @@
+package com.now.common.cache;
+
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 캐시 엔트리가 의존하는 게시글 번호와 조회 조건의 형태를 담는 객체
+ */
+@Getter
+@ToString(exclude = "value")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheDependency {
+
+    /**
+     * 엔트리에 포함된 게시글 번호 목록
+     */
+    private final Set<Long> postIndexes;
+
+    /**
+     * 조회 조건으로 만들어진 엔트리(목록, 개수)라면 true
+     */
+    private final boolean conditional;
+
+    /**
+     * 조회 조건의 게시물 그룹, null 이라면 모든 게시물 그룹에 의존
+     */
+    private final PostGroup postGroup;
+
+    /**
+     * 조회 조건의 정렬 방식
+     */
+    private final Sort sort;
+
+    /**
+     * 카테고리, 키워드, 날짜 조건이 포함되어 게시글 수정으로 포함 여부가 바뀔 수 있다면 true
+     */
+    private final boolean filtered;
+
+    /**
+     * 캐시에 저장된 값(제거 시 같은 엔트리인지 확인하기 위해 사용)
+     */
+    private final Object value;
+
+    /**
+     * 조회 조건, 게시글 번호 인자, 저장될 값으로부터 의존성 정보를 생성
+     *
+     * @param condition         조회 조건, 없다면 null
+     * @param postIdxArguments  메서드 인자로 전달된 게시글 번호 목록
+     * @param value             캐시에 저장될 값
+     * @return 생성된 의존성 정보
+     */
+    public static CacheDependency of(Condition condition, Collection<Long> postIdxArguments, Object value) {
+        Set<Long> postIndexes = new HashSet<>(postIdxArguments);
+        collectPostIndexes(value, postIndexes);
+
+        if (condition == null) {
+            return new CacheDependency(Collections.unmodifiableSet(postIndexes), false, null, null, false, value);
+        }
+        return new CacheDependency(Collections.unmodifiableSet(postIndexes), true,
+                condition.getPostGroup(), condition.getSort(), isFiltered(condition), value);
+    }
+
+    /**
+     * 전달받은 게시글 번호를 포함한다면 true 반환, 그렇지 않다면 false 반환
+     *
+     * @param postIdx 게시글 번호
+     * @return 게시글 번호를 포함한다면 true 반환, 그렇지 않다면 false 반환
+     */
+    public boolean containsPost(Long postIdx) {
+        return postIndexes.contains(postIdx);
+    }
+
+    /**
+     * 전달받은 게시물 그룹의 조회 조건으로 만들어진 엔트리라면 true 반환, 그렇지 않다면 false 반환
+     *
+     * @param postGroup 게시물 그룹
+     * @return 게시물 그룹의 조회 조건으로 만들어진 엔트리라면 true 반환, 그렇지 않다면 false 반환
+     */
+    public boolean dependsOnGroup(PostGroup postGroup) {
+        return conditional && (this.postGroup == null || this.postGroup == postGroup);
+    }
+
+    /**
+     * 전달받은 정렬 방식의 조회 조건으로 만들어진 엔트리라면 true 반환, 그렇지 않다면 false 반환
+     *
+     * @param sort 정렬 방식
+     * @return 정렬 방식의 조회 조건으로 만들어진 엔트리라면 true 반환, 그렇지 않다면 false 반환
+     */
+    public boolean isSortedBy(Sort sort) {
+        return conditional && this.sort == sort;
+    }
+
+    /**
+     * 저장된 값이 전달받은 값과 같은 객체라면 true 반환, 그렇지 않다면 false 반환
+     *
+     * @param value 비교할 값
+     * @return 같은 객체라면 true 반환, 그렇지 않다면 false 반환
+     */
+    public boolean isSameValue(Object value) {
+        return this.value == value;
+    }
+
+    /**
+     * 카테고리, 키워드, 날짜 조건 중 하나라도 포함되어 있다면 true 반환
+     *
+     * @param condition 조회 조건
+     * @return 필터 조건이 포함되어 있다면 true 반환, 그렇지 않다면 false 반환
+     */
+    private static boolean isFiltered(Condition condition) {
+        return condition.getCategory() != null || condition.getKeyword() != null
+                || condition.getStartDate() != null || condition.getEndDate() != null;
+    }
+
+    /**
+     * 캐시에 저장될 값에서 게시글 번호를 수집
+     *
+     * @param value       캐시에 저장될 값
+     * @param postIndexes 수집된 게시글 번호를 담을 Set
+     */
+    private static void collectPostIndexes(Object value, Set<Long> postIndexes) {
+        if (value instanceof PostDependentValue) {
+            postIndexes.addAll(((PostDependentValue) value).postIndexes());
+        }
+        if (value instanceof Collection) {
+            ((Collection<?>) value).forEach(element -> collectPostIndexes(element, postIndexes));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.now.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시 이름별로 캐시 키와 해당 엔트리의 의존성 정보를 관리하는 클래스
+ */
+@Slf4j
+@Component
+public class CacheDependencyTracker {
+
+    private final Map<String, Map<Object, CacheDependency>> dependencies = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 엔트리의 의존성 정보 기록
+     *
+     * @param cacheName  캐시 이름
+     * @param key        캐시 키
+     * @param dependency 의존성 정보
+     */
+    public void record(String cacheName, Object key, CacheDependency dependency) {
+        dependencies.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>()).put(key, dependency);
+    }
+
+    /**
+     * 캐시 엔트리의 의존성 정보 제거
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     */
+    public void remove(String cacheName, Object key) {
+        Map<Object, CacheDependency> cacheDependencies = dependencies.get(cacheName);
+        if (cacheDependencies != null) {
+            cacheDependencies.remove(key);
+        }
+    }
+
+    /**
+     * 기록된 값과 제거된 값이 같은 경우에만 의존성 정보 제거(같은 키로 새로 저장된 엔트리의 의존성 보존)
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param value     캐시에서 제거된 값
+     */
+    public void removeIfSameValue(String cacheName, Object key, Object value) {
+        Map<Object, CacheDependency> cacheDependencies = dependencies.get(cacheName);
+        if (cacheDependencies != null) {
+            cacheDependencies.computeIfPresent(key, (k, dependency) -> dependency.isSameValue(value) ? null : dependency);
+        }
+    }
+
+    /**
+     * 캐시의 모든 의존성 정보 제거
+     *
+     * @param cacheName 캐시 이름
+     */
+    public void clear(String cacheName) {
+        dependencies.remove(cacheName);
+    }
+
+    /**
+     * 조건을 만족하는 의존성 정보를 가진 캐시 키 목록 반환
+     *
+     * @param cacheName 캐시 이름
+     * @param predicate 의존성 정보에 대한 조건
+     * @return 조건을 만족하는 캐시 키 목록
+     */
+    public Set<Object> findKeys(String cacheName, Predicate<CacheDependency> predicate) {
+        return dependencies.getOrDefault(cacheName, Map.of()).entrySet().stream()
+                .filter(entry -> predicate.test(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 캐시에 기록된 의존성 정보 수 반환
+     *
+     * @param cacheName 캐시 이름
+     * @return 기록된 의존성 정보 수
+     */
+    public int size(String cacheName) {
+        return dependencies.getOrDefault(cacheName, Map.of()).size();
+    }
+}
@@ -0,0 +1,87 @@
+package com.now.common.cache;
+
+import com.now.core.category.domain.constants.Category;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 조회 조건으로부터 만들어지는 불변 캐시 키
+ *
+ * 모든 필드를 equals 로 비교하므로 hashCode 가 충돌하더라도 다른 조건의 엔트리가 반환되지 않으며,
+ * 같은 의미의 조건(기본 페이지 값 등)은 같은 키로 정규화
+ * 키워드는 쿼리와 같은 값을 사용하도록 {@link Condition}에서 정규화된 값을 그대로 사용
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConditionCacheKey {
+
+    private static final int DEFAULT_MAX_NUMBER_OF_POSTS = 10;
+    private static final int DEFAULT_PAGE_NO = 1;
+
+    private final String methodName; // 같은 캐시를 사용하는 메서드 간 키 구분
+    private final String startDate; // 존재하지 않는 날짜(2023-02-31 등)도 쿼리와 같이 빈 결과로 캐시하도록 파싱하지 않음
+    private final String endDate;
+    private final PostGroup postGroup;
+    private final Category category;
+    private final String keyword;
+    private final Sort sort;
+    private final Integer maxNumberOfPosts;
+    private final Integer pageNo;
+    private final String cursor;
+
+    /**
+     * 정렬, 페이지 정보(페이지 커서 포함)를 포함한 캐시 키 생성(목록 조회)
+     *
+     * @param methodName 캐시를 사용하는 메서드 이름
+     * @param condition  조회 조건
+     * @return 생성된 캐시 키
+     */
+    public static ConditionCacheKey of(String methodName, Condition condition) {
+        return new ConditionCacheKey(methodName,
+                trimToNull(condition.getStartDate()),
+                trimToNull(condition.getEndDate()),
+                condition.getPostGroup(),
+                condition.getCategory(),
+                condition.getKeyword(),
+                condition.getSort(),
+                defaultIfNull(condition.getMaxNumberOfPosts(), DEFAULT_MAX_NUMBER_OF_POSTS),
+                defaultIfNull(condition.getPageNo(), DEFAULT_PAGE_NO),
+                trimToNull(condition.getCursor()));
+    }
+
+    /**
+     * 정렬, 페이지 정보를 제외한 캐시 키 생성(개수 조회)
+     *
+     * @param methodName 캐시를 사용하는 메서드 이름
+     * @param condition  조회 조건
+     * @return 생성된 캐시 키
+     */
+    public static ConditionCacheKey withoutPage(String methodName, Condition condition) {
+        return new ConditionCacheKey(methodName,
+                trimToNull(condition.getStartDate()),
+                trimToNull(condition.getEndDate()),
+                condition.getPostGroup(),
+                condition.getCategory(),
+                condition.getKeyword(),
+                null, null, null, null);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private static Integer defaultIfNull(Integer value, int defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,35 @@
+package com.now.common.cache;
+
+import com.now.core.post.common.presentation.dto.Condition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * 메서드 인자의 조회 조건으로 {@link ConditionCacheKey}를 생성하는 KeyGenerator
+ */
+@RequiredArgsConstructor
+public class ConditionCacheKeyGenerator implements KeyGenerator {
+
+    /**
+     * 정렬, 페이지 정보를 키에 포함한다면 true
+     */
+    private final boolean includePage;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        Condition condition = Arrays.stream(params)
+                .filter(Condition.class::isInstance)
+                .map(Condition.class::cast)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Condition argument is required to generate cache key: " + method.getName()));
+
+        if (includePage) {
+            return ConditionCacheKey.of(method.getName(), condition);
+        }
+        return ConditionCacheKey.withoutPage(method.getName(), condition);
+    }
+}
@@ -0,0 +1,98 @@
+package com.now.common.cache;
+
+import com.now.core.post.common.presentation.dto.Condition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 캐시 저장 시 엔트리의 의존성 정보를 함께 기록하는 캐시 데코레이터
+ *
+ * 캐시 연산 한 번(메서드 호출 한 번)에 대해 생성되며, 호출 인자로 전달된 조회 조건과 게시글 번호를 의존성으로 기록
+ */
+@RequiredArgsConstructor
+public class DependencyTrackingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheDependencyTracker tracker;
+    private final Condition condition;
+    private final List<Long> postIdxArguments;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        T value = delegate.get(key, valueLoader);
+        record(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        record(key, value);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existingValue = delegate.putIfAbsent(key, value);
+        if (existingValue == null) {
+            record(key, value);
+        }
+        return existingValue;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        tracker.remove(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        tracker.remove(getName(), key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        tracker.clear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        tracker.clear(getName());
+        return delegate.invalidate();
+    }
+
+    /**
+     * 캐시 키에 대한 의존성 정보 기록
+     *
+     * @param key   캐시 키
+     * @param value 캐시에 저장될 값
+     */
+    private void record(Object key, Object value) {
+        tracker.record(getName(), key, CacheDependency.of(condition, postIdxArguments, value));
+    }
+}
@@ -0,0 +1,78 @@
+package com.now.common.cache;
+
+import com.now.core.post.common.presentation.dto.Condition;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.SimpleCacheResolver;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시 연산마다 의존성 정보를 기록하는 {@link DependencyTrackingCache}로 캐시를 감싸서 반환하는 CacheResolver
+ */
+public class DependencyTrackingCacheResolver extends SimpleCacheResolver {
+
+    private static final String POST_IDX_PARAMETER_NAME = "postIdx";
+
+    private final CacheDependencyTracker tracker;
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    public DependencyTrackingCacheResolver(CacheManager cacheManager, CacheDependencyTracker tracker) {
+        super(cacheManager);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        Condition condition = findCondition(context.getArgs());
+        List<Long> postIdxArguments = findPostIdxArguments(context.getMethod(), context.getArgs());
+
+        return super.resolveCaches(context).stream()
+                .map(cache -> new DependencyTrackingCache(cache, tracker, condition, postIdxArguments))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 메서드 인자 중 조회 조건 객체 반환, 없다면 null 반환
+     *
+     * @param args 메서드 인자
+     * @return 조회 조건 객체
+     */
+    private Condition findCondition(Object[] args) {
+        return Arrays.stream(args)
+                .filter(Condition.class::isInstance)
+                .map(Condition.class::cast)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 메서드 인자 중 이름이 postIdx 인 게시글 번호 목록 반환
+     *
+     * @param method 호출된 메서드
+     * @param args   메서드 인자
+     * @return 게시글 번호 목록
+     */
+    private List<Long> findPostIdxArguments(Method method, Object[] args) {
+        List<Long> postIdxArguments = new ArrayList<>();
+        String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+        if (parameterNames == null) {
+            return postIdxArguments;
+        }
+
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (POST_IDX_PARAMETER_NAME.equals(parameterNames[i]) && args[i] instanceof Long) {
+                postIdxArguments.add((Long) args[i]);
+            }
+        }
+        return postIdxArguments;
+    }
+}
@@ -0,0 +1,174 @@
+package com.now.common.cache;
+
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.application.PostChangedEvent;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static com.now.common.config.CachingConfig.*;
+
+/**
+ * 게시글 변경 시 기록된 의존성 정보를 바탕으로 영향을 받는 캐시 엔트리만 제거하는 클래스
+ *
+ * 게시글 등록, 수정, 삭제, 댓글 변경은 트랜잭션이 커밋된 후 {@link PostChangedEvent}를 받아 제거하므로
+ * 커밋되기 전의 값이 다시 캐시되지 않음
+ * 조회수 증가는 캐시를 제거하지 않으며, 캐시의 TTL 동안 이전 조회수가 노출될 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCacheInvalidator {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final CacheDependencyTracker tracker;
+
+    /**
+     * 게시글 변경이 커밋된 후 영향을 받는 엔트리 제거, 트랜잭션이 없다면 바로 제거
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED:
+                evictCreatedPost(event.getPostGroup());
+                return;
+            case UPDATED:
+                evictUpdatedPost(event.getPostGroup(), event.getPostIdx());
+                return;
+            case DELETED:
+                evictDeletedPost(event.getPostGroup(), event.getPostIdx());
+                return;
+            default:
+                evictCommentedPost(event.getPostIdx());
+        }
+    }
+
+    /**
+     * 게시글 등록 시 해당 게시물 그룹의 목록, 개수 엔트리 제거
+     *
+     * @param postGroup 등록된 게시글의 게시물 그룹
+     */
+    public void evictCreatedPost(PostGroup postGroup) {
+        evict(List.of(getGroupCacheName(postGroup), POST_CACHE),
+                dependency -> dependency.dependsOnGroup(postGroup));
+    }
+
+    /**
+     * 게시글 수정 시 해당 게시글을 포함한 엔트리와 필터 조건으로 포함 여부가 바뀔 수 있는 엔트리 제거
+     *
+     * @param postGroup 수정된 게시글의 게시물 그룹
+     * @param postIdx   수정된 게시글 번호
+     */
+    public void evictUpdatedPost(PostGroup postGroup, Long postIdx) {
+        evict(List.of(getGroupCacheName(postGroup), POST_CACHE),
+                dependency -> dependency.containsPost(postIdx)
+                        || (dependency.dependsOnGroup(postGroup) && dependency.isFiltered()));
+    }
+
+    /**
+     * 게시글 삭제 시 해당 게시글을 포함한 엔트리와 해당 게시물 그룹의 목록, 개수 엔트리 제거
+     *
+     * @param postGroup 삭제된 게시글의 게시물 그룹
+     * @param postIdx   삭제된 게시글 번호
+     */
+    public void evictDeletedPost(PostGroup postGroup, Long postIdx) {
+        evict(List.of(getGroupCacheName(postGroup), POST_CACHE),
+                dependency -> dependency.containsPost(postIdx) || dependency.dependsOnGroup(postGroup));
+    }
+
+    /**
+     * 댓글 등록, 수정, 삭제 시 해당 게시글을 포함한 엔트리 제거
+     *
+     * @param postIdx 댓글이 작성된 게시글 번호
+     */
+    public void evictCommentedPost(Long postIdx) {
+        evict(getAllCacheNames(), dependency -> dependency.containsPost(postIdx));
+    }
+
+    /**
+     * 회원의 반응이 저장된 후 해당 게시글의 반응 조회 엔트리 제거
+     * 좋아요, 싫어요 수가 반영된 목록은 {@link #evictReactedPosts(Collection)}에서 제거
+     *
+     * @param postIdx 반응이 저장된 게시글 번호
+     */
+    public void evictPostReactions(Long postIdx) {
+        evict(List.of(POST_CACHE), dependency -> dependency.containsPost(postIdx));
+    }
+
+    /**
+     * 게시글들의 좋아요, 싫어요 수가 반영된 후 해당 게시글을 포함한 엔트리와 추천순으로 정렬된 엔트리 제거
+     *
+     * @param postIndexes 좋아요, 싫어요 수가 변경된 게시글 번호 목록
+     */
+    public void evictReactedPosts(Collection<Long> postIndexes) {
+        evict(getAllCacheNames(), dependency -> dependency.isSortedBy(Sort.RECOMMENDED)
+                || postIndexes.stream().anyMatch(dependency::containsPost));
+    }
+
+    /**
+     * 캐시 목록에서 조건을 만족하는 엔트리 제거
+     *
+     * @param cacheNames 캐시 이름 목록
+     * @param predicate  제거할 엔트리의 의존성 조건
+     */
+    private void evict(List<String> cacheNames, Predicate<CacheDependency> predicate) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null) {
+            return;
+        }
+
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+
+            Set<Object> keys = tracker.findKeys(cacheName, predicate);
+            keys.forEach(key -> {
+                cache.evict(key);
+                tracker.remove(cacheName, key);
+            });
+            log.debug("Evicted {} entries from {}", keys.size(), cacheName);
+        }
+    }
+
+    /**
+     * 게시물 그룹에 해당하는 목록 캐시 이름 반환
+     *
+     * @param postGroup 게시물 그룹
+     * @return 목록 캐시 이름
+     */
+    private String getGroupCacheName(PostGroup postGroup) {
+        switch (postGroup) {
+            case NOTICE:
+                return NOTICE_CACHE;
+            case COMMUNITY:
+                return COMMUNITY_CACHE;
+            case PHOTO:
+                return PHOTO_CACHE;
+            default:
+                return INQUIRY_CACHE;
+        }
+    }
+
+    /**
+     * 모든 캐시 이름 반환
+     *
+     * @return 모든 캐시 이름 목록
+     */
+    private List<String> getAllCacheNames() {
+        return List.of(POST_CACHE, NOTICE_CACHE, COMMUNITY_CACHE, PHOTO_CACHE, INQUIRY_CACHE);
+    }
+}
@@ -0,0 +1,18 @@
+package com.now.common.cache;
+
+import java.util.Set;
+
+/**
+ * 캐시에 저장되는 값 중 특정 게시글에 의존하는 값을 나타내는 인터페이스
+ *
+ * 캐시 저장 시 반환된 게시글 번호를 의존성으로 기록하여, 해당 게시글이 변경되면 관련 엔트리만 제거
+ */
+public interface PostDependentValue {
+
+    /**
+     * 값에 포함된 게시글 번호 목록 반환
+     *
+     * @return 값에 포함된 게시글 번호 목록
+     */
+    Set<Long> postIndexes();
+}
@@ -0,0 +1,37 @@
+package com.now.common.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+import static com.now.common.config.CachingConfig.*;
+
+/**
+ * 캐시 이름별 최대 엔트리 수와 TTL(Time To Live)을 정의한 enum
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CacheType {
+    POST(POST_CACHE, 10_000, Duration.ofMinutes(10)),
+    NOTICE(NOTICE_CACHE, 1_000, Duration.ofMinutes(30)),
+    COMMUNITY(COMMUNITY_CACHE, 1_000, Duration.ofMinutes(10)),
+    PHOTO(PHOTO_CACHE, 1_000, Duration.ofMinutes(10)),
+    INQUIRY(INQUIRY_CACHE, 1_000, Duration.ofMinutes(10)),
+    POST_COUNT(POST_COUNT_CACHE, 10_000, Duration.ofMinutes(1)); // 게시글 변경 시 제거하지 않으므로 TTL 만큼 이전 개수가 노출될 수 있음
+
+    /**
+     * 캐시 이름
+     */
+    private final String cacheName;
+
+    /**
+     * 캐시에 저장할 수 있는 최대 엔트리 수
+     */
+    private final long maximumSize;
+
+    /**
+     * 엔트리가 저장된 후 만료되기까지의 시간
+     */
+    private final Duration expireAfterWrite;
+}
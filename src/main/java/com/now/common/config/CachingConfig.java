@@ -1,51 +1,111 @@
 package com.now.common.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.now.common.cache.CacheDependencyTracker;
+import com.now.common.cache.ConditionCacheKeyGenerator;
+import com.now.common.cache.DependencyTrackingCacheResolver;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 // Spring Cache 관련 Bean 설정
 @Configuration
 @EnableCaching  // Spring 캐싱 기능을 사용하기 위한 어노테이션
-@EnableScheduling  // 스케줄링 기능을 사용하기 위한 어노테이션
 @Slf4j  // 로깅을 위한 어노테이션
+@RequiredArgsConstructor
 @Profile({"local", "dev", "prod"})
-public class CachingConfig {
+public class CachingConfig extends CachingConfigurerSupport {
 
     public static final String POST_CACHE = "postCache";
     public static final String NOTICE_CACHE = "noticeCache";
     public static final String COMMUNITY_CACHE = "communityCache";
     public static final String PHOTO_CACHE = "photoCache";
     public static final String INQUIRY_CACHE = "inquiryCache";
+    public static final String POST_COUNT_CACHE = "postCountCache";
+
+    public static final String CONDITION_KEY_GENERATOR = "conditionKeyGenerator";
+    public static final String CONDITION_COUNT_KEY_GENERATOR = "conditionCountKeyGenerator";
+
+    private final CacheDependencyTracker cacheDependencyTracker;
 
     /**
      * Cache 관리자 빈을 생성하는 메소드
+     * 캐시마다 {@link CacheType}에 정의된 최대 엔트리 수와 TTL을 적용하며,
+     * 최대 엔트리 수를 초과하면 Caffeine의 W-TinyLFU 정책에 따라 엔트리를 제거
      *
      * @return CacheManager 인터페이스를 구현한 SimpleCacheManager 객체
      */
     @Bean
+    @Override
     public CacheManager cacheManager() {
         SimpleCacheManager simpleCacheManager = new SimpleCacheManager();
-        simpleCacheManager.setCaches(Arrays.asList(
-                new ConcurrentMapCache(POST_CACHE),
-                new ConcurrentMapCache(NOTICE_CACHE),
-                new ConcurrentMapCache(COMMUNITY_CACHE),
-                new ConcurrentMapCache(PHOTO_CACHE),
-                new ConcurrentMapCache(INQUIRY_CACHE)
-        ));
+        simpleCacheManager.setCaches(createCaches());
         return simpleCacheManager;
     }
 
+    /**
+     * 캐시 저장 시 엔트리가 의존하는 게시글 번호와 조회 조건을 기록하는 CacheResolver 빈을 생성하는 메소드
+     *
+     * @return 의존성 정보를 기록하는 CacheResolver 객체
+     */
+    @Bean
+    @Override
+    public CacheResolver cacheResolver() {
+        return new DependencyTrackingCacheResolver(cacheManager(), cacheDependencyTracker);
+    }
+
+    /**
+     * 조회 조건(정렬, 페이지 포함)으로 목록 캐시 키를 생성하는 KeyGenerator 빈을 생성하는 메소드
+     *
+     * @return 조회 조건 기반 KeyGenerator 객체
+     */
+    @Bean(CONDITION_KEY_GENERATOR)
+    public KeyGenerator conditionKeyGenerator() {
+        return new ConditionCacheKeyGenerator(true);
+    }
+
+    /**
+     * 조회 조건(정렬, 페이지 제외)으로 개수 캐시 키를 생성하는 KeyGenerator 빈을 생성하는 메소드
+     *
+     * @return 조회 조건 기반 KeyGenerator 객체
+     */
+    @Bean(CONDITION_COUNT_KEY_GENERATOR)
+    public KeyGenerator conditionCountKeyGenerator() {
+        return new ConditionCacheKeyGenerator(false);
+    }
+
+    /**
+     * 캐시별 키 카디널리티(현재 저장된 서로 다른 키의 수)를 cache.key.cardinality 메트릭으로 노출
+     *
+     * @return 캐시 키 카디널리티 MeterBinder 객체
+     */
+    @Bean
+    public MeterBinder cacheKeyCardinalityMetrics() {
+        return registry -> Arrays.stream(CacheType.values())
+                .map(CacheType::getCacheName)
+                .forEach(cacheName -> Gauge.builder("cache.key.cardinality", cacheDependencyTracker,
+                                tracker -> tracker.size(cacheName))
+                        .tag("cache", cacheName)
+                        .description("Number of distinct keys currently cached")
+                        .register(registry));
+    }
+
     /**
      * 모든 캐시 삭제
      */
@@ -56,10 +116,31 @@ public class CachingConfig {
     }
 
     /**
-     * 주기적으로 모든 캐시를 삭제하는 스케줄링
+     * {@link CacheType}에 정의된 설정으로 캐시 목록 생성
+     *
+     * @return 생성된 캐시 목록
+     */
+    private List<CaffeineCache> createCaches() {
+        return Arrays.stream(CacheType.values())
+                .map(this::createCache)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 캐시 설정으로 크기 제한과 TTL이 적용된 캐시 생성
+     * 적중, 실패, 제거 횟수는 recordStats()로 기록되어 Actuator 메트릭(cache.gets, cache.evictions)으로 노출
+     * 엔트리가 제거되면 해당 엔트리의 의존성 정보도 함께 제거
+     *
+     * @param cacheType 캐시 설정
+     * @return 생성된 캐시
      */
-    @Scheduled(fixedRate = 300000)  // 300초마다 실행
-    public void evictAllCachesAtIntervals() {
-        evictAllCaches();
+    private CaffeineCache createCache(CacheType cacheType) {
+        String cacheName = cacheType.getCacheName();
+        return new CaffeineCache(cacheName, Caffeine.newBuilder()
+                .maximumSize(cacheType.getMaximumSize())
+                .expireAfterWrite(cacheType.getExpireAfterWrite())
+                .removalListener((key, value, cause) -> cacheDependencyTracker.removeIfSameValue(cacheName, key, value))
+                .recordStats()
+                .build());
     }
 }
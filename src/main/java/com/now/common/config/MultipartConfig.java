@@ -0,0 +1,27 @@
+package com.now.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * multipart 요청 처리를 구성하는 클래스
+ */
+@Configuration
+public class MultipartConfig {
+
+    /**
+     * 요청 본문을 핸들러가 파트에 접근할 때 파싱하는 MultipartResolver 빈을 생성하여 반환
+     * 첨부파일 스트리밍 업로드 핸들러는 요청 본문을 직접 읽으므로, 프로필과 관계없이 DispatcherServlet 이 미리 파싱하지 않도록 지연 파싱
+     *
+     * @return MultipartResolver 인스턴스
+     */
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver() {
+        StandardServletMultipartResolver multipartResolver = new StandardServletMultipartResolver();
+        multipartResolver.setResolveLazily(true);
+        return multipartResolver;
+    }
+}
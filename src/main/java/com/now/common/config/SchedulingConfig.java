@@ -0,0 +1,10 @@
+package com.now.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 스케줄링 작업(조회수 반영 등) 관련 설정
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,25 @@
+package com.now.common.config.infrastructure;
+
+import io.github.bucket4j.Bucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버의 메모리({@link RateLimitBucketMap})에 버킷을 보관하는 저장소
+ *
+ * 서버마다 버킷을 따로 관리하므로 서버 수만큼 허용량이 늘어나고, 재시작하면 버킷이 초기화됨
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "now.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitBucketStore implements RateLimitBucketStore {
+
+    private final RateLimitBucketMap rateLimitBucketMap;
+    private final RateLimitingBucketProvider rateLimitingBucketProvider;
+
+    @Override
+    public Bucket getBucket(String key, RateLimitPolicy policy) {
+        return rateLimitBucketMap.getBucket(key, () -> rateLimitingBucketProvider.generateBucket(policy));
+    }
+}
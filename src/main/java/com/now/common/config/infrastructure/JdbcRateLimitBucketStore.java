@@ -0,0 +1,165 @@
+package com.now.common.config.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfigurationBuilder;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.mysql.MySQLSelectForUpdateBasedProxyManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+
+/**
+ * 데이터베이스 테이블에 버킷 상태를 보관해서 모든 서버가 같은 버킷을 공유하는 저장소
+ *
+ * 버킷 상태는 SELECT ... FOR UPDATE 로 잠근 후 변경하며, 요청마다 데이터베이스에 접근하지 않도록
+ * 서버마다 버킷 프록시를 캐시(near-cache)하고 설정된 토큰 수, 시간만큼 소비를 모아서 동기화
+ * 따라서 서버마다 최대 max-unsynchronized-tokens 만큼 허용량을 초과할 수 있음
+ *
+ * 버킷 상태는 키(IP 주소, 아이디)마다 한 행씩 쌓이므로 상태가 변경되지 않은 채 보관 기간이 지난 행을 주기적으로 삭제
+ * 보관 기간은 모든 정책의 버킷이 가득 찰 때까지 걸리는 시간보다 짧아지지 않으므로,
+ * 삭제된 버킷을 정책의 구성으로 다시 생성해도 삭제하지 않았을 때와 남은 토큰 수가 같음
+ *
+ * <pre>
+ * CREATE TABLE tb_rate_limit_bucket (
+ *     id               BIGINT PRIMARY KEY,
+ *     state            BLOB,
+ *     last_access_date DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+ *     INDEX idx_rate_limit_bucket_last_access_date (last_access_date)
+ * );
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "now.rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimitBucketStore implements RateLimitBucketStore, MeterBinder {
+
+    private static final String TABLE_NAME = "tb_rate_limit_bucket";
+    private static final String ID_COLUMN_NAME = "id";
+    private static final String STATE_COLUMN_NAME = "state";
+    private static final String METRIC_CACHE_NAME = "rateLimitBucketProxies";
+
+    /**
+     * 한 번에 삭제할 최대 버킷 상태 수
+     */
+    static final int DELETE_BATCH_SIZE = 1_000;
+
+    private static final String DELETE_IDLE_BUCKETS_SQL = "DELETE FROM " + TABLE_NAME
+            + " WHERE last_access_date < NOW() - INTERVAL ? SECOND LIMIT ?";
+
+    private final ProxyManager<Long> proxyManager;
+    private final RateLimitingBucketProvider rateLimitingBucketProvider;
+    private final DelayParameters delayParameters;
+    private final Cache<String, Bucket> buckets;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration bucketRetention;
+
+    /**
+     * @param dataSource                 버킷 상태를 보관할 데이터베이스
+     * @param rateLimitingBucketProvider 버킷 구성을 생성하는 객체
+     * @param maxUnsynchronizedTokens    데이터베이스와 동기화하지 않고 서버에서 소비할 수 있는 최대 토큰 수
+     * @param maxUnsynchronizedMillis    데이터베이스와 동기화하지 않고 소비를 모아두는 최대 시간(ms)
+     * @param idleTimeoutMinutes         버킷 프록시를 캐시에서 제거하기까지 요청이 없는 시간(분)
+     * @param maxBuckets                 캐시할 최대 버킷 프록시 수
+     * @param bucketRetentionMinutes     상태가 변경되지 않은 버킷 상태를 보관하는 시간(분)
+     */
+    public JdbcRateLimitBucketStore(DataSource dataSource,
+                                    RateLimitingBucketProvider rateLimitingBucketProvider,
+                                    @Value("${now.rate-limit.jdbc.max-unsynchronized-tokens:5}") long maxUnsynchronizedTokens,
+                                    @Value("${now.rate-limit.jdbc.max-unsynchronized-millis:500}") long maxUnsynchronizedMillis,
+                                    @Value("${now.rate-limit.bucket-idle-timeout-minutes:10}") long idleTimeoutMinutes,
+                                    @Value("${now.rate-limit.max-buckets:100000}") long maxBuckets,
+                                    @Value("${now.rate-limit.jdbc.bucket-retention-minutes:120}") long bucketRetentionMinutes) {
+        SQLProxyConfiguration configuration = SQLProxyConfigurationBuilder.builder()
+                .withTableSettings(BucketTableSettings.customSettings(TABLE_NAME, ID_COLUMN_NAME, STATE_COLUMN_NAME))
+                .build(dataSource);
+
+        this.proxyManager = new MySQLSelectForUpdateBasedProxyManager(configuration);
+        this.rateLimitingBucketProvider = rateLimitingBucketProvider;
+        this.delayParameters = new DelayParameters(maxUnsynchronizedTokens, Duration.ofMillis(maxUnsynchronizedMillis));
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(idleTimeoutMinutes))
+                .maximumSize(maxBuckets)
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.bucketRetention = max(Duration.ofMinutes(bucketRetentionMinutes), rateLimitingBucketProvider.getMaxRefillDuration());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, buckets, METRIC_CACHE_NAME);
+    }
+
+    /**
+     * 주어진 키에 대한 버킷 프록시 반환, 캐시에 없다면 생성 후 반환
+     * 버킷 상태가 데이터베이스에 없다면 첫 소비 시 정책의 구성으로 생성됨
+     *
+     * @param key    버킷 키
+     * @param policy 버킷 상태가 없을 때 적용할 Rate Limit 정책
+     * @return 데이터베이스의 버킷 상태를 공유하는 버킷 프록시
+     */
+    @Override
+    public Bucket getBucket(String key, RateLimitPolicy policy) {
+        return buckets.get(key, bucketKey -> proxyManager.builder()
+                .withOptimization(Optimizations.delaying(delayParameters))
+                .build(toBucketId(bucketKey), () -> rateLimitingBucketProvider.generateConfiguration(policy)));
+    }
+
+    /**
+     * 보관 기간 동안 상태가 변경되지 않은 버킷 상태가 없을 때까지 배치 단위로 삭제
+     */
+    @Scheduled(fixedDelayString = "${now.rate-limit.jdbc.cleanup-interval-ms:600000}",
+            initialDelayString = "${now.rate-limit.jdbc.cleanup-interval-ms:600000}")
+    public void deleteIdleBucketsAtIntervals() {
+        int deletedCount = 0;
+        int batchCount;
+        do {
+            batchCount = jdbcTemplate.update(DELETE_IDLE_BUCKETS_SQL, bucketRetention.getSeconds(), DELETE_BATCH_SIZE);
+            deletedCount += batchCount;
+        } while (batchCount == DELETE_BATCH_SIZE);
+
+        if (deletedCount > 0) {
+            log.info("Deleted {} idle rate limit buckets", deletedCount);
+        }
+    }
+
+    private static Duration max(Duration duration1, Duration duration2) {
+        return duration1.compareTo(duration2) >= 0 ? duration1 : duration2;
+    }
+
+    /**
+     * 버킷 키를 테이블의 BIGINT 기본 키로 변환(SHA-256 해시의 앞 8바이트)
+     *
+     * @param key 버킷 키
+     * @return 버킷 아이디
+     */
+    static long toBucketId(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,56 +1,81 @@
 package com.now.common.config.infrastructure;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
 import io.github.bucket4j.Bucket;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.function.Supplier;
 
 /**
  * IP 주소와 Rate Limit 버킷을 관리하는 클래스
+ *
+ * 버킷 조회와 생성은 IP 주소별로 원자적으로 처리하며, 설정된 시간 동안 요청이 없는 버킷과
+ * 최대 버킷 수를 초과한 버킷은 요청 스레드가 아닌 Caffeine의 유지보수 스레드에서 제거
+ * 버킷 수, 제거 횟수 등은 cache=rateLimitBuckets 태그의 cache.* 메트릭으로 노출
  */
 @Component
-@RequiredArgsConstructor
-public class RateLimitBucketMap {
-    private final Map<String, Bucket> bucketConcurrentHashMap = new ConcurrentHashMap<>();
+public class RateLimitBucketMap implements MeterBinder {
+
+    private static final String METRIC_CACHE_NAME = "rateLimitBuckets";
+
+    private final Cache<String, Bucket> buckets;
 
     /**
-     * 주어진 IP 주소에 대한 버킷이 존재하면 true 반환, 그렇지 않다면 false 반환
+     * 버킷은 토큰이 모두 리필되는 시간보다 오래 요청이 없을 때 제거되어야 제거 후 새로 만든 버킷과 동작이 같으므로
+     * 유휴 시간은 가장 긴 토큰 리필 시간 이상으로 설정
      *
-     * @param ipAddress IP 주소
-     * @return 버킷이 존재하면 true, 그렇지 않으면 false 반환
+     * @param idleTimeoutMinutes 버킷을 제거하기까지 요청이 없는 시간(분)
+     * @param maxBuckets         최대 버킷 수
      */
-    public boolean hasBucket(String ipAddress) {
-        return bucketConcurrentHashMap.containsKey(ipAddress);
+    public RateLimitBucketMap(@Value("${now.rate-limit.bucket-idle-timeout-minutes:10}") long idleTimeoutMinutes,
+                              @Value("${now.rate-limit.max-buckets:100000}") long maxBuckets) {
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(idleTimeoutMinutes))
+                .maximumSize(maxBuckets)
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, buckets, METRIC_CACHE_NAME);
     }
 
     /**
-     * 주어진 IP 주소에 대한 버킷 반환
+     * 주어진 IP 주소에 대한 버킷 반환, 버킷이 없다면 생성 후 반환
+     * 같은 IP 주소로 동시에 요청해도 버킷은 한 번만 생성
      *
-     * @param ipAddress IP 주소
+     * @param ipAddress      IP 주소
+     * @param bucketSupplier 버킷이 없을 때 버킷을 생성하는 함수
      * @return IP 주소에 대한 버킷 객체
      */
-    public Bucket getBucket(String ipAddress) {
-        return bucketConcurrentHashMap.get(ipAddress);
+    public Bucket getBucket(String ipAddress, Supplier<Bucket> bucketSupplier) {
+        return buckets.get(ipAddress, key -> bucketSupplier.get());
     }
 
     /**
-     * 주어진 IP 주소에 새로운 버킷 추가
+     * 주어진 IP 주소에 대한 버킷 제거
      *
      * @param ipAddress IP 주소
-     * @param bucket    추가할 버킷 객체
      */
-    public void addBucket(String ipAddress, Bucket bucket) {
-        bucketConcurrentHashMap.put(ipAddress, bucket);
+    public void removeBucket(String ipAddress) {
+        buckets.invalidate(ipAddress);
     }
 
     /**
-     * 주어진 IP 주소에 대한 버킷 제거
+     * 현재 관리 중인 버킷 수 반환(만료되었지만 아직 제거되지 않은 버킷이 포함될 수 있음)
      *
-     * @param ipAddress IP 주소
+     * @return 버킷 수
      */
-    public void removeBucket(String ipAddress) {
-        bucketConcurrentHashMap.remove(ipAddress);
+    public long size() {
+        return buckets.estimatedSize();
     }
 }
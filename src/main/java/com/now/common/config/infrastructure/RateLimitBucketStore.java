@@ -0,0 +1,21 @@
+package com.now.common.config.infrastructure;
+
+import io.github.bucket4j.Bucket;
+
+/**
+ * Rate Limit 버킷을 보관하는 저장소
+ *
+ * now.rate-limit.store 설정으로 구현체를 선택하며, 기본값은 서버마다 버킷을 관리하는 memory
+ * 여러 서버가 같은 버킷을 공유해야 한다면 jdbc 사용
+ */
+public interface RateLimitBucketStore {
+
+    /**
+     * 주어진 키와 정책에 대한 버킷 반환, 버킷이 없다면 정책으로 생성 후 반환
+     *
+     * @param key    버킷 키
+     * @param policy 버킷이 없을 때 적용할 Rate Limit 정책
+     * @return 키에 대한 버킷 객체
+     */
+    Bucket getBucket(String key, RateLimitPolicy policy);
+}
@@ -14,16 +14,20 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Profile({"local", "dev", "prod"})
 public class RateLimitConfig implements WebMvcConfigurer {
 
+    private static final int RATE_LIMITING_INTERCEPTOR_ORDER = 1;
+
     private final RateLimitingInterceptor rateLimitingInterceptor;
 
     /**
      * 인터셉터를 등록하는 메서드
+     * 인증된 사용자별 정책을 적용하기 위해 인증 인터셉터(기본 순서 0) 이후에 실행
      *
      * @param registry 인터셉터 등록을 담당하는 InterceptorRegistry 객체
      */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(rateLimitingInterceptor)
+                .order(RATE_LIMITING_INTERCEPTOR_ORDER)
                 .addPathPatterns("/**")
                 .excludePathPatterns("/api/refresh")
                 .excludePathPatterns("/api/member/me")
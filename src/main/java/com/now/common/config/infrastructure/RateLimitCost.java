@@ -0,0 +1,33 @@
+package com.now.common.config.infrastructure;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메서드의 요청 한 번이 소비하는 Rate Limit 토큰 수의 비용 키를 지정하는 어노테이션
+ *
+ * 비용 키의 토큰 수는 now.rate-limit.costs 에 설정하며({@link RateLimitProperties}), 어노테이션이 없는 핸들러는 요청마다 토큰 1개를 소비
+ * 업로드, 검색처럼 비용이 큰 요청에 더 많은 토큰을 지정해서 버킷을 더 빨리 소진
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimitCost {
+
+    String SEARCH = "search"; // 검색어가 있는 목록 조회
+    String AUTHENTICATION = "authentication"; // 회원 가입, 로그인
+    String POST_WRITE = "post-write"; // 게시글 등록, 수정, 첨부파일 업로드
+    String PHOTO_WRITE = "photo-write"; // 사진 게시글 등록, 수정, 첨부파일 업로드
+    String UPLOAD_CHUNK = "upload-chunk"; // 이어 올리기 조각 업로드
+
+    /**
+     * 요청 한 번이 소비하는 토큰 수의 비용 키, 비어 있다면 토큰 1개
+     */
+    String value() default "";
+
+    /**
+     * 검색어(keyword) 파라미터가 있는 요청이 소비하는 토큰 수의 비용 키, 비어 있다면 {@link #value()} 사용
+     */
+    String withKeyword() default "";
+}
@@ -0,0 +1,39 @@
+package com.now.common.config.infrastructure;
+
+import com.now.core.authentication.constants.Authority;
+
+/**
+ * 요청 주체별 Rate Limit 정책을 나타내는 enum
+ *
+ * 인증되지 않은 요청은 IP 주소별로, 인증된 요청은 회원 또는 매니저 아이디별로 버킷을 관리하며
+ * 정책마다 여러 대역폭 제한(예: 분당, 시간당)을 함께 적용, 대역폭 제한은 {@link RateLimitProperties}에 설정
+ */
+public enum RateLimitPolicy {
+
+    ANONYMOUS,
+    MEMBER,
+    MANAGER;
+
+    /**
+     * 인증된 사용자의 권한에 해당하는 정책 반환
+     *
+     * @param authority 인증된 사용자의 권한, 인증되지 않았다면 null
+     * @return 권한에 해당하는 정책, 인증되지 않았다면 ANONYMOUS
+     */
+    public static RateLimitPolicy of(Authority authority) {
+        if (authority == null) {
+            return ANONYMOUS;
+        }
+        return Authority.isManager(authority) ? MANAGER : MEMBER;
+    }
+
+    /**
+     * 정책과 키(IP 주소, 회원 아이디, 매니저 아이디)로 버킷을 구분하는 키 반환
+     *
+     * @param key IP 주소 또는 인증된 사용자의 아이디
+     * @return 버킷 키
+     */
+    public String bucketKey(String key) {
+        return name() + ":" + key;
+    }
+}
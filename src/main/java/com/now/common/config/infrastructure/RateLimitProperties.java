@@ -0,0 +1,112 @@
+package com.now.common.config.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.now.common.config.infrastructure.RateLimitingBucketProvider.*;
+
+/**
+ * now.rate-limit 하위에 설정하는 Rate Limit 정책별 대역폭 제한과 핸들러 비용
+ *
+ * 설정하지 않은 정책과 비용은 기본값을 사용하며, 정책을 설정하면 해당 정책의 대역폭 제한 목록 전체를 대체
+ *
+ * <pre>
+ * now:
+ *   rate-limit:
+ *     policies:
+ *       member:
+ *         - capacity: 60
+ *           refill-tokens: 60
+ *           refill-period: 1m
+ *     costs:
+ *       photo-write: 10
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "now.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 비용이 지정되지 않은 요청이 소비하는 토큰 수
+     */
+    public static final long DEFAULT_COST = 1;
+
+    private Map<RateLimitPolicy, List<Limit>> policies = new EnumMap<>(Map.of(
+            RateLimitPolicy.ANONYMOUS, List.of(
+                    new Limit(MAX_BANDWIDTH, TOKEN_REFILL_COUNT_AT_ONCE, Duration.ofMinutes(TOKEN_REFILL_DURATION_MINUTES))),
+            RateLimitPolicy.MEMBER, List.of(
+                    new Limit(60, 60, Duration.ofMinutes(1)),
+                    new Limit(1_000, 1_000, Duration.ofHours(1))),
+            RateLimitPolicy.MANAGER, List.of(
+                    new Limit(300, 300, Duration.ofMinutes(1)))));
+
+    private Map<String, Long> costs = new HashMap<>(Map.of(
+            RateLimitCost.SEARCH, 3L,
+            RateLimitCost.AUTHENTICATION, 5L,
+            RateLimitCost.POST_WRITE, 5L,
+            RateLimitCost.PHOTO_WRITE, 10L,
+            RateLimitCost.UPLOAD_CHUNK, 2L));
+
+    /**
+     * 정책에 설정된 대역폭 제한 목록 반환
+     *
+     * @param policy Rate Limit 정책
+     * @return 대역폭 제한 목록
+     * @throws IllegalStateException 정책의 대역폭 제한이 설정되지 않은 경우
+     */
+    public List<Limit> getLimits(RateLimitPolicy policy) {
+        List<Limit> limits = policies.get(policy);
+        if (limits == null || limits.isEmpty()) {
+            throw new IllegalStateException("No rate limit configured for policy: " + policy);
+        }
+        return limits;
+    }
+
+    /**
+     * 비용 키에 설정된 토큰 수 반환
+     *
+     * @param costKey 비용 키
+     * @return 설정된 토큰 수, 키가 비어 있거나 설정되지 않았다면 {@link #DEFAULT_COST}
+     */
+    public long getCost(String costKey) {
+        return costs.getOrDefault(costKey, DEFAULT_COST);
+    }
+
+    /**
+     * 모든 정책의 대역폭 제한 중 빈 버킷이 가득 찰 때까지 가장 오래 걸리는 시간 반환
+     *
+     * @return 빈 버킷이 가득 찰 때까지 걸리는 최대 시간
+     */
+    public Duration getMaxRefillDuration() {
+        return policies.values().stream()
+                .flatMap(List::stream)
+                .map(limit -> limit.getRefillPeriod()
+                        .multipliedBy((limit.getCapacity() + limit.getRefillTokens() - 1) / limit.getRefillTokens()))
+                .reduce(Duration.ZERO, (duration1, duration2) -> duration1.compareTo(duration2) >= 0 ? duration1 : duration2);
+    }
+
+    /**
+     * 대역폭 제한 하나를 나타내는 객체
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity; // 최대 토큰 수
+        private int refillTokens; // 리필 주기마다 채워지는 토큰 수
+        private Duration refillPeriod; // 리필 주기
+    }
+}
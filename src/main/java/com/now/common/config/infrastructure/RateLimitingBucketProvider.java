@@ -2,10 +2,13 @@ package com.now.common.config.infrastructure;
 
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
@@ -16,6 +19,7 @@ public class RateLimitingBucketProvider {
     public static final int TOKEN_REFILL_DURATION_MINUTES = 1;
 
     private final RateLimitingFactory rateLimitingFactory;
+    private final RateLimitProperties rateLimitProperties;
 
     /**
      * 고정된 대역폭 구성을 사용하여 토큰 버킷 생성
@@ -27,6 +31,26 @@ public class RateLimitingBucketProvider {
                 MAX_BANDWIDTH, TOKEN_REFILL_COUNT_AT_ONCE, TOKEN_REFILL_DURATION_MINUTES);
     }
 
+    /**
+     * Rate Limit 정책의 대역폭 제한을 모두 적용한 토큰 버킷 생성
+     *
+     * @param policy Rate Limit 정책
+     * @return 정책의 대역폭 제한으로 구성된 토큰 버킷
+     */
+    public Bucket generateBucket(RateLimitPolicy policy) {
+        return generateComplexBucket(getBandwidthList(policy));
+    }
+
+    /**
+     * Rate Limit 정책의 대역폭 제한을 모두 적용한 분산 버킷 구성 생성
+     *
+     * @param policy Rate Limit 정책
+     * @return 정책의 대역폭 제한으로 구성된 버킷 구성
+     */
+    public BucketConfiguration generateConfiguration(RateLimitPolicy policy) {
+        return rateLimitingFactory.generateConfiguration(getBandwidthList(policy));
+    }
+
     /**
      * 대역폭 제한 목록을 사용하여 토큰 버킷 생성
      *
@@ -36,5 +60,20 @@ public class RateLimitingBucketProvider {
     public Bucket generateComplexBucket(List<Bandwidth> bandwidthList) {
         return rateLimitingFactory.generateComplexBucket(bandwidthList);
     }
-}
 
+    /**
+     * 설정된 모든 정책의 대역폭 제한 중 빈 버킷이 가득 찰 때까지 가장 오래 걸리는 시간 반환
+     *
+     * @return 빈 버킷이 가득 찰 때까지 걸리는 최대 시간
+     */
+    public Duration getMaxRefillDuration() {
+        return rateLimitProperties.getMaxRefillDuration();
+    }
+
+    private List<Bandwidth> getBandwidthList(RateLimitPolicy policy) {
+        return rateLimitProperties.getLimits(policy).stream()
+                .map(limit -> rateLimitingFactory.getClassicBandwidth(limit.getCapacity(),
+                        rateLimitingFactory.getIntervalRefill(limit.getRefillTokens(), limit.getRefillPeriod())))
+                .collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,8 @@ package com.now.common.config.infrastructure;
 
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConfigurationBuilder;
 import io.github.bucket4j.Refill;
 import io.github.bucket4j.local.LocalBucketBuilder;
 import org.springframework.stereotype.Component;
@@ -67,6 +69,20 @@ public class RateLimitingFactory {
         return bucketBuilder.build();
     }
 
+    /**
+     * 주어진 대역폭 목록으로 분산 버킷에서 사용할 버킷 구성 생성
+     *
+     * @param bandwidthList 대역폭 목록
+     * @return 생성된 버킷 구성 객체
+     */
+    public BucketConfiguration generateConfiguration(List<Bandwidth> bandwidthList) {
+        ConfigurationBuilder configurationBuilder = BucketConfiguration.builder();
+        for (Bandwidth bandwidth : bandwidthList) {
+            configurationBuilder.addLimit(bandwidth);
+        }
+        return configurationBuilder.build();
+    }
+
     /**
      * 최대 대역폭과 토큰 리필 지속 시간으로 대역폭을 생성
      *
@@ -1,12 +1,14 @@
 package com.now.common.config.infrastructure;
 
 import com.now.common.exception.TooManyRequestsException;
+import com.now.core.authentication.presentation.AuthenticationContext;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import javax.servlet.http.HttpServletRequest;
@@ -15,14 +17,20 @@ import java.util.Objects;
 
 /**
  * Rate Limiting을 적용하는 인터셉터
+ *
+ * 인증 인터셉터 이후에 실행되어 인증된 요청은 회원, 매니저 아이디별 정책으로, 인증되지 않은 요청은 IP 주소별 정책으로 제한하며
+ * 핸들러에 {@link RateLimitCost}가 지정되어 있다면 비용 키에 설정된 토큰 수만큼 소비
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RateLimitingInterceptor implements HandlerInterceptor {
 
-    private final RateLimitBucketMap rateLimitBucketMap;
-    private final RateLimitingBucketProvider rateLimitingBucketProvider;
+    private static final String KEYWORD_PARAMETER = "keyword";
+
+    private final RateLimitBucketStore rateLimitBucketStore;
+    private final AuthenticationContext authenticationContext;
+    private final RateLimitProperties rateLimitProperties;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -30,14 +38,11 @@ public class RateLimitingInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        String ipAddress = request.getRemoteAddr();
-        if (!rateLimitBucketMap.hasBucket(ipAddress)) {
-            Bucket newBucket = rateLimitingBucketProvider.generateBucket();
-            rateLimitBucketMap.addBucket(ipAddress, newBucket);
-        }
+        RateLimitPolicy policy = RateLimitPolicy.of(authenticationContext.getAuthority());
+        String key = policy == RateLimitPolicy.ANONYMOUS ? request.getRemoteAddr() : authenticationContext.getPrincipal();
 
-        Bucket bucket = rateLimitBucketMap.getBucket(ipAddress);
-        ConsumptionProbe probe = Objects.requireNonNull(bucket).tryConsumeAndReturnRemaining(1);
+        Bucket bucket = rateLimitBucketStore.getBucket(policy.bucketKey(key), policy);
+        ConsumptionProbe probe = Objects.requireNonNull(bucket).tryConsumeAndReturnRemaining(resolveCost(request, handler));
 
         if (probe.isConsumed()) {
             return true;
@@ -45,6 +50,33 @@ public class RateLimitingInterceptor implements HandlerInterceptor {
         throw new TooManyRequestsException(probe.getNanosToWaitForRefill());
     }
 
+    /**
+     * 핸들러에 지정된 비용 키로 요청 한 번의 토큰 수 반환
+     *
+     * @param request 현재 요청 객체
+     * @param handler 처리할 핸들러 객체
+     * @return 요청이 소비하는 토큰 수, 지정되지 않았다면 1
+     */
+    private long resolveCost(HttpServletRequest request, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return RateLimitProperties.DEFAULT_COST;
+        }
+
+        RateLimitCost rateLimitCost = ((HandlerMethod) handler).getMethodAnnotation(RateLimitCost.class);
+        if (rateLimitCost == null) {
+            return RateLimitProperties.DEFAULT_COST;
+        }
+        if (!rateLimitCost.withKeyword().isEmpty() && hasKeyword(request)) {
+            return rateLimitProperties.getCost(rateLimitCost.withKeyword());
+        }
+        return rateLimitProperties.getCost(rateLimitCost.value());
+    }
+
+    private boolean hasKeyword(HttpServletRequest request) {
+        String keyword = request.getParameter(KEYWORD_PARAMETER);
+        return keyword != null && !keyword.isBlank();
+    }
+
     /**
      * Skip 가능하다면 true 반환, 그렇지 않다면 false 반환(GET 및 OPTIONS 요청인 경우 true)
      *
@@ -40,6 +40,7 @@ public enum ErrorType {
     CAN_NOT_VIEW_INQUIRY_PASSWORD_NOT_MATCH(6010, "비밀번호가 다르므로 해당 문의글을 볼 수 없습니다."),
 
     CAN_NOT_UPDATE_REACTION(6011, "반응 정보를 수정할 수 없습니다."),
+    INVALID_CURSOR(6012, "유효하지 않은 페이지 커서입니다."),
 
     NOT_FOUND_COMMENT(7001, "존재하지 않는 댓글입니다."),
     CAN_NOT_UPDATE_OTHER_MEMBER_COMMENT(7002,"다른 회원이 작성한 댓글을 수정할 수 없습니다."),
@@ -50,11 +51,16 @@ public enum ErrorType {
     INVALID_ATTACHMENT_ORIGINAL_NAME(8003, "허용하지 않은 첨부 파일명입니다."),
     NOT_FOUND_ATTACHMENT(8004, "존재하지 않는 첨부파일입니다."),
     CAN_NOT_UPDATE_THUMBNAIL(8005, "대표 이미지를 수정할 수 없습니다."),
+    INVALID_MULTIPART_REQUEST(8006, "잘못된 형식의 첨부파일 요청입니다."),
+    NOT_FOUND_UPLOAD_SESSION(8007, "존재하지 않거나 만료된 업로드 세션입니다."),
+    INVALID_UPLOAD_CHUNK(8008, "잘못된 업로드 조각입니다."),
+    INCOMPLETE_UPLOAD_SESSION(8009, "모든 조각이 업로드되지 않은 업로드 세션입니다."),
 
     REQUEST_EXCEPTION(9001, "http 요청 에러입니다."),
     INVALID_PATH(9002, "잘못된 경로입니다."),
     UNPROCESSABLE_ENTITY(9003, "요청 데이터가 유효하지 않습니다."),
     TOO_MANY_REQUESTS(9004, "제한된 요청 호출 수를 초과했습니다."),
+    SERVICE_UNAVAILABLE(9005, "요청이 많아 일시적으로 처리할 수 없습니다."),
     UNHANDLED_EXCEPTION(9999, "예상치 못한 예외입니다.");
 
     private final int code;
@@ -75,6 +75,18 @@ public class GlobalExceptionAdvice {
                 .body(new ErrorResponse(ErrorType.TOO_MANY_REQUESTS.getCode(), ErrorType.TOO_MANY_REQUESTS.getMessage()));
     }
 
+    /**
+     * ServiceUnavailableException이 발생했을 때 처리하는 메소드
+     *
+     * @param e 발생한 ServiceUnavailableException 객체
+     * @return ErrorResponse 객체를 담은 ResponseEntity
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> serviceUnavailableExceptionHandler(final ServiceUnavailableException e) {
+        log.warn("ServiceUnavailable Exception", e);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse(e.getCode(), e.getMessage()));
+    }
+
     /**
      * MethodArgumentNotValidException 발생했을 때 처리하는 메소드
      *
@@ -0,0 +1,17 @@
+package com.now.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 서버가 일시적으로 요청을 처리할 수 없을 때 던져지는 예외
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final int code;
+
+    public ServiceUnavailableException(final ErrorType errorType) {
+        super(errorType.getMessage());
+        this.code = errorType.getCode();
+    }
+}
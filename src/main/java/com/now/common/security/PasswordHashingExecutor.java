@@ -0,0 +1,153 @@
+package com.now.common.security;
+
+import com.now.common.exception.ErrorType;
+import com.now.common.exception.ServiceUnavailableException;
+import com.now.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 패스워드 해싱(bcrypt)을 요청 스레드가 아닌 별도의 제한된 스레드 풀에서 실행하는 클래스
+ *
+ * 대기열이 가득 차면 바로 429 응답을, 설정된 시간 안에 해싱이 끝나지 않으면 503 응답을 반환해서
+ * 로그인 요청이 몰려도 서블릿 스레드가 해싱 작업으로 모두 점유되지 않도록 함
+ * 해싱 시간과 대기열 대기 시간은 password.hashing.* 메트릭으로, 스레드 풀 상태는 name=passwordHashing 태그의 executor.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements MeterBinder, DisposableBean {
+
+    private static final String METRIC_EXECUTOR_NAME = "passwordHashing";
+    private static final long RETRY_AFTER_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private volatile MeterRegistry registry; // 바인딩되기 전에는 null
+
+    /**
+     * @param threads       해싱 스레드 수, 0 이하라면 CPU 코어 수
+     * @param queueCapacity 해싱을 기다릴 수 있는 최대 요청 수
+     * @param timeoutMillis 요청 스레드가 대기 시간을 포함해서 해싱 결과를 기다리는 최대 시간(ms)
+     */
+    public PasswordHashingExecutor(@Value("${now.password.hashing.threads:0}") int threads,
+                                   @Value("${now.password.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${now.password.hashing.timeout-ms:3000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, METRIC_EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * 해싱 작업을 스레드 풀에서 실행하고 결과를 반환
+     *
+     * @param operation 메트릭 태그로 사용할 작업 이름(encode, matches)
+     * @param task      해싱 작업
+     * @param <T>       해싱 결과 타입
+     * @return 해싱 결과
+     * @throws TooManyRequestsException    대기열이 가득 찬 경우
+     * @throws ServiceUnavailableException 설정된 시간 안에 해싱이 끝나지 않은 경우
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                record("password.hashing.queue.wait", operation, startedAt - submittedAt);
+                try {
+                    return task.get();
+                } finally {
+                    record("password.hashing.duration", operation, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            countRejection(operation, "queue_full");
+            throw new TooManyRequestsException(RETRY_AFTER_NANOS);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            countRejection(operation, "timeout");
+            throw new ServiceUnavailableException(ErrorType.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException(ErrorType.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 대기열에서 해싱을 기다리는 작업 수 반환
+     *
+     * @return 대기 중인 작업 수
+     */
+    int getQueuedTaskCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void record(String name, String operation, long nanos) {
+        MeterRegistry currentRegistry = registry;
+        if (currentRegistry == null) {
+            return;
+        }
+        Timer.builder(name)
+                .tag("operation", operation)
+                .register(currentRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void countRejection(String operation, String reason) {
+        log.warn("Rejected password hashing, operation: {}, reason: {}, queued: {}", operation, reason, getQueuedTaskCount());
+        MeterRegistry currentRegistry = registry;
+        if (currentRegistry == null) {
+            return;
+        }
+        Counter.builder("password.hashing.rejected")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(currentRegistry)
+                .increment();
+    }
+}
@@ -8,17 +8,21 @@ import org.springframework.stereotype.Component;
 
 /**
  * 패스워드의 암호화, 암호화된 패스워드의 검증 등을 처리하는 컴포넌트
+ * 암호화와 검증은 {@link PasswordHashingExecutor}의 스레드 풀에서 실행
  */
 @Slf4j
 @Component
 public class PasswordSecurityManager {
 
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final String salt;
 
     @Autowired
-    public PasswordSecurityManager(PasswordEncoder passwordEncoder, @Value("${now.password.salt}") String salt) {
+    public PasswordSecurityManager(PasswordEncoder passwordEncoder, PasswordHashingExecutor passwordHashingExecutor,
+                                   @Value("${now.password.salt}") String salt) {
         this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
         this.salt = salt;
     }
 
@@ -29,7 +33,8 @@ public class PasswordSecurityManager {
      * @return 암호화된 값
      */
     public String encodeWithSalt(String value) {
-        return passwordEncoder.encode(appendSalt(value));
+        String valueWithSalt = appendSalt(value);
+        return passwordHashingExecutor.execute("encode", () -> passwordEncoder.encode(valueWithSalt));
     }
 
     /**
@@ -41,7 +46,7 @@ public class PasswordSecurityManager {
      */
     public boolean matchesWithSalt(String rawValue, String encodedPassword) {
         String valueWithSalt = appendSalt(rawValue);
-        return passwordEncoder.matches(valueWithSalt, encodedPassword);
+        return passwordHashingExecutor.execute("matches", () -> passwordEncoder.matches(valueWithSalt, encodedPassword));
     }
 
     /**
@@ -95,43 +95,6 @@ public class AttachmentUtils {
         return String.format("%s.%s", UUID.randomUUID(), AttachmentUtils.extractFileExtension(fileName));
     }
 
-    public static byte[] convertByteArray(InputStream stream) {
-        ByteArrayOutputStream byteArrayOutputStream = null;
-        InputStream inputStream = null;
-        try {
-            inputStream = stream;
-
-            byte[] buffer = new byte[1024];
-            int bytesRead;
-
-            byteArrayOutputStream = new ByteArrayOutputStream();
-
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                byteArrayOutputStream.write(buffer, 0, bytesRead);
-            }
-
-            return byteArrayOutputStream.toByteArray();
-        } catch (IOException e) {
-            log.error(String.valueOf(e));
-        } finally {
-            if(byteArrayOutputStream != null) {
-                try {
-                    byteArrayOutputStream.close();
-                } catch (IOException e) {
-                    log.error(String.valueOf(e));
-                }
-            }
-            if(inputStream != null) {
-                try {
-                    inputStream.close();
-                } catch (IOException e) {
-                    log.error(String.valueOf(e));
-                }
-            }
-        }
-        return null;
-    }
-
     /**
      * {@link MultipartFile} 객체를 기반으로 {@link UploadedAttachment} 객체를 생성
      *
@@ -146,4 +109,21 @@ public class AttachmentUtils {
                 .attachmentSize((int) multipartFile.getSize())
                 .build();
     }
+
+    /**
+     * 스트림으로 업로드된 첨부파일 정보를 기반으로 {@link UploadedAttachment} 객체를 생성
+     *
+     * @param originalAttachmentName 원본 첨부파일 이름
+     * @param systemName             시스템 첨부파일명
+     * @param attachmentSize         업로드된 바이트 수
+     * @return 생성된 {@link UploadedAttachment} 객체
+     */
+    public static UploadedAttachment createUploadedAttachment(String originalAttachmentName, String systemName, long attachmentSize) {
+        return UploadedAttachment.builder()
+                .originalAttachmentName(originalAttachmentName)
+                .systemName(systemName)
+                .extension(AttachmentUtils.extractFileExtension(originalAttachmentName))
+                .attachmentSize((int) Math.min(attachmentSize, Integer.MAX_VALUE))
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.now.core.admin.authentication.presentation;
 
+import com.now.common.config.infrastructure.RateLimitCost;
 import com.now.core.admin.authentication.application.ManagerAuthenticationService;
 import com.now.core.admin.authentication.domain.Manager;
 import com.now.core.admin.authentication.presentation.dto.ManagerProfile;
@@ -43,6 +44,7 @@ public class ManagerAuthenticationController {
      * @param manager 조회할 매니저 정보
      * @return ResponseEntity 객체 (HTTP 응답)
      */
+    @RateLimitCost(RateLimitCost.AUTHENTICATION)
     @PostMapping("/api/manager/sign-in")
     public ResponseEntity<ManagerProfile> signIn(@RequestBody Manager manager, HttpServletResponse response) {
         Manager authenticatedManager = managerAuthenticationService.retrieveManager(manager);
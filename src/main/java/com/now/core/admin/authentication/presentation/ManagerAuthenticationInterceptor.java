@@ -60,22 +60,20 @@ public class ManagerAuthenticationInterceptor implements HandlerInterceptor {
         if (extractedAccessToken == null) {
             throw new InvalidAuthenticationException(ErrorType.NOT_AUTHENTICATED);
         }
-        if (jwtTokenProvider.isTokenExpired(extractedAccessToken)) {
-            throw new InvalidTokenException(ErrorType.EXPIRED_ACCESS_TOKEN);
-        }
+        Authority authority = Authority.valueOf((String) jwtTokenProvider.getClaim(extractedAccessToken, "role"));
         if (tokenBlacklist.isAccessTokenBlacklisted(extractedAccessToken)) {
             throw new InvalidTokenException(ErrorType.LOGGED_OUT_TOKEN);
         }
-        if(Authority.valueOf((String) jwtTokenProvider.getClaim(extractedAccessToken, "role")) != Authority.MANAGER) {
+        if(authority != Authority.MANAGER) {
             throw new InvalidAuthenticationException(ErrorType.FORBIDDEN);
         }
 
-        authenticationContext.setPrincipal(getManagerIdFromToken(extractedAccessToken));
+        authenticationContext.setPrincipal(getManagerIdFromToken(extractedAccessToken), Authority.MANAGER);
         return true;
     }
 
     /**
-     * 토큰에서 매니저 ID 정보를 추출
+     * 토큰에서 매니저 ID 정보를 추출, 검증된 토큰이므로 캐시된 클레임에서 추출
      *
      * @param accessToken 추출할 토큰
      * @return 토큰에서 추출한 매니저 ID 정보
@@ -4,8 +4,10 @@ import com.now.common.exception.ErrorType;
 import com.now.core.admin.authentication.domain.Manager;
 import com.now.core.admin.authentication.domain.ManagerRepository;
 import com.now.core.admin.authentication.exception.InvalidManagerException;
+import com.now.core.category.domain.constants.PostGroup;
 import com.now.core.post.inquiry.domain.Inquiry;
 import com.now.core.post.inquiry.domain.repository.InquiryRepository;
+import com.now.core.post.common.application.PostChangePublisher;
 import com.now.core.post.common.exception.InvalidPostException;
 import com.now.core.post.inquiry.presentation.dto.Answer;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,7 @@ public class ManagerInquiryService {
 
     private final InquiryRepository inquiryRepository;
     private final ManagerRepository managerRepository;
+    private final PostChangePublisher postChangePublisher;
 
     /**
      * 문의 게시글 응답
@@ -50,6 +53,7 @@ public class ManagerInquiryService {
         }
 
         inquiryRepository.saveAnswer(answer.updateAnswerManagerIdx(manager.getManagerIdx()));
+        postChangePublisher.publishUpdated(PostGroup.INQUIRY, answer.getPostIdx());
     }
 }
 
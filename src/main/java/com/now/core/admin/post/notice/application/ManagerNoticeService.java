@@ -7,6 +7,7 @@ import com.now.core.admin.authentication.domain.ManagerRepository;
 import com.now.core.admin.authentication.exception.InvalidManagerException;
 import com.now.core.category.domain.constants.PostGroup;
 import com.now.core.comment.domain.CommentRepository;
+import com.now.core.post.common.application.PostChangePublisher;
 import com.now.core.post.common.domain.repository.PostRepository;
 import com.now.core.post.notice.domain.Notice;
 import com.now.core.post.notice.domain.repository.NoticeRepository;
@@ -15,6 +16,7 @@ import com.now.core.post.common.exception.InvalidPostException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 공지 게시글 관련 비즈니스 로직을 처리하는 서비스
@@ -22,12 +24,14 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional
 public class ManagerNoticeService {
 
     private final PostRepository postRepository;
     private final NoticeRepository noticeRepository;
     private final ManagerRepository managerRepository;
     private final CommentRepository commentRepository;
+    private final PostChangePublisher postChangePublisher;
 
     /**
      * 공지 게시글 등록
@@ -42,6 +46,7 @@ public class ManagerNoticeService {
         }
 
         noticeRepository.saveNotice(notice.updateManagerIdx(manager.getManagerIdx()));
+        postChangePublisher.publishCreated(PostGroup.NOTICE, notice.getPostIdx(), notice.getCategory());
     }
 
 
@@ -64,6 +69,7 @@ public class ManagerNoticeService {
             throw new CannotCreatePostException(ErrorType.NOT_FOUND_CATEGORY);
         }
 
+        postChangePublisher.publishUpdated(PostGroup.NOTICE, updatedNotice.getPostIdx(), updatedNotice.getCategory());
         noticeRepository.updateNotice(updatedNotice.updateManagerIdx(manager.getManagerIdx()));
     }
 
@@ -82,6 +88,7 @@ public class ManagerNoticeService {
             throw new ForbiddenException(ErrorType.FORBIDDEN);
         }
 
+        postChangePublisher.publishDeleted(PostGroup.NOTICE, postIdx);
         postRepository.deleteAllPostReactionByPostIdx(postIdx);
         commentRepository.deleteAllByPostIdx(postIdx);
         noticeRepository.deleteNotice(postIdx);
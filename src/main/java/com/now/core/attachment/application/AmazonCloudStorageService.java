@@ -1,53 +1,132 @@
 package com.now.core.attachment.application;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.*;
 import com.now.common.exception.FileInsertionException;
 import com.now.core.attachment.application.dto.UploadedAttachment;
-import lombok.RequiredArgsConstructor;
+import com.now.core.attachment.exception.InvalidAttachmentException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
-import static com.now.common.utils.AttachmentUtils.createUploadedFileFromMultipartFile;
+import static com.now.common.utils.AttachmentUtils.createUploadedAttachment;
+import static com.now.common.utils.AttachmentUtils.extractFileExtension;
+import static com.now.common.utils.AttachmentUtils.generateSystemName;
 
 /**
  * Amazon S3 기반 첨부파일 업로드 및 삭제하는 서비스
+ *
+ * 업로드는 {@link AmazonS3StreamUploader}로 내용을 임시 파일에 모으지 않고 스트림에서 읽으면서 업로드하며,
+ * 미리 서명된 URL 다운로드가 활성화되어 있다면 첨부파일 내용은 애플리케이션을 거치지 않고 S3에서 직접 다운로드
  */
 @Slf4j
 @Service
 @Profile("prod")
-@RequiredArgsConstructor
 public class AmazonCloudStorageService implements StorageService {
 
+    /**
+     * 다운로드 시 S3 스트림을 응답으로 옮기는 버퍼의 크기
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 재사용하기 위해 보관하는 최대 버퍼 수, 초과한 버퍼는 GC에 맡김
+     */
+    private static final int MAX_POOLED_BUFFERS = 32;
+
+    /**
+     * 한 번의 다중 객체 삭제 요청으로 삭제할 수 있는 최대 객체 수
+     */
+    private static final int MAX_DELETE_OBJECTS = 1_000;
+
     private final AmazonS3 amazonS3;
+    private final AmazonS3StreamUploader streamUploader;
+    private final String bucket;
+    private final boolean presignedUrlEnabled;
+    private final long presignedUrlTtlSeconds;
+    private final BlockingQueue<byte[]> transferBuffers = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    public AmazonCloudStorageService(AmazonS3 amazonS3,
+                                     AmazonS3StreamUploader streamUploader,
+                                     @Value("${cloud.aws.s3.bucket}") String bucket,
+                                     @Value("${now.attachment.download.presigned-url-enabled:false}") boolean presignedUrlEnabled,
+                                     @Value("${now.attachment.download.presigned-url-ttl-seconds:300}") long presignedUrlTtlSeconds) {
+        this.amazonS3 = amazonS3;
+        this.streamUploader = streamUploader;
+        this.bucket = bucket;
+        this.presignedUrlEnabled = presignedUrlEnabled;
+        this.presignedUrlTtlSeconds = presignedUrlTtlSeconds;
+    }
 
     @Override
     public UploadedAttachment upload(MultipartFile multipartFile) {
-        UploadedAttachment uploadedFile = createUploadedFileFromMultipartFile(multipartFile);
-        try {
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(uploadedFile.getExtension());
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return upload(multipartFile.getOriginalFilename(), inputStream);
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+            throw new FileInsertionException("첨부파일 업로드 중 에러가 발생했습니다.");
+        }
+    }
 
-            amazonS3.putObject(new PutObjectRequest(bucket, uploadedFile.getSystemName(),
-                    multipartFile.getInputStream(), metadata));
+    @Override
+    public UploadedAttachment upload(String originalAttachmentName, InputStream inputStream) {
+        String systemName = generateSystemName(originalAttachmentName);
+        ContentHashingInputStream hashingInputStream = new ContentHashingInputStream(inputStream);
+        long attachmentSize = save(systemName, hashingInputStream);
+        return createUploadedAttachment(originalAttachmentName, systemName, attachmentSize).toBuilder()
+                .contentHash(hashingInputStream.getContentHash())
+                .build();
+    }
 
-            return uploadedFile;
+    @Override
+    public long save(String attachmentName, InputStream inputStream) {
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(extractFileExtension(attachmentName));
+            return streamUploader.upload(attachmentName, metadata, inputStream);
+        } catch (InvalidAttachmentException e) {
+            throw e; // 크기 제한 초과 등으로 중단된 업로드는 S3에 남지 않음
         } catch (Exception e) {
             log.error(e.getMessage(), e);
-            delete(uploadedFile.getSystemName());
             throw new FileInsertionException("첨부파일 업로드 중 에러가 발생했습니다.");
         }
     }
 
+    @Override
+    public void move(String sourceName, String targetName) {
+        try {
+            // S3에는 이름 변경이 없으므로 S3 안에서 복사한 후 원본 삭제
+            amazonS3.copyObject(bucket, sourceName, bucket, targetName);
+        } catch (AmazonClientException e) {
+            log.error(e.getMessage(), e);
+            throw new FileInsertionException("첨부파일 업로드 중 에러가 발생했습니다.");
+        }
+        if (!delete(sourceName)) {
+            log.warn("Failed to delete moved attachment {}", sourceName);
+        }
+    }
+
     @Override
     public boolean delete(String attachmentName) {
         try {
@@ -60,10 +139,115 @@ public class AmazonCloudStorageService implements StorageService {
         }
     }
 
+    @Override
+    public List<String> deleteAll(List<String> attachmentNames) {
+        List<String> failedAttachmentNames = new ArrayList<>();
+        for (int from = 0; from < attachmentNames.size(); from += MAX_DELETE_OBJECTS) {
+            List<String> keys = attachmentNames.subList(from, Math.min(from + MAX_DELETE_OBJECTS, attachmentNames.size()));
+            failedAttachmentNames.addAll(deleteObjects(keys));
+        }
+        return failedAttachmentNames;
+    }
+
+    /**
+     * 하나의 다중 객체 삭제 요청으로 최대 {@link #MAX_DELETE_OBJECTS}개의 객체 삭제
+     *
+     * @param keys 삭제할 객체 키 목록
+     * @return 삭제에 실패한 객체 키 목록
+     */
+    private List<String> deleteObjects(List<String> keys) {
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(keys.toArray(new String[0]))
+                .withQuiet(true);
+        try {
+            amazonS3.deleteObjects(request);
+            return List.of();
+        } catch (MultiObjectDeleteException e) {
+            log.warn("Failed to delete {} of {} objects", e.getErrors().size(), keys.size());
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            log.error(e.getMessage(), e);
+            return keys;
+        }
+    }
+
     @Override
     public InputStream createStream(String attachmentName) {
         // Amazon S3에서 스트림 생성
         S3Object object = amazonS3.getObject(bucket, attachmentName);
         return object.getObjectContent();
     }
+
+    @Override
+    public long getSize(String attachmentName) {
+        return amazonS3.getObjectMetadata(bucket, attachmentName).getContentLength();
+    }
+
+    @Override
+    public void transferTo(String attachmentName, long position, long count, OutputStream outputStream) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+
+        GetObjectRequest request = new GetObjectRequest(bucket, attachmentName)
+                .withRange(position, position + count - 1);
+        try (S3Object object = amazonS3.getObject(request)) {
+            S3ObjectInputStream content = object.getObjectContent();
+            try {
+                pipe(content, outputStream, count);
+            } catch (IOException e) {
+                content.abort(); // 남은 내용을 모두 읽지 않고 연결 종료
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public Optional<URL> createDownloadUrl(String attachmentName, String originalAttachmentName) {
+        if (!presignedUrlEnabled) {
+            return Optional.empty();
+        }
+
+        ResponseHeaderOverrides responseHeaders = new ResponseHeaderOverrides()
+                .withContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                .withContentDisposition(ContentDisposition.attachment()
+                        .filename(originalAttachmentName, StandardCharsets.UTF_8)
+                        .build()
+                        .toString());
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, attachmentName, HttpMethod.GET)
+                .withExpiration(Date.from(Instant.now().plusSeconds(presignedUrlTtlSeconds)))
+                .withResponseHeaders(responseHeaders);
+        return Optional.of(amazonS3.generatePresignedUrl(request));
+    }
+
+    /**
+     * 풀에서 빌린 버퍼로 입력 스트림의 내용을 지정된 바이트 수만큼 출력 스트림에 복사
+     *
+     * @param inputStream  입력 스트림
+     * @param outputStream 출력 스트림
+     * @param count        복사할 바이트 수
+     * @throws IOException 입력 스트림이 예상보다 짧거나 복사하는 도중 발생한 입출력 예외
+     */
+    private void pipe(InputStream inputStream, OutputStream outputStream, long count) throws IOException {
+        byte[] buffer = transferBuffers.poll();
+        if (buffer == null) {
+            buffer = new byte[TRANSFER_BUFFER_SIZE];
+        }
+
+        try {
+            long remaining = count;
+            while (remaining > 0) {
+                int bytesRead = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (bytesRead == -1) {
+                    throw new EOFException("첨부파일이 예상보다 짧습니다.");
+                }
+                outputStream.write(buffer, 0, bytesRead);
+                remaining -= bytesRead;
+            }
+        } finally {
+            transferBuffers.offer(buffer);
+        }
+    }
 }
@@ -0,0 +1,246 @@
+package com.now.core.attachment.application;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 길이를 모르는 스트림을 임시 파일 없이 S3에 업로드하는 클래스
+ *
+ * 파트 크기보다 작은 내용은 한 번의 PUT 요청으로 업로드하고, 큰 내용은 고정된 크기의 파트로 나눠 멀티파트 업로드로 동시에 업로드
+ * 업로드 하나가 동시에 메모리에 올리는 파트 수를 제한해서 내용의 크기와 상관없이 사용하는 메모리가 일정하며,
+ * 실패하면 진행 중인 파트 업로드가 끝나길 기다린 후 멀티파트 업로드를 취소
+ * 스레드 풀 상태는 name=s3PartUpload 태그의 executor.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+@Profile("prod")
+public class AmazonS3StreamUploader implements MeterBinder, DisposableBean {
+
+    /**
+     * 멀티파트 업로드에서 마지막 파트를 제외한 파트의 최소 크기
+     */
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private static final String METRIC_EXECUTOR_NAME = "s3PartUpload";
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final int partSize;
+    private final int maxInFlightParts;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param amazonS3         S3 클라이언트
+     * @param bucket           업로드할 버킷
+     * @param partSize         멀티파트 업로드의 파트 크기(byte), 이보다 작은 내용은 한 번의 PUT 요청으로 업로드
+     * @param maxInFlightParts 업로드 하나가 동시에 업로드하는 최대 파트 수
+     * @param threads          파트 업로드 스레드 수
+     * @param queueCapacity    업로드를 기다릴 수 있는 최대 파트 수
+     */
+    public AmazonS3StreamUploader(AmazonS3 amazonS3,
+                                  @Value("${cloud.aws.s3.bucket}") String bucket,
+                                  @Value("${now.attachment.upload.s3.part-size-bytes:8388608}") int partSize,
+                                  @Value("${now.attachment.upload.s3.max-in-flight-parts:3}") int maxInFlightParts,
+                                  @Value("${now.attachment.upload.s3.threads:8}") int threads,
+                                  @Value("${now.attachment.upload.s3.queue-capacity:32}") int queueCapacity) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("S3 멀티파트 업로드의 파트 크기는 5MB 이상이어야 합니다: " + partSize);
+        }
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        this.partSize = partSize;
+        this.maxInFlightParts = maxInFlightParts;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("s3-part-upload-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, METRIC_EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+    }
+
+    /**
+     * 스트림의 끝까지 읽으면서 업로드
+     *
+     * @param key         업로드할 객체 키
+     * @param metadata    객체 메타데이터
+     * @param inputStream 업로드할 내용, 업로드 후 닫지 않음
+     * @return 업로드된 바이트 수
+     * @throws IOException 스트림을 읽는 도중 발생한 입출력 예외, 이 경우 S3에 객체가 남지 않음
+     */
+    public long upload(String key, ObjectMetadata metadata, InputStream inputStream) throws IOException {
+        byte[] firstPart = inputStream.readNBytes(partSize);
+        if (firstPart.length < partSize) {
+            metadata.setContentLength(firstPart.length);
+            amazonS3.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(firstPart), metadata));
+            return firstPart.length;
+        }
+        return uploadMultipart(key, metadata, firstPart, inputStream);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 첫 번째 파트와 나머지 내용을 파트 크기만큼씩 읽어서 동시에 업로드
+     * 동시에 업로드 중인 파트가 최대 파트 수에 도달하면 파트 업로드가 끝날 때까지 스트림을 읽지 않음
+     */
+    private long uploadMultipart(String key, ObjectMetadata metadata, byte[] firstPart, InputStream inputStream) throws IOException {
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata))
+                .getUploadId();
+        Semaphore inFlightParts = new Semaphore(maxInFlightParts);
+        List<Future<PartETag>> futures = new ArrayList<>();
+        long uploadedBytes = 0;
+        try {
+            byte[] part = firstPart;
+            while (part.length > 0) {
+                acquire(inFlightParts);
+                futures.add(submitPart(key, uploadId, futures.size() + 1, part, inFlightParts));
+                uploadedBytes += part.length;
+                if (part.length < partSize || hasFailedPart(futures)) {
+                    break;
+                }
+                part = inputStream.readNBytes(partSize);
+            }
+
+            List<PartETag> partETags = awaitParts(futures);
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+            return uploadedBytes;
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId, futures, e);
+            throw e;
+        }
+    }
+
+    private Future<PartETag> submitPart(String key, String uploadId, int partNumber, byte[] part, Semaphore inFlightParts) {
+        try {
+            return executor.submit(() -> {
+                try {
+                    UploadPartRequest request = new UploadPartRequest()
+                            .withBucketName(bucket)
+                            .withKey(key)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partNumber)
+                            .withPartSize(part.length)
+                            .withInputStream(new ByteArrayInputStream(part));
+                    return amazonS3.uploadPart(request).getPartETag();
+                } finally {
+                    inFlightParts.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightParts.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 모든 파트 업로드가 끝날 때까지 대기 후 파트 번호 순서대로 ETag 반환
+     *
+     * @throws IOException 하나라도 업로드에 실패한 경우
+     */
+    private static List<PartETag> awaitParts(List<Future<PartETag>> futures) throws IOException {
+        List<PartETag> partETags = new ArrayList<>(futures.size());
+        IOException failure = null;
+        for (Future<PartETag> future : futures) {
+            try {
+                partETags.add(awaitUninterruptibly(future));
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = new IOException("S3 파트 업로드에 실패했습니다.", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return partETags;
+    }
+
+    /**
+     * 진행 중인 파트 업로드가 끝나길 기다린 후 멀티파트 업로드 취소, 업로드된 파트는 S3에서 삭제
+     */
+    private void abort(String key, String uploadId, List<Future<PartETag>> futures, Exception cause) {
+        for (Future<PartETag> future : futures) {
+            try {
+                awaitUninterruptibly(future);
+            } catch (ExecutionException ignored) {
+                // 이미 실패한 파트
+            }
+        }
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error("Failed to abort multipart upload, key: {}, uploadId: {}", key, uploadId, e);
+        }
+    }
+
+    private static boolean hasFailedPart(List<Future<PartETag>> futures) {
+        for (Future<PartETag> future : futures) {
+            if (future.isDone()) {
+                try {
+                    future.get();
+                } catch (ExecutionException | InterruptedException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void acquire(Semaphore semaphore) throws InterruptedIOException {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("S3 파트 업로드를 기다리는 도중 인터럽트되었습니다.");
+        }
+    }
+
+    /**
+     * 파트 업로드가 끝날 때까지 대기, 인터럽트되어도 기다린 후 인터럽트 상태를 복원
+     */
+    private static PartETag awaitUninterruptibly(Future<PartETag> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.now.core.attachment.application;
+
+import com.now.common.utils.AttachmentUtils;
+import com.now.core.attachment.application.dto.UploadedAttachment;
+import com.now.core.attachment.domain.AttachmentContent;
+import com.now.core.attachment.domain.AttachmentContentRepository;
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 내용의 첨부파일을 내용의 해시로 이름을 정한 하나의 저장소 파일로 합치고 참조 수로 관리하는 클래스
+ *
+ * 업로드된 첨부파일은 첨부파일 정보를 저장하는 트랜잭션 안에서 참조 수를 증가시킨 후 해시 이름으로 옮기고,
+ * 첨부파일 정보를 삭제할 때 참조 수를 감소시켜 더 이상 참조되지 않는 파일만 저장소 삭제 목록에 기록
+ * 저장소 삭제는 참조 수 정보를 잠근 상태에서 참조되지 않는 파일만 삭제하므로 같은 내용의 업로드와 겹쳐도 참조되는 파일은 삭제하지 않음
+ * 해시 이름이 아닌 첨부파일은 기존처럼 하나의 첨부파일 정보만 참조하는 것으로 간주
+ */
+@Slf4j
+@Component
+public class AttachmentContentStore {
+
+    /**
+     * 해시 이름의 첨부파일과 해당 첨부파일에서 만든 축소 이미지 이름 패턴
+     */
+    private static final Pattern CONTENT_NAME_PATTERN = Pattern.compile("^([0-9a-f]{64})(\\.\\w+|_w\\d+\\.jpg)$");
+    private static final Pattern VARIANT_NAME_PATTERN = Pattern.compile("^[0-9a-f]{64}_w\\d+\\.jpg$");
+
+    private final StorageService storageService;
+    private final AttachmentContentRepository attachmentContentRepository;
+    private final AttachmentDeletionRepository attachmentDeletionRepository;
+    private final boolean enabled;
+
+    /**
+     * @param enabled 새로 업로드되는 첨부파일을 해시 이름으로 합칠지 여부
+     */
+    public AttachmentContentStore(StorageService storageService,
+                                  AttachmentContentRepository attachmentContentRepository,
+                                  AttachmentDeletionRepository attachmentDeletionRepository,
+                                  @Value("${now.attachment.dedup.enabled:false}") boolean enabled) {
+        this.storageService = storageService;
+        this.attachmentContentRepository = attachmentContentRepository;
+        this.attachmentDeletionRepository = attachmentDeletionRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 업로드된 첨부파일을 해시 이름의 파일로 옮기고 참조 수를 증가, 같은 내용의 파일이 이미 참조되고 있다면 업로드된 파일은 삭제
+     * 트랜잭션이 롤백되면 해시 이름의 파일을 저장소 삭제 목록에 기록하며, 다른 첨부파일이 참조하고 있다면 삭제되지 않음
+     * 같은 내용의 업로드는 참조 수 정보의 잠금으로 먼저 참조한 트랜잭션이 끝날 때까지 대기하므로 첨부파일 정보를 저장하는 트랜잭션 안에서만 호출
+     *
+     * @param uploadedAttachment 업로드된 첨부파일 정보
+     * @return 첨부파일 정보에 저장할 첨부파일 이름, 비활성화되어 있거나 해시가 없다면 업로드된 이름
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String claim(UploadedAttachment uploadedAttachment) {
+        String systemName = uploadedAttachment.getSystemName();
+        String contentHash = uploadedAttachment.getContentHash();
+        if (!enabled || contentHash == null) {
+            return systemName;
+        }
+
+        String contentName = String.format("%s.%s", contentHash, AttachmentUtils.extractFileExtension(systemName));
+        int referenceCount = attachmentContentRepository.saveReference(contentName, contentHash);
+        releaseOnRollback(contentName, contentHash, systemName);
+
+        // 이미 참조되고 있다면 참조 수가 0이 된 적이 없으므로 해시 이름의 파일이 저장소에 있음
+        if (referenceCount > 1) {
+            if (!storageService.delete(systemName)) {
+                attachmentDeletionRepository.saveAll(List.of(systemName));
+            }
+            return contentName;
+        }
+        storageService.move(systemName, contentName);
+        return contentName;
+    }
+
+    /**
+     * 삭제되는 첨부파일 정보가 참조하던 파일의 참조 수를 감소시킨 후 저장소에서 삭제할 파일 이름 목록 반환
+     *
+     * @param savedAttachmentNames 삭제되는 첨부파일 정보의 첨부파일 이름 목록, 같은 이름이 여러 번 있을 수 있음
+     * @return 해시 이름이 아닌 파일과 더 이상 참조되지 않는 해시 이름의 파일 목록
+     */
+    public List<String> release(List<String> savedAttachmentNames) {
+        List<String> unreferencedNames = new ArrayList<>();
+        Map<String, Integer> referenceCounts = new LinkedHashMap<>();
+        for (String savedAttachmentName : savedAttachmentNames) {
+            if (isContentName(savedAttachmentName)) {
+                referenceCounts.merge(savedAttachmentName, 1, Integer::sum);
+                continue;
+            }
+            unreferencedNames.add(savedAttachmentName);
+        }
+        if (referenceCounts.isEmpty()) {
+            return unreferencedNames;
+        }
+
+        unreferencedNames.addAll(attachmentContentRepository.release(referenceCounts));
+        return unreferencedNames;
+    }
+
+    /**
+     * 해시 이름의 파일 중 참조되지 않는 파일만 저장소에서 삭제, 참조 수 정보를 잠그고 삭제하므로 같은 내용의 업로드는 삭제가 끝날 때까지 대기
+     * 축소 이미지는 같은 해시의 모든 파일이 참조되지 않을 때만 삭제
+     *
+     * @param contentNames 해시 이름의 파일 목록
+     * @return 저장소 삭제에 실패한 파일 이름 목록, 다시 참조되어 삭제하지 않은 파일은 포함하지 않음
+     */
+    @Transactional
+    public List<String> deleteUnreferenced(List<String> contentNames) {
+        List<AttachmentContent> attachmentContents = attachmentContentRepository.findAllForUpdate(contentNames.stream()
+                .map(AttachmentContentStore::extractContentHash)
+                .distinct()
+                .collect(Collectors.toList()));
+        Set<String> unreferencedNames = attachmentContents.stream()
+                .filter(attachmentContent -> attachmentContent.getReferenceCount() <= 0)
+                .map(AttachmentContent::getSavedAttachmentName)
+                .collect(Collectors.toSet());
+        Set<String> referencedHashes = attachmentContents.stream()
+                .filter(attachmentContent -> attachmentContent.getReferenceCount() > 0)
+                .map(AttachmentContent::getContentHash)
+                .collect(Collectors.toSet());
+        // 원본은 참조 수 정보가 없다면 이미 삭제되었으므로 건너뛰고, 축소 이미지는 원본이 먼저 삭제되었을 수 있으므로 삭제
+        List<String> deletableNames = contentNames.stream()
+                .filter(contentName -> isVariantName(contentName)
+                        ? !referencedHashes.contains(extractContentHash(contentName))
+                        : unreferencedNames.contains(contentName))
+                .distinct()
+                .collect(Collectors.toList());
+        if (deletableNames.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> failedNames = storageService.deleteAll(deletableNames);
+        attachmentContentRepository.deleteUnreferenced(deletableNames.stream()
+                .filter(deletableName -> !isVariantName(deletableName) && !failedNames.contains(deletableName))
+                .collect(Collectors.toList()));
+        return failedNames;
+    }
+
+    /**
+     * 해시 이름의 파일이나 해당 파일에서 만든 축소 이미지라면 true, 그렇지 않다면 false 반환
+     *
+     * @param savedAttachmentName 저장소에 저장된 파일 이름
+     * @return 해시 이름의 파일이나 축소 이미지라면 true, 그렇지 않다면 false
+     */
+    public static boolean isContentName(String savedAttachmentName) {
+        return CONTENT_NAME_PATTERN.matcher(savedAttachmentName).matches();
+    }
+
+    private static boolean isVariantName(String savedAttachmentName) {
+        return VARIANT_NAME_PATTERN.matcher(savedAttachmentName).matches();
+    }
+
+    private static String extractContentHash(String contentName) {
+        Matcher matcher = CONTENT_NAME_PATTERN.matcher(contentName);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 증가시킨 참조 수도 롤백되므로, 참조되지 않는 파일로 기록한 후 저장소 삭제 목록에 기록
+     */
+    private void releaseOnRollback(String contentName, String contentHash, String systemName) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    attachmentContentRepository.saveUnreferenced(contentName, contentHash);
+                    attachmentDeletionRepository.saveAll(List.of(contentName, systemName));
+                } catch (RuntimeException e) {
+                    log.error("Failed to release attachment content after rollback: " + contentName, e);
+                }
+            }
+        });
+    }
+}
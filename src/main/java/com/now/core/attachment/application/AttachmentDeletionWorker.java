@@ -0,0 +1,130 @@
+package com.now.core.attachment.application;
+
+import com.now.core.attachment.domain.AttachmentDeletion;
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 첨부파일 정보가 삭제될 때 기록된 첨부파일을 주기적으로 저장소에서 일괄 삭제하는 클래스
+ *
+ * 삭제에 실패한 첨부파일은 시도 횟수에 따라 다음 시도를 미루며, 삭제는 멱등이므로 여러 서버가 같은 첨부파일을 삭제해도 무방
+ * 해시 이름의 첨부파일은 {@link AttachmentContentStore}가 다시 참조되지 않은 경우에만 삭제
+ * 처리 결과는 attachment.deletion{result=deleted|failed} 메트릭으로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentDeletionWorker implements MeterBinder {
+
+    /**
+     * 한 번에 조회해서 삭제할 최대 첨부파일 수
+     */
+    static final int BATCH_SIZE = 1_000;
+
+    /**
+     * 이 횟수 이상 실패한 첨부파일은 에러로 기록
+     */
+    private static final int ALERT_ATTEMPT_COUNT = 10;
+
+    private final StorageService storageService;
+    private final AttachmentDeletionRepository attachmentDeletionRepository;
+    private final AttachmentContentStore attachmentContentStore;
+    private Counter deletedCounter; // 바인딩되기 전에는 null
+    private Counter failedCounter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        deletedCounter = Counter.builder("attachment.deletion")
+                .tag("result", "deleted")
+                .description("Number of attachments deleted from storage")
+                .register(registry);
+        failedCounter = Counter.builder("attachment.deletion")
+                .tag("result", "failed")
+                .description("Number of attachment deletions postponed after a storage failure")
+                .register(registry);
+    }
+
+    /**
+     * 삭제를 시도할 시각이 지난 첨부파일이 없을 때까지 배치 단위로 저장소에서 삭제
+     */
+    @Scheduled(fixedDelayString = "${now.attachment.deletion.interval-ms:5000}",
+            initialDelayString = "${now.attachment.deletion.interval-ms:5000}")
+    public void deleteAtIntervals() {
+        List<AttachmentDeletion> attachmentDeletions;
+        do {
+            attachmentDeletions = attachmentDeletionRepository.findDueAttachmentDeletions(BATCH_SIZE);
+            if (!attachmentDeletions.isEmpty()) {
+                delete(attachmentDeletions);
+            }
+        } while (attachmentDeletions.size() == BATCH_SIZE);
+    }
+
+    /**
+     * 첨부파일들을 저장소에서 일괄 삭제 후 성공한 첨부파일은 목록에서 제거하고, 실패한 첨부파일은 다음 시도를 미룸
+     *
+     * @param attachmentDeletions 삭제할 첨부파일 목록
+     */
+    private void delete(List<AttachmentDeletion> attachmentDeletions) {
+        List<String> savedAttachmentNames = attachmentDeletions.stream()
+                .map(AttachmentDeletion::getSavedAttachmentName)
+                .distinct()
+                .collect(Collectors.toList());
+        Set<String> failedAttachmentNames = new HashSet<>(deleteFromStorage(savedAttachmentNames));
+
+        List<Long> deletedIndexes = new ArrayList<>();
+        List<Long> failedIndexes = new ArrayList<>();
+        for (AttachmentDeletion attachmentDeletion : attachmentDeletions) {
+            if (!failedAttachmentNames.contains(attachmentDeletion.getSavedAttachmentName())) {
+                deletedIndexes.add(attachmentDeletion.getAttachmentDeletionIdx());
+                continue;
+            }
+            failedIndexes.add(attachmentDeletion.getAttachmentDeletionIdx());
+            if (attachmentDeletion.getAttemptCount() + 1 >= ALERT_ATTEMPT_COUNT) {
+                log.error("Failed to delete attachment from storage {} times: {}",
+                        attachmentDeletion.getAttemptCount() + 1, attachmentDeletion.getSavedAttachmentName());
+            }
+        }
+
+        attachmentDeletionRepository.deleteAll(deletedIndexes);
+        attachmentDeletionRepository.postponeAll(failedIndexes);
+        increment(deletedCounter, deletedIndexes.size());
+        increment(failedCounter, failedIndexes.size());
+    }
+
+    private List<String> deleteFromStorage(List<String> savedAttachmentNames) {
+        Map<Boolean, List<String>> partitionedNames = savedAttachmentNames.stream()
+                .collect(Collectors.partitioningBy(AttachmentContentStore::isContentName));
+        try {
+            List<String> failedAttachmentNames = new ArrayList<>();
+            if (!partitionedNames.get(false).isEmpty()) {
+                failedAttachmentNames.addAll(storageService.deleteAll(partitionedNames.get(false)));
+            }
+            if (!partitionedNames.get(true).isEmpty()) {
+                failedAttachmentNames.addAll(attachmentContentStore.deleteUnreferenced(partitionedNames.get(true)));
+            }
+            return failedAttachmentNames;
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete {} attachments from storage", savedAttachmentNames.size(), e);
+            return savedAttachmentNames;
+        }
+    }
+
+    private static void increment(Counter counter, int amount) {
+        if (counter != null && amount > 0) {
+            counter.increment(amount);
+        }
+    }
+}
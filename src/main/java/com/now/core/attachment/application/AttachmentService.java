@@ -5,8 +5,10 @@ import com.now.common.utils.AttachmentUtils;
 import com.now.core.attachment.application.dto.ThumbNail;
 import com.now.core.attachment.application.dto.UploadedAttachment;
 import com.now.core.attachment.domain.Attachment;
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
 import com.now.core.attachment.domain.AttachmentRepository;
 import com.now.core.attachment.domain.constants.AttachmentType;
+import com.now.core.attachment.domain.constants.ThumbnailSize;
 import com.now.core.attachment.domain.wrapped.AttachmentExtension;
 import com.now.core.attachment.domain.wrapped.AttachmentSize;
 import com.now.core.attachment.domain.wrapped.OriginalAttachmentName;
@@ -19,8 +21,14 @@ import com.now.core.post.common.domain.constants.UpdateOption;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -34,8 +42,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AttachmentService {
 
+    /**
+     * 스트림 업로드에서 첨부파일 내용 외에 허용하는 multipart 요청 본문의 크기(구분자, 파트 헤더, 버리는 파트)
+     */
+    private static final long MAX_MULTIPART_OVERHEAD = 1024 * 1024;
+
     private final StorageService storageService;
+    private final AttachmentUploadExecutor attachmentUploadExecutor;
     private final AttachmentRepository attachmentRepository;
+    private final AttachmentDeletionRepository attachmentDeletionRepository;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final AttachmentContentStore attachmentContentStore;
 
     /**
      * 첨부파일을 서버 디렉토리에 업로드 후 데이터베이스에 첨부파일 저장, 대표 이미지 저장
@@ -65,8 +82,97 @@ public class AttachmentService {
         if (!hasExistUploadFile(multipartFiles)) {
             return;
         }
-        List<Attachment> attachments = uploadedAttachments(multipartFiles, attachmentType);
-        attachments.forEach(attachment -> saveAttachment(attachment.updateMemberPostIdx(postIdx)));
+        List<Attachment> attachments = uploadedAttachments(limitUploadCount(multipartFiles, attachmentType), attachmentType);
+        attachments.removeIf(Objects::isNull);
+        saveAttachments(attachments, postIdx);
+    }
+
+    /**
+     * multipart 요청 본문의 첨부파일 파트를 임시 파일에 저장하지 않고 차례대로 저장소에 업로드
+     * <p>
+     * 지정한 이름의 파일 파트만 최대 업로드 수까지 업로드하고 나머지 파트는 읽어서 버리며,
+     * 하나라도 업로드에 실패하면 업로드된 첨부파일을 모두 삭제하고 예외를 던짐
+     * 요청 본문을 읽는 동안 데이터베이스 커넥션을 점유하지 않도록 트랜잭션 밖에서 호출하고,
+     * 업로드된 첨부파일은 {@link #saveUploadedAttachments}로 저장
+     *
+     * @param contentType    요청의 Content-Type 헤더 값
+     * @param requestBody    요청 본문
+     * @param partName       첨부파일 파트 이름
+     * @param attachmentType 첨부파일 업로드 타입
+     * @return 업로드된 첨부파일 목록
+     * @throws IOException                요청 본문을 읽는 도중 발생한 입출력 예외
+     * @throws InvalidAttachmentException 요청 본문의 형식이 잘못되었거나 허용하지 않은 확장자, 크기의 첨부파일인 경우
+     */
+    public List<UploadedAttachment> uploadStreamedAttachments(String contentType, InputStream requestBody, String partName,
+                                                              AttachmentType attachmentType) throws IOException {
+        log.debug("uploadStreamedAttachments 호출, attachmentType : {}", attachmentType);
+
+        long maxRequestSize = (long) attachmentType.getMaxUploadSize() * attachmentType.getMaxUploadCount() + MAX_MULTIPART_OVERHEAD;
+        MultipartStreamReader reader = new MultipartStreamReader(contentType, new SizeLimitedInputStream(requestBody, maxRequestSize));
+
+        List<UploadedAttachment> uploadedAttachments = new ArrayList<>();
+        try {
+            MultipartStreamReader.Part part;
+            while ((part = reader.next()) != null) {
+                if (!part.isFile() || !partName.equals(part.getName())
+                        || uploadedAttachments.size() >= attachmentType.getMaxUploadCount()) {
+                    continue;
+                }
+                // 내용을 읽기 전에 확장자부터 검증
+                new AttachmentExtension(AttachmentUtils.extractFileExtension(part.getFilename()), attachmentType.getAllowedExtensions());
+                uploadedAttachments.add(storageService.upload(part.getFilename(),
+                        new SizeLimitedInputStream(part.getInputStream(), attachmentType.getMaxUploadSize())));
+            }
+            return uploadedAttachments;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to stream attachments, deleting {} uploaded attachments", uploadedAttachments.size());
+            uploadedAttachments.forEach(uploadedAttachment -> storageService.delete(uploadedAttachment.getSystemName()));
+            throw e;
+        }
+    }
+
+    /**
+     * 저장소에 이미 업로드된 첨부파일들을 검증 후 하나의 트랜잭션에서 같은 내용의 파일과 합치고 데이터베이스에 저장
+     * 트랜잭션이 롤백되면 업로드된 첨부파일을 저장소에서 삭제하고, 합친 파일은 {@link AttachmentContentStore}가 정리
+     *
+     * @param uploadedAttachments 업로드된 첨부파일 목록
+     * @param postIdx             게시글 번호
+     * @param attachmentType      첨부파일 업로드 타입
+     */
+    @Transactional
+    public void saveUploadedAttachments(List<UploadedAttachment> uploadedAttachments, Long postIdx, AttachmentType attachmentType) {
+        log.debug("saveUploadedAttachments 호출, uploadedAttachments : {}, postIdx : {}, attachmentType : {}",
+                uploadedAttachments.size(), postIdx, attachmentType);
+
+        if (uploadedAttachments.isEmpty()) {
+            return;
+        }
+        deleteOnRollback(uploadedAttachments.stream()
+                .map(UploadedAttachment::getSystemName)
+                .collect(Collectors.toList()));
+
+        List<Attachment> attachments = uploadedAttachments.stream()
+                .map(uploadedAttachment -> convertToAttachment(uploadedAttachment, attachmentType))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        saveAttachments(attachments, postIdx);
+    }
+
+    /**
+     * 저장소에 이미 업로드된 첨부파일을 검증 후 데이터베이스에 저장, 유효하지 않은 첨부파일은 저장소에서 삭제
+     *
+     * @param uploadedAttachment 업로드된 첨부파일 정보
+     * @param postIdx            게시글 번호
+     * @param attachmentType     첨부파일 업로드 타입
+     */
+    public void saveUploadedAttachment(UploadedAttachment uploadedAttachment, Long postIdx, AttachmentType attachmentType) {
+        log.debug("saveUploadedAttachment 호출, UploadedAttachment : {}, postIdx : {}, attachmentType : {}",
+                uploadedAttachment, postIdx, attachmentType);
+
+        Attachment attachment = convertToAttachment(uploadedAttachment, attachmentType);
+        if (attachment != null) {
+            saveAttachment(attachment.updateMemberPostIdx(postIdx));
+        }
     }
 
     /**
@@ -78,8 +184,7 @@ public class AttachmentService {
         log.debug("deleteAllByPostIdxWithThumbNail 호출, postIdx : {}",postIdx);
 
         attachmentRepository.deleteThumbNailByPostIdx(postIdx);
-        attachmentRepository.findAllIndexesByPostIdx(postIdx)
-                .forEach(this::deleteAttachment);
+        deleteAllByPostIdx(postIdx);
     }
 
     /**
@@ -203,12 +308,19 @@ public class AttachmentService {
      * @param attachmentType    첨부파일 업로드 타입을 정의한 {@link AttachmentType} 객체
      */
     private void saveAttachmentsWithSaveThumbnail(AddNewAttachments addNewAttachments, Long postIdx, AttachmentType attachmentType) {
-        List<Attachment> attachments = uploadedAttachments(addNewAttachments.getNewAttachments(), attachmentType);
-        attachments.forEach(attachment -> saveAttachment(attachment.updateMemberPostIdx(postIdx)));
+        // 첨부파일과 대표 이미지를 함께 업로드 후 하나의 INSERT 문으로 저장
+        List<MultipartFile> multipartFiles = limitUploadCount(addNewAttachments.getNewAttachments(), attachmentType);
+        multipartFiles.add(addNewAttachments.getNewThumbnail());
 
-        Attachment thumbnailAttachment = uploadedAttachment(addNewAttachments.getNewThumbnail(), attachmentType);
-        saveAttachment(thumbnailAttachment.updateMemberPostIdx(postIdx));
+        List<Attachment> attachments = uploadedAttachments(multipartFiles, attachmentType);
+        Attachment thumbnailAttachment = attachments.get(attachments.size() - 1);
+        attachments.removeIf(Objects::isNull);
+        saveAttachments(attachments, postIdx);
 
+        if (thumbnailAttachment == null) {
+            return;
+        }
+        thumbnailGenerator.generateAfterCommit(thumbnailAttachment.getAttachmentIdx());
         if (hasThumbnail(postIdx)) {
             attachmentRepository.updateThumbnail(thumbnailAttachment);
             return;
@@ -232,6 +344,7 @@ public class AttachmentService {
                     .attachmentIdx(updateExistingAttachments.getUnverifiedClientThumbnailAttachmentIdx())
                     .postIdx(postIdx)
                     .build());
+            thumbnailGenerator.generateAfterCommit(updateExistingAttachments.getUnverifiedClientThumbnailAttachmentIdx());
         }
         if (updateExistingAttachments.isThumbnailNotSelected()) {
             attachmentRepository.clearThumbnail(postIdx);
@@ -270,6 +383,7 @@ public class AttachmentService {
                         .attachmentIdx(updateExistingAttachments.getUnverifiedClientThumbnailAttachmentIdx())
                         .postIdx(postIdx)
                         .build());
+                thumbnailGenerator.generateAfterCommit(updateExistingAttachments.getUnverifiedClientThumbnailAttachmentIdx());
             }
         }
         deleteOnlyAttachments(updateExistingAttachments.getVerifiedDeletedAttachmentIndexes());
@@ -300,23 +414,46 @@ public class AttachmentService {
     }
 
     /**
-     * 첨부파일 번호에 해당하는 첨부파일 삭제
+     * 첨부파일 번호에 해당하는 첨부파일 삭제, 저장소의 파일과 축소 이미지는 트랜잭션이 커밋된 후 {@link AttachmentDeletionWorker}가 삭제
      *
      * @param attachmentIdx 첨부파일 번호
      */
     public void deleteAttachment(Long attachmentIdx) {
-        storageService.delete(getAttachment(attachmentIdx).getSavedAttachmentName());
+        saveAttachmentDeletions(List.of(getAttachment(attachmentIdx).getSavedAttachmentName()));
         attachmentRepository.deleteAttachmentIdx(attachmentIdx);
     }
 
     /**
-     * 게시글 번호에 해당하는 모든 첨부파일 삭제
+     * 게시글 번호에 해당하는 모든 첨부파일을 한 번에 삭제, 저장소의 파일과 축소 이미지는 트랜잭션이 커밋된 후 {@link AttachmentDeletionWorker}가 삭제
      *
      * @param postIdx 게시글 번호
      */
     public void deleteAllByPostIdx(Long postIdx) {
-        attachmentRepository.findAllIndexesByPostIdx(postIdx)
-                .forEach(this::deleteAttachment);
+        List<String> savedAttachmentNames = attachmentRepository.findSavedAttachmentNamesByPostIdx(postIdx);
+        if (savedAttachmentNames == null || savedAttachmentNames.isEmpty()) {
+            return;
+        }
+        saveAttachmentDeletions(savedAttachmentNames);
+        attachmentRepository.deleteAllByPostIdx(postIdx);
+    }
+
+    /**
+     * 삭제되는 첨부파일이 참조하던 파일 중 더 이상 참조되지 않는 파일과 그 축소 이미지 이름을 저장소 삭제 목록에 기록
+     * 만들어지지 않은 축소 이미지는 삭제 시 무시됨
+     *
+     * @param savedAttachmentNames 삭제되는 첨부파일 정보의 첨부파일 이름 목록
+     */
+    private void saveAttachmentDeletions(List<String> savedAttachmentNames) {
+        List<String> unreferencedNames = attachmentContentStore.release(savedAttachmentNames);
+        if (unreferencedNames.isEmpty()) {
+            return;
+        }
+        attachmentDeletionRepository.saveAll(unreferencedNames);
+
+        List<String> variantNames = ThumbnailSize.getVariantNames(unreferencedNames);
+        if (!variantNames.isEmpty()) {
+            attachmentDeletionRepository.saveAll(variantNames);
+        }
     }
 
     /**
@@ -328,6 +465,20 @@ public class AttachmentService {
         attachmentRepository.saveAttachment(attachment);
     }
 
+    /**
+     * 게시글 번호를 설정한 첨부파일 목록을 하나의 INSERT 문으로 저장
+     *
+     * @param attachments 저장할 첨부파일 목록
+     * @param postIdx     게시글 번호
+     */
+    private void saveAttachments(List<Attachment> attachments, Long postIdx) {
+        if (attachments.isEmpty()) {
+            return;
+        }
+        attachments.forEach(attachment -> attachment.updateMemberPostIdx(postIdx));
+        attachmentRepository.saveAttachments(attachments);
+    }
+
     /**
      * 게시물 번호에 해당하는 대표 이미지 정보를 반환
      *
@@ -379,18 +530,37 @@ public class AttachmentService {
      * @return 변환된 {@link Attachment} 객체
      */
     private Attachment convertToAttachment(UploadedAttachment uploadedAttachment, AttachmentType uploadType) {
+        Attachment.AttachmentBuilder attachmentBuilder;
         try {
-            return Attachment.builder()
-                    .savedAttachmentName(uploadedAttachment.getSystemName())
+            attachmentBuilder = Attachment.builder()
                     .originalAttachmentName(new OriginalAttachmentName(uploadedAttachment.getOriginalAttachmentName()))
                     .attachmentExtension(new AttachmentExtension(AttachmentUtils.extractFileExtension(uploadedAttachment.getSystemName()), uploadType.getAllowedExtensions()))
-                    .attachmentSize(new AttachmentSize(uploadedAttachment.getAttachmentSize(), uploadType.getMaxUploadSize()))
-                    .build();
+                    .attachmentSize(new AttachmentSize(uploadedAttachment.getAttachmentSize(), uploadType.getMaxUploadSize()));
         } catch (InvalidAttachmentException e) {
             log.error(e.getMessage(), e);
             storageService.delete(uploadedAttachment.getSystemName());
             return null;
         }
+        // 유효한 첨부파일만 같은 내용의 파일과 합침
+        return attachmentBuilder
+                .savedAttachmentName(attachmentContentStore.claim(uploadedAttachment))
+                .build();
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 업로드된 첨부파일을 저장소에서 삭제, 이미 옮겨지거나 삭제된 파일은 무시됨
+     *
+     * @param systemNames 업로드된 첨부파일 이름 목록
+     */
+    private void deleteOnRollback(List<String> systemNames) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    storageService.deleteAll(systemNames);
+                }
+            }
+        });
     }
 
     /**
@@ -403,6 +573,7 @@ public class AttachmentService {
     private void saveThumbnail(MultipartFile multipartFile, Long postIdx, AttachmentType attachmentType) {
         Attachment thumbNailAttachment = uploadedAttachment(multipartFile, attachmentType);
         saveAttachment(thumbNailAttachment.updateMemberPostIdx(postIdx));
+        thumbnailGenerator.generateAfterCommit(thumbNailAttachment.getAttachmentIdx());
 
         if (hasThumbnail(postIdx)) {
             attachmentRepository.updateThumbnail(thumbNailAttachment);
@@ -412,18 +583,29 @@ public class AttachmentService {
     }
 
     /**
-     * 첨부파일을 업로드 하고, 업로드된 첨부파일 목록을 반환
+     * 업로드 타입의 최대 업로드 수만큼의 첨부파일 목록을 반환
      *
      * @param multipartFiles 업로드할 {@link MultipartFile} 배열
      * @param uploadType     첨부파일 업로드 타입을 정의한 {@link AttachmentType} 객체
-     * @return 업로드된 첨부파일 목록
+     * @return 최대 업로드 수만큼의 첨부파일 목록
      */
-    private List<Attachment> uploadedAttachments(MultipartFile[] multipartFiles, AttachmentType uploadType) {
+    private static List<MultipartFile> limitUploadCount(MultipartFile[] multipartFiles, AttachmentType uploadType) {
         return Arrays.stream(multipartFiles)
                 .limit(uploadType.getMaxUploadCount())
-                .map(multipartFile -> convertToAttachment(storageService.upload(multipartFile), uploadType))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * 첨부파일들을 동시에 업로드 하고, 업로드된 첨부파일 목록을 전달받은 순서대로 반환
+     *
+     * @param multipartFiles 업로드할 {@link MultipartFile} 목록
+     * @param uploadType     첨부파일 업로드 타입을 정의한 {@link AttachmentType} 객체
+     * @return 업로드된 첨부파일 목록, 유효하지 않아 삭제된 첨부파일은 null
+     */
+    private List<Attachment> uploadedAttachments(List<MultipartFile> multipartFiles, AttachmentType uploadType) {
+        return attachmentUploadExecutor.uploadAll(multipartFiles).stream()
+                .map(uploadedAttachment -> convertToAttachment(uploadedAttachment, uploadType))
+                .collect(Collectors.toCollection(ArrayList::new));
     }
 
     /**
@@ -0,0 +1,133 @@
+package com.now.core.attachment.application;
+
+import com.now.common.exception.FileInsertionException;
+import com.now.core.attachment.application.dto.UploadedAttachment;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 첨부파일을 제한된 I/O 스레드 풀에서 동시에 저장소에 업로드하는 클래스
+ *
+ * 하나라도 업로드에 실패하면 나머지 업로드가 끝나길 기다린 후 업로드된 첨부파일을 모두 삭제하고 예외를 던지며,
+ * 대기열이 가득 차면 요청 스레드에서 직접 업로드
+ * 스레드 풀 상태는 name=attachmentUpload 태그의 executor.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class AttachmentUploadExecutor implements MeterBinder, DisposableBean {
+
+    private static final String METRIC_EXECUTOR_NAME = "attachmentUpload";
+
+    private final StorageService storageService;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param storageService 첨부파일 저장소
+     * @param threads        업로드 스레드 수
+     * @param queueCapacity  업로드를 기다릴 수 있는 최대 첨부파일 수
+     */
+    public AttachmentUploadExecutor(StorageService storageService,
+                                    @Value("${now.attachment.upload.threads:8}") int threads,
+                                    @Value("${now.attachment.upload.queue-capacity:64}") int queueCapacity) {
+        this.storageService = storageService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("attachment-upload-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, METRIC_EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+    }
+
+    /**
+     * 첨부파일들을 동시에 업로드 후 업로드된 첨부파일 정보를 전달받은 순서대로 반환
+     *
+     * @param multipartFiles 업로드할 첨부파일 목록
+     * @return 업로드된 첨부파일 정보 목록
+     * @throws FileInsertionException 하나라도 업로드에 실패한 경우
+     */
+    public List<UploadedAttachment> uploadAll(List<MultipartFile> multipartFiles) {
+        if (multipartFiles.size() == 1) {
+            return List.of(storageService.upload(multipartFiles.get(0)));
+        }
+
+        List<Future<UploadedAttachment>> futures = new ArrayList<>(multipartFiles.size());
+        multipartFiles.forEach(multipartFile -> futures.add(executor.submit(() -> storageService.upload(multipartFile))));
+
+        List<UploadedAttachment> uploadedAttachments = new ArrayList<>(multipartFiles.size());
+        RuntimeException failure = null;
+        for (Future<UploadedAttachment> future : futures) {
+            try {
+                uploadedAttachments.add(awaitUninterruptibly(future));
+            } catch (ExecutionException e) {
+                RuntimeException cause = toRuntimeException(e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+
+        if (failure != null) {
+            log.warn("Failed to upload attachments, deleting {} uploaded attachments", uploadedAttachments.size());
+            uploadedAttachments.forEach(uploadedAttachment -> storageService.delete(uploadedAttachment.getSystemName()));
+            throw failure;
+        }
+        return uploadedAttachments;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 업로드가 끝날 때까지 대기, 업로드된 첨부파일을 놓치지 않도록 인터럽트되어도 기다린 후 인터럽트 상태를 복원
+     *
+     * @param future 업로드 작업
+     * @return 업로드된 첨부파일 정보
+     * @throws ExecutionException 업로드에 실패한 경우
+     */
+    private static UploadedAttachment awaitUninterruptibly(Future<UploadedAttachment> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static RuntimeException toRuntimeException(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        log.error(cause.getMessage(), cause);
+        return new FileInsertionException("첨부파일 업로드 중 에러가 발생했습니다.");
+    }
+}
@@ -0,0 +1,66 @@
+package com.now.core.attachment.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 읽은 내용의 SHA-256 해시를 계산하는 스트림
+ *
+ * 업로드하면서 해시를 계산해 같은 내용의 첨부파일을 하나의 저장소 파일로 합치는 데 사용
+ * 읽지 않고 건너뛴 내용도 해시에 포함되도록 건너뛰기는 읽어서 버림
+ */
+class ContentHashingInputStream extends DigestInputStream {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * @param inputStream 읽을 스트림
+     */
+    ContentHashingInputStream(InputStream inputStream) {
+        super(inputStream, createMessageDigest());
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * 지금까지 읽은 내용의 해시 반환, 내용을 끝까지 읽은 후 호출
+     *
+     * @return 16진수 소문자로 표현한 해시
+     */
+    String getContentHash() {
+        byte[] digest = getMessageDigest().digest();
+        StringBuilder builder = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported", e);
+        }
+    }
+}
@@ -8,12 +8,24 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.EOFException;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.now.common.utils.AttachmentUtils.createFile;
-import static com.now.common.utils.AttachmentUtils.createUploadedFileFromMultipartFile;
+import static com.now.common.utils.AttachmentUtils.createUploadedAttachment;
 
 /**
  * 로컬 환경에서 첨부파일 업로드 및 삭제하는 서비스
@@ -25,13 +37,46 @@ public class LocalStorageService implements StorageService {
 
     @Override
     public UploadedAttachment upload(MultipartFile multipartFile) {
-        UploadedAttachment uploadedFile = createUploadedFileFromMultipartFile(multipartFile);
+        // 내용의 해시를 계산하도록 파일을 옮기지 않고 스트림으로 읽으면서 저장
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return upload(multipartFile.getOriginalFilename(), inputStream);
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+            throw new FileInsertionException("첨부파일 업로드 중 에러가 발생했습니다.");
+        }
+    }
+
+    @Override
+    public UploadedAttachment upload(String originalAttachmentName, InputStream inputStream) {
+        String systemName = AttachmentUtils.generateSystemName(originalAttachmentName);
+        ContentHashingInputStream hashingInputStream = new ContentHashingInputStream(inputStream);
+        long attachmentSize = save(systemName, hashingInputStream);
+        return createUploadedAttachment(originalAttachmentName, systemName, attachmentSize).toBuilder()
+                .contentHash(hashingInputStream.getContentHash())
+                .build();
+    }
+
+    @Override
+    public long save(String attachmentName, InputStream inputStream) {
         try {
-            multipartFile.transferTo(AttachmentUtils.createAbsolutePath(uploadedFile.getSystemName()));
-            return uploadedFile;
+            return Files.copy(inputStream, AttachmentUtils.createAbsolutePath(attachmentName), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+            delete(attachmentName);
+            throw new FileInsertionException("첨부파일 업로드 중 에러가 발생했습니다.");
+        } catch (RuntimeException e) {
+            delete(attachmentName); // 크기 제한 초과 등으로 중단된 경우 일부만 쓰인 파일 삭제
+            throw e;
+        }
+    }
+
+    @Override
+    public void move(String sourceName, String targetName) {
+        try {
+            Files.move(AttachmentUtils.createAbsolutePath(sourceName), AttachmentUtils.createAbsolutePath(targetName),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
             log.error(e.getMessage(), e);
-            delete(uploadedFile.getSystemName());
             throw new FileInsertionException("첨부파일 업로드 중 에러가 발생했습니다.");
         }
     }
@@ -41,8 +86,50 @@ public class LocalStorageService implements StorageService {
         return createFile(attachmentName).delete();
     }
 
+    @Override
+    public List<String> deleteAll(List<String> attachmentNames) {
+        return attachmentNames.parallelStream()
+                .filter(attachmentName -> !deleteIfExists(attachmentName))
+                .collect(Collectors.toList());
+    }
+
+    private boolean deleteIfExists(String attachmentName) {
+        try {
+            Files.deleteIfExists(createFile(attachmentName).toPath());
+            return true;
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+            return false;
+        }
+    }
+
     @Override
     public InputStream createStream(String attachmentName) throws IOException {
         return new FileInputStream(AttachmentUtils.createFile(attachmentName));
     }
+
+    @Override
+    public long getSize(String attachmentName) throws IOException {
+        return Files.size(createFile(attachmentName).toPath());
+    }
+
+    @Override
+    public void transferTo(String attachmentName, long position, long count, OutputStream outputStream) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(createFile(attachmentName).toPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream); // 응답 스트림을 닫지 않도록 채널은 닫지 않음
+            long transferred = 0;
+            while (transferred < count) {
+                long bytes = fileChannel.transferTo(position + transferred, count - transferred, target);
+                if (bytes <= 0) {
+                    throw new EOFException("첨부파일이 예상보다 짧습니다: " + attachmentName);
+                }
+                transferred += bytes;
+            }
+        }
+    }
+
+    @Override
+    public Optional<URL> createDownloadUrl(String attachmentName, String originalAttachmentName) {
+        return Optional.empty();
+    }
 }
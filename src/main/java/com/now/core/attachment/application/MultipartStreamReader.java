@@ -0,0 +1,352 @@
+package com.now.core.attachment.application;
+
+import com.now.common.exception.ErrorType;
+import com.now.core.attachment.exception.InvalidAttachmentException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * multipart/form-data 요청 본문을 임시 파일이나 메모리에 모으지 않고 파트 단위로 차례대로 읽는 클래스
+ *
+ * 파트의 내용은 {@link Part#getInputStream()}으로 한 번만 읽을 수 있으며, 다음 파트로 넘어가면 읽지 않은 내용은 버림
+ * 파트 수나 크기와 상관없이 고정된 크기의 버퍼만 사용
+ */
+public class MultipartStreamReader {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+
+    private final InputStream inputStream;
+    private final byte[] delimiter; // CRLF--boundary
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+    private boolean finished;
+    private boolean partEnded; // 현재 파트의 구분자까지 읽었다면 true
+    private int partNumber; // 이전 파트의 스트림으로 다음 파트를 읽지 않도록 파트마다 증가
+
+    /**
+     * @param contentType 요청의 Content-Type 헤더 값
+     * @param inputStream 요청 본문
+     * @throws InvalidAttachmentException multipart 요청이 아니거나 boundary가 없는 경우
+     */
+    public MultipartStreamReader(String contentType, InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.delimiter = ("\r\n--" + extractBoundary(contentType)).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[BUFFER_SIZE + delimiter.length];
+        // 첫 번째 구분자도 CRLF로 시작하는 구분자와 같은 방식으로 찾기 위해 CRLF를 미리 채움
+        this.buffer[0] = CR;
+        this.buffer[1] = LF;
+        this.limit = 2;
+    }
+
+    /**
+     * 다음 파트 반환, 현재 파트의 남은 내용은 버림
+     *
+     * @return 다음 파트, 더 이상 파트가 없다면 null
+     * @throws IOException                요청 본문을 읽는 도중 발생한 입출력 예외
+     * @throws InvalidAttachmentException 요청 본문의 형식이 잘못된 경우
+     */
+    public Part next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        skipCurrentPart(); // 처음에는 첫 번째 구분자 이전의 내용을 버림
+
+        if (!ensureAvailable(2)) {
+            throw invalidMultipartRequest();
+        }
+        if (buffer[position] == DASH && buffer[position + 1] == DASH) {
+            finished = true;
+            return null;
+        }
+        skipLinearWhitespace();
+        if (!ensureAvailable(2) || buffer[position] != CR || buffer[position + 1] != LF) {
+            throw invalidMultipartRequest();
+        }
+        position += 2;
+
+        Part part = readHeaders();
+        partNumber++;
+        partEnded = false;
+        return part;
+    }
+
+    /**
+     * 현재 파트의 남은 내용을 모두 읽어서 버림
+     */
+    private void skipCurrentPart() throws IOException {
+        if (partEnded) {
+            return;
+        }
+        byte[] discard = new byte[BUFFER_SIZE];
+        while (readPart(discard, 0, discard.length) != -1) {
+            // 구분자가 나올 때까지 버림
+        }
+    }
+
+    /**
+     * 현재 파트의 내용을 구분자 전까지 읽음, 구분자를 만나면 구분자를 건너뛰고 -1 반환
+     */
+    private int readPart(byte[] bytes, int offset, int length) throws IOException {
+        if (partEnded) {
+            return -1;
+        }
+        if (length == 0) {
+            return 0;
+        }
+
+        while (true) {
+            int delimiterIndex = indexOfDelimiter();
+            if (delimiterIndex == position) {
+                position += delimiter.length;
+                partEnded = true;
+                return -1;
+            }
+            int readable = delimiterIndex >= 0
+                    ? delimiterIndex - position
+                    : limit - position - (delimiter.length - 1); // 버퍼 끝에 걸친 구분자의 앞부분은 남겨둠
+            if (readable > 0) {
+                int count = Math.min(readable, length);
+                System.arraycopy(buffer, position, bytes, offset, count);
+                position += count;
+                return count;
+            }
+            if (!fill()) {
+                throw invalidMultipartRequest();
+            }
+        }
+    }
+
+    /**
+     * 파트의 헤더를 빈 줄이 나올 때까지 읽음
+     */
+    private Part readHeaders() throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        int headerSize = 0;
+        String line;
+        while (!(line = readHeaderLine()).isEmpty()) {
+            headerSize += line.length();
+            if (headerSize > MAX_HEADER_SIZE) {
+                throw invalidMultipartRequest();
+            }
+            int separator = line.indexOf(':');
+            if (separator <= 0) {
+                throw invalidMultipartRequest();
+            }
+            headers.add(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+        }
+
+        String contentDisposition = headers.getFirst(HttpHeaders.CONTENT_DISPOSITION);
+        if (contentDisposition == null) {
+            throw invalidMultipartRequest();
+        }
+        try {
+            ContentDisposition disposition = ContentDisposition.parse(contentDisposition);
+            return new Part(disposition.getName(), disposition.getFilename(),
+                    headers.getFirst(HttpHeaders.CONTENT_TYPE), new PartInputStream(partNumber + 1));
+        } catch (IllegalArgumentException e) {
+            throw invalidMultipartRequest();
+        }
+    }
+
+    /**
+     * CRLF로 끝나는 헤더 한 줄을 UTF-8로 읽음
+     */
+    private String readHeaderLine() throws IOException {
+        int start = position;
+        int scanned = 0;
+        while (true) {
+            for (int i = start + scanned; i + 1 < limit; i++) {
+                if (buffer[i] == CR && buffer[i + 1] == LF) {
+                    String line = new String(buffer, start, i - start, StandardCharsets.UTF_8);
+                    position = i + 2;
+                    return line;
+                }
+            }
+            scanned = Math.max(0, limit - start - 1);
+            if (limit - start >= MAX_HEADER_SIZE) {
+                throw invalidMultipartRequest();
+            }
+            int shift = compact();
+            start -= shift;
+            if (!readMore()) {
+                throw invalidMultipartRequest();
+            }
+        }
+    }
+
+    private void skipLinearWhitespace() throws IOException {
+        while (ensureAvailable(1) && (buffer[position] == ' ' || buffer[position] == '\t')) {
+            position++;
+        }
+    }
+
+    /**
+     * 버퍼의 현재 위치부터 구분자의 위치를 반환, 없다면 -1
+     */
+    private int indexOfDelimiter() {
+        outer:
+        for (int i = position; i <= limit - delimiter.length; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 버퍼에 읽지 않은 내용이 최소 count 바이트 있도록 채움
+     *
+     * @return count 바이트를 채웠다면 true, 그 전에 요청 본문이 끝났다면 false
+     */
+    private boolean ensureAvailable(int count) throws IOException {
+        while (limit - position < count) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fill() throws IOException {
+        compact();
+        return readMore();
+    }
+
+    /**
+     * 읽은 내용을 버리고 읽지 않은 내용을 버퍼 앞으로 옮김
+     *
+     * @return 옮긴 거리
+     */
+    private int compact() {
+        int shift = position;
+        if (shift > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        return shift;
+    }
+
+    private boolean readMore() throws IOException {
+        if (endOfStream || limit == buffer.length) {
+            return false;
+        }
+        int read = inputStream.read(buffer, limit, buffer.length - limit);
+        if (read == -1) {
+            endOfStream = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private static String extractBoundary(String contentType) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            String boundary = mediaType.getParameter("boundary");
+            if (!MediaType.MULTIPART_FORM_DATA.includes(mediaType) || boundary == null || boundary.isEmpty()) {
+                throw invalidMultipartRequest();
+            }
+            return boundary.startsWith("\"") && boundary.endsWith("\"") && boundary.length() > 1
+                    ? boundary.substring(1, boundary.length() - 1)
+                    : boundary;
+        } catch (RuntimeException e) {
+            if (e instanceof InvalidAttachmentException) {
+                throw e;
+            }
+            throw invalidMultipartRequest();
+        }
+    }
+
+    private static InvalidAttachmentException invalidMultipartRequest() {
+        return new InvalidAttachmentException(ErrorType.INVALID_MULTIPART_REQUEST);
+    }
+
+    /**
+     * 현재 파트의 내용을 구분자 전까지 읽는 스트림
+     */
+    private class PartInputStream extends InputStream {
+
+        private final int number;
+
+        private PartInputStream(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (number != partNumber) {
+                return -1;
+            }
+            return readPart(bytes, offset, length);
+        }
+    }
+
+    /**
+     * multipart 요청의 파트
+     */
+    public static class Part {
+
+        private final String name;
+        private final String filename;
+        private final String contentType;
+        private final InputStream inputStream;
+
+        private Part(String name, String filename, String contentType, InputStream inputStream) {
+            this.name = name;
+            this.filename = filename;
+            this.contentType = contentType;
+            this.inputStream = inputStream;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 파일 파트라면 원본 파일 이름, 그렇지 않다면 null
+         */
+        public String getFilename() {
+            return filename;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * 파일 파트라면 true, 그렇지 않다면 false 반환
+         */
+        public boolean isFile() {
+            return filename != null && !filename.isBlank();
+        }
+
+        /**
+         * 파트의 내용을 읽는 스트림, 다음 파트로 넘어가면 더 이상 읽을 수 없음
+         */
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+    }
+}
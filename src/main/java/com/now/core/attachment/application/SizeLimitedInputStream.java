@@ -0,0 +1,70 @@
+package com.now.core.attachment.application;
+
+import com.now.common.exception.ErrorType;
+import com.now.core.attachment.exception.InvalidAttachmentException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 최대 크기를 넘는 내용을 읽으면 예외를 던지는 스트림
+ *
+ * 업로드하기 전에는 크기를 알 수 없는 스트림 업로드에서 최대 업로드 크기를 넘는 내용을 끝까지 읽지 않도록 사용
+ */
+class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long readSize;
+
+    /**
+     * @param inputStream 읽을 스트림
+     * @param maxSize     읽을 수 있는 최대 바이트 수
+     */
+    SizeLimitedInputStream(InputStream inputStream, long maxSize) {
+        super(inputStream);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = super.read();
+        if (read != -1) {
+            count(1);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        int read = super.read(bytes, offset, length);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        long skipped = super.skip(count);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * 읽은 바이트 수를 더하고 최대 크기를 넘었다면 예외 발생
+     *
+     * @throws InvalidAttachmentException 최대 크기를 넘은 경우
+     */
+    private void count(long bytes) {
+        readSize += bytes;
+        if (readSize > maxSize) {
+            throw new InvalidAttachmentException(ErrorType.INVALID_ATTACHMENT_SIZE);
+        }
+    }
+}
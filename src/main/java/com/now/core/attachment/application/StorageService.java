@@ -5,6 +5,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Optional;
 
 public interface StorageService {
 
@@ -12,10 +16,36 @@ public interface StorageService {
      * 파일 업로드
      *
      * @param multipartFile 업로드할 파일
-     * @return 업로드된 파일 정보
+     * @return 업로드된 파일 정보, 내용의 해시를 포함
      */
     UploadedAttachment upload(MultipartFile multipartFile);
 
+    /**
+     * 파일 내용을 임시 파일이나 메모리에 모두 모으지 않고 스트림에서 읽으면서 업로드
+     *
+     * @param originalAttachmentName 원본 첨부파일 이름
+     * @param inputStream            업로드할 내용, 업로드 후 닫지 않음
+     * @return 업로드된 파일 정보, 크기는 스트림에서 읽은 바이트 수이며 내용의 해시를 포함
+     */
+    UploadedAttachment upload(String originalAttachmentName, InputStream inputStream);
+
+    /**
+     * 지정된 이름으로 스트림의 내용을 저장, 같은 이름의 파일이 있다면 덮어씀
+     *
+     * @param attachmentName 저장할 첨부파일 이름
+     * @param inputStream    저장할 내용, 저장 후 닫지 않음
+     * @return 저장된 바이트 수
+     */
+    long save(String attachmentName, InputStream inputStream);
+
+    /**
+     * 파일 이름 변경, 같은 이름의 파일이 있다면 덮어씀
+     *
+     * @param sourceName 변경할 첨부파일 이름
+     * @param targetName 변경될 첨부파일 이름
+     */
+    void move(String sourceName, String targetName);
+
     /**
      * 파일 삭제
      *
@@ -24,6 +54,14 @@ public interface StorageService {
      */
     boolean delete(String attachmentName);
 
+    /**
+     * 여러 파일을 일괄 삭제
+     *
+     * @param attachmentNames 삭제할 첨부파일 이름 목록
+     * @return 삭제에 실패한 첨부파일 이름 목록, 이미 없는 파일은 삭제된 것으로 간주
+     */
+    List<String> deleteAll(List<String> attachmentNames);
+
 
     /**
      * 첨부파일 기반 스트림 생성
@@ -33,4 +71,33 @@ public interface StorageService {
      * @throws IOException 파일을 읽어오는 도중 발생한 입출력 예외
      */
     InputStream createStream(String attachmentName) throws IOException;
-}
\ No newline at end of file
+
+    /**
+     * 첨부파일의 크기 반환
+     *
+     * @param attachmentName 크기를 확인할 첨부파일의 이름
+     * @return 첨부파일의 크기(byte)
+     * @throws IOException 파일 정보를 읽어오는 도중 발생한 입출력 예외
+     */
+    long getSize(String attachmentName) throws IOException;
+
+    /**
+     * 첨부파일의 지정된 구간을 메모리에 모으지 않고 출력 스트림으로 전송
+     *
+     * @param attachmentName 전송할 첨부파일의 이름
+     * @param position       전송을 시작할 위치
+     * @param count          전송할 바이트 수
+     * @param outputStream   전송 대상 출력 스트림, 전송 후 닫지 않음
+     * @throws IOException 파일을 읽거나 전송하는 도중 발생한 입출력 예외
+     */
+    void transferTo(String attachmentName, long position, long count, OutputStream outputStream) throws IOException;
+
+    /**
+     * 애플리케이션을 거치지 않고 저장소에서 직접 다운로드할 수 있는 만료되는 URL 생성
+     *
+     * @param attachmentName         다운로드할 첨부파일의 이름
+     * @param originalAttachmentName 다운로드 시 사용할 원본 첨부파일 이름
+     * @return 다운로드 URL, 저장소가 지원하지 않거나 비활성화되어 있다면 empty
+     */
+    Optional<URL> createDownloadUrl(String attachmentName, String originalAttachmentName);
+}
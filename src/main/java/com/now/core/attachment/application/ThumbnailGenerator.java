@@ -0,0 +1,245 @@
+package com.now.core.attachment.application;
+
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
+import com.now.core.attachment.domain.AttachmentRepository;
+import com.now.core.attachment.domain.constants.ThumbnailSize;
+import com.now.core.attachment.presentation.dto.AttachmentResponse;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.application.PostChangePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 대표 이미지의 축소 이미지를 {@link ThumbnailSize} 크기별로 만들어 저장소에 저장하는 클래스
+ *
+ * 트랜잭션이 커밋된 후 제한된 스레드 풀에서 만들고, 모두 저장되면 첨부파일에 표시한 후 사진 게시글 캐시를 제거
+ * 대기열이 가득 차거나 만들지 못한 대표 이미지는 축소 이미지 없이 원본 이미지로 노출
+ * 스레드 풀 상태는 name=thumbnailGeneration 태그의 executor.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class ThumbnailGenerator implements MeterBinder, DisposableBean {
+
+    private static final String METRIC_EXECUTOR_NAME = "thumbnailGeneration";
+    private static final List<ThumbnailSize> SIZES_BY_WIDTH_DESC = Arrays.stream(ThumbnailSize.values())
+            .sorted(Comparator.comparingInt(ThumbnailSize::getWidth).reversed())
+            .collect(Collectors.toUnmodifiableList());
+    private static final int LARGEST_WIDTH = SIZES_BY_WIDTH_DESC.get(0).getWidth();
+
+    private final StorageService storageService;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentDeletionRepository attachmentDeletionRepository;
+    private final PostChangePublisher postChangePublisher;
+    private final long maxPixels;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param threads       축소 이미지를 만드는 스레드 수
+     * @param queueCapacity 축소 이미지를 기다릴 수 있는 최대 대표 이미지 수
+     * @param maxPixels     축소 이미지를 만들 원본 이미지의 최대 픽셀 수
+     * @param jpegQuality   축소 이미지의 JPEG 품질 (0.0 ~ 1.0)
+     */
+    public ThumbnailGenerator(StorageService storageService,
+                              AttachmentRepository attachmentRepository,
+                              AttachmentDeletionRepository attachmentDeletionRepository,
+                              PostChangePublisher postChangePublisher,
+                              @Value("${now.attachment.thumbnail.threads:2}") int threads,
+                              @Value("${now.attachment.thumbnail.queue-capacity:100}") int queueCapacity,
+                              @Value("${now.attachment.thumbnail.max-pixels:40000000}") long maxPixels,
+                              @Value("${now.attachment.thumbnail.jpeg-quality:0.8}") float jpegQuality) {
+        this.storageService = storageService;
+        this.attachmentRepository = attachmentRepository;
+        this.attachmentDeletionRepository = attachmentDeletionRepository;
+        this.postChangePublisher = postChangePublisher;
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("thumbnail-generation-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, METRIC_EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 축소 이미지 생성을 요청, 트랜잭션이 없다면 바로 요청
+     *
+     * @param attachmentIdx 대표 이미지로 지정된 첨부파일 번호
+     */
+    public void generateAfterCommit(Long attachmentIdx) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(attachmentIdx);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(attachmentIdx);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void submit(Long attachmentIdx) {
+        try {
+            executor.execute(() -> generate(attachmentIdx));
+        } catch (RejectedExecutionException e) {
+            log.warn("Thumbnail generation queue is full, skipping attachment {}", attachmentIdx);
+        }
+    }
+
+    /**
+     * 첨부파일의 축소 이미지를 크기별로 만들어 저장, 이미 만들어진 축소 이미지는 덮어씀
+     *
+     * @param attachmentIdx 첨부파일 번호
+     */
+    void generate(Long attachmentIdx) {
+        AttachmentResponse attachment = attachmentRepository.findAttachmentResponseByAttachmentIdx(attachmentIdx);
+        if (attachment == null || !ThumbnailSize.isVariantSource(attachment.getSavedAttachmentName())) {
+            return;
+        }
+
+        String savedAttachmentName = attachment.getSavedAttachmentName();
+        try {
+            BufferedImage source = readImage(savedAttachmentName);
+            if (source == null) {
+                log.warn("Cannot generate thumbnails for {}, unsupported or too large image", savedAttachmentName);
+                return;
+            }
+            // 큰 축소 이미지부터 만들고 다음 크기는 직전에 만든 축소 이미지에서 줄임
+            BufferedImage image = source;
+            for (ThumbnailSize thumbnailSize : SIZES_BY_WIDTH_DESC) {
+                image = resize(image, thumbnailSize.getWidth());
+                storageService.save(thumbnailSize.getVariantName(savedAttachmentName), new ByteArrayInputStream(encodeJpeg(image)));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to generate thumbnails for " + savedAttachmentName, e);
+            return;
+        }
+
+        if (!attachmentRepository.updateThumbnailVariantDate(attachmentIdx)) {
+            // 만드는 동안 첨부파일이 삭제되었다면 삭제 목록에 없을 수 있는 축소 이미지를 직접 기록
+            attachmentDeletionRepository.saveAll(ThumbnailSize.getVariantNames(List.of(savedAttachmentName)));
+            return;
+        }
+        postChangePublisher.publishUpdated(PostGroup.PHOTO, attachment.getPostIdx());
+    }
+
+    /**
+     * 원본 이미지를 읽어서 반환, 가장 큰 축소 이미지보다 충분히 크다면 건너뛰며 읽어서 메모리 사용량을 줄임
+     *
+     * @return 읽은 이미지, 읽을 수 없거나 최대 픽셀 수를 넘는다면 null
+     */
+    private BufferedImage readImage(String savedAttachmentName) throws IOException {
+        try (InputStream inputStream = storageService.createStream(savedAttachmentName);
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                if ((long) width * reader.getHeight(0) > maxPixels) {
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / LARGEST_WIDTH);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 너비가 최대 너비를 넘지 않도록 비율을 유지하며 축소, 투명한 영역은 흰색으로 채움
+     *
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 목표 크기의 두 배보다 크다면 절반씩 나눠서 축소
+     */
+    static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        do {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            int height = width == targetWidth ? targetHeight : Math.max(targetHeight, current.getHeight() / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (current.getWidth() != targetWidth);
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(ThumbnailSize.VARIANT_EXTENSION).next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
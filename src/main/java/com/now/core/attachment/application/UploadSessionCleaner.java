@@ -0,0 +1,57 @@
+package com.now.core.attachment.application;
+
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
+import com.now.core.attachment.domain.UploadSession;
+import com.now.core.attachment.domain.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋되지 않고 만료된 업로드 세션을 주기적으로 정리하는 클래스
+ *
+ * 조각 이름을 저장소 삭제 목록에 먼저 기록한 후 세션을 삭제하므로, 중간에 실패해도 다음 실행에서 다시 기록되고
+ * 저장소 삭제는 {@link AttachmentDeletionWorker}가 멱등하게 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadSessionCleaner {
+
+    /**
+     * 한 번에 조회해서 정리할 최대 세션 수
+     */
+    static final int BATCH_SIZE = 100;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final AttachmentDeletionRepository attachmentDeletionRepository;
+
+    /**
+     * 만료된 업로드 세션이 없을 때까지 배치 단위로 정리
+     */
+    @Scheduled(fixedDelayString = "${now.attachment.upload-session.cleanup-interval-ms:600000}",
+            initialDelayString = "${now.attachment.upload-session.cleanup-interval-ms:600000}")
+    public void cleanUpAtIntervals() {
+        List<UploadSession> uploadSessions;
+        do {
+            uploadSessions = uploadSessionRepository.findExpiredUploadSessions(BATCH_SIZE);
+            if (!uploadSessions.isEmpty()) {
+                cleanUp(uploadSessions);
+            }
+        } while (uploadSessions.size() == BATCH_SIZE);
+    }
+
+    private void cleanUp(List<UploadSession> uploadSessions) {
+        attachmentDeletionRepository.saveAll(uploadSessions.stream()
+                .flatMap(uploadSession -> uploadSession.getChunkNames().stream())
+                .collect(Collectors.toList()));
+        uploadSessionRepository.deleteAll(uploadSessions.stream()
+                .map(UploadSession::getUploadSessionId)
+                .collect(Collectors.toList()));
+        log.info("Cleaned up {} expired upload sessions", uploadSessions.size());
+    }
+}
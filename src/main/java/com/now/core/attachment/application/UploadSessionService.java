@@ -0,0 +1,232 @@
+package com.now.core.attachment.application;
+
+import com.now.common.exception.ErrorType;
+import com.now.common.utils.AttachmentUtils;
+import com.now.core.attachment.application.dto.UploadedAttachment;
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
+import com.now.core.attachment.domain.UploadSession;
+import com.now.core.attachment.domain.UploadSessionRepository;
+import com.now.core.attachment.domain.constants.AttachmentType;
+import com.now.core.attachment.domain.wrapped.AttachmentExtension;
+import com.now.core.attachment.domain.wrapped.OriginalAttachmentName;
+import com.now.core.attachment.exception.InvalidAttachmentException;
+import com.now.core.authentication.application.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 첨부파일을 여러 조각으로 나눠 이어서 업로드하는 세션을 처리하는 서비스
+ *
+ * 조각은 요청 본문을 읽으면서 저장소에 바로 저장하고, 커밋 시 조각들을 순서대로 이어 붙여 하나의 첨부파일로 업로드한 후 게시글에 추가
+ * 만료 시각은 조각을 업로드할 때마다 연장되며, 만료된 세션은 {@link UploadSessionCleaner}가 정리
+ */
+@Slf4j
+@Service
+public class UploadSessionService {
+
+    private final StorageService storageService;
+    private final AttachmentService attachmentService;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final AttachmentDeletionRepository attachmentDeletionRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int chunkSize;
+    private final long ttlSeconds;
+
+    /**
+     * @param chunkSize  마지막 조각을 제외한 조각의 크기(byte)
+     * @param ttlSeconds 마지막 조각 업로드 후 세션이 만료될 때까지의 시간(초)
+     */
+    public UploadSessionService(StorageService storageService,
+                                AttachmentService attachmentService,
+                                UploadSessionRepository uploadSessionRepository,
+                                AttachmentDeletionRepository attachmentDeletionRepository,
+                                JwtTokenProvider jwtTokenProvider,
+                                @Value("${now.attachment.upload-session.chunk-size-bytes:1048576}") int chunkSize,
+                                @Value("${now.attachment.upload-session.ttl-seconds:86400}") long ttlSeconds) {
+        this.storageService = storageService;
+        this.attachmentService = attachmentService;
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.attachmentDeletionRepository = attachmentDeletionRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.chunkSize = chunkSize;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 첨부파일 이름, 확장자, 크기를 검증한 후 업로드 세션 시작
+     *
+     * @param uploadSession  첨부파일 이름과 크기를 담은 업로드 세션
+     * @param memberId       회원 아이디
+     * @param postIdx        첨부파일을 추가할 게시글 번호
+     * @param attachmentType 첨부파일 업로드 타입
+     * @return 세션 번호와 조각 크기, 조각 수가 설정된 업로드 세션
+     * @throws InvalidAttachmentException 허용하지 않은 첨부파일 이름, 확장자, 크기인 경우
+     */
+    public UploadSession startUploadSession(UploadSession uploadSession, String memberId, Long postIdx, AttachmentType attachmentType) {
+        // 조각을 받기 전에 첨부파일 정보부터 검증
+        new OriginalAttachmentName(uploadSession.getOriginalAttachmentName());
+        new AttachmentExtension(AttachmentUtils.extractFileExtension(uploadSession.getOriginalAttachmentName()),
+                attachmentType.getAllowedExtensions());
+        if (uploadSession.getAttachmentSize() <= 0 || uploadSession.getAttachmentSize() > attachmentType.getMaxUploadSize()) {
+            throw new InvalidAttachmentException(ErrorType.INVALID_ATTACHMENT_SIZE);
+        }
+
+        UploadSession startedUploadSession = uploadSession.start(
+                UUID.randomUUID().toString(), memberId, postIdx, attachmentType, chunkSize);
+        uploadSessionRepository.save(startedUploadSession, ttlSeconds);
+        return startedUploadSession;
+    }
+
+    /**
+     * 조각을 요청 본문에서 읽으면서 저장소에 저장, 같은 조각을 다시 업로드하면 덮어쓰므로 여러 번 요청해도 결과가 같음
+     *
+     * @param uploadSessionId 세션 번호
+     * @param chunkNumber     1부터 시작하는 조각 번호
+     * @param memberId        회원 아이디
+     * @param inputStream     조각 내용
+     * @throws InvalidAttachmentException 세션이 없거나 만료되었거나, 조각 번호나 크기가 잘못된 경우
+     */
+    public void saveChunk(String uploadSessionId, int chunkNumber, String memberId, InputStream inputStream) {
+        UploadSession uploadSession = getOwnUploadSession(uploadSessionId, memberId);
+        if (!uploadSession.hasChunk(chunkNumber)) {
+            throw new InvalidAttachmentException(ErrorType.INVALID_UPLOAD_CHUNK);
+        }
+        if (!uploadSessionRepository.extend(uploadSessionId, ttlSeconds)) {
+            throw new InvalidAttachmentException(ErrorType.NOT_FOUND_UPLOAD_SESSION);
+        }
+
+        long expectedChunkSize = uploadSession.getExpectedChunkSize(chunkNumber);
+        long savedChunkSize = storageService.save(uploadSession.getChunkName(chunkNumber),
+                new SizeLimitedInputStream(inputStream, expectedChunkSize));
+        if (savedChunkSize != expectedChunkSize) {
+            uploadSessionRepository.deleteChunk(uploadSessionId, chunkNumber);
+            throw new InvalidAttachmentException(ErrorType.INVALID_UPLOAD_CHUNK);
+        }
+        uploadSessionRepository.saveChunk(uploadSessionId, chunkNumber, savedChunkSize);
+    }
+
+    /**
+     * 업로드 세션과 업로드된 조각 번호 목록 조회
+     *
+     * @param uploadSessionId 세션 번호
+     * @param accessToken     액세스 토큰
+     * @return 업로드된 조각 번호 목록이 설정된 업로드 세션
+     * @throws InvalidAttachmentException 세션이 없거나 만료된 경우
+     */
+    public UploadSession getUploadSessionStatus(String uploadSessionId, String accessToken) {
+        UploadSession uploadSession = getOwnUploadSession(uploadSessionId,
+                (String) jwtTokenProvider.getClaim(accessToken, "id"));
+        return uploadSession.updateUploadedChunkNumbers(uploadSessionRepository.findUploadedChunkNumbers(uploadSessionId));
+    }
+
+    /**
+     * 모든 조각을 순서대로 이어 붙이면서 하나의 첨부파일로 업로드
+     *
+     * @param uploadSessionId 세션 번호
+     * @param memberId        회원 아이디
+     * @param postIdx         첨부파일을 추가할 게시글 번호
+     * @param attachmentType  첨부파일 업로드 타입
+     * @return 업로드된 첨부파일 정보
+     * @throws IOException                조각을 읽는 도중 발생한 입출력 예외
+     * @throws InvalidAttachmentException 세션이 없거나 만료되었거나, 업로드되지 않은 조각이 있는 경우
+     */
+    public UploadedAttachment assemble(String uploadSessionId, String memberId, Long postIdx, AttachmentType attachmentType) throws IOException {
+        UploadSession uploadSession = getOwnUploadSession(uploadSessionId, memberId);
+        if (!postIdx.equals(uploadSession.getPostIdx()) || attachmentType != uploadSession.getAttachmentType()) {
+            throw new InvalidAttachmentException(ErrorType.NOT_FOUND_UPLOAD_SESSION);
+        }
+        if (uploadSessionRepository.findUploadedChunkNumbers(uploadSessionId).size() != uploadSession.getChunkCount()) {
+            throw new InvalidAttachmentException(ErrorType.INCOMPLETE_UPLOAD_SESSION);
+        }
+
+        UploadedAttachment uploadedAttachment;
+        try (InputStream chunks = openChunks(uploadSession)) {
+            uploadedAttachment = storageService.upload(uploadSession.getOriginalAttachmentName(),
+                    new SizeLimitedInputStream(chunks, uploadSession.getAttachmentSize()));
+        }
+        if (uploadedAttachment.getAttachmentSize() != uploadSession.getAttachmentSize()) {
+            storageService.delete(uploadedAttachment.getSystemName());
+            throw new InvalidAttachmentException(ErrorType.INCOMPLETE_UPLOAD_SESSION);
+        }
+        return uploadedAttachment;
+    }
+
+    /**
+     * 업로드 세션을 끝내고 업로드된 첨부파일을 게시글에 추가, 조각은 트랜잭션이 커밋된 후 {@link AttachmentDeletionWorker}가 삭제
+     * 트랜잭션이 롤백되면 업로드된 첨부파일을 저장소에서 삭제
+     *
+     * @param uploadSessionId    세션 번호
+     * @param uploadedAttachment {@link #assemble}로 업로드된 첨부파일 정보
+     * @param postIdx            게시글 번호
+     * @param attachmentType     첨부파일 업로드 타입
+     * @throws InvalidAttachmentException 다른 요청이 먼저 세션을 끝냈거나 세션이 정리된 경우
+     */
+    @Transactional
+    public void complete(String uploadSessionId, UploadedAttachment uploadedAttachment, Long postIdx, AttachmentType attachmentType) {
+        deleteOnRollback(uploadedAttachment.getSystemName());
+
+        UploadSession uploadSession = uploadSessionRepository.findUploadSession(uploadSessionId);
+        if (uploadSession == null || uploadSessionRepository.deleteAll(List.of(uploadSessionId)) == 0) {
+            throw new InvalidAttachmentException(ErrorType.NOT_FOUND_UPLOAD_SESSION);
+        }
+        attachmentService.saveUploadedAttachment(uploadedAttachment, postIdx, attachmentType);
+        attachmentDeletionRepository.saveAll(uploadSession.getChunkNames());
+    }
+
+    /**
+     * 회원의 만료되지 않은 업로드 세션 조회, 다른 회원의 세션은 없는 것으로 간주
+     */
+    private UploadSession getOwnUploadSession(String uploadSessionId, String memberId) {
+        UploadSession uploadSession = uploadSessionRepository.findUploadSession(uploadSessionId);
+        if (uploadSession == null || !uploadSession.getMemberId().equals(memberId)) {
+            throw new InvalidAttachmentException(ErrorType.NOT_FOUND_UPLOAD_SESSION);
+        }
+        return uploadSession;
+    }
+
+    /**
+     * 조각을 순서대로 하나씩 열어서 읽는 스트림 생성, 동시에 하나의 조각만 열려 있음
+     */
+    private InputStream openChunks(UploadSession uploadSession) {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int chunkNumber = 1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return chunkNumber <= uploadSession.getChunkCount();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                try {
+                    return storageService.createStream(uploadSession.getChunkName(chunkNumber++));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+    }
+
+    private void deleteOnRollback(String attachmentName) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    storageService.delete(attachmentName);
+                }
+            }
+        });
+    }
+}
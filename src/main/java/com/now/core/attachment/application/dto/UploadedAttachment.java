@@ -16,4 +16,5 @@ public class UploadedAttachment {
     private final String originalAttachmentName;
     private final String extension;
     private final int attachmentSize;
+    private final String contentHash; // 업로드하면서 계산한 내용의 SHA-256 해시, 계산하지 않았다면 null
 }
@@ -0,0 +1,20 @@
+package com.now.core.attachment.domain;
+
+import lombok.*;
+
+/**
+ * 내용의 해시로 이름이 정해지는 첨부파일과 이를 참조하는 첨부파일 수
+ */
+@Builder
+@Getter
+@ToString
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class AttachmentContent {
+
+    private final String savedAttachmentName;
+
+    private final String contentHash; // 내용의 SHA-256 해시(16진수)
+
+    private final Integer referenceCount; // 0 이하라면 저장소 삭제 대기 중
+}
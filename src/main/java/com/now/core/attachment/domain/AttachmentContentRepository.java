@@ -0,0 +1,91 @@
+package com.now.core.attachment.domain;
+
+import com.now.core.attachment.domain.mapper.AttachmentContentMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내용의 해시로 이름이 정해지는 첨부파일의 참조 수를 관리하는 레포지토리
+ *
+ * 참조 수가 0이 된 정보는 저장소에서 삭제될 때까지 남겨 두고, 삭제하는 쪽과 참조하는 쪽이 같은 행을 잠그도록 함
+ *
+ * <pre>
+ * CREATE TABLE tb_attachment_content (
+ *     saved_attachment_name VARCHAR(255) PRIMARY KEY,
+ *     content_hash          CHAR(64)     NOT NULL,
+ *     reference_count       INT          NOT NULL,
+ *     reg_date              DATETIME     NOT NULL,
+ *     INDEX idx_attachment_content_content_hash (content_hash)
+ * );
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttachmentContentRepository {
+
+    private final AttachmentContentMapper attachmentContentMapper;
+
+    /**
+     * 참조 수를 1 증가시킨 후 증가된 참조 수 반환, 트랜잭션 안이라면 커밋될 때까지 해당 행을 잠금
+     *
+     * @param savedAttachmentName 저장소에 저장된 첨부파일 이름
+     * @param contentHash         내용의 해시
+     * @return 증가된 참조 수
+     */
+    public int saveReference(String savedAttachmentName, String contentHash) {
+        attachmentContentMapper.saveReference(savedAttachmentName, contentHash);
+        return attachmentContentMapper.findReferenceCount(savedAttachmentName);
+    }
+
+    /**
+     * 참조되지 않는 첨부파일로 저장, 이미 있다면 무시
+     *
+     * @param savedAttachmentName 저장소에 저장된 첨부파일 이름
+     * @param contentHash         내용의 해시
+     */
+    public void saveUnreferenced(String savedAttachmentName, String contentHash) {
+        attachmentContentMapper.saveUnreferenced(savedAttachmentName, contentHash);
+    }
+
+    /**
+     * 첨부파일 이름별로 참조 수를 감소시킨 후 더 이상 참조되지 않는 첨부파일 이름 반환
+     *
+     * @param referenceCounts 첨부파일 이름별 감소할 참조 수
+     * @return 참조 수가 0 이하가 된 첨부파일 이름 목록
+     */
+    public List<String> release(Map<String, Integer> referenceCounts) {
+        if (referenceCounts.isEmpty()) {
+            return List.of();
+        }
+        referenceCounts.forEach(attachmentContentMapper::decreaseReferenceCount);
+        return attachmentContentMapper.findUnreferencedNames(List.copyOf(referenceCounts.keySet()));
+    }
+
+    /**
+     * 해시에 해당하는 참조 수 정보를 트랜잭션이 끝날 때까지 잠그고 조회
+     *
+     * @param contentHashes 내용의 해시 목록
+     * @return 참조 수 정보 목록
+     */
+    public List<AttachmentContent> findAllForUpdate(List<String> contentHashes) {
+        if (contentHashes.isEmpty()) {
+            return List.of();
+        }
+        return attachmentContentMapper.findAttachmentContentsForUpdate(contentHashes);
+    }
+
+    /**
+     * 저장소에서 삭제된 첨부파일 중 참조되지 않는 정보 삭제
+     *
+     * @param savedAttachmentNames 저장소에서 삭제된 첨부파일 이름 목록
+     */
+    public void deleteUnreferenced(List<String> savedAttachmentNames) {
+        if (savedAttachmentNames.isEmpty()) {
+            return;
+        }
+        attachmentContentMapper.deleteUnreferenced(savedAttachmentNames);
+    }
+}
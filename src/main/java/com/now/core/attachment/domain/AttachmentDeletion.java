@@ -0,0 +1,20 @@
+package com.now.core.attachment.domain;
+
+import lombok.*;
+
+/**
+ * 저장소에서 삭제해야 하는 첨부파일
+ */
+@Builder
+@Getter
+@ToString
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class AttachmentDeletion {
+
+    private final Long attachmentDeletionIdx;
+
+    private final String savedAttachmentName;
+
+    private final Integer attemptCount; // 저장소 삭제를 시도했다가 실패한 횟수
+}
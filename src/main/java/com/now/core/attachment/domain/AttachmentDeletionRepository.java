@@ -0,0 +1,76 @@
+package com.now.core.attachment.domain;
+
+import com.now.core.attachment.domain.mapper.AttachmentDeletionMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 저장소에서 삭제해야 하는 첨부파일 정보를 관리하는 레포지토리
+ *
+ * 첨부파일 정보를 삭제하는 트랜잭션 안에서 기록하고, 저장소 삭제는 트랜잭션 밖에서 일괄 처리
+ *
+ * <pre>
+ * CREATE TABLE tb_attachment_deletion (
+ *     attachment_deletion_idx BIGINT AUTO_INCREMENT PRIMARY KEY,
+ *     saved_attachment_name   VARCHAR(255) NOT NULL,
+ *     attempt_count           INT          NOT NULL DEFAULT 0,
+ *     next_attempt_date       DATETIME     NOT NULL,
+ *     reg_date                DATETIME     NOT NULL,
+ *     INDEX idx_attachment_deletion_next_attempt_date (next_attempt_date)
+ * );
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttachmentDeletionRepository {
+
+    private final AttachmentDeletionMapper attachmentDeletionMapper;
+
+    /**
+     * 저장소에서 삭제할 첨부파일 이름 목록 저장
+     *
+     * @param savedAttachmentNames 저장소에 저장된 첨부파일 이름 목록
+     */
+    public void saveAll(List<String> savedAttachmentNames) {
+        if (savedAttachmentNames.isEmpty()) {
+            return;
+        }
+        attachmentDeletionMapper.saveAttachmentDeletions(savedAttachmentNames);
+    }
+
+    /**
+     * 삭제를 시도할 시각이 지난 첨부파일을 번호 순서대로 조회
+     *
+     * @param limit 최대 조회 개수
+     * @return 삭제할 첨부파일 목록
+     */
+    public List<AttachmentDeletion> findDueAttachmentDeletions(int limit) {
+        return attachmentDeletionMapper.findDueAttachmentDeletions(limit);
+    }
+
+    /**
+     * 저장소에서 삭제된 첨부파일 정보 삭제
+     *
+     * @param attachmentDeletionIndexes 삭제할 첨부파일 번호 목록
+     */
+    public void deleteAll(List<Long> attachmentDeletionIndexes) {
+        if (attachmentDeletionIndexes.isEmpty()) {
+            return;
+        }
+        attachmentDeletionMapper.deleteAttachmentDeletions(attachmentDeletionIndexes);
+    }
+
+    /**
+     * 저장소 삭제에 실패한 첨부파일의 다음 시도를 미룸
+     *
+     * @param attachmentDeletionIndexes 삭제에 실패한 첨부파일 번호 목록
+     */
+    public void postponeAll(List<Long> attachmentDeletionIndexes) {
+        if (attachmentDeletionIndexes.isEmpty()) {
+            return;
+        }
+        attachmentDeletionMapper.postponeAttachmentDeletions(attachmentDeletionIndexes);
+    }
+}
@@ -10,6 +10,10 @@ import java.util.List;
 
 /**
  * 첨부파일 관련 정보를 관리하는 레포지토리
+ *
+ * <pre>
+ * ALTER TABLE tb_attachment ADD COLUMN thumbnail_variant_date DATETIME NULL;
+ * </pre>
  */
 @Repository
 @RequiredArgsConstructor
@@ -27,6 +31,16 @@ public class AttachmentRepository {
         return attachmentMapper.findAllIndexesByPostIdx(postIdx);
     }
 
+    /**
+     * 게시물 번호를 인자로 받아 해당하는 첨부파일들의 저장된 이름 목록을 반환
+     *
+     * @param postIdx 게시물 번호
+     * @return 저장된 첨부파일 이름 목록
+     */
+    public List<String> findSavedAttachmentNamesByPostIdx(Long postIdx) {
+        return attachmentMapper.findSavedAttachmentNamesByPostIdx(postIdx);
+    }
+
     /**
      * 첨부파일 번호를 인자로 받아 해당 첨부파일 객체를 반환
      *
@@ -56,6 +70,15 @@ public class AttachmentRepository {
         attachmentMapper.saveAttachment(attachment);
     }
 
+    /**
+     * 첨부파일 목록 저장
+     *
+     * @param attachments 저장할 첨부파일 목록
+     */
+    public void saveAttachments(List<Attachment> attachments) {
+        attachmentMapper.saveAttachments(attachments);
+    }
+
     /**
      * 대표 이미지 저장
      * 
@@ -74,6 +97,15 @@ public class AttachmentRepository {
         attachmentMapper.deleteByAttachmentIdx(attachmentIdx);
     }
 
+    /**
+     * 게시글 번호에 해당하는 모든 첨부파일을 하나의 DELETE 문으로 삭제
+     *
+     * @param postIdx 게시글 번호
+     */
+    public void deleteAllByPostIdx(Long postIdx) {
+        attachmentMapper.deleteAllByPostIdx(postIdx);
+    }
+
     /**
      * 게시물 번호에 해당하는 대표 이미지 정보를 반환
      *
@@ -119,4 +151,14 @@ public class AttachmentRepository {
     public void updateThumbnail(Attachment attachment) {
         attachmentMapper.updateThumbnail(attachment);
     }
+
+    /**
+     * 축소 이미지를 모두 저장한 첨부파일로 표시
+     *
+     * @param attachmentIdx 첨부파일 번호
+     * @return 표시되었다면 true, 그 사이 첨부파일이 삭제되었다면 false
+     */
+    public boolean updateThumbnailVariantDate(Long attachmentIdx) {
+        return attachmentMapper.updateThumbnailVariantDate(attachmentIdx) > 0;
+    }
 }
@@ -0,0 +1,123 @@
+package com.now.core.attachment.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.now.core.attachment.domain.constants.AttachmentType;
+import lombok.*;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 첨부파일 하나를 여러 조각으로 나눠 이어서 업로드하는 세션
+ *
+ * 조각은 세션 번호와 조각 번호로 정해지는 이름으로 저장되므로 같은 조각을 다시 업로드하면 덮어씀
+ */
+@Builder(toBuilder = true)
+@Getter
+@ToString
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class UploadSession {
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private final String uploadSessionId;
+
+    @JsonIgnore
+    private final String memberId;
+
+    @JsonIgnore
+    private final Long postIdx;
+
+    @JsonIgnore
+    private final AttachmentType attachmentType;
+
+    @NotNull(message = "{field.notnull}")
+    private final String originalAttachmentName;
+
+    @NotNull(message = "{field.notnull}")
+    private final Long attachmentSize;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private final Integer chunkSize; // 마지막 조각을 제외한 조각의 크기
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private final Integer chunkCount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<Integer> uploadedChunkNumbers; // 상태 조회 시에만 설정
+
+    /**
+     * 첨부파일 크기를 조각 크기로 나눠 세션 시작
+     *
+     * @param uploadSessionId 세션 번호
+     * @param memberId        회원 아이디
+     * @param postIdx         첨부파일을 추가할 게시글 번호
+     * @param attachmentType  첨부파일 업로드 타입
+     * @param chunkSize       조각 크기
+     * @return 시작된 세션
+     */
+    public UploadSession start(String uploadSessionId, String memberId, Long postIdx, AttachmentType attachmentType, int chunkSize) {
+        return toBuilder()
+                .uploadSessionId(uploadSessionId)
+                .memberId(memberId)
+                .postIdx(postIdx)
+                .attachmentType(attachmentType)
+                .chunkSize(chunkSize)
+                .chunkCount((int) ((attachmentSize + chunkSize - 1) / chunkSize))
+                .uploadedChunkNumbers(null)
+                .build();
+    }
+
+    public UploadSession updateUploadedChunkNumbers(List<Integer> uploadedChunkNumbers) {
+        this.uploadedChunkNumbers = uploadedChunkNumbers;
+        return this;
+    }
+
+    /**
+     * 조각 번호가 세션의 조각 범위 안에 있다면 true, 그렇지 않다면 false 반환
+     *
+     * @param chunkNumber 1부터 시작하는 조각 번호
+     * @return 조각 범위 안에 있다면 true, 그렇지 않다면 false
+     */
+    public boolean hasChunk(int chunkNumber) {
+        return chunkNumber >= 1 && chunkNumber <= chunkCount;
+    }
+
+    /**
+     * 조각 번호에 해당하는 조각의 크기 반환, 마지막 조각은 남은 크기
+     *
+     * @param chunkNumber 1부터 시작하는 조각 번호
+     * @return 조각의 크기
+     */
+    public long getExpectedChunkSize(int chunkNumber) {
+        if (chunkNumber < chunkCount) {
+            return chunkSize;
+        }
+        return attachmentSize - (long) chunkSize * (chunkCount - 1);
+    }
+
+    /**
+     * 조각 번호에 해당하는 조각이 저장소에 저장되는 이름 반환
+     *
+     * @param chunkNumber 1부터 시작하는 조각 번호
+     * @return 저장소에 저장되는 조각 이름
+     */
+    public String getChunkName(int chunkNumber) {
+        return String.format("%s-%d.chunk", uploadSessionId, chunkNumber);
+    }
+
+    /**
+     * 모든 조각이 저장소에 저장되는 이름 목록 반환
+     *
+     * @return 조각 번호 순서대로 나열된 조각 이름 목록
+     */
+    @JsonIgnore
+    public List<String> getChunkNames() {
+        return IntStream.rangeClosed(1, chunkCount)
+                .mapToObj(this::getChunkName)
+                .collect(Collectors.toList());
+    }
+}
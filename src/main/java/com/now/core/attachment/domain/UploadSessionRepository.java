@@ -0,0 +1,129 @@
+package com.now.core.attachment.domain;
+
+import com.now.core.attachment.domain.mapper.UploadSessionMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 업로드 세션과 업로드된 조각 정보를 관리하는 레포지토리
+ *
+ * 조각의 내용은 저장소에 저장하고, 데이터베이스에는 업로드를 마친 조각 번호만 기록
+ *
+ * <pre>
+ * CREATE TABLE tb_upload_session (
+ *     upload_session_id        CHAR(36)     PRIMARY KEY,
+ *     member_id                VARCHAR(50)  NOT NULL,
+ *     post_idx                 BIGINT       NOT NULL,
+ *     attachment_type          VARCHAR(10)  NOT NULL,
+ *     original_attachment_name VARCHAR(255) NOT NULL,
+ *     attachment_size          BIGINT       NOT NULL,
+ *     chunk_size               INT          NOT NULL,
+ *     chunk_count              INT          NOT NULL,
+ *     expire_date              DATETIME     NOT NULL,
+ *     reg_date                 DATETIME     NOT NULL,
+ *     INDEX idx_upload_session_expire_date (expire_date)
+ * );
+ *
+ * CREATE TABLE tb_upload_chunk (
+ *     upload_session_id CHAR(36) NOT NULL,
+ *     chunk_number      INT      NOT NULL,
+ *     chunk_size        BIGINT   NOT NULL,
+ *     reg_date          DATETIME NOT NULL,
+ *     PRIMARY KEY (upload_session_id, chunk_number)
+ * );
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class UploadSessionRepository {
+
+    private final UploadSessionMapper uploadSessionMapper;
+
+    /**
+     * 업로드 세션 저장
+     *
+     * @param uploadSession 저장할 업로드 세션
+     * @param ttlSeconds    세션이 만료될 때까지의 시간(초)
+     */
+    public void save(UploadSession uploadSession, long ttlSeconds) {
+        uploadSessionMapper.saveUploadSession(uploadSession, ttlSeconds);
+    }
+
+    /**
+     * 만료되지 않은 업로드 세션 조회
+     *
+     * @param uploadSessionId 세션 번호
+     * @return 업로드 세션, 없거나 만료되었다면 null
+     */
+    public UploadSession findUploadSession(String uploadSessionId) {
+        return uploadSessionMapper.findUploadSession(uploadSessionId);
+    }
+
+    /**
+     * 만료되지 않은 업로드 세션의 만료 시각을 연장
+     *
+     * @param uploadSessionId 세션 번호
+     * @param ttlSeconds      지금부터 세션이 만료될 때까지의 시간(초)
+     * @return 연장되었다면 true, 세션이 없거나 이미 만료되었다면 false
+     */
+    public boolean extend(String uploadSessionId, long ttlSeconds) {
+        return uploadSessionMapper.extendUploadSession(uploadSessionId, ttlSeconds) > 0;
+    }
+
+    /**
+     * 업로드된 조각 저장, 이미 저장된 조각이라면 크기를 갱신
+     *
+     * @param uploadSessionId 세션 번호
+     * @param chunkNumber     조각 번호
+     * @param chunkSize       조각 크기
+     */
+    public void saveChunk(String uploadSessionId, int chunkNumber, long chunkSize) {
+        uploadSessionMapper.saveUploadChunk(uploadSessionId, chunkNumber, chunkSize);
+    }
+
+    /**
+     * 업로드된 조각 정보 삭제
+     *
+     * @param uploadSessionId 세션 번호
+     * @param chunkNumber     조각 번호
+     */
+    public void deleteChunk(String uploadSessionId, int chunkNumber) {
+        uploadSessionMapper.deleteUploadChunk(uploadSessionId, chunkNumber);
+    }
+
+    /**
+     * 업로드된 조각 번호를 번호 순서대로 조회
+     *
+     * @param uploadSessionId 세션 번호
+     * @return 업로드된 조각 번호 목록
+     */
+    public List<Integer> findUploadedChunkNumbers(String uploadSessionId) {
+        return uploadSessionMapper.findUploadedChunkNumbers(uploadSessionId);
+    }
+
+    /**
+     * 만료된 업로드 세션을 만료된 순서대로 조회
+     *
+     * @param limit 최대 조회 개수
+     * @return 만료된 업로드 세션 목록
+     */
+    public List<UploadSession> findExpiredUploadSessions(int limit) {
+        return uploadSessionMapper.findExpiredUploadSessions(limit);
+    }
+
+    /**
+     * 업로드 세션과 업로드된 조각 정보 삭제
+     *
+     * @param uploadSessionIds 삭제할 세션 번호 목록
+     * @return 삭제된 세션 수
+     */
+    public int deleteAll(List<String> uploadSessionIds) {
+        if (uploadSessionIds.isEmpty()) {
+            return 0;
+        }
+        uploadSessionMapper.deleteUploadChunks(uploadSessionIds);
+        return uploadSessionMapper.deleteUploadSessions(uploadSessionIds);
+    }
+}
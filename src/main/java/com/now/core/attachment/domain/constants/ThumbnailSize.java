@@ -0,0 +1,90 @@
+package com.now.core.attachment.domain.constants;
+
+import com.now.common.utils.AttachmentUtils;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 대표 이미지에서 미리 만들어 두는 축소 이미지 크기를 나타내는 enum
+ */
+@Getter
+public enum ThumbnailSize {
+    SMALL(200),
+    MEDIUM(600),
+    LARGE(1200);
+
+    /**
+     * 축소 이미지를 만들 수 있는 원본 이미지 확장자 목록
+     */
+    public static final List<String> SOURCE_EXTENSIONS = List.of("jpg", "jpeg", "png", "gif");
+
+    /**
+     * 축소 이미지 확장자
+     */
+    public static final String VARIANT_EXTENSION = "jpg";
+
+    private final int width;
+
+    /**
+     * ThumbnailSize 객체를 초기화하는 생성자
+     *
+     * @param width 축소 이미지의 최대 너비 (픽셀 단위)
+     */
+    ThumbnailSize(int width) {
+        this.width = width;
+    }
+
+    /**
+     * 원본 첨부파일 이름에 해당하는 축소 이미지 이름 반환, 원본 이름에서 정해지므로 다시 만들면 덮어씀
+     *
+     * @param savedAttachmentName 저장소에 저장된 원본 첨부파일 이름
+     * @return 저장소에 저장되는 축소 이미지 이름
+     */
+    public String getVariantName(String savedAttachmentName) {
+        int extensionIndex = savedAttachmentName.lastIndexOf('.');
+        String baseName = extensionIndex < 0 ? savedAttachmentName : savedAttachmentName.substring(0, extensionIndex);
+        return String.format("%s_w%d.%s", baseName, width, VARIANT_EXTENSION);
+    }
+
+    /**
+     * 축소 이미지를 만들 수 있는 원본 첨부파일이라면 true, 그렇지 않다면 false 반환
+     *
+     * @param savedAttachmentName 저장소에 저장된 원본 첨부파일 이름
+     * @return 축소 이미지를 만들 수 있다면 true, 그렇지 않다면 false
+     */
+    public static boolean isVariantSource(String savedAttachmentName) {
+        String extension = AttachmentUtils.extractFileExtension(savedAttachmentName);
+        return extension != null && SOURCE_EXTENSIONS.contains(extension);
+    }
+
+    /**
+     * 원본 첨부파일 이름에 해당하는 축소 이미지 이름을 너비 순서대로 반환
+     *
+     * @param savedAttachmentName 저장소에 저장된 원본 첨부파일 이름
+     * @return 너비별 축소 이미지 이름
+     */
+    public static Map<Integer, String> getVariantNamesByWidth(String savedAttachmentName) {
+        return Arrays.stream(values())
+                .collect(Collectors.toMap(ThumbnailSize::getWidth,
+                        thumbnailSize -> thumbnailSize.getVariantName(savedAttachmentName), (a, b) -> a, TreeMap::new));
+    }
+
+    /**
+     * 원본 첨부파일 이름에 해당하는 모든 축소 이미지 이름 목록 반환
+     *
+     * @param savedAttachmentNames 저장소에 저장된 원본 첨부파일 이름 목록
+     * @return 축소 이미지를 만들 수 있는 원본의 축소 이미지 이름 목록
+     */
+    public static List<String> getVariantNames(List<String> savedAttachmentNames) {
+        return savedAttachmentNames.stream()
+                .filter(ThumbnailSize::isVariantSource)
+                .flatMap(savedAttachmentName -> Arrays.stream(values())
+                        .map(thumbnailSize -> thumbnailSize.getVariantName(savedAttachmentName)))
+                .collect(Collectors.toList());
+    }
+}
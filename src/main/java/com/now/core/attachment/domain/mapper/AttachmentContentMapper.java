@@ -0,0 +1,69 @@
+package com.now.core.attachment.domain.mapper;
+
+import com.now.core.attachment.domain.AttachmentContent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 내용의 해시로 이름이 정해지는 첨부파일의 참조 수 정보에 접근하는 매퍼 인터페이스
+ */
+@Mapper
+public interface AttachmentContentMapper {
+
+    /**
+     * 참조 수를 1 증가, 없다면 참조 수 1로 저장
+     *
+     * @param savedAttachmentName 저장소에 저장된 첨부파일 이름
+     * @param contentHash         내용의 해시
+     */
+    void saveReference(@Param("savedAttachmentName") String savedAttachmentName, @Param("contentHash") String contentHash);
+
+    /**
+     * 참조 수 조회
+     *
+     * @param savedAttachmentName 저장소에 저장된 첨부파일 이름
+     * @return 참조 수, 없다면 null
+     */
+    Integer findReferenceCount(String savedAttachmentName);
+
+    /**
+     * 참조 수 0으로 저장, 이미 있다면 무시
+     *
+     * @param savedAttachmentName 저장소에 저장된 첨부파일 이름
+     * @param contentHash         내용의 해시
+     */
+    void saveUnreferenced(@Param("savedAttachmentName") String savedAttachmentName, @Param("contentHash") String contentHash);
+
+    /**
+     * 참조 수 감소
+     *
+     * @param savedAttachmentName 저장소에 저장된 첨부파일 이름
+     * @param count               감소할 참조 수
+     */
+    void decreaseReferenceCount(@Param("savedAttachmentName") String savedAttachmentName, @Param("count") int count);
+
+    /**
+     * 참조 수가 0 이하인 첨부파일 이름 조회
+     *
+     * @param savedAttachmentNames 저장소에 저장된 첨부파일 이름 목록
+     * @return 참조 수가 0 이하인 첨부파일 이름 목록
+     */
+    List<String> findUnreferencedNames(@Param("savedAttachmentNames") List<String> savedAttachmentNames);
+
+    /**
+     * 해시에 해당하는 참조 수 정보를 잠금과 함께 조회
+     *
+     * @param contentHashes 내용의 해시 목록
+     * @return 참조 수 정보 목록
+     */
+    List<AttachmentContent> findAttachmentContentsForUpdate(@Param("contentHashes") List<String> contentHashes);
+
+    /**
+     * 참조 수가 0 이하인 참조 수 정보 삭제
+     *
+     * @param savedAttachmentNames 저장소에 저장된 첨부파일 이름 목록
+     */
+    void deleteUnreferenced(@Param("savedAttachmentNames") List<String> savedAttachmentNames);
+}
@@ -0,0 +1,43 @@
+package com.now.core.attachment.domain.mapper;
+
+import com.now.core.attachment.domain.AttachmentDeletion;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 저장소에서 삭제해야 하는 첨부파일 정보에 접근하는 매퍼 인터페이스
+ */
+@Mapper
+public interface AttachmentDeletionMapper {
+
+    /**
+     * 저장소에서 삭제할 첨부파일 이름 목록 저장
+     *
+     * @param savedAttachmentNames 저장소에 저장된 첨부파일 이름 목록
+     */
+    void saveAttachmentDeletions(@Param("savedAttachmentNames") List<String> savedAttachmentNames);
+
+    /**
+     * 삭제를 시도할 시각이 지난 첨부파일을 번호 순서대로 조회
+     *
+     * @param limit 최대 조회 개수
+     * @return 삭제할 첨부파일 목록
+     */
+    List<AttachmentDeletion> findDueAttachmentDeletions(int limit);
+
+    /**
+     * 저장소에서 삭제된 첨부파일 정보 삭제
+     *
+     * @param attachmentDeletionIndexes 삭제할 첨부파일 번호 목록
+     */
+    void deleteAttachmentDeletions(@Param("attachmentDeletionIndexes") List<Long> attachmentDeletionIndexes);
+
+    /**
+     * 저장소 삭제에 실패한 첨부파일의 시도 횟수를 증가시키고 다음 시도 시각을 지수적으로 미룸
+     *
+     * @param attachmentDeletionIndexes 삭제에 실패한 첨부파일 번호 목록
+     */
+    void postponeAttachmentDeletions(@Param("attachmentDeletionIndexes") List<Long> attachmentDeletionIndexes);
+}
@@ -4,6 +4,7 @@ import com.now.core.attachment.application.dto.ThumbNail;
 import com.now.core.attachment.domain.Attachment;
 import com.now.core.attachment.presentation.dto.AttachmentResponse;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -21,6 +22,14 @@ public interface AttachmentMapper {
      */
     List<Long> findAllIndexesByPostIdx(Long postIdx);
 
+    /**
+     * 게시물 번호를 인자로 받아 해당하는 첨부파일들의 저장된 이름 목록을 반환
+     *
+     * @param postIdx 게시물 번호
+     * @return 저장된 첨부파일 이름 목록
+     */
+    List<String> findSavedAttachmentNamesByPostIdx(Long postIdx);
+
     /**
      * 첨부파일 번호를 인자로 받아 해당 첨부파일 객체를 반환
      *
@@ -44,6 +53,13 @@ public interface AttachmentMapper {
      */
     void saveAttachment(Attachment attachment);
 
+    /**
+     * 첨부파일 목록을 하나의 INSERT 문으로 저장, 생성된 첨부파일 번호는 각 첨부파일에 설정
+     *
+     * @param attachments 저장할 첨부파일 목록
+     */
+    void saveAttachments(@Param("attachments") List<Attachment> attachments);
+
     /**
      * 대표 이미지 저장
      *
@@ -101,4 +117,12 @@ public interface AttachmentMapper {
      * @param attachment 수정할 대표 이미지 정보
      */
     void updateThumbnail(Attachment attachment);
+
+    /**
+     * 축소 이미지를 모두 저장한 첨부파일로 표시
+     *
+     * @param attachmentIdx 첨부파일 번호
+     * @return 수정된 행 수
+     */
+    int updateThumbnailVariantDate(Long attachmentIdx);
 }
@@ -0,0 +1,88 @@
+package com.now.core.attachment.domain.mapper;
+
+import com.now.core.attachment.domain.UploadSession;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 업로드 세션과 업로드된 조각 정보에 접근하는 매퍼 인터페이스
+ */
+@Mapper
+public interface UploadSessionMapper {
+
+    /**
+     * 업로드 세션 저장
+     *
+     * @param uploadSession 저장할 업로드 세션
+     * @param ttlSeconds    세션이 만료될 때까지의 시간(초)
+     */
+    void saveUploadSession(@Param("uploadSession") UploadSession uploadSession, @Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * 만료되지 않은 업로드 세션 조회
+     *
+     * @param uploadSessionId 세션 번호
+     * @return 업로드 세션, 없거나 만료되었다면 null
+     */
+    UploadSession findUploadSession(String uploadSessionId);
+
+    /**
+     * 만료되지 않은 업로드 세션의 만료 시각을 연장
+     *
+     * @param uploadSessionId 세션 번호
+     * @param ttlSeconds      지금부터 세션이 만료될 때까지의 시간(초)
+     * @return 연장된 세션 수
+     */
+    int extendUploadSession(@Param("uploadSessionId") String uploadSessionId, @Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * 업로드된 조각 저장, 이미 저장된 조각이라면 크기를 갱신
+     *
+     * @param uploadSessionId 세션 번호
+     * @param chunkNumber     조각 번호
+     * @param chunkSize       조각 크기
+     */
+    void saveUploadChunk(@Param("uploadSessionId") String uploadSessionId,
+                         @Param("chunkNumber") int chunkNumber, @Param("chunkSize") long chunkSize);
+
+    /**
+     * 업로드된 조각 정보 삭제
+     *
+     * @param uploadSessionId 세션 번호
+     * @param chunkNumber     조각 번호
+     */
+    void deleteUploadChunk(@Param("uploadSessionId") String uploadSessionId, @Param("chunkNumber") int chunkNumber);
+
+    /**
+     * 업로드된 조각 번호를 번호 순서대로 조회
+     *
+     * @param uploadSessionId 세션 번호
+     * @return 업로드된 조각 번호 목록
+     */
+    List<Integer> findUploadedChunkNumbers(String uploadSessionId);
+
+    /**
+     * 만료된 업로드 세션을 만료된 순서대로 조회
+     *
+     * @param limit 최대 조회 개수
+     * @return 만료된 업로드 세션 목록
+     */
+    List<UploadSession> findExpiredUploadSessions(int limit);
+
+    /**
+     * 업로드 세션 삭제
+     *
+     * @param uploadSessionIds 삭제할 세션 번호 목록
+     * @return 삭제된 세션 수
+     */
+    int deleteUploadSessions(@Param("uploadSessionIds") List<String> uploadSessionIds);
+
+    /**
+     * 업로드 세션의 모든 조각 정보 삭제
+     *
+     * @param uploadSessionIds 세션 번호 목록
+     */
+    void deleteUploadChunks(@Param("uploadSessionIds") List<String> uploadSessionIds);
+}
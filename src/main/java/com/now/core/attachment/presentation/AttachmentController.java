@@ -6,15 +6,24 @@ import com.now.core.attachment.application.StorageService;
 import com.now.core.attachment.presentation.dto.AttachmentResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Objects;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 첨부파일 관련 작업을 위한 컨트롤러
@@ -24,38 +33,115 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class AttachmentController {
 
+    private static final String BYTES_UNIT = "bytes";
+
     private final StorageService storageService;
     private final AttachmentService attachmentService;
 
     /**
-     * 첨부파일 번호에 해당하는 파일을 응답
+     * 첨부파일 번호에 해당하는 파일을 메모리에 모으지 않고 응답으로 전송
+     *
+     * 저장소가 직접 다운로드할 수 있는 URL을 제공한다면 302 Found로 해당 URL로 이동시키고 내용은 전송하지 않음
+     * Range 헤더에 하나의 구간이 지정되어 있다면 해당 구간만 206 Partial Content로 응답하고,
+     * 구간이 파일 크기를 벗어난다면 416 Range Not Satisfiable로 응답
+     * 저장된 첨부파일 이름은 내용이 바뀌지 않으므로 ETag로 사용
      *
      * @param attachmentIdx 첨부파일 번호
-     * @return 응답 결과
+     * @param range         요청한 구간, 없다면 전체 파일
+     * @param ifRange       구간 요청의 조건인 ETag, 현재 ETag와 다르다면 전체 파일
+     * @param response      응답 객체
+     * @throws IOException 첨부파일을 읽거나 전송하는 도중 발생한 입출력 예외
      */
     @GetMapping("/api/attachments/{attachmentIdx}")
-    public ResponseEntity<byte[]> serveDownloadFile(@PathVariable("attachmentIdx") Long attachmentIdx) throws IOException {
+    public void serveDownloadFile(@PathVariable("attachmentIdx") Long attachmentIdx,
+                                  @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                  @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+                                  HttpServletResponse response) throws IOException {
         AttachmentResponse attachment = attachmentService.getAttachment(attachmentIdx);
+        String savedAttachmentName = attachment.getSavedAttachmentName();
+
+        ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+        HttpHeaders headers = serverResponse.getHeaders();
+
+        Optional<URL> downloadUrl = storageService.createDownloadUrl(savedAttachmentName, attachment.getOriginalAttachmentName());
+        if (downloadUrl.isPresent()) {
+            serverResponse.setStatusCode(HttpStatus.FOUND);
+            headers.setLocation(toUri(downloadUrl.get()));
+            headers.setCacheControl(CacheControl.noStore()); // 만료되는 URL이므로 캐시하지 않음
+            serverResponse.close();
+            return;
+        }
+
+        long attachmentLength = storageService.getSize(savedAttachmentName);
+        headers.setETag(createETag(savedAttachmentName));
+        headers.set(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+
+        HttpRange httpRange = resolveRange(range, ifRange, headers.getETag());
+        long position = 0;
+        long count = attachmentLength;
+        if (httpRange != null) {
+            position = httpRange.getRangeStart(attachmentLength);
+            count = httpRange.getRangeEnd(attachmentLength) - position + 1;
+            if (position >= attachmentLength || count <= 0) {
+                serverResponse.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+                headers.set(HttpHeaders.CONTENT_RANGE, String.format("%s */%d", BYTES_UNIT, attachmentLength));
+                serverResponse.close();
+                return;
+            }
+            serverResponse.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+            headers.set(HttpHeaders.CONTENT_RANGE, String.format("%s %d-%d/%d",
+                    BYTES_UNIT, position, position + count - 1, attachmentLength));
+        }
+
+        setDownloadAttachmentHeaders(headers, attachment, count);
+        storageService.transferTo(savedAttachmentName, position, count, serverResponse.getBody());
+        serverResponse.flush();
+    }
 
-        byte[] attachmentContent = AttachmentUtils.convertByteArray(storageService.createStream(attachment.getSavedAttachmentName()));
-        return ResponseEntity.ok()
-                .headers(createDownloadAttachmentHeaders(attachment, attachmentContent))
-                .body(attachmentContent);
+    /**
+     * 응답할 하나의 구간 반환, 구간이 없거나 형식이 잘못되었거나 여러 구간이거나 If-Range 조건이 맞지 않다면 null
+     *
+     * @param range   Range 헤더 값
+     * @param ifRange If-Range 헤더 값
+     * @param eTag    현재 첨부파일의 ETag
+     * @return 응답할 구간, 전체 파일을 응답해야 한다면 null
+     */
+    private HttpRange resolveRange(String range, String ifRange, String eTag) {
+        if (range == null || (ifRange != null && !ifRange.equals(eTag))) {
+            return null;
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null; // 잘못된 Range 헤더는 무시하고 전체 파일 응답
+        }
     }
 
     /**
-     * 첨부파일을 다운로드할 수 있는 HTTP 헤더를 생성 후 반환
+     * 첨부파일을 다운로드할 수 있는 HTTP 헤더를 설정
      *
-     * @param attachment        첨부파일
-     * @param attachmentContent 첨부파일 내용
-     * @return HTTP 헤더
+     * @param headers       응답 헤더
+     * @param attachment    첨부파일
+     * @param contentLength 응답할 내용의 길이
      */
-    private HttpHeaders createDownloadAttachmentHeaders(AttachmentResponse attachment, byte[] attachmentContent) {
-        HttpHeaders headers = new HttpHeaders();
+    private void setDownloadAttachmentHeaders(HttpHeaders headers, AttachmentResponse attachment, long contentLength) {
         headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
         headers.setContentDispositionFormData("attachment",
                 AttachmentUtils.generateEncodedName(attachment.getOriginalAttachmentName()));
-        headers.setContentLength(Objects.requireNonNull(attachmentContent).length);
-        return headers;
+        headers.setContentLength(contentLength);
+    }
+
+    private static URI toUri(URL url) {
+        try {
+            return url.toURI();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("잘못된 다운로드 URL입니다: " + url, e);
+        }
+    }
+
+    private static String createETag(String savedAttachmentName) {
+        return "\"" + savedAttachmentName + "\"";
     }
 }
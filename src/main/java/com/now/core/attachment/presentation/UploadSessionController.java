@@ -0,0 +1,63 @@
+package com.now.core.attachment.presentation;
+
+import com.now.common.config.infrastructure.RateLimitCost;
+import com.now.core.attachment.application.UploadSessionService;
+import com.now.core.attachment.domain.UploadSession;
+import com.now.core.authentication.application.JwtTokenProvider;
+import com.now.core.authentication.presentation.AuthenticationPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * 첨부파일을 여러 조각으로 나눠 이어서 업로드하는 세션 관련 작업을 위한 컨트롤러
+ *
+ * 세션 시작과 커밋은 게시글 권한을 확인해야 하므로 각 게시글 컨트롤러에서 처리
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class UploadSessionController {
+
+    private final UploadSessionService uploadSessionService;
+
+    /**
+     * 조각 업로드, 요청 본문을 읽으면서 저장소에 바로 저장하며 같은 조각을 다시 업로드하면 덮어씀
+     *
+     * @param uploadSessionId 세션 번호
+     * @param chunkNumber     1부터 시작하는 조각 번호
+     * @param memberId        회원 아이디
+     * @param request         조각 내용을 본문으로 담은 요청
+     * @return 응답 본문이 없는 상태 코드 204 반환
+     * @throws IOException 요청 본문을 읽는 도중 발생한 입출력 예외
+     */
+    @RateLimitCost(RateLimitCost.UPLOAD_CHUNK)
+    @PutMapping("/api/upload-sessions/{uploadSessionId}/chunks/{chunkNumber}")
+    public ResponseEntity<Void> uploadChunk(@PathVariable("uploadSessionId") String uploadSessionId,
+                                            @PathVariable("chunkNumber") int chunkNumber,
+                                            @AuthenticationPrincipal String memberId,
+                                            HttpServletRequest request) throws IOException {
+        uploadSessionService.saveChunk(uploadSessionId, chunkNumber, memberId, request.getInputStream());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 업로드 세션과 업로드된 조각 번호 목록 조회, 연결이 끊긴 후 이어서 업로드할 조각을 확인할 때 사용
+     *
+     * @param uploadSessionId 세션 번호
+     * @param accessToken     액세스 토큰
+     * @return 업로드 세션 정보와 함께 OK 응답을 반환
+     */
+    @GetMapping("/api/upload-sessions/{uploadSessionId}")
+    public ResponseEntity<UploadSession> getUploadSession(@PathVariable("uploadSessionId") String uploadSessionId,
+                                                          @CookieValue(value = JwtTokenProvider.ACCESS_TOKEN_KEY) String accessToken) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(uploadSessionService.getUploadSessionStatus(uploadSessionId, accessToken));
+    }
+}
@@ -0,0 +1,86 @@
+package com.now.core.authentication.application;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 64비트 해시로 원소를 기록하는 블룸 필터
+ *
+ * 기록하지 않은 원소도 설정된 오탐률 안에서 포함된다고 판단할 수 있지만, 기록한 원소를 포함되지 않았다고 판단하지 않음
+ * 비트 배열을 AtomicLongArray로 관리하므로 여러 스레드가 동시에 기록, 확인할 수 있으며 확인 시 객체를 생성하지 않음
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 기록할 것으로 예상되는 원소 수
+     * @param falsePositiveRate  예상 원소 수만큼 기록했을 때의 오탐률
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long optimalBitSize = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBitSize + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    /**
+     * 원소 기록
+     *
+     * @param hash 원소의 64비트 해시
+     */
+    void put(long hash) {
+        long hash1 = hash;
+        long hash2 = mix(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            setBit(index);
+        }
+    }
+
+    /**
+     * 원소가 기록되었을 수 있다면 true, 확실히 기록되지 않았다면 false 반환
+     *
+     * @param hash 원소의 64비트 해시
+     * @return 원소가 기록되었을 수 있다면 true, 확실히 기록되지 않았다면 false
+     */
+    boolean mightContain(long hash) {
+        long hash1 = hash;
+        long hash2 = mix(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+        long word;
+        do {
+            word = bits.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    /**
+     * 두 번째 해시를 얻기 위한 MurmurHash3의 fmix64, 모든 해시 위치가 같아지지 않도록 홀수로 반환
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash | 1L;
+    }
+}
@@ -1,15 +1,25 @@
 package com.now.core.authentication.application;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.now.common.exception.ErrorType;
+import com.now.core.authentication.application.dto.VerifiedClaims;
 import com.now.core.authentication.application.dto.jwtTokens;
 import com.now.core.authentication.application.dto.TokenClaims;
 import com.now.core.authentication.exception.InvalidAuthenticationException;
 import com.now.core.authentication.exception.InvalidTokenException;
 import io.jsonwebtoken.*;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Base64;
@@ -18,10 +28,12 @@ import java.util.Map;
 
 /**
  * JWT(Json Web Token) 생성 및 검증을 담당하는 객체
+ *
+ * 검증된 토큰의 클레임은 토큰의 SHA-256 다이제스트를 키로 토큰이 만료될 때까지 캐시하므로
+ * 같은 토큰으로 다시 요청하면 서명 검증 없이 클레임을 반환
  */
 @Component
-@RequiredArgsConstructor
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
     public static final String BEARER_PREFIX = "Bearer";
     private static final String BEARER_PREFIX_WITH_SPACE = "Bearer ";
@@ -32,8 +44,44 @@ public class JwtTokenProvider {
     public static final String ACCESS_TOKEN_KEY = "access_token";
     public static final String REFRESH_TOKEN_KEY = "refresh_token";
 
-    @Value("${now.security.key}")
-    private String securityKey;
+    private static final String METRIC_CACHE_NAME = "verifiedTokens";
+
+    private final String encodedSecurityKey;
+    private final Cache<String, VerifiedClaims> verifiedClaimsCache;
+
+    /**
+     * @param securityKey     토큰 서명 키
+     * @param maxCachedTokens 검증된 클레임을 캐시할 최대 토큰 수
+     */
+    public JwtTokenProvider(@Value("${now.security.key}") String securityKey,
+                            @Value("${now.security.max-verified-tokens:10000}") long maxCachedTokens) {
+        this.encodedSecurityKey = Base64.getEncoder().encodeToString(securityKey.getBytes());
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(maxCachedTokens)
+                .expireAfter(new Expiry<String, VerifiedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedClaims claims, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), claims.getExpiration()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedClaimsCache, METRIC_CACHE_NAME);
+    }
 
     /**
      * 전달받은 키-값 쌍을 기반으로 JWT Access 토큰을 생성 후 반환
@@ -62,22 +110,22 @@ public class JwtTokenProvider {
      * @return 전달받은 키에 해당하는 클레임 값
      */
     public Object getClaim(String token, String key) {
+        return verify(token).get(key);
+    }
+
+    /**
+     * 전달받은 토큰의 서명과 유효기간을 한 번에 검증하고 검증된 클레임 반환
+     * 이미 검증된 토큰이라면 서명을 다시 검증하지 않고 캐시된 클레임 반환
+     *
+     * @param token 검증할 JWT 토큰
+     * @return 검증된 클레임 정보를 담은 VerifiedClaims 객체
+     * @throws InvalidTokenException 토큰이 만료되었거나 유효하지 않은 경우
+     */
+    public VerifiedClaims verify(String token) {
         if (token == null) {
             throw new InvalidAuthenticationException(ErrorType.NOT_AUTHENTICATED);
         }
-
-        Claims claims = null;
-        try {
-            claims = Jwts.parser()
-                    .setSigningKey(Base64.getEncoder().encodeToString(securityKey.getBytes()))
-                    .parseClaimsJws(removeBearer(token))
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            throw new InvalidTokenException(ErrorType.EXPIRED_ACCESS_TOKEN);
-        } catch (JwtException e) {
-            throw new InvalidTokenException(ErrorType.INVALID_TOKEN);
-        }
-        return claims.get(key);
+        return verifiedClaimsCache.get(digest(token), key -> VerifiedClaims.from(getAllClaims(token)));
     }
 
     /**
@@ -92,10 +140,7 @@ public class JwtTokenProvider {
         }
 
         try {
-            return Jwts.parser()
-                    .setSigningKey(Base64.getEncoder().encodeToString(securityKey.getBytes()))
-                    .parseClaimsJws(removeBearer(token))
-                    .getBody();
+            return parseClaims(token);
         } catch (ExpiredJwtException e) {
             throw new InvalidTokenException(ErrorType.EXPIRED_ACCESS_TOKEN);
         } catch (JwtException e) {
@@ -103,6 +148,34 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * 토큰의 서명과 유효기간을 검증하고 Claims 반환
+     *
+     * @param token Bearer 접두사가 포함된 토큰
+     * @return Claims 반환
+     */
+    private Claims parseClaims(String token) {
+        return Jwts.parser()
+                .setSigningKey(encodedSecurityKey)
+                .parseClaimsJws(removeBearer(token))
+                .getBody();
+    }
+
+    /**
+     * 캐시 키로 사용할 토큰의 SHA-256 다이제스트 반환
+     *
+     * @param token 토큰
+     * @return Base64로 인코딩된 다이제스트
+     */
+    private static String digest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * 전달받은 토큰의 접두사를 붙인 토큰 반환
      *
@@ -157,7 +230,7 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setClaims(claims)
                 .setExpiration(Date.from(Instant.now().plus(refreshTokenExpireHours, chronoUnit)))
-                .signWith(SignatureAlgorithm.HS512, Base64.getEncoder().encodeToString(securityKey.getBytes()))
+                .signWith(SignatureAlgorithm.HS512, encodedSecurityKey)
                 .compact();
     }
 
@@ -169,10 +242,7 @@ public class JwtTokenProvider {
      */
     public boolean isTokenExpired(String token) {
         try {
-            Jwts.parser()
-                .setSigningKey(Base64.getEncoder().encodeToString(securityKey.getBytes()))
-                .parseClaimsJws(removeBearer(token))
-                .getBody();
+            parseClaims(token);
         } catch (ExpiredJwtException e) {
             return true;
         } catch (JwtException e) {
@@ -188,9 +258,10 @@ public class JwtTokenProvider {
      * @return 새로 발급된 Access Token과 Refresh Token 정보를 담은 Token 객체
      */
     public jwtTokens refreshTokens(String accessToken) {
+        TokenClaims claims = TokenClaims.create(verify(accessToken).getClaims());
         return jwtTokens.builder()
-                .accessToken(createAccessToken(TokenClaims.create(getAllClaims(accessToken))))
-                .refreshToken(createRefreshToken(TokenClaims.create(getAllClaims(accessToken))))
+                .accessToken(createAccessToken(claims))
+                .refreshToken(createRefreshToken(claims))
                 .build();
     }
 
@@ -1,19 +1,76 @@
 package com.now.core.authentication.application;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.now.common.exception.UnauthorizedException;
+import com.now.core.authentication.domain.RevokedToken;
+import com.now.core.authentication.domain.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
 
 /**
  * 토큰 블랙리스트를 관리하는 클래스
- * 블랙리스트에 추가된 토큰은 유효하지 않은 토큰으로 간주됩
+ * 블랙리스트에 추가된 토큰은 유효하지 않은 토큰으로 간주됨
+ *
+ * 폐기된 토큰은 토큰의 다이제스트를 키로 토큰이 만료될 때까지 데이터베이스에 보관하며,
+ * 서버마다 폐기된 토큰의 블룸 필터를 유지해서 폐기되지 않은 토큰은 데이터베이스에 접근하지 않고 판단
+ * 다른 서버에서 폐기된 토큰은 주기적인 동기화로 블룸 필터에 반영
+ *
+ * 번호나 등록 시각은 커밋 순서와 다를 수 있으므로, 동기화할 때 마지막으로 조회한 등록 시각보다 겹침 구간만큼 이전부터 다시 조회
+ * 이미 블룸 필터에 있는 토큰을 다시 추가해도 결과는 같음
  */
-// TODO: 추후 데이터베이스 테이블을 생성하여 블랙리스트를 관리
+@Slf4j
 @Component
 public class TokenBlackList {
-    private final Set<String> accessTokenBlacklist = new HashSet<>();
-    private final Set<String> refreshTokenBlacklist = new HashSet<>();
+
+    private static final int LOAD_BATCH_SIZE = 1_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long expectedRevokedTokens;
+    private final Cache<String, Boolean> revokedTokenCache;
+    private volatile BloomFilter bloomFilter; // 적재되기 전에는 null
+    private final Duration syncOverlap;
+    private LocalDateTime lastRegDate; // 마지막으로 조회한 폐기된 토큰의 등록 시각, 조회한 토큰이 없다면 null
+
+    /**
+     * @param revokedTokenRepository 폐기된 토큰 레포지토리
+     * @param jwtTokenProvider       토큰의 만료 시각을 확인하는 객체
+     * @param expectedRevokedTokens  블룸 필터의 크기를 정하는 만료되지 않은 폐기된 토큰의 예상 수
+     * @param syncIntervalMillis     다른 서버에서 폐기된 토큰을 동기화하는 주기(ms)
+     * @param syncOverlapMillis      늦게 커밋된 토큰을 놓치지 않도록 동기화할 때 다시 조회하는 구간(ms), 토큰을 저장하는 트랜잭션보다 길어야 함
+     */
+    public TokenBlackList(RevokedTokenRepository revokedTokenRepository,
+                          JwtTokenProvider jwtTokenProvider,
+                          @Value("${now.token-blacklist.expected-revoked-tokens:100000}") long expectedRevokedTokens,
+                          @Value("${now.token-blacklist.sync-interval-ms:5000}") long syncIntervalMillis,
+                          @Value("${now.token-blacklist.sync-overlap-ms:60000}") long syncOverlapMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.expectedRevokedTokens = expectedRevokedTokens;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMillis);
+        this.revokedTokenCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(syncIntervalMillis))
+                .maximumSize(expectedRevokedTokens)
+                .build();
+    }
 
     /**
      * AccessToken을 블랙리스트에 추가
@@ -21,7 +78,7 @@ public class TokenBlackList {
      * @param accessToken 블랙리스트에 추가할 AccessToken
      */
     public void addToAccessTokenBlacklist(String accessToken) {
-        accessTokenBlacklist.add(accessToken);
+        revoke(accessToken);
     }
 
     /**
@@ -30,7 +87,7 @@ public class TokenBlackList {
      * @param refreshToken 블랙리스트에 추가할 RefreshToken
      */
     public void addToRefreshTokenBlacklist(String refreshToken) {
-        refreshTokenBlacklist.add(refreshToken);
+        revoke(refreshToken);
     }
 
     /**
@@ -40,7 +97,7 @@ public class TokenBlackList {
      * @return 블랙리스트에 해당 AccessToken이 있으면 true, 그렇지 않으면 false를 반환
      */
     public boolean isAccessTokenBlacklisted(String accessToken) {
-        return accessTokenBlacklist.contains(accessToken);
+        return isRevoked(accessToken);
     }
 
     /**
@@ -50,6 +107,170 @@ public class TokenBlackList {
      * @return 블랙리스트에 해당 RefreshToken이 있으면 true, 그렇지 않으면 false를 반환
      */
     public boolean isRefreshTokenBlacklisted(String refreshToken) {
-        return refreshTokenBlacklist.contains(refreshToken);
+        return isRevoked(refreshToken);
+    }
+
+    /**
+     * 애플리케이션 시작 시 폐기된 토큰으로 블룸 필터 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Failed to load revoked tokens, blacklist checks will query the database until next rebuild", e);
+        }
+    }
+
+    /**
+     * 다른 서버에서 폐기된 토큰을 블룸 필터에 반영
+     */
+    @Scheduled(fixedDelayString = "${now.token-blacklist.sync-interval-ms:5000}",
+            initialDelayString = "${now.token-blacklist.sync-interval-ms:5000}")
+    public void syncAtIntervals() {
+        BloomFilter currentFilter = bloomFilter;
+        if (currentFilter == null) {
+            return;
+        }
+
+        synchronized (this) {
+            lastRegDate = putRevokedTokensSince(currentFilter, lastRegDate);
+        }
+    }
+
+    /**
+     * 블룸 필터는 원소를 제거할 수 없으므로 주기적으로 만료된 토큰을 삭제하고 블룸 필터를 다시 생성
+     */
+    @Scheduled(fixedDelayString = "${now.token-blacklist.rebuild-interval-ms:3600000}",
+            initialDelayString = "${now.token-blacklist.rebuild-interval-ms:3600000}")
+    public void rebuildAtIntervals() {
+        int deletedCount = revokedTokenRepository.deleteExpiredTokens();
+        log.info("Deleted {} expired revoked tokens", deletedCount);
+        rebuild();
+    }
+
+    /**
+     * 폐기된 토큰을 배치 단위로 조회해서 새 블룸 필터를 만든 후 교체
+     * 조회하는 동안 폐기된 토큰은 교체하기 전에 다시 조회해서 반영
+     */
+    private void rebuild() {
+        BloomFilter newFilter = new BloomFilter(expectedRevokedTokens, FALSE_POSITIVE_RATE);
+        LocalDateTime loadedRegDate = putRevokedTokensSince(newFilter, null);
+
+        synchronized (this) {
+            lastRegDate = putRevokedTokensSince(newFilter, loadedRegDate);
+            bloomFilter = newFilter;
+        }
+    }
+
+    /**
+     * 마지막으로 조회한 등록 시각보다 겹침 구간만큼 이전부터 등록된 폐기된 토큰을 블룸 필터에 추가
+     *
+     * @param filter      토큰을 추가할 블룸 필터
+     * @param lastRegDate 마지막으로 조회한 등록 시각, null이라면 처음부터 조회
+     * @return 조회한 토큰 중 가장 늦은 등록 시각, 주어진 등록 시각보다 이전이라면 주어진 등록 시각
+     */
+    private LocalDateTime putRevokedTokensSince(BloomFilter filter, LocalDateTime lastRegDate) {
+        LocalDateTime regDate = lastRegDate == null ? null : lastRegDate.minus(syncOverlap);
+        long revokedTokenIdx = 0L;
+        List<RevokedToken> revokedTokens;
+        do {
+            revokedTokens = revokedTokenRepository.findRevokedTokensSince(regDate, revokedTokenIdx, LOAD_BATCH_SIZE);
+            for (RevokedToken revokedToken : revokedTokens) {
+                filter.put(revokedToken.getFingerprint());
+                regDate = revokedToken.getRegDate();
+                revokedTokenIdx = revokedToken.getRevokedTokenIdx();
+            }
+        } while (revokedTokens.size() == LOAD_BATCH_SIZE);
+
+        if (regDate == null || (lastRegDate != null && regDate.isBefore(lastRegDate))) {
+            return lastRegDate;
+        }
+        return regDate;
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기, 이미 만료되었거나 유효하지 않은 토큰은 인증에 사용할 수 없으므로 저장하지 않음
+     *
+     * @param token 폐기할 토큰
+     */
+    private void revoke(String token) {
+        Instant expiration = getExpiration(token);
+        if (expiration == null) {
+            return;
+        }
+
+        long fingerprint = fingerprint(token);
+        String tokenId = tokenId(token);
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .fingerprint(fingerprint)
+                .expiredDate(LocalDateTime.ofInstant(expiration, ZoneId.systemDefault()))
+                .build());
+
+        synchronized (this) {
+            BloomFilter currentFilter = bloomFilter;
+            if (currentFilter != null) {
+                currentFilter.put(fingerprint);
+            }
+        }
+        revokedTokenCache.put(tokenId, true);
+    }
+
+    /**
+     * 폐기된 토큰이라면 true, 그렇지 않다면 false 반환
+     * 블룸 필터에 없다면 데이터베이스에 접근하지 않고 false 반환
+     *
+     * @param token 확인할 토큰
+     * @return 폐기된 토큰이라면 true, 그렇지 않다면 false
+     */
+    private boolean isRevoked(String token) {
+        if (token == null) {
+            return false;
+        }
+
+        BloomFilter currentFilter = bloomFilter;
+        if (currentFilter != null && !currentFilter.mightContain(fingerprint(token))) {
+            return false;
+        }
+        return revokedTokenCache.get(tokenId(token), revokedTokenRepository::existsRevokedToken);
+    }
+
+    private Instant getExpiration(String token) {
+        try {
+            return jwtTokenProvider.verify(token).getExpiration();
+        } catch (UnauthorizedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 블룸 필터에서 사용할 토큰의 64비트 FNV-1a 해시, 객체를 생성하지 않고 계산
+     *
+     * @param token 토큰
+     * @return 토큰의 64비트 해시
+     */
+    static long fingerprint(String token) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * 데이터베이스에 저장할 토큰의 SHA-256 다이제스트
+     *
+     * @param token 토큰
+     * @return Base64로 인코딩된 다이제스트
+     */
+    private static String tokenId(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,51 @@
+package com.now.core.authentication.application.dto;
+
+import io.jsonwebtoken.Claims;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서명과 유효기간 검증을 마친 JWT 토큰의 클레임 정보를 담고 있는 불변 객체
+ */
+@Getter
+@EqualsAndHashCode
+public class VerifiedClaims {
+    private final Map<String, Object> claims;
+    private final Instant expiration;
+
+    /**
+     * VerifiedClaims 객체를 생성
+     *
+     * @param claims     토큰의 클레임 정보를 담은 Map 객체
+     * @param expiration 토큰의 만료 시각
+     */
+    private VerifiedClaims(Map<String, Object> claims, Instant expiration) {
+        this.claims = Collections.unmodifiableMap(new HashMap<>(claims));
+        this.expiration = expiration;
+    }
+
+    /**
+     * 검증된 Claims로 VerifiedClaims 객체를 생성하는 정적 팩토리 메서드
+     *
+     * @param claims 서명과 유효기간 검증을 마친 Claims 객체
+     * @return 생성된 VerifiedClaims 객체
+     */
+    public static VerifiedClaims from(Claims claims) {
+        return new VerifiedClaims(claims, claims.getExpiration().toInstant());
+    }
+
+    /**
+     * 전달받은 키에 해당하는 클레임 값을 반환
+     *
+     * @param key 가져올 클레임의 키
+     * @return 전달받은 키에 해당하는 클레임 값
+     */
+    public Object get(String key) {
+        return claims.get(key);
+    }
+}
@@ -47,6 +47,27 @@ public class CookieUtil {
                 .sameSite(SameSite.NONE.attributeValue()).build();
     }
 
+    /**
+     * HttpOnly 설정, 경로 설정과 만료 시간을 포함한 쿠키 생성
+     *
+     * @param key             쿠키의 이름 (key)
+     * @param value           쿠키의 값 (value)
+     * @param path            쿠키의 경로 (path)
+     * @param maxAgeSeconds   쿠키의 만료 시간(초)
+     * @param httpOnlySetting HttpOnly 설정 여부. true인 경우 HttpOnly로 설정
+     * @return 생성된 ResponseCookie 쿠키 객체
+     */
+    public static ResponseCookie createResponseCookieWithPathAndMaxAge(String key, String value, String path,
+                                                                       long maxAgeSeconds, boolean httpOnlySetting) {
+        String encodedValue = URLEncoder.encode(value, StandardCharsets.UTF_8);
+        return ResponseCookie.from(key, encodedValue)
+                .httpOnly(httpOnlySetting)
+                .path(path)
+                .maxAge(maxAgeSeconds)
+                .secure(true)
+                .sameSite(SameSite.NONE.attributeValue()).build();
+    }
+
     /**
      * 쿠키 삭제
      *
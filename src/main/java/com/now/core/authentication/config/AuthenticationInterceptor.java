@@ -46,12 +46,17 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
         }
 
         String extractedAccessToken = extractAccessTokenFromRequest(request);
-        authenticationContext.setPrincipal(getMemberIdFromToken(extractedAccessToken));
+        String memberId = getMemberIdFromToken(extractedAccessToken);
+        if (tokenBlacklist.isAccessTokenBlacklisted(extractedAccessToken)) {
+            throw new InvalidTokenException(ErrorType.LOGGED_OUT_TOKEN);
+        }
+
+        authenticationContext.setPrincipal(memberId);
         return true;
     }
 
     /**
-     * 토큰에서 회원 ID 정보를 추출
+     * 토큰의 서명과 유효기간을 검증하고 회원 ID 정보를 추출
      *
      * @param accessToken 추출할 토큰
      * @return 토큰에서 추출한 회원 ID 정보
@@ -61,10 +66,10 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * 요청에서 액세스 토큰을 추출하고 검증
+     * 요청에서 액세스 토큰을 추출
      *
      * @param request 현재 요청 객체
-     * @return 추출 및 검증된 액세스 토큰
+     * @return 추출된 액세스 토큰
      */
     private String extractAccessTokenFromRequest(HttpServletRequest request) {
         String cookieHeader = request.getHeader(REQUEST_COOKIE_NAME_IN_HEADER);
@@ -84,12 +89,6 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
         if (accessToken == null) {
             throw new InvalidAuthenticationException(ErrorType.NOT_AUTHENTICATED);
         }
-        if (jwtTokenProvider.isTokenExpired(accessToken)) {
-            throw new InvalidTokenException(ErrorType.EXPIRED_ACCESS_TOKEN);
-        }
-        if (tokenBlacklist.isAccessTokenBlacklisted(accessToken)) {
-            throw new InvalidTokenException(ErrorType.LOGGED_OUT_TOKEN);
-        }
         return accessToken;
     }
 
@@ -0,0 +1,26 @@
+package com.now.core.authentication.domain;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그아웃 등으로 폐기된 토큰
+ */
+@Builder
+@Getter
+@ToString
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class RevokedToken {
+
+    private final Long revokedTokenIdx;
+
+    private final String tokenId; // 토큰의 SHA-256 다이제스트
+
+    private final Long fingerprint; // 블룸 필터에서 사용하는 토큰의 64비트 해시
+
+    private final LocalDateTime expiredDate; // 토큰의 만료 시각, 이후에는 삭제 가능
+
+    private final LocalDateTime regDate;
+}
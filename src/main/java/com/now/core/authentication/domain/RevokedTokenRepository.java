@@ -0,0 +1,75 @@
+package com.now.core.authentication.domain;
+
+import com.now.core.authentication.domain.mapper.RevokedTokenMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기된 토큰 정보를 관리하는 레포지토리
+ *
+ * <pre>
+ * CREATE TABLE tb_revoked_token (
+ *     revoked_token_idx BIGINT AUTO_INCREMENT PRIMARY KEY,
+ *     token_id          CHAR(44) NOT NULL UNIQUE,
+ *     fingerprint       BIGINT   NOT NULL,
+ *     expired_date      DATETIME NOT NULL,
+ *     reg_date          DATETIME NOT NULL,
+ *     INDEX idx_revoked_token_expired_date (expired_date),
+ *     INDEX idx_revoked_token_reg_date (reg_date, revoked_token_idx)
+ * );
+ * </pre>
+ *
+ * 기존 테이블에는 다음 인덱스를 추가
+ * <pre>
+ * ALTER TABLE tb_revoked_token ADD INDEX idx_revoked_token_reg_date (reg_date, revoked_token_idx);
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRepository {
+
+    private final RevokedTokenMapper revokedTokenMapper;
+
+    /**
+     * 폐기된 토큰 등록, 이미 등록된 토큰이라면 무시
+     *
+     * @param revokedToken 등록할 폐기된 토큰 정보
+     */
+    public void save(RevokedToken revokedToken) {
+        revokedTokenMapper.saveRevokedToken(revokedToken);
+    }
+
+    /**
+     * 만료되지 않은 폐기된 토큰이라면 true, 그렇지 않다면 false 반환
+     *
+     * @param tokenId 토큰의 다이제스트
+     * @return 만료되지 않은 폐기된 토큰이라면 true, 그렇지 않다면 false
+     */
+    public boolean existsRevokedToken(String tokenId) {
+        return revokedTokenMapper.existsRevokedToken(tokenId);
+    }
+
+    /**
+     * 주어진 등록 시각과 번호 이후에 등록된 만료되지 않은 폐기된 토큰을 등록 시각, 번호 순서대로 조회
+     *
+     * @param regDate         마지막으로 조회한 폐기된 토큰의 등록 시각, null이라면 처음부터 조회
+     * @param revokedTokenIdx 마지막으로 조회한 폐기된 토큰 번호
+     * @param limit           최대 조회 개수
+     * @return 폐기된 토큰 목록(번호, 해시, 등록 시각)
+     */
+    public List<RevokedToken> findRevokedTokensSince(LocalDateTime regDate, Long revokedTokenIdx, int limit) {
+        return revokedTokenMapper.findRevokedTokensSince(regDate, revokedTokenIdx, limit);
+    }
+
+    /**
+     * 만료된 폐기된 토큰 삭제
+     *
+     * @return 삭제된 토큰 수
+     */
+    public int deleteExpiredTokens() {
+        return revokedTokenMapper.deleteExpiredTokens();
+    }
+}
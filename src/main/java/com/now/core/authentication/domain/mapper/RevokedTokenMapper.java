@@ -0,0 +1,46 @@
+package com.now.core.authentication.domain.mapper;
+
+import com.now.core.authentication.domain.RevokedToken;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface RevokedTokenMapper {
+
+    /**
+     * 폐기된 토큰 등록, 이미 등록된 토큰이라면 무시
+     *
+     * @param revokedToken 등록할 폐기된 토큰 정보
+     */
+    void saveRevokedToken(RevokedToken revokedToken);
+
+    /**
+     * 만료되지 않은 폐기된 토큰이라면 true, 그렇지 않다면 false 반환
+     *
+     * @param tokenId 토큰의 다이제스트
+     * @return 만료되지 않은 폐기된 토큰이라면 true, 그렇지 않다면 false
+     */
+    boolean existsRevokedToken(String tokenId);
+
+    /**
+     * 주어진 등록 시각과 번호 이후에 등록된 만료되지 않은 폐기된 토큰을 등록 시각, 번호 순서대로 조회
+     *
+     * @param regDate         마지막으로 조회한 폐기된 토큰의 등록 시각, null이라면 처음부터 조회
+     * @param revokedTokenIdx 마지막으로 조회한 폐기된 토큰 번호
+     * @param limit           최대 조회 개수
+     * @return 폐기된 토큰 목록(번호, 해시, 등록 시각)
+     */
+    List<RevokedToken> findRevokedTokensSince(@Param("regDate") LocalDateTime regDate,
+                                              @Param("revokedTokenIdx") Long revokedTokenIdx,
+                                              @Param("limit") int limit);
+
+    /**
+     * 만료된 폐기된 토큰 삭제
+     *
+     * @return 삭제된 토큰 수
+     */
+    int deleteExpiredTokens();
+}
@@ -1,6 +1,7 @@
 package com.now.core.authentication.presentation;
 
 import com.now.common.exception.ErrorType;
+import com.now.core.authentication.constants.Authority;
 import com.now.core.authentication.exception.InvalidAuthenticationException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.annotation.RequestScope;
@@ -14,6 +15,7 @@ import org.springframework.web.context.annotation.RequestScope;
 public class AuthenticationContext {
 
     private String principal;
+    private Authority authority;
 
     /**
      * 현재 사용자의 주체(principal) 정보를 반환
@@ -28,14 +30,34 @@ public class AuthenticationContext {
     }
 
     /**
-     * 현재 사용자의 주체(principal) 정보를 설정
+     * 현재 사용자의 권한을 반환
+     *
+     * @return 현재 사용자의 권한, 인증되지 않았다면 null
+     */
+    public Authority getAuthority() {
+        return authority;
+    }
+
+    /**
+     * 현재 회원의 주체(principal) 정보를 설정
      *
      * @param principal 사용자의 주체(principal) 정보
      */
     public void setPrincipal(final String principal) {
+        setPrincipal(principal, Authority.MEMBER);
+    }
+
+    /**
+     * 현재 사용자의 주체(principal) 정보와 권한을 설정
+     *
+     * @param principal 사용자의 주체(principal) 정보
+     * @param authority 사용자의 권한
+     */
+    public void setPrincipal(final String principal, final Authority authority) {
         if (this.principal != null) {
             throw new InvalidAuthenticationException(ErrorType.ALREADY_AUTHENTICATED);
         }
         this.principal = principal;
+        this.authority = authority;
     }
 }
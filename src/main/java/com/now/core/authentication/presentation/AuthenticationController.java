@@ -1,5 +1,6 @@
 package com.now.core.authentication.presentation;
 
+import com.now.common.config.infrastructure.RateLimitCost;
 import com.now.core.authentication.application.AuthenticationIntegratedService;
 import com.now.core.authentication.application.JwtTokenProvider;
 import com.now.core.authentication.application.dto.jwtTokens;
@@ -33,6 +34,7 @@ public class AuthenticationController {
      * @param response 응답 객체
      * @return ResponseEntity 객체 (HTTP 응답)
      */
+    @RateLimitCost(RateLimitCost.AUTHENTICATION)
     @PostMapping("/api/sign-in")
     public ResponseEntity<MemberProfile> signIn(@RequestBody Member member, HttpServletResponse response) {
         Member authenticatedMember = authenticationIntegratedService.retrieveMember(member);
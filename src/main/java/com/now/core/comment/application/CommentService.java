@@ -10,19 +10,16 @@ import com.now.core.comment.presentation.dto.CommentsResponse;
 import com.now.core.member.domain.Member;
 import com.now.core.member.domain.MemberRepository;
 import com.now.core.member.exception.InvalidMemberException;
+import com.now.core.post.common.application.PostChangePublisher;
 import com.now.core.post.common.domain.repository.PostRepository;
 import com.now.core.post.common.exception.InvalidPostException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
-import static com.now.common.config.CachingConfig.*;
-
 /**
  * 댓글 관련 비즈니스 로직을 처리하는 서비스
  */
@@ -34,6 +31,7 @@ public class CommentService {
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final CommentRepository commentRepository;
+    private final PostChangePublisher postChangePublisher;
 
     /**
      * 게시글 번호에 해당하는 모든 댓글 정보를 조회
@@ -56,7 +54,6 @@ public class CommentService {
      *
      * @param comment 등록할 댓글 정보
      */
-    @CacheEvict(value = {POST_CACHE, NOTICE_CACHE, COMMUNITY_CACHE, PHOTO_CACHE, INQUIRY_CACHE}, allEntries = true)
     public void registerCommentByMember(Comment comment) {
         Member member = getMember(comment.getMemberId());
 
@@ -65,6 +62,7 @@ public class CommentService {
         }
 
         commentRepository.saveCommentByMember(comment.updateMemberIdx(member.getMemberIdx()));
+        postChangePublisher.publishCommented(comment.getPostIdx());
     }
 
     /**
@@ -72,7 +70,6 @@ public class CommentService {
      *
      * @param updatedComment 수정할 댓글 정보
      */
-    @CacheEvict(value = {POST_CACHE, NOTICE_CACHE, COMMUNITY_CACHE, PHOTO_CACHE, INQUIRY_CACHE}, allEntries = true)
     public void updateCommentByMember(Comment updatedComment) {
         Member member = getMember(updatedComment.getMemberId());
 
@@ -86,6 +83,7 @@ public class CommentService {
         }
 
         commentRepository.updateComment(updatedComment.updateMemberIdx(member.getMemberIdx()));
+        postChangePublisher.publishCommented(updatedComment.getPostIdx());
     }
 
     /**
@@ -95,7 +93,6 @@ public class CommentService {
      * @param commentIdx 댓글 번호
      * @param memberId   회원 아이디
      */
-    @CacheEvict(value = {POST_CACHE, NOTICE_CACHE, COMMUNITY_CACHE, PHOTO_CACHE, INQUIRY_CACHE}, allEntries = true)
     public void deleteCommentByMember(Long postIdx, Long commentIdx, String memberId) {
         Member member = getMember(memberId);
 
@@ -109,6 +106,7 @@ public class CommentService {
         }
 
         commentRepository.deleteComment(commentIdx);
+        postChangePublisher.publishCommented(postIdx);
     }
 
     /**
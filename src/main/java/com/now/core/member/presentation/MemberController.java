@@ -1,5 +1,6 @@
 package com.now.core.member.presentation;
 
+import com.now.common.config.infrastructure.RateLimitCost;
 import com.now.core.authentication.presentation.AuthenticationPrincipal;
 import com.now.core.member.application.MemberService;
 import com.now.core.member.domain.Member;
@@ -30,6 +31,7 @@ public class MemberController {
      * @param member 등록할 회원 정보
      * @return ResponseEntity 객체 (HTTP 응답)
      */
+    @RateLimitCost(RateLimitCost.AUTHENTICATION)
     @PostMapping("/api/sign-up")
     public ResponseEntity<Void> signUp(@RequestBody @Validated(MemberValidationGroup.signup.class) Member member) {
         memberService.registerMember(member);
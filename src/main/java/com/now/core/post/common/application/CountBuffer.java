@@ -0,0 +1,113 @@
+package com.now.core.post.common.application;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 증가량을 누적하고, 누적된 증가량을 꺼낼 수 있는 버퍼
+ *
+ * 증가량을 꺼낸 키는 버퍼에서 제거하므로 버퍼의 크기는 반영되지 않은 증가량이 있는 키의 수와 같음
+ * 꺼낸 키의 누적 값은 {@link #DRAINED}로 바꾼 후 제거하며, 제거되기 전에 누적하려던 스레드는 새 누적 값에 다시 누적
+ *
+ * @param <K> 증가량을 누적할 키 타입
+ */
+class CountBuffer<K> {
+
+    /**
+     * 증가량을 꺼내 더 이상 누적할 수 없는 누적 값
+     */
+    private static final long DRAINED = Long.MIN_VALUE;
+
+    private final Map<K, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    /**
+     * 키의 증가량 누적
+     * 증가량을 꺼낸 누적 값이었다면 버퍼에서 제거한 후 새 누적 값에 누적
+     *
+     * @param key   키
+     * @param delta 증가량
+     */
+    void add(K key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        while (true) {
+            AtomicLong count = counts.computeIfAbsent(key, k -> new AtomicLong());
+            long current = count.get();
+            if (current == DRAINED) {
+                counts.remove(key, count);
+                continue;
+            }
+            if (count.compareAndSet(current, current + delta)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 누적된 증가량을 꺼내고, 꺼낸 키는 버퍼에서 제거
+     *
+     * @return 키별 증가량
+     */
+    Map<K, Long> drain() {
+        Map<K, Long> deltas = new LinkedHashMap<>();
+
+        for (Map.Entry<K, AtomicLong> entry : counts.entrySet()) {
+            long delta = entry.getValue().getAndSet(DRAINED);
+            counts.remove(entry.getKey(), entry.getValue());
+            if (delta != 0 && delta != DRAINED) {
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 버퍼에 있는 키의 수 반환
+     *
+     * @return 버퍼에 있는 키의 수
+     */
+    int size() {
+        return counts.size();
+    }
+
+    /**
+     * 버퍼가 비어 있다면 true, 그렇지 않다면 false 반환
+     *
+     * @return 버퍼가 비어 있다면 true, 그렇지 않다면 false 반환
+     */
+    boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    /**
+     * 키별 증가량을 크기가 batchSize 이하인 배치로 나누어 반환
+     *
+     * @param deltas    키별 증가량
+     * @param batchSize 배치 크기
+     * @param <K>       키 타입
+     * @return 배치 목록
+     */
+    static <K> List<Map<K, Long>> partition(Map<K, Long> deltas, int batchSize) {
+        List<Map<K, Long>> batches = new ArrayList<>();
+        Map<K, Long> batch = new LinkedHashMap<>();
+
+        for (Map.Entry<K, Long> entry : deltas.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() >= batchSize) {
+                batches.add(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,243 @@
+package com.now.core.post.common.application;
+
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Posts;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import com.now.core.post.community.domain.repository.CommunityRepository;
+import com.now.core.post.inquiry.domain.repository.InquiryRepository;
+import com.now.core.post.notice.domain.repository.NoticeRepository;
+import com.now.core.post.photo.domain.repository.PhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 그룹별 최신 게시글 목록(홈 피드)을 메모리에 유지하는 클래스
+ *
+ * 게시글 등록, 수정, 삭제, 댓글 변경 시 영향을 받는 게시물 그룹만 다시 조회해서 목록에 반영하므로 홈 화면 조회는 DB에 접근하지 않음
+ * 변경된 게시글은 트랜잭션이 커밋된 후 {@link PostChangedEvent}를 받아 반영
+ * 목록은 게시글 목록 페이지와 같이 게시글 페이지를 먼저 조회한 후 첨부파일, 댓글, 썸네일을 게시글 번호 목록으로 한 번에 조회해서 채움
+ * 조회수, 좋아요 수 등은 주기적인 전체 갱신으로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeFeed {
+
+    /**
+     * 홈 화면에 표시할 수 있는 게시물 그룹별 최대 게시글 수
+     */
+    public static final int FEED_SIZE = 5;
+
+    /**
+     * 게시글 삭제 시 다시 조회하지 않고 채울 수 있도록 여유분을 포함해 유지하는 게시글 수
+     */
+    private static final int CAPACITY = FEED_SIZE * 2;
+
+    private static final List<PostGroup> FEED_POST_GROUPS =
+            List.of(PostGroup.NOTICE, PostGroup.COMMUNITY, PostGroup.PHOTO, PostGroup.INQUIRY);
+
+    private final NoticeRepository noticeRepository;
+    private final CommunityRepository communityRepository;
+    private final PhotoRepository photoRepository;
+    private final InquiryRepository inquiryRepository;
+    private final Map<PostGroup, List<Posts>> feeds = new ConcurrentHashMap<>();
+    private final Map<PostGroup, AtomicLong> versions = createVersions();
+
+    /**
+     * 게시물 그룹별 최신 게시글 목록 반환
+     *
+     * @param maxNumberOfPosts 게시물 그룹별 최대 게시글 수, null 이라면 {@link #FEED_SIZE}
+     * @return 게시물 그룹 순서(공지, 커뮤니티, 사진, 문의)대로 나열된 최신 게시글 목록
+     */
+    public List<Posts> getLatestPosts(Integer maxNumberOfPosts) {
+        int limit = maxNumberOfPosts == null ? FEED_SIZE : Math.min(maxNumberOfPosts, FEED_SIZE);
+
+        List<Posts> latestPosts = new ArrayList<>();
+        for (PostGroup postGroup : FEED_POST_GROUPS) {
+            List<Posts> feed = feeds.get(postGroup);
+            if (feed == null) {
+                feed = refresh(postGroup);
+            }
+            latestPosts.addAll(feed.subList(0, Math.min(limit, feed.size())));
+        }
+        return latestPosts;
+    }
+
+    /**
+     * 게시글 변경이 커밋된 후 목록에 반영, 트랜잭션이 없다면 바로 반영
+     * 반영에 실패하면 다음 전체 갱신까지 이전 목록을 유지
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            switch (event.getChangeType()) {
+                case CREATED:
+                    savePost(event.getPostGroup());
+                    return;
+                case DELETED:
+                    deletePost(event.getPostGroup(), event.getPostIdx());
+                    return;
+                default:
+                    refreshPost(event.getPostIdx());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply post change to home feed: " + event, e);
+        }
+    }
+
+    /**
+     * 게시글 등록 시 해당 게시물 그룹의 목록을 다시 조회해서 반영
+     *
+     * @param postGroup 게시물 그룹
+     */
+    private void savePost(PostGroup postGroup) {
+        List<Posts> latestPosts = findLatestPosts(postGroup);
+        update(postGroup, current -> latestPosts);
+    }
+
+    /**
+     * 게시글 삭제 시 목록에서 제거, 남은 게시글 수가 부족하다면 해당 게시물 그룹을 다시 조회
+     *
+     * @param postGroup 게시물 그룹
+     * @param postIdx   게시글 번호
+     */
+    private void deletePost(PostGroup postGroup, Long postIdx) {
+        List<Posts> feed = feeds.getOrDefault(postGroup, Collections.emptyList());
+        if (feed.stream().noneMatch(posts -> posts.postIndexes().contains(postIdx))) {
+            return;
+        }
+
+        if (feed.size() - 1 < FEED_SIZE) {
+            List<Posts> latestPosts = findLatestPosts(postGroup);
+            update(postGroup, current -> latestPosts);
+            return;
+        }
+
+        update(postGroup, current -> {
+            List<Posts> updatedFeed = new ArrayList<>(current);
+            updatedFeed.removeIf(posts -> posts.postIndexes().contains(postIdx));
+            return updatedFeed;
+        });
+    }
+
+    /**
+     * 게시글 수정, 댓글 변경 시 목록에 있는 게시글이라면 해당 게시물 그룹의 목록을 다시 조회해서 반영
+     * 목록에 없는 게시글은 수정되어도 최신 게시글 순서가 바뀌지 않으므로 반영하지 않음
+     *
+     * @param postIdx 게시글 번호
+     */
+    private void refreshPost(Long postIdx) {
+        feeds.entrySet().stream()
+                .filter(entry -> entry.getValue().stream().anyMatch(posts -> posts.postIndexes().contains(postIdx)))
+                .findFirst()
+                .ifPresent(entry -> savePost(entry.getKey()));
+    }
+
+    /**
+     * 애플리케이션 시작 시 모든 게시물 그룹의 목록 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            FEED_POST_GROUPS.forEach(this::refresh);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load home feed, will load on first request", e);
+        }
+    }
+
+    /**
+     * 조회수, 좋아요 수 등 목록에 즉시 반영되지 않는 값을 위해 주기적으로 모든 게시물 그룹의 목록 갱신
+     */
+    @Scheduled(fixedDelayString = "${now.home-feed.refresh-interval-ms:300000}",
+            initialDelayString = "${now.home-feed.refresh-interval-ms:300000}")
+    public void refreshAtIntervals() {
+        FEED_POST_GROUPS.forEach(this::refresh);
+    }
+
+    /**
+     * 게시물 그룹의 목록을 다시 조회해서 교체, 조회하는 동안 게시글 변경이 반영되었다면 변경된 목록을 유지
+     *
+     * @param postGroup 게시물 그룹
+     * @return 현재 목록
+     */
+    private List<Posts> refresh(PostGroup postGroup) {
+        long version = versions.get(postGroup).get();
+        List<Posts> latestPosts = findLatestPosts(postGroup);
+
+        return feeds.compute(postGroup, (group, current) ->
+                current != null && versions.get(group).get() != version ? current : latestPosts);
+    }
+
+    /**
+     * 게시물 그룹의 최신 게시글 목록을 게시글 목록 페이지와 같은 쿼리로 조회
+     *
+     * @param postGroup 게시물 그룹
+     * @return 최신 게시글 목록
+     */
+    private List<Posts> findLatestPosts(PostGroup postGroup) {
+        Condition condition = Condition.builder()
+                .postGroup(postGroup)
+                .sort(Sort.LATEST)
+                .maxNumberOfPosts(CAPACITY)
+                .build()
+                .updatePage();
+
+        switch (postGroup) {
+            case NOTICE:
+                return toPosts(noticeRepository.findAllNotices(condition), notice -> Posts.builder().notice(notice).build());
+            case COMMUNITY:
+                return toPosts(communityRepository.findAllCommunity(condition), community -> Posts.builder().community(community).build());
+            case PHOTO:
+                return toPosts(photoRepository.findAllPhotos(condition), photo -> Posts.builder().photo(photo).build());
+            default:
+                return toPosts(inquiryRepository.findAllInquiries(condition), inquiry -> Posts.builder().inquiry(inquiry).build());
+        }
+    }
+
+    private static <T> List<Posts> toPosts(List<T> posts, Function<T, Posts> mapper) {
+        return posts.stream()
+                .map(mapper)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * 게시물 그룹의 목록 변경
+     *
+     * @param postGroup 게시물 그룹
+     * @param updater   목록 변경 함수
+     */
+    private void update(PostGroup postGroup, UnaryOperator<List<Posts>> updater) {
+        feeds.compute(postGroup, (group, current) -> {
+            versions.get(group).incrementAndGet();
+            if (current == null) {
+                return null; // 아직 적재되지 않은 목록은 첫 조회 시 전체를 적재
+            }
+            return List.copyOf(updater.apply(current));
+        });
+    }
+
+    private static Map<PostGroup, AtomicLong> createVersions() {
+        Map<PostGroup, AtomicLong> versions = new EnumMap<>(PostGroup.class);
+        FEED_POST_GROUPS.forEach(postGroup -> versions.put(postGroup, new AtomicLong()));
+        return versions;
+    }
+}
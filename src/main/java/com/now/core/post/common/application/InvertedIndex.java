@@ -0,0 +1,91 @@
+package com.now.core.post.common.application;
+
+import com.now.core.post.common.application.dto.SearchDocument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * n-gram 토큰별로 토큰을 포함한 게시글 번호를 기록하는 역색인
+ *
+ * 게시글별 토큰 목록을 따로 보관하지 않으므로 수정된 게시글의 이전 토큰은 다음 재색인까지 남아 있으며,
+ * 검색 결과는 LIKE 검색으로 다시 걸러내는 후보 게시글 번호로만 사용
+ * 스레드에 안전하지 않으므로 {@link PostSearchIndex}의 잠금 안에서만 사용
+ */
+final class InvertedIndex {
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Set<Long> postIndexes = new HashSet<>(); // 색인된 게시글 번호, 삭제된 게시글은 검색 결과에서 제외
+
+    /**
+     * 게시글을 색인에 추가, 이미 색인된 게시글이라면 새 토큰을 추가
+     *
+     * @param document 색인할 게시글 정보
+     */
+    void add(SearchDocument document) {
+        Long postIdx = document.getPostIdx();
+
+        Set<String> tokens = Stream.of(document.getTitle(), document.getMemberNickname(),
+                        document.getManagerNickname(), document.getContent())
+                .flatMap(text -> NGramTokenizer.tokenize(text).stream())
+                .collect(Collectors.toSet());
+
+        tokens.forEach(token -> postings.computeIfAbsent(token, t -> new HashSet<>()).add(postIdx));
+        postIndexes.add(postIdx);
+    }
+
+    /**
+     * 게시글을 색인에서 제거, 토큰별 게시글 번호는 다음 재색인까지 남아 있지만 검색 결과에서는 제외
+     *
+     * @param postIdx 게시글 번호
+     */
+    void remove(Long postIdx) {
+        postIndexes.remove(postIdx);
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함한 게시글 번호를 모두 반환, 정렬은 목록 조회 쿼리에서 요청한 순서로 수행
+     * 토큰이 서로 다른 단어나 필드에 있어도 포함되므로 검색어를 포함한 게시글을 모두 담은 후보 목록
+     *
+     * @param keyword 검색어
+     * @return 게시글 번호가 큰 순서대로 나열된 후보 게시글 번호 목록, 검색어에 토큰이 없다면 null
+     */
+    List<Long> search(String keyword) {
+        Set<String> tokens = NGramTokenizer.tokenizeQuery(keyword);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        List<Set<Long>> matchedPostings = new ArrayList<>();
+        for (String token : tokens) {
+            Set<Long> posting = postings.get(token);
+            if (posting == null) {
+                return List.of();
+            }
+            matchedPostings.add(posting);
+        }
+        matchedPostings.sort(Comparator.comparingInt(Set::size));
+
+        return matchedPostings.get(0).stream()
+                .filter(postIdx -> postIndexes.contains(postIdx)
+                        && matchedPostings.stream().allMatch(posting -> posting.contains(postIdx)))
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 색인된 게시글 수 반환
+     *
+     * @return 색인된 게시글 수
+     */
+    int size() {
+        return postIndexes.size();
+    }
+}
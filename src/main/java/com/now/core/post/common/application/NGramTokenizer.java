@@ -0,0 +1,84 @@
+package com.now.core.post.common.application;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 검색 색인에 사용하는 n-gram 토크나이저
+ *
+ * 한글은 형태소 분석 없이도 부분 문자열을 찾을 수 있도록 단어를 1-gram, 2-gram 으로 나눔
+ * 문자와 숫자가 아닌 문자는 단어 구분자로 취급하며, 영문은 소문자로 정규화
+ */
+final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 색인할 텍스트를 1-gram, 2-gram 토큰 목록으로 나누어 반환(중복 포함)
+     *
+     * @param text 색인할 텍스트
+     * @return 토큰 목록
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : splitWords(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어를 토큰 집합으로 나누어 반환, 한 글자 단어는 1-gram, 그 외의 단어는 2-gram 으로 나눔
+     *
+     * @param keyword 검색어
+     * @return 검색어의 토큰 집합
+     */
+    static Set<String> tokenizeQuery(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : splitWords(keyword)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                word.append(ch);
+                continue;
+            }
+            if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
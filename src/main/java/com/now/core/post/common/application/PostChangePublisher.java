@@ -0,0 +1,76 @@
+package com.now.core.post.common.application;
+
+import com.now.core.category.domain.constants.Category;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.domain.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 변경 이벤트({@link PostChangedEvent})를 발행하는 클래스
+ *
+ * 이벤트는 트랜잭션이 커밋된 후 {@link HomeFeed}, {@link PostCounter}, {@link PostSearchIndex},
+ * {@link com.now.common.cache.PostCacheInvalidator}에 전달되며, 트랜잭션이 없다면 바로 전달
+ * 수정, 삭제 이벤트는 변경 전 카테고리를 조회하므로 게시글을 변경하는 트랜잭션 안에서 변경하기 전에 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class PostChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostRepository postRepository;
+
+    /**
+     * 게시글 등록 이벤트 발행, 게시글을 등록한 후 호출
+     *
+     * @param postGroup 게시물 그룹
+     * @param postIdx   등록된 게시글 번호
+     * @param category  등록된 게시글의 카테고리
+     */
+    public void publishCreated(PostGroup postGroup, Long postIdx, Category category) {
+        eventPublisher.publishEvent(PostChangedEvent.created(postGroup, postIdx, category));
+    }
+
+    /**
+     * 게시글 수정 이벤트 발행, 게시글을 수정하기 전에 호출
+     *
+     * @param postGroup 게시물 그룹
+     * @param postIdx   게시글 번호
+     * @param category  수정될 카테고리
+     */
+    public void publishUpdated(PostGroup postGroup, Long postIdx, Category category) {
+        Category previousCategory = postRepository.findPostCategory(postIdx);
+        eventPublisher.publishEvent(PostChangedEvent.updated(postGroup, postIdx, previousCategory, category));
+    }
+
+    /**
+     * 첨부파일 추가 등 카테고리가 바뀌지 않는 게시글 수정 이벤트 발행
+     *
+     * @param postGroup 게시물 그룹
+     * @param postIdx   게시글 번호
+     */
+    public void publishUpdated(PostGroup postGroup, Long postIdx) {
+        eventPublisher.publishEvent(PostChangedEvent.updated(postGroup, postIdx));
+    }
+
+    /**
+     * 게시글 삭제 이벤트 발행, 게시글을 삭제하기 전에 호출
+     *
+     * @param postGroup 게시물 그룹
+     * @param postIdx   게시글 번호
+     */
+    public void publishDeleted(PostGroup postGroup, Long postIdx) {
+        Category previousCategory = postRepository.findPostCategory(postIdx);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postGroup, postIdx, previousCategory));
+    }
+
+    /**
+     * 댓글 등록, 수정, 삭제 이벤트 발행
+     *
+     * @param postIdx 댓글이 작성된 게시글 번호
+     */
+    public void publishCommented(Long postIdx) {
+        eventPublisher.publishEvent(PostChangedEvent.commented(postIdx));
+    }
+}
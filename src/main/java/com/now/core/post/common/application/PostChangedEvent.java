@@ -0,0 +1,78 @@
+package com.now.core.post.common.application;
+
+import com.now.core.category.domain.constants.Category;
+import com.now.core.category.domain.constants.PostGroup;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 등록, 수정, 삭제, 댓글 변경 이벤트
+ *
+ * 트랜잭션이 커밋된 후 캐시, 홈 피드, 게시글 수, 검색 색인에 반영
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, COMMENTED
+    }
+
+    private final ChangeType changeType;
+    private final PostGroup postGroup; // 댓글 변경은 null
+    private final Long postIdx;
+    private final Category previousCategory; // 변경 전 카테고리, 등록이나 카테고리가 바뀌지 않는 변경은 null
+    private final Category category; // 변경 후 카테고리, 삭제나 카테고리가 바뀌지 않는 변경은 null
+
+    /**
+     * 게시글 등록 이벤트 생성
+     *
+     * @throws IllegalArgumentException 카테고리가 null 인 경우
+     */
+    public static PostChangedEvent created(PostGroup postGroup, Long postIdx, Category category) {
+        return new PostChangedEvent(ChangeType.CREATED, postGroup, postIdx, null, requireCategory(postIdx, category));
+    }
+
+    /**
+     * 카테고리를 포함한 게시글 수정 이벤트 생성
+     *
+     * @param previousCategory 수정 전 카테고리, 게시글이 없다면 null
+     * @throws IllegalArgumentException 수정될 카테고리가 null 인 경우
+     */
+    public static PostChangedEvent updated(PostGroup postGroup, Long postIdx, Category previousCategory, Category category) {
+        return new PostChangedEvent(ChangeType.UPDATED, postGroup, postIdx, previousCategory, requireCategory(postIdx, category));
+    }
+
+    /**
+     * 첨부파일 추가 등 카테고리가 바뀌지 않는 게시글 수정 이벤트 생성
+     */
+    public static PostChangedEvent updated(PostGroup postGroup, Long postIdx) {
+        return new PostChangedEvent(ChangeType.UPDATED, postGroup, postIdx, null, null);
+    }
+
+    /**
+     * 게시글 삭제 이벤트 생성
+     *
+     * @param previousCategory 삭제 전 카테고리, 게시글이 없다면 null
+     */
+    public static PostChangedEvent deleted(PostGroup postGroup, Long postIdx, Category previousCategory) {
+        return new PostChangedEvent(ChangeType.DELETED, postGroup, postIdx, previousCategory, null);
+    }
+
+    /**
+     * 댓글 등록, 수정, 삭제 이벤트 생성
+     */
+    public static PostChangedEvent commented(Long postIdx) {
+        return new PostChangedEvent(ChangeType.COMMENTED, null, postIdx, null, null);
+    }
+
+    private static Category requireCategory(Long postIdx, Category category) {
+        if (category == null) {
+            throw new IllegalArgumentException("Category of changed post must not be null, postIdx : " + postIdx);
+        }
+        return category;
+    }
+}
@@ -0,0 +1,163 @@
+package com.now.core.post.common.application;
+
+import com.now.core.category.domain.constants.Category;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.application.dto.PostCount;
+import com.now.core.post.common.domain.repository.PostRepository;
+import com.now.core.post.common.presentation.dto.Condition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리별 게시글 수를 메모리에 유지하는 클래스
+ *
+ * 게시글 등록, 삭제, 카테고리 변경 시 트랜잭션이 커밋된 후 {@link PostChangedEvent}로 개수를 반영하므로
+ * 키워드, 날짜 조건이 없는 목록의 전체 게시글 수는 DB에 접근하지 않고 정확한 값을 반환
+ * 다른 서버에서 변경된 게시글 수는 주기적인 전체 갱신으로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounter {
+
+    private final PostRepository postRepository;
+    private final AtomicReference<Map<Category, AtomicLong>> counts = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 조회 조건에 맞는 전체 게시글 수 반환
+     *
+     * @param condition 조회 조건
+     * @return 전체 게시글 수, 키워드나 날짜 조건이 있거나 아직 적재되지 않았다면 empty
+     */
+    public Optional<Long> count(Condition condition) {
+        Map<Category, AtomicLong> currentCounts = counts.get();
+        if (currentCounts == null || !canCount(condition)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Arrays.stream(Category.values())
+                .filter(category -> matches(condition, category))
+                .map(currentCounts::get)
+                .mapToLong(AtomicLong::get)
+                .sum());
+    }
+
+    /**
+     * 메모리의 게시글 수로 계산할 수 있는 조회 조건이라면 true, 그렇지 않다면 false 반환
+     *
+     * @param condition 조회 조건
+     * @return 키워드, 날짜 조건이 없다면 true, 그렇지 않다면 false
+     */
+    public static boolean canCount(Condition condition) {
+        return isBlank(condition.getKeyword()) && isBlank(condition.getStartDate()) && isBlank(condition.getEndDate());
+    }
+
+    /**
+     * 게시글 등록, 삭제, 카테고리 변경이 커밋된 후 카테고리의 게시글 수 반영, 트랜잭션이 없다면 바로 반영
+     * 변경 전 카테고리가 없는 수정, 삭제는 이미 삭제된 게시글이므로 반영하지 않음
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Category previousCategory = event.getPreviousCategory();
+        Category category = event.getCategory();
+        switch (event.getChangeType()) {
+            case CREATED:
+                add(category, 1);
+                return;
+            case UPDATED:
+                if (previousCategory != null && category != null && previousCategory != category) {
+                    add(previousCategory, -1);
+                    add(category, 1);
+                }
+                return;
+            case DELETED:
+                if (previousCategory != null) {
+                    add(previousCategory, -1);
+                }
+                return;
+            default: // 댓글 변경은 게시글 수에 영향 없음
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 카테고리별 게시글 수 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Failed to load post counts, will count from database until next refresh", e);
+        }
+    }
+
+    /**
+     * 다른 서버에서 변경된 게시글 수를 반영하기 위해 주기적으로 카테고리별 게시글 수 갱신
+     */
+    @Scheduled(fixedDelayString = "${now.post-count.refresh-interval-ms:600000}",
+            initialDelayString = "${now.post-count.refresh-interval-ms:600000}")
+    public void refreshAtIntervals() {
+        refresh();
+    }
+
+    /**
+     * 카테고리별 게시글 수를 다시 조회해서 교체, 조회하는 동안 게시글 수가 변경되었다면 다음 갱신까지 현재 값을 유지
+     */
+    private void refresh() {
+        long currentVersion = version.get();
+        Map<Category, AtomicLong> loadedCounts = createCounts(postRepository.findPostCountsByCategory());
+
+        synchronized (version) {
+            if (version.get() == currentVersion) {
+                counts.set(loadedCounts);
+            }
+        }
+    }
+
+    private void add(Category category, long delta) {
+        synchronized (version) {
+            version.incrementAndGet();
+            Map<Category, AtomicLong> currentCounts = counts.get();
+            if (currentCounts != null) {
+                currentCounts.get(category).addAndGet(delta);
+            }
+        }
+    }
+
+    private static Map<Category, AtomicLong> createCounts(List<PostCount> postCounts) {
+        Map<Category, AtomicLong> counts = new EnumMap<>(Category.class);
+        Arrays.stream(Category.values()).forEach(category -> counts.put(category, new AtomicLong()));
+        postCounts.stream()
+                .filter(postCount -> postCount.getCategory() != null)
+                .forEach(postCount -> counts.get(postCount.getCategory()).addAndGet(postCount.getPostCount()));
+        return counts;
+    }
+
+    private static boolean matches(Condition condition, Category category) {
+        PostGroup postGroup = condition.getPostGroup();
+        if (postGroup != null && !postGroup.getCategories().contains(category)) {
+            return false;
+        }
+        return condition.getCategory() == null || condition.getCategory() == category;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
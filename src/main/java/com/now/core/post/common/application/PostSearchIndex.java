@@ -0,0 +1,223 @@
+package com.now.core.post.common.application;
+
+import com.now.core.post.common.application.dto.SearchDocument;
+import com.now.core.post.common.domain.repository.PostRepository;
+import com.now.core.post.common.presentation.dto.Condition;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시글의 제목, 내용, 작성자 닉네임을 n-gram 으로 색인해서 메모리에 유지하는 검색 색인
+ *
+ * 키워드 조건이 있는 목록, 수량 조회는 색인에서 찾은 후보 게시글 번호로 먼저 좁힌 후 기존 LIKE 검색으로 걸러내며,
+ * 색인이 아직 적재되지 않았거나 찾은 게시글이 너무 많다면 LIKE 검색만 사용
+ * 게시글 등록, 수정, 삭제는 트랜잭션이 커밋된 후 {@link PostChangedEvent}를 받아 색인에 반영하고, 닉네임 변경 등은 주기적인 재색인으로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex implements MeterBinder {
+
+    /**
+     * 조회 조건에 담는 최대 게시글 수, 더 많은 게시글이 검색되면 IN 목록이 커지므로 LIKE 검색을 사용
+     */
+    public static final int MAX_KEYWORD_POST_INDEXES = 10_000;
+
+    private static final int LOAD_BATCH_SIZE = 1_000;
+
+    private final PostRepository postRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index; // 적재되기 전에는 null
+    private List<Consumer<InvertedIndex>> pendingChanges; // 재색인 중에만 기록, 재색인이 끝나면 새 색인에 다시 반영
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.search_index.size", this, PostSearchIndex::size)
+                .description("Number of posts in the keyword search index")
+                .register(registry);
+    }
+
+    /**
+     * 조회 조건의 키워드로 색인을 검색해서 키워드를 포함할 수 있는 모든 후보 게시글 번호 목록 업데이트
+     * 검색된 게시글 수가 {@link #MAX_KEYWORD_POST_INDEXES}를 넘으면 일부만 담지 않고 LIKE 검색을 사용하도록 null 로 업데이트
+     *
+     * @param condition 조회 조건
+     * @return 업데이트된 조회 조건
+     */
+    public Condition applyKeyword(Condition condition) {
+        String keyword = condition.getKeyword();
+        List<Long> postIndexes = (keyword == null || keyword.isBlank()) ? null : search(keyword);
+        if (postIndexes != null && postIndexes.size() > MAX_KEYWORD_POST_INDEXES) {
+            postIndexes = null;
+        }
+        return condition.updateKeywordPostIndexes(postIndexes);
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함한 후보 게시글 번호를 모두 반환
+     *
+     * @param keyword 검색어
+     * @return 게시글 번호가 큰 순서대로 나열된 후보 게시글 번호 목록, 색인이 적재되지 않았거나 검색어에 토큰이 없다면 null
+     */
+    public List<Long> search(String keyword) {
+        lock.readLock().lock();
+        try {
+            return index == null ? null : index.search(keyword);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 변경이 커밋된 후 색인에 반영, 트랜잭션이 없다면 바로 반영
+     * 반영에 실패하면 다음 재색인까지 이전 색인을 유지
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            switch (event.getChangeType()) {
+                case CREATED:
+                case UPDATED:
+                    savePost(event.getPostIdx());
+                    return;
+                case DELETED:
+                    deletePost(event.getPostIdx());
+                    return;
+                default: // 댓글은 색인하지 않음
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply post change to search index: " + event, e);
+        }
+    }
+
+    /**
+     * 게시글 등록, 수정 시 해당 게시글을 다시 조회해서 색인에 반영
+     *
+     * @param postIdx 게시글 번호
+     */
+    private void savePost(Long postIdx) {
+        SearchDocument document = postRepository.findSearchDocument(postIdx);
+        if (document == null) {
+            return;
+        }
+        apply(invertedIndex -> invertedIndex.add(document));
+    }
+
+    /**
+     * 게시글 삭제 시 색인에서 제거
+     *
+     * @param postIdx 게시글 번호
+     */
+    private void deletePost(Long postIdx) {
+        apply(invertedIndex -> invertedIndex.remove(postIdx));
+    }
+
+    /**
+     * 애플리케이션 시작 시 모든 게시글 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Failed to build post search index, keyword search will use LIKE until next rebuild", e);
+        }
+    }
+
+    /**
+     * 닉네임 변경 등 색인에 즉시 반영되지 않는 값을 반영하고 수정, 삭제된 게시글의 이전 토큰을 정리하도록 주기적으로 모든 게시글 재색인
+     */
+    @Scheduled(fixedDelayString = "${now.search-index.rebuild-interval-ms:3600000}",
+            initialDelayString = "${now.search-index.rebuild-interval-ms:3600000}")
+    public void rebuildAtIntervals() {
+        rebuild();
+    }
+
+    /**
+     * 게시글 번호 순서대로 배치 단위로 조회해서 새 색인을 만든 후 교체
+     * 색인하는 동안 반영된 변경 사항은 새 색인에 다시 반영
+     */
+    private void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                return; // 다른 스레드가 재색인 중
+            }
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            InvertedIndex newIndex = new InvertedIndex();
+            long lastPostIdx = 0L;
+            List<SearchDocument> documents;
+            do {
+                documents = postRepository.findSearchDocuments(lastPostIdx, LOAD_BATCH_SIZE);
+                documents.forEach(newIndex::add);
+                if (!documents.isEmpty()) {
+                    lastPostIdx = documents.get(documents.size() - 1).getPostIdx();
+                }
+            } while (documents.size() == LOAD_BATCH_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                pendingChanges.forEach(change -> change.accept(newIndex));
+                index = newIndex;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Built post search index with {} posts", newIndex.size());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 색인 변경, 재색인 중이라면 새 색인에도 다시 반영하도록 기록
+     *
+     * @param change 색인 변경 작업
+     */
+    private void apply(Consumer<InvertedIndex> change) {
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                change.accept(index);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return index == null ? 0 : index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.now.core.post.common.application;
 
+import com.now.common.cache.PostCacheInvalidator;
 import com.now.common.exception.ErrorType;
 import com.now.core.member.domain.Member;
 import com.now.core.member.domain.MemberRepository;
@@ -11,17 +12,18 @@ import com.now.core.post.common.presentation.dto.Condition;
 import com.now.core.post.common.presentation.dto.PostReaction;
 import com.now.core.post.common.presentation.dto.PostReactionResponse;
 import com.now.core.post.common.presentation.dto.Posts;
-import com.now.core.post.common.presentation.dto.constants.Reaction;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
-import static com.now.common.config.CachingConfig.POST_CACHE;
+import static com.now.common.config.CachingConfig.*;
 
 
 /**
@@ -35,29 +37,37 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
+    private final PostCacheInvalidator postCacheInvalidator;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ReactionCountBuffer reactionCountBuffer;
+    private final HomeFeed homeFeed;
+    private final PostCounter postCounter;
+    private final PostSearchIndex postSearchIndex;
 
     /**
-     * 모든 게시글 정보를 조회 후 반환
+     * 게시물 그룹별 최신 게시글 정보를 메모리의 홈 피드에서 조회 후 반환
      *
      * @return 모든 게시글 정보 리스트
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = POST_CACHE, key = "#condition.maxNumberOfPosts")
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Posts> getAllPosts(Condition condition) {
-        log.debug("Fetching posts from the database...");
-        return postRepository.findAllPosts(condition);
+        return homeFeed.getLatestPosts(condition.getMaxNumberOfPosts());
     }
 
     /**
-     * 조건에 맞는 게시물을 조회 후 수량 반환
+     * 조건에 맞는 게시물의 수량 반환
+     * 키워드, 날짜 조건이 없다면 메모리에 유지되는 카테고리별 게시글 수로 계산하고,
+     * 그렇지 않다면 조회한 수량을 짧은 TTL 동안 캐시(게시글 변경 시 제거하지 않음)
      *
      * @param condition 조건 객체
-     * @return 조건에 맞는 게시물을 조회 후 수량 반환
+     * @return 조건에 맞는 게시물의 수량
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = POST_CACHE, key = "#condition.hashCode()")
+    @Cacheable(value = POST_COUNT_CACHE, keyGenerator = CONDITION_COUNT_KEY_GENERATOR,
+            condition = "!T(com.now.core.post.common.application.PostCounter).canCount(#condition)")
     public Long getTotalPostCount(Condition condition) {
-        return postRepository.findTotalPostCount(condition);
+        return postCounter.count(condition)
+                .orElseGet(() -> postRepository.findTotalPostCount(postSearchIndex.applyKeyword(condition)));
     }
 
     /**
@@ -85,35 +95,52 @@ public class PostService {
 
     /**
      * 반응 정보 저장
+     * 기존 반응에서 변경할 수 있을 때만 한 번의 쿼리로 반응을 저장 또는 수정하며, 반영되지 않았을 때만 회원과 게시글을 확인해 예외 발생
+     * 좋아요, 싫어요 수는 트랜잭션 커밋 후 버퍼에 기록되어 주기적으로 저장된 반응으로 다시 계산하며, 목록 캐시는 다시 계산된 후 제거
+     * 회원의 반응 조회 캐시만 트랜잭션 커밋 후 바로 제거
      *
      * @param newPostReaction 저장할 반응 정보를 포함하는 객체
      */
-    @CacheEvict(value = POST_CACHE, allEntries = true)
     public void savePostReaction(PostReaction newPostReaction) {
-        Member member = getMember(newPostReaction.getMemberId());
-
-        if (!isExistPost(newPostReaction.getPostIdx())) {
-            throw new InvalidPostException(ErrorType.NOT_FOUND_POST);
+        if (!postRepository.savePostReactionIfChangeable(newPostReaction)) {
+            getMember(newPostReaction.getMemberId());
+            if (!isExistPost(newPostReaction.getPostIdx())) {
+                throw new InvalidPostException(ErrorType.NOT_FOUND_POST);
+            }
+            throw new CannotUpdateReactionException(ErrorType.CAN_NOT_UPDATE_REACTION);
         }
 
-        PostReactionResponse existPostReaction = getPostReaction(newPostReaction.getPostIdx(),
-                newPostReaction.updateMemberIdx(member.getMemberIdx()).getMemberIdx());
+        reactionCountBuffer.add(newPostReaction.getPostIdx());
+        evictPostReactionsAfterCommit(newPostReaction.getPostIdx());
+    }
 
-        if (existPostReaction.getReaction() == Reaction.NOTTING) {
-            handleNonExistingPostReaction(newPostReaction);
-        }
-        if (existPostReaction.getReaction() != Reaction.NOTTING) {
-            handleExistingPostReaction(newPostReaction, existPostReaction);
+    /**
+     * 게시글의 반응 조회 캐시 제거, 진행 중인 트랜잭션이 있다면 커밋된 후에 제거
+     *
+     * @param postIdx 게시글 번호
+     */
+    private void evictPostReactionsAfterCommit(Long postIdx) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            postCacheInvalidator.evictPostReactions(postIdx);
+            return;
         }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                postCacheInvalidator.evictPostReactions(postIdx);
+            }
+        });
     }
 
     /**
      * 게시글 번호에 해당하는 게시글의 조회수를 증가
+     * 증가량은 버퍼에 누적된 후 주기적으로 한 번에 반영
      *
      * @param postIdx 게시글 번호
      */
     public void incrementViewCount(Long postIdx) {
-        postRepository.incrementViewCount(postIdx);
+        viewCountBuffer.increment(postIdx);
     }
 
 
@@ -149,64 +176,6 @@ public class PostService {
     }
 
 
-    /**
-     * 기존 반응 정보를 처리
-     *
-     * @param newReaction      새로운 반응 정보
-     * @param existingReaction 기존 반응 정보
-     */
-    private void handleExistingPostReaction(PostReaction newReaction, PostReactionResponse existingReaction) {
-        if (!existingReaction.getReaction().canUpdate(newReaction.getReaction())) {
-            throw new CannotUpdateReactionException(ErrorType.CAN_NOT_UPDATE_REACTION);
-        }
-        adjustExistReactionCount(existingReaction, newReaction.getPostIdx());
-        adjustNewReactionCount(newReaction);
-        postRepository.updatePostReaction(newReaction);
-    }
-
-
-    /**
-     * 새로운 반응 정보를 처리
-     *
-     * @param newReaction 새로운 반응 정보
-     */
-    private void handleNonExistingPostReaction(PostReaction newReaction) {
-        if (!newReaction.canSave()) {
-            throw new CannotUpdateReactionException(ErrorType.CAN_NOT_UPDATE_REACTION);
-        }
-        adjustNewReactionCount(newReaction);
-        postRepository.savePostReaction(newReaction);
-    }
-
-    /**
-     * 기존 반응에 따라 게시글의 카운트를 조정
-     *
-     * @param existingReaction 반응 정보를 포함하는 객체
-     */
-    private void adjustExistReactionCount(PostReactionResponse existingReaction, Long postIdx) {
-        if (existingReaction.getReaction() == Reaction.LIKE) {
-            postRepository.decrementLikeCount(postIdx);
-        }
-        if (existingReaction.getReaction() == Reaction.DISLIKE) {
-            postRepository.decrementDislikeCount(postIdx);
-        }
-    }
-
-    /**
-     * 새로운 반응에 따라 게시글의 카운트를 조정
-     *
-     * @param newReaction 반응 정보를 포함하는 객체
-     */
-    private void adjustNewReactionCount(PostReaction newReaction) {
-        if (newReaction.getReaction() == Reaction.LIKE) {
-            postRepository.incrementLikeCount(newReaction.getPostIdx());
-        }
-        if (newReaction.getReaction() == Reaction.DISLIKE) {
-            postRepository.incrementDislikeCount(newReaction.getPostIdx());
-        }
-    }
-
-
     /**
      * 게시글 번호에 해당하는 게시물이 있다면 true 반환, 그렇지 않다면 flase 반환
      *
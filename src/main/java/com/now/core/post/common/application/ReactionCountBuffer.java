@@ -0,0 +1,161 @@
+package com.now.core.post.common.application;
+
+import com.now.common.cache.PostCacheInvalidator;
+import com.now.core.post.common.domain.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 반응이 변경된 게시글을 메모리에 모아 두었다가 좋아요, 싫어요 수를 한 번의 UPDATE 로 다시 계산하는 버퍼(write-behind)
+ *
+ * 게시글은 반응을 저장한 트랜잭션이 커밋된 후에 기록되며(커밋 이후 콜백에서는 DB에 쓰지 않음),
+ * 설정된 주기마다 저장된 반응으로 다시 계산하므로 같은 게시글이 여러 번 기록되거나 반영이 겹쳐도 수가 어긋나지 않음
+ * 애플리케이션 종료 시에도 남은 게시글을 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionCountBuffer implements MeterBinder {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final Set<Long> changedPostIndexes = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final PostRepository postRepository;
+    private final PostCacheInvalidator postCacheInvalidator;
+    private Timer flushTimer;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.reaction_count.buffer.size", this, buffer -> buffer.changedPostIndexes.size())
+                .description("Number of posts whose like/dislike counts are waiting to be recounted")
+                .register(registry);
+        flushTimer = Timer.builder("post.reaction_count.flush")
+                .description("Time taken to flush buffered like/dislike counts")
+                .register(registry);
+    }
+
+    /**
+     * 반응이 변경된 게시글 기록, 진행 중인 트랜잭션이 있다면 커밋된 후에 기록
+     *
+     * @param postIdx 게시글 번호
+     */
+    public void add(Long postIdx) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changedPostIndexes.add(postIdx);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changedPostIndexes.add(postIdx);
+            }
+        });
+    }
+
+    /**
+     * 설정된 주기마다 기록된 게시글의 좋아요, 싫어요 수를 다시 계산
+     */
+    @Scheduled(fixedDelayString = "${now.reaction-count.flush-interval-ms:1000}")
+    public void flushAtIntervals() {
+        flush();
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 게시글의 좋아요, 싫어요 수를 다시 계산
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 기록된 게시글의 좋아요, 싫어요 수를 다시 계산, 다른 스레드가 반영 중이라면 건너뜀
+     */
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼에서 게시글을 꺼내 배치 단위로 다시 계산 후 캐시 제거, 실패한 배치의 게시글은 다음 반영을 위해 버퍼로 되돌림
+     */
+    private void doFlush() {
+        if (changedPostIndexes.isEmpty()) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        List<Long> postIndexes = drain();
+
+        Set<Long> flushedPostIndexes = new LinkedHashSet<>();
+        for (List<Long> batch : partition(postIndexes)) {
+            try {
+                postRepository.recountReactions(batch);
+                flushedPostIndexes.addAll(batch);
+            } catch (RuntimeException e) {
+                log.error("Failed to recount reactions of {} posts, will retry on next flush", batch.size(), e);
+                changedPostIndexes.addAll(batch);
+            }
+        }
+
+        if (!flushedPostIndexes.isEmpty()) {
+            postCacheInvalidator.evictReactedPosts(flushedPostIndexes);
+        }
+
+        if (flushTimer != null) {
+            flushTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 기록된 게시글을 꺼내면서 버퍼에서 제거, 꺼내는 동안 기록된 게시글은 다음 반영에 포함
+     */
+    private List<Long> drain() {
+        List<Long> postIndexes = new ArrayList<>();
+        Iterator<Long> iterator = changedPostIndexes.iterator();
+        while (iterator.hasNext()) {
+            postIndexes.add(iterator.next());
+            iterator.remove();
+        }
+        return postIndexes;
+    }
+
+    private List<List<Long>> partition(List<Long> postIndexes) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < postIndexes.size(); from += FLUSH_BATCH_SIZE) {
+            batches.add(postIndexes.subList(from, Math.min(from + FLUSH_BATCH_SIZE, postIndexes.size())));
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,141 @@
+package com.now.core.post.common.application;
+
+import com.now.core.post.common.domain.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 증가량을 메모리에 모아 두었다가 한 번의 UPDATE 로 반영하는 버퍼(write-behind)
+ *
+ * 게시글마다 메모리에서 증가량을 누적하므로 같은 게시글을 동시에 조회해도 행 잠금을 기다리지 않으며,
+ * 설정된 주기 또는 버퍼에 쌓인 게시글 수가 임계치에 도달하면 반영, 애플리케이션 종료 시에도 남은 증가량을 반영
+ * 임계치에 도달한 반영은 조회 요청 스레드가 아닌 별도 스레드에서 한 번만 실행
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer implements MeterBinder {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final CountBuffer<Long> viewCounts = new CountBuffer<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final PostRepository postRepository;
+    private final int maxBufferedPosts;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ThreadPoolExecutor flushExecutor;
+    private Timer flushTimer;
+
+    public ViewCountBuffer(PostRepository postRepository,
+                           @Value("${now.view-count.max-buffered-posts:10000}") int maxBufferedPosts) {
+        this.postRepository = postRepository;
+        this.maxBufferedPosts = maxBufferedPosts;
+        this.flushExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new CustomizableThreadFactory("view-count-flush-"),
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.view_count.buffer.size", viewCounts, CountBuffer::size)
+                .description("Number of posts with unflushed view counts")
+                .register(registry);
+        flushTimer = Timer.builder("post.view_count.flush")
+                .description("Time taken to flush buffered view counts")
+                .register(registry);
+    }
+
+    /**
+     * 게시글의 조회수 증가량을 1 누적
+     *
+     * @param postIdx 게시글 번호
+     */
+    public void increment(Long postIdx) {
+        viewCounts.add(postIdx, 1L);
+
+        if (viewCounts.size() >= maxBufferedPosts && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 설정된 주기마다 누적된 조회수 증가량을 반영
+     */
+    @Scheduled(fixedDelayString = "${now.view-count.flush-interval-ms:1000}")
+    public void flushAtIntervals() {
+        flush();
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 증가량을 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushExecutor.shutdown();
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 누적된 조회수 증가량을 반영, 다른 스레드가 반영 중이라면 건너뜀
+     */
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼에서 증가량을 꺼내 배치 단위로 UPDATE, 실패한 배치의 증가량은 다음 반영을 위해 버퍼로 되돌림
+     */
+    private void doFlush() {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        List<Map<Long, Long>> batches = CountBuffer.partition(viewCounts.drain(), FLUSH_BATCH_SIZE);
+        for (Map<Long, Long> batch : batches) {
+            try {
+                postRepository.incrementViewCounts(batch);
+            } catch (RuntimeException e) {
+                log.error("Failed to flush view counts of {} posts, will retry on next flush", batch.size(), e);
+                batch.forEach(viewCounts::add);
+            }
+        }
+
+        if (flushTimer != null) {
+            flushTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.now.core.post.common.application.dto;
+
+import com.now.core.comment.domain.Comment;
+import lombok.*;
+
+/**
+ * 게시글별 댓글 수와 가장 최근 댓글을 담는 객체
+ */
+@Builder
+@Getter
+@ToString
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class CommentSummary {
+    private final Long postIdx;
+    private final Integer commentCount;
+    private final Comment latestComment;
+}
@@ -0,0 +1,17 @@
+package com.now.core.post.common.application.dto;
+
+import com.now.core.category.domain.constants.Category;
+import lombok.*;
+
+/**
+ * 카테고리별 게시글 수를 담는 객체
+ */
+@Builder
+@Getter
+@ToString
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class PostCount {
+    private final Category category;
+    private final Long postCount;
+}
@@ -0,0 +1,51 @@
+package com.now.core.post.common.application.dto;
+
+import com.now.core.attachment.presentation.dto.AttachmentResponse;
+import com.now.core.comment.domain.Comment;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 목록의 게시글별 첫 번째 첨부파일, 가장 최근 댓글, 댓글 수를 담는 객체
+ */
+@RequiredArgsConstructor
+public class PostListDetails {
+
+    private final Map<Long, AttachmentResponse> firstAttachments;
+    private final Map<Long, CommentSummary> commentSummaries;
+
+    /**
+     * 게시글의 첫 번째 첨부파일 목록 반환
+     *
+     * @param postIdx 게시글 번호
+     * @return 첫 번째 첨부파일만 담은 목록, 첨부파일이 없다면 빈 목록
+     */
+    public List<AttachmentResponse> attachmentsOf(Long postIdx) {
+        AttachmentResponse attachment = firstAttachments.get(postIdx);
+        return attachment == null ? List.of() : List.of(attachment);
+    }
+
+    /**
+     * 게시글의 가장 최근 댓글 목록 반환
+     *
+     * @param postIdx 게시글 번호
+     * @return 가장 최근 댓글만 담은 목록, 댓글이 없다면 빈 목록
+     */
+    public List<Comment> commentsOf(Long postIdx) {
+        CommentSummary commentSummary = commentSummaries.get(postIdx);
+        return commentSummary == null ? List.of() : List.of(commentSummary.getLatestComment());
+    }
+
+    /**
+     * 게시글의 댓글 수 반환
+     *
+     * @param postIdx 게시글 번호
+     * @return 댓글 수
+     */
+    public Integer commentCountOf(Long postIdx) {
+        CommentSummary commentSummary = commentSummaries.get(postIdx);
+        return commentSummary == null ? 0 : commentSummary.getCommentCount();
+    }
+}
@@ -0,0 +1,18 @@
+package com.now.core.post.common.application.dto;
+
+import lombok.*;
+
+/**
+ * 게시글별 썸네일 첨부파일 정보를 담는 객체
+ */
+@Builder
+@Getter
+@ToString
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class PostThumbnail {
+    private final Long postIdx;
+    private final Long thumbnailAttachmentIdx;
+    private final String thumbnailSavedAttachmentName;
+    private final boolean thumbnailVariantReady; // 축소 이미지가 모두 저장되었는지 여부
+}
@@ -0,0 +1,19 @@
+package com.now.core.post.common.application.dto;
+
+import lombok.*;
+
+/**
+ * 게시글 검색 색인에 추가되는 게시글 정보를 담는 객체
+ */
+@Builder
+@Getter
+@ToString
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class SearchDocument {
+    private final Long postIdx;
+    private final String title;
+    private final String content;
+    private final String memberNickname;
+    private final String managerNickname;
+}
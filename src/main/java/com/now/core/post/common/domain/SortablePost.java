@@ -0,0 +1,17 @@
+package com.now.core.post.common.domain;
+
+/**
+ * 정렬 기준 값을 제공하는 게시글을 나타내는 인터페이스
+ *
+ * 목록의 첫번째, 마지막 게시글로부터 다음, 이전 페이지 커서를 만들 때 사용
+ */
+public interface SortablePost {
+
+    Long getPostIdx();
+
+    Integer getViewCount();
+
+    Integer getLikeCount();
+
+    Integer getDislikeCount();
+}
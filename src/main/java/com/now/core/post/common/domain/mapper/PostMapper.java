@@ -1,12 +1,21 @@
 package com.now.core.post.common.domain.mapper;
 
+import com.now.core.attachment.presentation.dto.AttachmentResponse;
+import com.now.core.category.domain.constants.Category;
+import com.now.core.post.common.application.dto.CommentSummary;
+import com.now.core.post.common.application.dto.PostCount;
+import com.now.core.post.common.application.dto.PostThumbnail;
+import com.now.core.post.common.application.dto.SearchDocument;
 import com.now.core.post.common.presentation.dto.Condition;
 import com.now.core.post.common.presentation.dto.PostReaction;
 import com.now.core.post.common.presentation.dto.PostReactionResponse;
-import com.now.core.post.common.presentation.dto.Posts;
+import com.now.core.post.common.presentation.dto.constants.Reaction;
+import org.apache.ibatis.annotations.MapKey;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 게시글 정보에 접근하는 매퍼 인터페이스
@@ -15,21 +24,78 @@ import java.util.List;
 public interface PostMapper {
 
     /**
-     * 모든 게시글 정보를 조회 후 반환
+     * 조건에 맞는 게시물을 조회 후 수량 반환
      *
-     * @param condition 게시물 제한 정보를 담은 객체
-     * @return 게시글 정보 리스트
+     * @param condition 조건 객체
+     * @return 조건에 맞는 게시물을 조회 후 수량 반환
      */
-    List<Posts> findAllPosts(Condition condition);
+    Long findTotalPostCount(Condition condition);
 
 
     /**
-     * 조건에 맞는 게시물을 조회 후 수량 반환
+     * 카테고리별 게시글 수를 조회 후 반환
      *
-     * @param condition 조건 객체
-     * @return 조건에 맞는 게시물을 조회 후 수량 반환
+     * @return 카테고리별 게시글 수 목록
      */
-    Long findTotalPostCount(Condition condition);
+    List<PostCount> findPostCountsByCategory();
+
+
+    /**
+     * 게시글 번호에 해당하는 게시글의 카테고리 반환
+     *
+     * @param postIdx 게시글 번호
+     * @return 게시글의 카테고리, 게시글이 없다면 null
+     */
+    Category findPostCategory(Long postIdx);
+
+
+    /**
+     * 게시글 번호 순서대로 지정된 게시글 번호 이후의 검색 색인용 게시글 정보를 조회 후 반환
+     *
+     * @param lastPostIdx 이전 배치의 마지막 게시글 번호
+     * @param batchSize   조회할 최대 게시글 수
+     * @return 검색 색인용 게시글 정보 목록
+     */
+    List<SearchDocument> findSearchDocuments(@Param("lastPostIdx") Long lastPostIdx, @Param("batchSize") int batchSize);
+
+
+    /**
+     * 게시글 번호에 해당하는 검색 색인용 게시글 정보를 조회 후 반환
+     *
+     * @param postIdx 게시글 번호
+     * @return 검색 색인용 게시글 정보, 없다면 null
+     */
+    SearchDocument findSearchDocument(Long postIdx);
+
+
+    /**
+     * 게시글 번호 목록에 해당하는 게시글별 첫 번째 첨부파일을 조회 후 반환
+     *
+     * @param postIdxList 게시글 번호 목록
+     * @return 게시글 번호별 첫 번째 첨부파일
+     */
+    @MapKey("postIdx")
+    Map<Long, AttachmentResponse> findFirstAttachments(@Param("postIdxList") List<Long> postIdxList);
+
+
+    /**
+     * 게시글 번호 목록에 해당하는 게시글별 댓글 수와 가장 최근 댓글을 조회 후 반환
+     *
+     * @param postIdxList 게시글 번호 목록
+     * @return 게시글 번호별 댓글 수와 가장 최근 댓글
+     */
+    @MapKey("postIdx")
+    Map<Long, CommentSummary> findCommentSummaries(@Param("postIdxList") List<Long> postIdxList);
+
+
+    /**
+     * 게시글 번호 목록에 해당하는 게시글별 썸네일을 조회 후 반환
+     *
+     * @param postIdxList 게시글 번호 목록
+     * @return 게시글 번호별 썸네일
+     */
+    @MapKey("postIdx")
+    Map<Long, PostThumbnail> findThumbnails(@Param("postIdxList") List<Long> postIdxList);
 
 
     /**
@@ -40,6 +106,14 @@ public interface PostMapper {
     void incrementViewCount(Long postIdx);
 
 
+    /**
+     * 게시글 번호별 조회수 증가량만큼 여러 게시글의 조회수를 한 번에 증가
+     *
+     * @param viewCounts 게시글 번호별 조회수 증가량
+     */
+    void incrementViewCounts(@Param("viewCounts") Map<Long, Long> viewCounts);
+
+
     /**
      * 게시글 번호에 해당하는 게시글의 좋아요 증가
      *
@@ -72,6 +146,14 @@ public interface PostMapper {
     void decrementDislikeCount(Long postIdx);
 
 
+    /**
+     * 저장된 반응으로 여러 게시글의 좋아요, 싫어요 수를 한 번에 다시 계산
+     *
+     * @param postIndexes 다시 계산할 게시글 번호 목록
+     */
+    void recountReactions(List<Long> postIndexes);
+
+
     /**
      * 게시글 번호에 해당하는 게시글의 반응 정보만 조회 후 반환
      *
@@ -106,6 +188,26 @@ public interface PostMapper {
     void updatePostReaction(PostReaction postReaction);
 
 
+    /**
+     * 회원의 기존 반응이 이전 반응 목록에 있을 때만 새로운 반응으로 수정
+     *
+     * @param postReaction      게시글 번호, 회원 아이디와 새로운 반응 정보
+     * @param previousReactions 새로운 반응으로 수정할 수 있는 기존 반응 목록
+     * @return 수정된 행의 수
+     */
+    int updatePostReactionFrom(@Param("postReaction") PostReaction postReaction,
+                               @Param("previousReactions") List<Reaction> previousReactions);
+
+
+    /**
+     * 게시글과 회원이 있고 회원의 반응이 없을 때만 반응을 저장
+     *
+     * @param postReaction 게시글 번호, 회원 아이디와 새로운 반응 정보
+     * @return 저장된 행의 수
+     */
+    int savePostReactionIfAbsent(PostReaction postReaction);
+
+
     /**
      * 게시글 번호에 해당하는 게시글 반응 삭제
      * 
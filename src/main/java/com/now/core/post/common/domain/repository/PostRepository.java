@@ -1,18 +1,41 @@
 package com.now.core.post.common.domain.repository;
 
+import com.now.core.category.domain.constants.Category;
+import com.now.core.post.common.application.dto.PostCount;
+import com.now.core.post.common.application.dto.PostListDetails;
+import com.now.core.post.common.application.dto.PostThumbnail;
+import com.now.core.post.common.application.dto.SearchDocument;
+import com.now.core.post.common.domain.SortablePost;
 import com.now.core.post.common.domain.mapper.PostMapper;
 import com.now.core.post.common.presentation.dto.Condition;
 import com.now.core.post.common.presentation.dto.PostReaction;
 import com.now.core.post.common.presentation.dto.PostReactionResponse;
-import com.now.core.post.common.presentation.dto.Posts;
+import com.now.core.post.common.presentation.dto.constants.Reaction;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 게시글 관련 정보를 관리하는 레포지토리
+ *
+ * 같은 회원의 반응이 동시에 저장되어도 한 행만 남도록 반응 테이블에 유니크 키가 필요
+ * 추천순, 조회순 목록의 페이지 커서가 인덱스로 탐색하도록 추천 점수(좋아요 수 - 싫어요 수)를 저장된 생성 컬럼으로 유지
+ * 생성 컬럼은 페이지 커서로 조회할 때만 사용하며, 페이지 번호로 조회할 때는 기존처럼 좋아요 수 - 싫어요 수로 정렬
+ *
+ * <pre>
+ * ALTER TABLE tb_post_reaction
+ *     ADD UNIQUE KEY uk_post_reaction_post_member (post_idx, member_idx),
+ *     ADD UNIQUE KEY uk_post_reaction_post_manager (post_idx, manager_idx);
+ *
+ * ALTER TABLE tb_post
+ *     ADD COLUMN score INT AS (like_count - dislike_count) STORED,
+ *     ADD INDEX idx_post_score (score, post_idx),
+ *     ADD INDEX idx_post_view_count (view_count, post_idx);
+ * </pre>
  */
 @Slf4j
 @Repository
@@ -21,16 +44,6 @@ public class PostRepository {
 
     private final PostMapper postMapper;
 
-    /**
-     * 모든 게시글 정보를 조회 후 반환
-     *
-     * @param condition 게시물 제한 정보를 담은 객체
-     * @return 게시글 정보 리스트
-     */
-    public List<Posts> findAllPosts(Condition condition) {
-        return postMapper.findAllPosts(condition);
-    }
-
     /**
      * 조건에 맞는 게시물을 조회 후 수량 반환
      *
@@ -41,6 +54,78 @@ public class PostRepository {
         return postMapper.findTotalPostCount(condition);
     }
 
+    /**
+     * 카테고리별 게시글 수를 조회 후 반환
+     *
+     * @return 카테고리별 게시글 수 목록
+     */
+    public List<PostCount> findPostCountsByCategory() {
+        return postMapper.findPostCountsByCategory();
+    }
+
+    /**
+     * 게시글 번호에 해당하는 게시글의 카테고리 반환
+     *
+     * @param postIdx 게시글 번호
+     * @return 게시글의 카테고리, 게시글이 없다면 null
+     */
+    public Category findPostCategory(Long postIdx) {
+        return postMapper.findPostCategory(postIdx);
+    }
+
+    /**
+     * 게시글 번호 순서대로 지정된 게시글 번호 이후의 검색 색인용 게시글 정보를 조회 후 반환
+     *
+     * @param lastPostIdx 이전 배치의 마지막 게시글 번호
+     * @param batchSize   조회할 최대 게시글 수
+     * @return 검색 색인용 게시글 정보 목록
+     */
+    public List<SearchDocument> findSearchDocuments(Long lastPostIdx, int batchSize) {
+        return postMapper.findSearchDocuments(lastPostIdx, batchSize);
+    }
+
+    /**
+     * 게시글 번호에 해당하는 검색 색인용 게시글 정보를 조회 후 반환
+     *
+     * @param postIdx 게시글 번호
+     * @return 검색 색인용 게시글 정보, 없다면 null
+     */
+    public SearchDocument findSearchDocument(Long postIdx) {
+        return postMapper.findSearchDocument(postIdx);
+    }
+
+    /**
+     * 게시글 목록의 게시글별 첫 번째 첨부파일, 가장 최근 댓글, 댓글 수를 게시글 번호 목록으로 한 번에 조회 후 반환
+     *
+     * @param posts           게시글 목록
+     * @param withAttachments 첨부파일도 조회한다면 true
+     * @return 게시글별 첫 번째 첨부파일, 가장 최근 댓글, 댓글 수
+     */
+    public PostListDetails findPostListDetails(List<? extends SortablePost> posts, boolean withAttachments) {
+        List<Long> postIdxList = toPostIdxList(posts);
+        if (postIdxList.isEmpty()) {
+            return new PostListDetails(Map.of(), Map.of());
+        }
+
+        return new PostListDetails(
+                withAttachments ? postMapper.findFirstAttachments(postIdxList) : Map.of(),
+                postMapper.findCommentSummaries(postIdxList));
+    }
+
+    /**
+     * 게시글 목록의 게시글별 썸네일을 게시글 번호 목록으로 한 번에 조회 후 반환
+     *
+     * @param posts 게시글 목록
+     * @return 게시글 번호별 썸네일
+     */
+    public Map<Long, PostThumbnail> findThumbnails(List<? extends SortablePost> posts) {
+        List<Long> postIdxList = toPostIdxList(posts);
+        if (postIdxList.isEmpty()) {
+            return Map.of();
+        }
+        return postMapper.findThumbnails(postIdxList);
+    }
+
     /**
      * 게시글 번호에 해당하는 게시글의 조회수를 증가
      *
@@ -50,6 +135,18 @@ public class PostRepository {
         postMapper.incrementViewCount(postIdx);
     }
 
+    /**
+     * 게시글 번호별 조회수 증가량만큼 여러 게시글의 조회수를 한 번에 증가
+     *
+     * @param viewCounts 게시글 번호별 조회수 증가량
+     */
+    public void incrementViewCounts(Map<Long, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        postMapper.incrementViewCounts(viewCounts);
+    }
+
     /**
      * 게시글 번호에 해당하는 게시글의 좋아요 증가
      *
@@ -87,6 +184,19 @@ public class PostRepository {
     }
 
 
+    /**
+     * 저장된 반응으로 여러 게시글의 좋아요, 싫어요 수를 한 번에 다시 계산
+     *
+     * @param postIndexes 다시 계산할 게시글 번호 목록
+     */
+    public void recountReactions(List<Long> postIndexes) {
+        if (postIndexes.isEmpty()) {
+            return;
+        }
+        postMapper.recountReactions(postIndexes);
+    }
+
+
     /**
      * 게시글 번호에 해당하는 게시글의 반응 저장
      *
@@ -107,6 +217,23 @@ public class PostRepository {
     }
 
 
+    /**
+     * 회원의 기존 반응에서 새로운 반응으로 변경할 수 있을 때만 반응을 수정하고, 기존 반응이 없다면 저장
+     * 기존 반응이 있다면 한 번의 UPDATE, 없다면 UPDATE 후 한 번의 INSERT 로 처리
+     *
+     * @param postReaction 게시글 번호, 회원 아이디와 새로운 반응 정보
+     * @return 반영되었다면 true, 게시글이나 회원이 없거나 변경할 수 없는 반응이라면 false
+     */
+    public boolean savePostReactionIfChangeable(PostReaction postReaction) {
+        Reaction reaction = postReaction.getReaction();
+        List<Reaction> previousReactions = reaction.getPreviousReactions();
+        if (!previousReactions.isEmpty() && postMapper.updatePostReactionFrom(postReaction, previousReactions) > 0) {
+            return true;
+        }
+        return reaction.canSave() && postMapper.savePostReactionIfAbsent(postReaction) > 0;
+    }
+
+
     /**
      * 게시글 번호에 해당하는 게시글 반응 삭제
      *
@@ -148,4 +275,10 @@ public class PostRepository {
     public boolean existPostByPostId(Long postIdx) {
         return postMapper.existPostByPostId(postIdx);
     }
+
+    private static List<Long> toPostIdxList(List<? extends SortablePost> posts) {
+        return posts.stream()
+                .map(SortablePost::getPostIdx)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,13 @@
+package com.now.core.post.common.exception;
+
+import com.now.common.exception.BadRequestException;
+import com.now.common.exception.ErrorType;
+
+/**
+ * 페이지 커서를 해석할 수 없는 상황에서 던져지는 Unchecked Exception.
+ */
+public class InvalidCursorException extends BadRequestException {
+    public InvalidCursorException(ErrorType errorType) {
+        super(errorType);
+    }
+}
@@ -9,6 +9,7 @@ import lombok.*;
 import org.springframework.lang.Nullable;
 
 import javax.validation.constraints.*;
+import java.util.List;
 
 /**
  * 조건 정보를 담는 데이터 전송 객체
@@ -52,11 +53,31 @@ public class Condition {
     @Min(value = 1, message = "{condition.pageNo.size}")
     private Integer pageNo;
 
+    @Nullable
+    @Size(max = 100, message = "{condition.cursor.size}")
+    private String cursor; // 페이지 커서, 전달되면 페이지 번호 대신 커서 이후의 게시글 조회
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private Page page; // 페이지 객체
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Cursor seek; // 해석된 페이지 커서
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<Long> keywordPostIndexes; // 검색 색인에서 찾은 키워드 후보 게시글 번호, null 이라면 LIKE 검색만 사용
+
     /**
-     * 현재 필드의 Page 객체 업데이트
+     * 키워드의 앞뒤 공백을 제거해서 설정, 공백뿐인 키워드는 키워드 조건이 없는 것으로 간주
+     * 캐시 키와 검색 색인, 쿼리가 같은 키워드를 사용하도록 요청 파라미터를 바인딩할 때 정규화
+     *
+     * @param keyword 키워드
+     */
+    public void setKeyword(String keyword) {
+        this.keyword = normalizeKeyword(keyword);
+    }
+
+    /**
+     * 현재 필드의 Page 객체 업데이트, 페이지 커서가 전달되었다면 해석된 커서도 업데이트
      *
      * @return 업데이트된 Condition 객체
      */
@@ -69,7 +90,30 @@ public class Condition {
         }
 
         this.page = Page.of(this.maxNumberOfPosts, this.pageNo);
+        this.seek = (this.cursor == null || this.cursor.isBlank()) ? null : Cursor.decode(this.cursor.trim(), this.sort);
         return this;
     }
-}
 
+    /**
+     * 검색 색인에서 찾은 키워드 후보 게시글 번호 목록 업데이트, 최종 결과는 LIKE 조건으로 거름
+     *
+     * @param keywordPostIndexes 키워드 후보 게시글 번호 목록, null 이라면 LIKE 검색만 사용
+     * @return 업데이트된 Condition 객체
+     */
+    public Condition updateKeywordPostIndexes(List<Long> keywordPostIndexes) {
+        this.keywordPostIndexes = keywordPostIndexes;
+        return this;
+    }
+
+    private static String normalizeKeyword(String keyword) {
+        return (keyword == null || keyword.isBlank()) ? null : keyword.trim();
+    }
+
+    public static class ConditionBuilder {
+
+        public ConditionBuilder keyword(String keyword) {
+            this.keyword = normalizeKeyword(keyword);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.now.core.post.common.presentation.dto;
+
+import com.now.common.exception.ErrorType;
+import com.now.core.post.common.domain.SortablePost;
+import com.now.core.post.common.exception.InvalidCursorException;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 키셋(seek) 페이지네이션에 사용하는 페이지 커서
+ *
+ * (정렬 기준 값, 게시글 번호) 이후의 게시글부터 조회하므로 페이지가 깊어져도 앞선 게시글을 읽고 버리지 않음
+ * 클라이언트에는 정렬 방식, 방향, 정렬 기준 값, 게시글 번호를 Base64(URL-safe)로 인코딩한 문자열로 전달
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Cursor {
+
+    private static final String DELIMITER = ":";
+    private static final String NEXT = "N";
+    private static final String PREV = "P";
+
+    private final Sort sort;
+    private final Long sortValue; // 정렬 기준 값, 최신순이라면 게시글 번호
+    private final Long postIdx;
+    private final boolean backward; // true 라면 이전 페이지 조회
+
+    /**
+     * 인코딩된 커서 문자열을 해석해서 반환
+     *
+     * @param encoded 인코딩된 커서 문자열
+     * @param sort    조회 조건의 정렬 방식
+     * @return 해석된 커서
+     * @throws InvalidCursorException 해석할 수 없거나 정렬 방식이 다른 커서인 경우
+     */
+    public static Cursor decode(String encoded, Sort sort) {
+        try {
+            String[] tokens = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8)
+                    .split(DELIMITER);
+            if (tokens.length != 4 || Sort.from(tokens[0]) != sort
+                    || !(NEXT.equals(tokens[1]) || PREV.equals(tokens[1]))) {
+                throw new InvalidCursorException(ErrorType.INVALID_CURSOR);
+            }
+            return new Cursor(sort, Long.parseLong(tokens[2]), Long.parseLong(tokens[3]), PREV.equals(tokens[1]));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new InvalidCursorException(ErrorType.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 이전 페이지 커서로 역순 조회된 목록을 정렬 순서대로 뒤집어 반환
+     *
+     * @param condition 조회 조건
+     * @param posts     조회된 게시글 목록
+     * @param <T>       게시글 타입
+     * @return 정렬 순서대로 나열된 게시글 목록
+     */
+    public static <T extends SortablePost> List<T> inSortOrder(Condition condition, List<T> posts) {
+        Cursor seek = condition.getSeek();
+        if (seek == null || !seek.isBackward()) {
+            return posts;
+        }
+        List<T> reversed = new ArrayList<>(posts);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    /**
+     * 조회된 목록의 다음 페이지 커서 반환
+     *
+     * @param condition 조회 조건
+     * @param posts     정렬 순서대로 나열된 조회된 게시글 목록
+     * @return 다음 페이지 커서, 다음 페이지가 없다면 null
+     */
+    public static String nextOf(Condition condition, List<? extends SortablePost> posts) {
+        if (posts.isEmpty()) {
+            return null;
+        }
+        Cursor seek = condition.getSeek();
+        boolean backward = seek != null && seek.isBackward();
+        if (!backward && posts.size() < condition.getPage().getRecordsPerPage()) {
+            return null;
+        }
+        return of(condition.getSort(), posts.get(posts.size() - 1), false).encode();
+    }
+
+    /**
+     * 조회된 목록의 이전 페이지 커서 반환
+     *
+     * @param condition 조회 조건
+     * @param posts     정렬 순서대로 나열된 조회된 게시글 목록
+     * @return 이전 페이지 커서, 이전 페이지가 없다면 null
+     */
+    public static String prevOf(Condition condition, List<? extends SortablePost> posts) {
+        if (posts.isEmpty()) {
+            return null;
+        }
+        Cursor seek = condition.getSeek();
+        if (seek == null && condition.getPage().getPageNo() <= 1) {
+            return null;
+        }
+        if (seek != null && seek.isBackward() && posts.size() < condition.getPage().getRecordsPerPage()) {
+            return null;
+        }
+        return of(condition.getSort(), posts.get(0), true).encode();
+    }
+
+    /**
+     * 커서를 문자열로 인코딩해서 반환
+     *
+     * @return 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String value = String.join(DELIMITER,
+                sort.name(), backward ? PREV : NEXT, String.valueOf(sortValue), String.valueOf(postIdx));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor of(Sort sort, SortablePost post, boolean backward) {
+        return new Cursor(sort, sortValueOf(sort, post), post.getPostIdx(), backward);
+    }
+
+    private static long sortValueOf(Sort sort, SortablePost post) {
+        switch (sort) {
+            case RECOMMENDED:
+                return valueOf(post.getLikeCount()) - valueOf(post.getDislikeCount());
+            case MOST_VIEWED:
+                return valueOf(post.getViewCount());
+            default:
+                return post.getPostIdx();
+        }
+    }
+
+    private static long valueOf(Integer count) {
+        return count == null ? 0L : count;
+    }
+}
@@ -1,11 +1,15 @@
 package com.now.core.post.common.presentation.dto;
 
+import com.now.common.cache.PostDependentValue;
 import com.now.core.post.community.domain.Community;
 import com.now.core.post.inquiry.domain.Inquiry;
 import com.now.core.post.notice.domain.Notice;
 import com.now.core.post.photo.domain.Photo;
 import lombok.*;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * 게시글 목록을 담는 데이터 전송 객체
  */
@@ -14,11 +18,33 @@ import lombok.*;
 @ToString
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
-public class Posts {
+public class Posts implements PostDependentValue {
 
     private final Notice notice;
     private final Community community;
     private final Photo photo;
     private final Inquiry inquiry;
 
+    /**
+     * 담고 있는 게시글의 번호 목록 반환
+     *
+     * @return 담고 있는 게시글의 번호 목록
+     */
+    @Override
+    public Set<Long> postIndexes() {
+        Set<Long> postIndexes = new HashSet<>();
+        if (notice != null) {
+            postIndexes.add(notice.getPostIdx());
+        }
+        if (community != null) {
+            postIndexes.add(community.getPostIdx());
+        }
+        if (photo != null) {
+            postIndexes.add(photo.getPostIdx());
+        }
+        if (inquiry != null) {
+            postIndexes.add(inquiry.getPostIdx());
+        }
+        return postIndexes;
+    }
 }
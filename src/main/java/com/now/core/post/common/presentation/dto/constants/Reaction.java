@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 
 /**
@@ -89,4 +91,15 @@ public enum Reaction {
 
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * 현재 객체로 수정이 가능한 기존 반응 목록 반환
+     *
+     * @return 현재 객체로 수정이 가능한 기존 반응 목록
+     */
+    public List<Reaction> getPreviousReactions() {
+        return Arrays.stream(values())
+                .filter(previousReaction -> previousReaction.canUpdate(this))
+                .collect(Collectors.toList());
+    }
+}
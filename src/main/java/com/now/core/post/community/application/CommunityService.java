@@ -11,6 +11,7 @@ import com.now.core.post.community.domain.Community;
 import com.now.core.post.community.domain.repository.CommunityRepository;
 import com.now.core.post.common.exception.InvalidPostException;
 import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Cursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -36,7 +37,7 @@ public class CommunityService {
      */
     public List<Community> getAllCommunities(Condition condition) {
         log.debug("Fetching posts from the database...");
-        return communityRepository.findAllCommunity(condition);
+        return Cursor.inSortOrder(condition, communityRepository.findAllCommunity(condition));
     }
 
     /**
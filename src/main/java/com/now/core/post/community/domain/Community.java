@@ -9,6 +9,7 @@ import com.now.core.category.domain.constants.Category;
 import com.now.core.category.domain.constants.PostGroup;
 import com.now.core.comment.domain.Comment;
 import com.now.core.member.domain.Member;
+import com.now.core.post.common.domain.SortablePost;
 import com.now.core.post.common.domain.constants.PostValidationGroup;
 import com.now.core.post.common.exception.CannotDeletePostException;
 import com.now.core.post.common.exception.CannotUpdatePostException;
@@ -28,7 +29,7 @@ import java.util.List;
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class Community {
+public class Community implements SortablePost {
 
     // TODO: 게시글 등록, 수정 객체 별도 관리
 
@@ -63,6 +64,8 @@ public class Community {
 
     private final List<Comment> comments;
 
+    private final Integer commentCount;
+
     private String memberNickname;
 
     @JsonIgnore
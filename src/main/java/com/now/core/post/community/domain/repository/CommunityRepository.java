@@ -1,5 +1,7 @@
 package com.now.core.post.community.domain.repository;
 
+import com.now.core.post.common.application.dto.PostListDetails;
+import com.now.core.post.common.domain.repository.PostRepository;
 import com.now.core.post.community.domain.Community;
 import com.now.core.post.community.domain.mapper.CommunityMapper;
 import com.now.core.post.common.presentation.dto.Condition;
@@ -7,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 커뮤니티 게시글 관련 정보를 관리하는 레포지토리
@@ -16,15 +19,26 @@ import java.util.List;
 public class CommunityRepository {
 
     private final CommunityMapper communityMapper;
+    private final PostRepository postRepository;
 
     /**
      * 모든 커뮤니티 게시글 정보를 조회 후 반환
+     * 게시글 페이지를 먼저 조회한 후 첫 번째 첨부파일, 가장 최근 댓글, 댓글 수를 게시글 번호 목록으로 한 번에 조회해서 채움
      *
      * @param condition 게시물 제한 정보를 담은 객체
      * @return 커뮤니티 게시글 정보 리스트
      */
     public List<Community> findAllCommunity(Condition condition) {
-        return communityMapper.findAllCommunity(condition);
+        List<Community> communities = communityMapper.findAllCommunity(condition);
+        PostListDetails details = postRepository.findPostListDetails(communities, true);
+
+        return communities.stream()
+                .map(community -> community.toBuilder()
+                        .attachments(details.attachmentsOf(community.getPostIdx()))
+                        .comments(details.commentsOf(community.getPostIdx()))
+                        .commentCount(details.commentCountOf(community.getPostIdx()))
+                        .build())
+                .collect(Collectors.toList());
     }
 
 
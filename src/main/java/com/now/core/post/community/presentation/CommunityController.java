@@ -1,5 +1,7 @@
 package com.now.core.post.community.presentation;
 
+import com.now.common.config.infrastructure.RateLimitCost;
+import com.now.core.attachment.domain.UploadSession;
 import com.now.core.authentication.application.JwtTokenProvider;
 import com.now.core.authentication.presentation.AuthenticationPrincipal;
 import com.now.core.post.common.application.dto.AddNewAttachments;
@@ -12,12 +14,15 @@ import com.now.core.post.common.presentation.dto.Condition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 
@@ -37,6 +42,7 @@ public class CommunityController {
      * @param condition 게시물 제한 정보를 담은 객체
      * @return 모든 커뮤니티 게시글 정보와 함께 OK 응답을 반환
      */
+    @RateLimitCost(withKeyword = RateLimitCost.SEARCH)
     @GetMapping("/api/communities")
     public ResponseEntity<CommunitiesResponse> getAllCommunities(@Valid Condition condition) {
         return new ResponseEntity<>(communityIntegratedService
@@ -74,6 +80,7 @@ public class CommunityController {
      * @param attachments MultipartFile[] 객체
      * @return 생성된 위치 URI로 응답
      */
+    @RateLimitCost(RateLimitCost.POST_WRITE)
     @PostMapping("/api/communities")
     public ResponseEntity<Void> registerCommunity(@AuthenticationPrincipal String memberId,
                                                   @RequestPart(name = "community") @Validated(PostValidationGroup.saveCommunity.class) Community community,
@@ -93,6 +100,7 @@ public class CommunityController {
      * @param notDeletedIndexes 삭제하지 않을 파일 번호 목록
      * @return 생성된 위치 URI로 응답
      */
+    @RateLimitCost(RateLimitCost.POST_WRITE)
     @PutMapping("/api/communities/{postIdx}")
     public ResponseEntity<Void> updateCommunity(@PathVariable("postIdx") Long postIdx,
                                                 @AuthenticationPrincipal String memberId,
@@ -107,6 +115,62 @@ public class CommunityController {
         return ResponseEntity.created(URI.create("/api/communities/" + updatedCommunity.getPostIdx())).build();
     }
 
+    /**
+     * 커뮤니티 게시글에 첨부파일 추가
+     * <p>
+     * multipart 요청 본문을 임시 파일에 저장하지 않고 attachments 파트의 파일을 읽으면서 저장소로 바로 업로드
+     *
+     * @param postIdx  게시글 번호
+     * @param memberId 회원 아이디
+     * @param request  multipart/form-data 요청
+     * @return 생성된 위치 URI로 응답
+     * @throws IOException 요청 본문을 읽는 도중 발생한 입출력 예외
+     */
+    @RateLimitCost(RateLimitCost.POST_WRITE)
+    @PostMapping(value = "/api/communities/{postIdx}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Void> addCommunityAttachments(@PathVariable("postIdx") Long postIdx,
+                                                        @AuthenticationPrincipal String memberId,
+                                                        HttpServletRequest request) throws IOException {
+        communityIntegratedService.addCommunityAttachments(postIdx, memberId, request.getContentType(), request.getInputStream());
+        return ResponseEntity.created(URI.create("/api/communities/" + postIdx)).build();
+    }
+
+    /**
+     * 커뮤니티 게시글에 첨부파일을 여러 조각으로 나눠 업로드하는 세션 시작
+     *
+     * @param postIdx       게시글 번호
+     * @param memberId      회원 아이디
+     * @param uploadSession 첨부파일 이름과 크기를 담은 업로드 세션
+     * @return 세션 번호와 조각 정보를 담은 업로드 세션과 함께 생성된 위치 URI로 응답
+     */
+    @RateLimitCost(RateLimitCost.POST_WRITE)
+    @PostMapping("/api/communities/{postIdx}/upload-sessions")
+    public ResponseEntity<UploadSession> startCommunityUploadSession(@PathVariable("postIdx") Long postIdx,
+                                                              @AuthenticationPrincipal String memberId,
+                                                              @RequestBody @Valid UploadSession uploadSession) {
+        UploadSession startedUploadSession = communityIntegratedService.startCommunityUploadSession(postIdx, memberId, uploadSession);
+        return ResponseEntity.created(URI.create("/api/upload-sessions/" + startedUploadSession.getUploadSessionId()))
+                .body(startedUploadSession);
+    }
+
+    /**
+     * 업로드 세션의 조각들을 하나의 첨부파일로 합쳐 커뮤니티 게시글에 추가
+     *
+     * @param postIdx         게시글 번호
+     * @param memberId        회원 아이디
+     * @param uploadSessionId 세션 번호
+     * @return 생성된 위치 URI로 응답
+     * @throws IOException 조각을 읽는 도중 발생한 입출력 예외
+     */
+    @RateLimitCost(RateLimitCost.POST_WRITE)
+    @PostMapping("/api/communities/{postIdx}/upload-sessions/{uploadSessionId}/commit")
+    public ResponseEntity<Void> commitCommunityUploadSession(@PathVariable("postIdx") Long postIdx,
+                                                      @AuthenticationPrincipal String memberId,
+                                                      @PathVariable("uploadSessionId") String uploadSessionId) throws IOException {
+        communityIntegratedService.commitCommunityUploadSession(postIdx, memberId, uploadSessionId);
+        return ResponseEntity.created(URI.create("/api/communities/" + postIdx)).build();
+    }
+
     /**
      * 커뮤니티 게시글 삭제
      *
@@ -1,11 +1,15 @@
 package com.now.core.post.community.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.now.common.cache.PostDependentValue;
 import com.now.core.post.community.domain.Community;
 import com.now.core.post.common.presentation.dto.Page;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 커뮤니티 게시글 목록과 페이지 객체를 담는 데이터 전송 객체
@@ -16,8 +20,26 @@ import java.util.List;
 @ToString
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
-public class CommunitiesResponse {
+public class CommunitiesResponse implements PostDependentValue {
 
     private final List<Community> communities;
     private final Page page;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursor; // 다음 페이지 커서
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String prevCursor; // 이전 페이지 커서
+
+    /**
+     * 목록에 포함된 게시글 번호 목록 반환
+     *
+     * @return 목록에 포함된 게시글 번호 목록
+     */
+    @Override
+    public Set<Long> postIndexes() {
+        return communities.stream()
+                .map(Community::getPostIdx)
+                .collect(Collectors.toSet());
+    }
 }
@@ -2,22 +2,27 @@ package com.now.core.post.inquiry.application;
 
 import com.now.common.exception.ErrorType;
 import com.now.core.authentication.application.JwtTokenProvider;
+import com.now.core.category.domain.constants.PostGroup;
 import com.now.core.comment.application.CommentService;
+import com.now.core.post.common.application.PostChangePublisher;
+import com.now.core.post.common.application.PostSearchIndex;
 import com.now.core.post.common.application.PostService;
 import com.now.core.post.common.exception.CannotCreatePostException;
 import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Cursor;
 import com.now.core.post.inquiry.domain.Inquiry;
 import com.now.core.post.inquiry.domain.constants.PrivacyUpdateOption;
 import com.now.core.post.inquiry.presentation.dto.InquiriesResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static com.now.common.config.CachingConfig.INQUIRY_CACHE;
-import static com.now.common.config.CachingConfig.POST_CACHE;
+import static com.now.common.config.CachingConfig.CONDITION_KEY_GENERATOR;
 
 @Slf4j
 @Service
@@ -29,6 +34,8 @@ public class InquiryIntegratedService {
     private final InquiryService inquiryService;
     private final CommentService commentService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PostSearchIndex postSearchIndex;
+    private final PostChangePublisher postChangePublisher;
 
     /**
      * 조건에 따라 페이지 정보와 함께 모든 문의 게시글 목록 반환
@@ -37,11 +44,16 @@ public class InquiryIntegratedService {
      * @return 문의 게시글 목록과 페이지 정보
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = INQUIRY_CACHE, key = "#condition.hashCode()")
+    @Cacheable(value = INQUIRY_CACHE, keyGenerator = CONDITION_KEY_GENERATOR)
     public InquiriesResponse getAllInquiriesWithPageInfo(Condition condition) {
+        postSearchIndex.applyKeyword(condition);
+        List<Inquiry> inquiries = inquiryService.getAllInquiries(condition.updatePage());
+
         return InquiriesResponse.builder()
-                .inquiries(inquiryService.getAllInquiries(condition.updatePage()))
+                .inquiries(inquiries)
                 .page(condition.getPage().calculatePageInfo(postService.getTotalPostCount(condition)))
+                .nextCursor(Cursor.nextOf(condition, inquiries))
+                .prevCursor(Cursor.prevOf(condition, inquiries))
                 .build();
     }
 
@@ -51,7 +63,6 @@ public class InquiryIntegratedService {
      * @param postIdx 게시글 번호
      * @return 조회된 문의 게시글
      */
-    @CacheEvict(value = {POST_CACHE, INQUIRY_CACHE}, allEntries = true)
     public Inquiry getPublicInquiryAndIncrementViewCount(Long postIdx) {
         Inquiry inquiry = inquiryService.getPublicInquiry(postIdx);
         postService.incrementViewCount(postIdx);
@@ -64,15 +75,15 @@ public class InquiryIntegratedService {
      * @param postIdx     게시글 번호
      * @param accessToken 액세스 토큰
      * @param password    비밀번호
-     * @return 조회된 문의 게시글
+     * @param viewGrant   이전에 발급된 열람 권한
+     * @return 조회된 문의 게시글, 열람 권한이 새로 발급되었다면 열람 권한 포함
      */
-    @CacheEvict(value = {POST_CACHE, INQUIRY_CACHE}, allEntries = true)
-    public Inquiry getPrivateInquiryAndIncrementViewCount(Long postIdx, String accessToken, String password) {
+    public Inquiry getPrivateInquiryAndIncrementViewCount(Long postIdx, String accessToken, String password, String viewGrant) {
         String memberId = null;
         if (accessToken != null) {
             memberId = (String) jwtTokenProvider.getClaim(accessToken, "id");
         }
-        Inquiry inquiry = inquiryService.getPrivateInquiry(postIdx, memberId, password);
+        Inquiry inquiry = inquiryService.getPrivateInquiry(postIdx, memberId, password, viewGrant);
         postService.incrementViewCount(postIdx);
         return inquiry;
     }
@@ -95,12 +106,12 @@ public class InquiryIntegratedService {
      *
      * @param inquiry 문의 게시글
      */
-    @CacheEvict(value = {POST_CACHE, INQUIRY_CACHE}, allEntries = true)
     public void registerInquiry(Inquiry inquiry) {
         if (!inquiry.isPasswordRequiredForSecretInquiry()) {
             throw new CannotCreatePostException(ErrorType.INVALID_SECRET);
         }
         inquiryService.registerInquiry(inquiry);
+        postChangePublisher.publishCreated(PostGroup.INQUIRY, inquiry.getPostIdx(), inquiry.getCategory());
     }
 
     /**
@@ -108,9 +119,9 @@ public class InquiryIntegratedService {
      *
      * @param updatedInquiry 업데이트된 문의 게시글
      */
-    @CacheEvict(value = {POST_CACHE, INQUIRY_CACHE}, allEntries = true)
     public void updateInquiry(Inquiry updatedInquiry, PrivacyUpdateOption privacyUpdateOption) {
         inquiryService.verifyInquiryUpdatePermission(updatedInquiry, privacyUpdateOption);
+        postChangePublisher.publishUpdated(PostGroup.INQUIRY, updatedInquiry.getPostIdx(), updatedInquiry.getCategory());
         inquiryService.updateAndHandleInquiry(updatedInquiry, privacyUpdateOption);
     }
 
@@ -120,9 +131,9 @@ public class InquiryIntegratedService {
      * @param postIdx  게시글 번호
      * @param memberId 회원 아이디
      */
-    @CacheEvict(value = {POST_CACHE, INQUIRY_CACHE}, allEntries = true)
     public void deleteInquiry(Long postIdx, String memberId) {
         inquiryService.hasDeleteAccess(postIdx, memberId);
+        postChangePublisher.publishDeleted(PostGroup.INQUIRY, postIdx);
 
         postService.deleteAllPostReactionByPostIdx(postIdx);
         commentService.deleteAllByPostIdx(postIdx);
@@ -11,6 +11,7 @@ import com.now.core.post.common.exception.CannotCreatePostException;
 import com.now.core.post.common.exception.CannotUpdatePostException;
 import com.now.core.post.common.exception.InvalidPostException;
 import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Cursor;
 import com.now.core.post.inquiry.domain.Inquiry;
 import com.now.core.post.inquiry.domain.constants.PrivacyUpdateOption;
 import com.now.core.post.inquiry.domain.repository.InquiryRepository;
@@ -33,6 +34,7 @@ public class InquiryService {
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final PasswordSecurityManager passwordSecurityManager;
+    private final InquiryViewGrantProvider inquiryViewGrantProvider;
 
     /**
      * 모든 문의 게시글 정보를 조회 후 반환
@@ -40,7 +42,7 @@ public class InquiryService {
      * @return 문의 게시글 정보 리스트
      */
     public List<Inquiry> getAllInquiries(Condition condition) {
-        return inquiryRepository.findAllInquiries(condition);
+        return Cursor.inSortOrder(condition, inquiryRepository.findAllInquiries(condition));
     }
 
     /**
@@ -67,6 +69,20 @@ public class InquiryService {
      * @return 문의 게시글 정보
      */
     public Inquiry getPrivateInquiry(Long postIdx, String memberId, String password) {
+        return getPrivateInquiry(postIdx, memberId, password, null);
+    }
+
+    /**
+     * 문의 게시글 응답
+     * 유효한 열람 권한이 있다면 비밀번호를 확인하지 않고, 비밀번호를 확인했다면 새 열람 권한을 발급
+     *
+     * @param postIdx   게식글 번호
+     * @param memberId  회원 아이디
+     * @param password  비밀번호
+     * @param viewGrant 이전에 발급된 열람 권한
+     * @return 문의 게시글 정보, 열람 권한이 새로 발급되었다면 열람 권한 포함
+     */
+    public Inquiry getPrivateInquiry(Long postIdx, String memberId, String password, String viewGrant) {
         Inquiry inquiry = getInquiry(postIdx);
 
         if (inquiry.getSecret()) {
@@ -74,9 +90,13 @@ public class InquiryService {
                 inquiry.canView(getMember(memberId));
                 return inquiry;
             }
+            if (inquiryViewGrantProvider.isValid(viewGrant, postIdx, inquiry.getPassword())) {
+                return inquiry;
+            }
             if (!isPasswordMatching(password, inquiry.getPassword())) {
                 throw new CannotViewInquiryException(ErrorType.CAN_NOT_VIEW_INQUIRY_PASSWORD_NOT_MATCH);
             }
+            inquiry.updateViewGrant(inquiryViewGrantProvider.issue(postIdx, inquiry.getPassword()));
         }
         return inquiry;
     }
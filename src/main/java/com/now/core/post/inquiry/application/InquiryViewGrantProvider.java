@@ -0,0 +1,106 @@
+package com.now.core.post.inquiry.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 비밀번호를 확인한 비밀 문의 게시글을 일정 시간 동안 다시 열람할 수 있는 열람 권한을 발급, 검증하는 객체
+ *
+ * 열람 권한은 "게시글 번호.만료 시각.서명" 형식이며, 서명은 게시글 번호, 만료 시각, 저장된 비밀번호 해시의 HMAC-SHA256
+ * 비밀번호가 변경되면 이전에 발급된 열람 권한은 검증에 실패
+ */
+@Component
+public class InquiryViewGrantProvider {
+
+    public static final String VIEW_GRANT_KEY = "inquiry_view_grant";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String KEY_PREFIX = "inquiry-view-grant:";
+    private static final String DELIMITER = ".";
+
+    private final SecretKeySpec secretKey;
+    private final long ttlSeconds;
+
+    /**
+     * @param securityKey 서명 키를 만들 보안 키
+     * @param ttlSeconds  열람 권한의 유효 시간(초)
+     */
+    public InquiryViewGrantProvider(@Value("${now.security.key}") String securityKey,
+                                    @Value("${now.inquiry.view-grant-ttl-seconds:600}") long ttlSeconds) {
+        this.secretKey = new SecretKeySpec((KEY_PREFIX + securityKey).getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 게시글의 열람 권한 발급
+     *
+     * @param postIdx      게시글 번호
+     * @param passwordHash 게시글에 저장된 비밀번호 해시
+     * @return 열람 권한
+     */
+    public String issue(Long postIdx, String passwordHash) {
+        long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
+        return postIdx + DELIMITER + expiresAt + DELIMITER + sign(postIdx, expiresAt, passwordHash);
+    }
+
+    /**
+     * 열람 권한이 해당 게시글에 대해 발급되었고 만료되지 않았다면 true, 그렇지 않다면 false 반환
+     *
+     * @param viewGrant    검증할 열람 권한
+     * @param postIdx      게시글 번호
+     * @param passwordHash 게시글에 저장된 비밀번호 해시
+     * @return 유효한 열람 권한이라면 true, 그렇지 않다면 false
+     */
+    public boolean isValid(String viewGrant, Long postIdx, String passwordHash) {
+        if (viewGrant == null || postIdx == null) {
+            return false;
+        }
+
+        String[] parts = viewGrant.split("\\.");
+        if (parts.length != 3 || !parts[0].equals(String.valueOf(postIdx))) {
+            return false;
+        }
+
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (expiresAt < Instant.now().getEpochSecond()) {
+            return false;
+        }
+
+        byte[] expected = sign(postIdx, expiresAt, passwordHash).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, parts[2].getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 열람 권한의 유효 시간(초) 반환
+     *
+     * @return 유효 시간(초)
+     */
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    private String sign(Long postIdx, long expiresAt, String passwordHash) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            byte[] signature = mac.doFinal((postIdx + DELIMITER + expiresAt + DELIMITER + passwordHash)
+                    .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
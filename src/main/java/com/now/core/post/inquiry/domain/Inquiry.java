@@ -9,6 +9,7 @@ import com.now.core.category.domain.constants.Category;
 import com.now.core.category.domain.constants.PostGroup;
 import com.now.core.comment.domain.Comment;
 import com.now.core.member.domain.Member;
+import com.now.core.post.common.domain.SortablePost;
 import com.now.core.post.common.domain.constants.PostValidationGroup;
 import com.now.core.post.common.exception.CannotDeletePostException;
 import com.now.core.post.common.exception.CannotUpdatePostException;
@@ -31,7 +32,7 @@ import java.util.List;
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class Inquiry {
+public class Inquiry implements SortablePost {
 
     private final PostGroup postGroup = PostGroup.INQUIRY;
     private final Long inquiryIdx;
@@ -64,6 +65,7 @@ public class Inquiry {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private final String answerRegDate;
     private final List<Comment> comments;
+    private final Integer commentCount;
     private Long postIdx;
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Size(groups = {PostValidationGroup.saveInquiry.class}, min = 4, max = 15, message = "{post.password.size}")
@@ -87,6 +89,9 @@ public class Inquiry {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private InquiryStatus inquiryStatus;
 
+    @JsonIgnore
+    private String viewGrant; // 비밀번호 확인 후 새로 발급된 열람 권한
+
     /**
      * 회원의 식별자를 업데이트
      *
@@ -233,4 +238,15 @@ public class Inquiry {
         this.postIdx = postIdx;
         return this;
     }
+
+    /**
+     * 새로 발급된 열람 권한 수정 후 해당 객체 반환
+     *
+     * @param viewGrant 발급된 열람 권한
+     * @return 열람 권한 필드를 수정한 해당 객체
+     */
+    public Inquiry updateViewGrant(String viewGrant) {
+        this.viewGrant = viewGrant;
+        return this;
+    }
 }
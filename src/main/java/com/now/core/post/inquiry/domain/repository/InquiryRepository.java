@@ -1,5 +1,7 @@
 package com.now.core.post.inquiry.domain.repository;
 
+import com.now.core.post.common.application.dto.PostListDetails;
+import com.now.core.post.common.domain.repository.PostRepository;
 import com.now.core.post.inquiry.domain.Inquiry;
 import com.now.core.post.inquiry.domain.mapper.InquiryMapper;
 import com.now.core.post.inquiry.presentation.dto.Answer;
@@ -8,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 문의게시글 관련 정보를 관리하는 레포지토리
@@ -17,15 +20,25 @@ import java.util.List;
 public class InquiryRepository {
     
     private final InquiryMapper inquiryMapper;
+    private final PostRepository postRepository;
     
     /**
      * 모든 문의 게시글 정보를 조회 후 반환
+     * 게시글 페이지를 먼저 조회한 후 가장 최근 댓글, 댓글 수를 게시글 번호 목록으로 한 번에 조회해서 채움
      *
      * @param condition 게시물 제한 정보를 담은 객체
      * @return 문의 게시글 정보 리스트
      */
     public List<Inquiry> findAllInquiries(Condition condition) {
-        return inquiryMapper.findAllInquiries(condition);
+        List<Inquiry> inquiries = inquiryMapper.findAllInquiries(condition);
+        PostListDetails details = postRepository.findPostListDetails(inquiries, false);
+
+        return inquiries.stream()
+                .map(inquiry -> inquiry.toBuilder()
+                        .comments(details.commentsOf(inquiry.getPostIdx()))
+                        .commentCount(details.commentCountOf(inquiry.getPostIdx()))
+                        .build())
+                .collect(Collectors.toList());
     }
 
     /**
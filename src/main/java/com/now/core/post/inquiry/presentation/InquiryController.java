@@ -1,8 +1,11 @@
 package com.now.core.post.inquiry.presentation;
 
+import com.now.common.config.infrastructure.RateLimitCost;
 import com.now.core.authentication.application.JwtTokenProvider;
+import com.now.core.authentication.application.util.CookieUtil;
 import com.now.core.authentication.presentation.AuthenticationPrincipal;
 import com.now.core.post.inquiry.application.InquiryIntegratedService;
+import com.now.core.post.inquiry.application.InquiryViewGrantProvider;
 import com.now.core.post.inquiry.domain.Inquiry;
 import com.now.core.post.common.domain.constants.PostValidationGroup;
 import com.now.core.post.common.presentation.dto.Condition;
@@ -15,9 +18,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.net.URI;
 
+import static com.now.core.authentication.application.util.CookieUtil.RESPONSE_COOKIE_NAME_IN_HEADERS;
+
 /**
  * 문의 게시글 관련 작업을 위한 컨트롤러
  */
@@ -27,6 +33,7 @@ import java.net.URI;
 public class InquiryController {
 
     private final InquiryIntegratedService inquiryIntegratedService;
+    private final InquiryViewGrantProvider inquiryViewGrantProvider;
 
     /**
      * 모든 문의 게시글 정보를 조회하는 핸들러 메서드
@@ -34,6 +41,7 @@ public class InquiryController {
      * @param condition 게시물 제한 정보를 담은 객체
      * @return 모든 문의 게시글 정보와 함께 OK 응답을 반환
      */
+    @RateLimitCost(withKeyword = RateLimitCost.SEARCH)
     @GetMapping("/api/inquiries")
     public ResponseEntity<InquiriesResponse> getAllInquiries(@Valid Condition condition) {
         return new ResponseEntity<>(
@@ -53,17 +61,29 @@ public class InquiryController {
 
     /**
      * 비공개 설정된 문의 게시글 조회
+     * 비밀번호를 확인했다면 해당 게시글 경로로 제한된 열람 권한 쿠키를 발급해서 이후 요청에서는 비밀번호 확인을 생략
+     * 쿠키는 열람 권한의 유효 시간이 지나면 만료
      *
      * @param postIdx     게시글 번호
      * @param password    비밀글로 설정된 비밀번호
      * @param accessToken 액세스 토큰
+     * @param viewGrant   이전에 발급된 열람 권한
+     * @param response    HttpServletResponse 객체
      * @return 문의 게시글 정보와 함께 OK 응답을 반환
      */
     @PostMapping("/api/inquiries/secret/{postIdx}")
     public ResponseEntity<Inquiry> getPrivateInquiry(@PathVariable("postIdx") Long postIdx,
                                                     @RequestParam(required = false) String password,
-                                                    @CookieValue(value = JwtTokenProvider.ACCESS_TOKEN_KEY, required = false) String accessToken) {
-        return ResponseEntity.ok(inquiryIntegratedService.getPrivateInquiryAndIncrementViewCount(postIdx, accessToken, password));
+                                                    @CookieValue(value = JwtTokenProvider.ACCESS_TOKEN_KEY, required = false) String accessToken,
+                                                    @CookieValue(value = InquiryViewGrantProvider.VIEW_GRANT_KEY, required = false) String viewGrant,
+                                                    HttpServletResponse response) {
+        Inquiry inquiry = inquiryIntegratedService.getPrivateInquiryAndIncrementViewCount(postIdx, accessToken, password, viewGrant);
+        if (inquiry.getViewGrant() != null) {
+            response.addHeader(RESPONSE_COOKIE_NAME_IN_HEADERS, CookieUtil.createResponseCookieWithPathAndMaxAge(
+                    InquiryViewGrantProvider.VIEW_GRANT_KEY, inquiry.getViewGrant(), "/api/inquiries/secret/" + postIdx,
+                    inquiryViewGrantProvider.getTtlSeconds(), true).toString());
+        }
+        return ResponseEntity.ok(inquiry);
     }
 
     /**
@@ -1,18 +1,21 @@
 package com.now.core.post.notice.application;
 
+import com.now.core.post.common.application.PostSearchIndex;
 import com.now.core.post.common.application.PostService;
 import com.now.core.post.notice.domain.Notice;
 import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Cursor;
 import com.now.core.post.notice.presentation.dto.NoticesResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static com.now.common.config.CachingConfig.NOTICE_CACHE;
-import static com.now.common.config.CachingConfig.POST_CACHE;
+import static com.now.common.config.CachingConfig.CONDITION_KEY_GENERATOR;
 
 @Slf4j
 @Service
@@ -22,6 +25,7 @@ public class NoticeIntegratedService {
 
     private final PostService postService;
     private final NoticeService noticeService;
+    private final PostSearchIndex postSearchIndex;
 
     /**
      * 조건에 따라 페이지 정보와 함께 모든 공지 게시글 목록 반환
@@ -30,11 +34,17 @@ public class NoticeIntegratedService {
      * @return 공지 게시글 목록과 페이지 정보
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = NOTICE_CACHE, key="#condition.hashCode()")
+    @Cacheable(value = NOTICE_CACHE, keyGenerator = CONDITION_KEY_GENERATOR)
     public NoticesResponse getAllNoticesWithPageInfo(Condition condition) {
+        postSearchIndex.applyKeyword(condition);
+        List<Notice> notices = noticeService.getAllNoticesWithPin(condition);
+        List<Notice> unpinnedNotices = noticeService.getUnpinnedNotices(notices);
+
         return NoticesResponse.builder()
-                .notices(noticeService.getAllNoticesWithPin(condition))
+                .notices(notices)
                 .page(condition.getPage().calculatePageInfo(postService.getTotalPostCount(condition)))
+                .nextCursor(Cursor.nextOf(condition, unpinnedNotices))
+                .prevCursor(Cursor.prevOf(condition, unpinnedNotices))
                 .build();
     }
 
@@ -44,7 +54,6 @@ public class NoticeIntegratedService {
      * @param postIdx 게시글 번호
      * @return 조회된 공지 게시글
      */
-    @CacheEvict(value = {POST_CACHE, NOTICE_CACHE}, allEntries = true)
     public Notice getNoticeAndIncrementViewCount(Long postIdx) {
         Notice notice = noticeService.getNotice(postIdx);
         postService.incrementViewCount(postIdx);
@@ -5,11 +5,13 @@ import com.now.core.post.notice.domain.Notice;
 import com.now.core.post.notice.domain.repository.NoticeRepository;
 import com.now.core.post.common.exception.InvalidPostException;
 import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Cursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 공지 게시글 관련 비즈니스 로직을 처리하는 서비스
@@ -23,12 +25,31 @@ public class NoticeService {
 
     /**
      * 상단에 고정된 공지 게시물과 조건에 맞는 게시물 정보를 조회 후 반환
+     * 이전 페이지 커서로 역순 조회되었다면 고정되지 않은 게시물만 정렬 순서대로 뒤집어 반환
      *
      * @param condition 게시물 제한 정보를 담은 객체
      * @return 공지사항 게시글 정보 리스트
      */
     public List<Notice> getAllNoticesWithPin(Condition condition) {
-        return noticeRepository.findAllNoticesWithPin(condition);
+        List<Notice> notices = noticeRepository.findAllNoticesWithPin(condition);
+
+        List<Notice> arrangedNotices = notices.stream()
+                .filter(notice -> Boolean.TRUE.equals(notice.getPinned()))
+                .collect(Collectors.toList());
+        arrangedNotices.addAll(Cursor.inSortOrder(condition, getUnpinnedNotices(notices)));
+        return arrangedNotices;
+    }
+
+    /**
+     * 상단에 고정되지 않은 공지 게시물만 반환, 페이지 커서는 해당 게시물로부터 만들어짐
+     *
+     * @param notices 공지사항 게시글 정보 리스트
+     * @return 상단에 고정되지 않은 공지사항 게시글 정보 리스트
+     */
+    public List<Notice> getUnpinnedNotices(List<Notice> notices) {
+        return notices.stream()
+                .filter(notice -> !Boolean.TRUE.equals(notice.getPinned()))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -7,6 +7,7 @@ import com.now.core.admin.authentication.domain.Manager;
 import com.now.core.category.domain.constants.Category;
 import com.now.core.category.domain.constants.PostGroup;
 import com.now.core.comment.domain.Comment;
+import com.now.core.post.common.domain.SortablePost;
 import com.now.core.post.common.domain.constants.PostValidationGroup;
 import lombok.*;
 
@@ -24,7 +25,7 @@ import java.util.List;
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class Notice {
+public class Notice implements SortablePost {
 
     private final PostGroup postGroup = PostGroup.NOTICE;
 
@@ -58,6 +59,8 @@ public class Notice {
 
     private final List<Comment> comments;
 
+    private final Integer commentCount;
+
     private String managerNickname;
 
     @JsonIgnore
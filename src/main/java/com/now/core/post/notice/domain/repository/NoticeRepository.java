@@ -1,5 +1,7 @@
 package com.now.core.post.notice.domain.repository;
 
+import com.now.core.post.common.application.dto.PostListDetails;
+import com.now.core.post.common.domain.repository.PostRepository;
 import com.now.core.post.notice.domain.Notice;
 import com.now.core.post.notice.domain.mapper.NoticeMapper;
 import com.now.core.post.common.presentation.dto.Condition;
@@ -7,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 공지 게시글 관련 정보를 관리하는 레포지토리
@@ -16,15 +19,29 @@ import java.util.List;
 public class NoticeRepository {
 
     private final NoticeMapper noticeMapper;
+    private final PostRepository postRepository;
+
+    /**
+     * 고정 여부와 관계없이 조건에 맞는 공지 게시물 정보를 조회 후 반환
+     * 게시글 페이지를 먼저 조회한 후 가장 최근 댓글, 댓글 수를 게시글 번호 목록으로 한 번에 조회해서 채움
+     *
+     * @param condition 게시물 제한 정보를 담은 객체
+     * @return 공지사항 게시글 정보 리스트
+     */
+    public List<Notice> findAllNotices(Condition condition) {
+        return fillDetails(noticeMapper.findAllNotices(condition));
+    }
+
 
     /**
      * 상단에 고정된 공지 게시물과 조건에 맞는 게시물 정보를 조회 후 반환
+     * 게시글 페이지를 먼저 조회한 후 가장 최근 댓글, 댓글 수를 게시글 번호 목록으로 한 번에 조회해서 채움
      *
      * @param condition 게시물 제한 정보를 담은 객체
      * @return 공지사항 게시글 정보 리스트
      */
     public List<Notice> findAllNoticesWithPin(Condition condition) {
-        return noticeMapper.findAllNoticesWithPin(condition);
+        return fillDetails(noticeMapper.findAllNoticesWithPin(condition));
     }
 
 
@@ -64,4 +81,15 @@ public class NoticeRepository {
     public void deleteNotice(Long postIdx) {
         noticeMapper.deleteNotice(postIdx);
     }
+
+    private List<Notice> fillDetails(List<Notice> notices) {
+        PostListDetails details = postRepository.findPostListDetails(notices, false);
+
+        return notices.stream()
+                .map(notice -> notice.toBuilder()
+                        .comments(details.commentsOf(notice.getPostIdx()))
+                        .commentCount(details.commentCountOf(notice.getPostIdx()))
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
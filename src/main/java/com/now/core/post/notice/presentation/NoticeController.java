@@ -1,5 +1,6 @@
 package com.now.core.post.notice.presentation;
 
+import com.now.common.config.infrastructure.RateLimitCost;
 import com.now.core.post.notice.application.NoticeIntegratedService;
 import com.now.core.post.notice.domain.Notice;
 import com.now.core.post.common.presentation.dto.Condition;
@@ -30,6 +31,7 @@ public class NoticeController {
      * @param condition 게시물 제한 정보를 담은 객체
      * @return 모든 공지 게시글 정보와 함께 OK 응답을 반환
      */
+    @RateLimitCost(withKeyword = RateLimitCost.SEARCH)
     @GetMapping("/api/notices")
     public ResponseEntity<NoticesResponse> retrieveAllNotices(@Valid Condition condition) {
 
@@ -1,25 +1,36 @@
 package com.now.core.post.photo.application;
 
 import com.now.core.attachment.application.AttachmentService;
+import com.now.core.attachment.application.UploadSessionService;
+import com.now.core.attachment.application.dto.UploadedAttachment;
+import com.now.core.attachment.domain.UploadSession;
 import com.now.core.attachment.domain.constants.AttachmentType;
 import com.now.core.authentication.application.JwtTokenProvider;
+import com.now.core.category.domain.constants.PostGroup;
 import com.now.core.comment.application.CommentService;
+import com.now.core.post.common.application.PostChangePublisher;
+import com.now.core.post.common.application.PostSearchIndex;
 import com.now.core.post.common.application.PostService;
 import com.now.core.post.common.application.dto.AddNewAttachments;
 import com.now.core.post.common.application.dto.UpdateExistingAttachments;
 import com.now.core.post.photo.domain.Photo;
 import com.now.core.post.common.domain.constants.UpdateOption;
 import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Cursor;
 import com.now.core.post.photo.presentation.dto.PhotosResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 import static com.now.common.config.CachingConfig.PHOTO_CACHE;
-import static com.now.common.config.CachingConfig.POST_CACHE;
+import static com.now.common.config.CachingConfig.CONDITION_KEY_GENERATOR;
 
 @Slf4j
 @Service
@@ -30,8 +41,11 @@ public class PhotoIntegratedService {
     private final PostService postService;
     private final PhotoService photoService;
     private final AttachmentService attachmentService;
+    private final UploadSessionService uploadSessionService;
     private final CommentService commentService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PostSearchIndex postSearchIndex;
+    private final PostChangePublisher postChangePublisher;
 
     /**
      * 조건에 따라 페이지 정보와 함께 모든 사진 게시글 목록 반환
@@ -40,11 +54,16 @@ public class PhotoIntegratedService {
      * @return 사진 게시글 목록과 페이지 정보
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = PHOTO_CACHE, key="#condition.hashCode()")
+    @Cacheable(value = PHOTO_CACHE, keyGenerator = CONDITION_KEY_GENERATOR)
     public PhotosResponse getAllPhotosWithPageInfo(Condition condition) {
+        postSearchIndex.applyKeyword(condition);
+        List<Photo> photos = photoService.getAllPhotos(condition);
+
         return PhotosResponse.builder()
-                .photos(photoService.getAllPhotos(condition))
+                .photos(photos)
                 .page(condition.getPage().calculatePageInfo(postService.getTotalPostCount(condition)))
+                .nextCursor(Cursor.nextOf(condition, photos))
+                .prevCursor(Cursor.prevOf(condition, photos))
                 .build();
     }
 
@@ -79,11 +98,11 @@ public class PhotoIntegratedService {
      * @param photo             사진 게시글
      * @param addNewAttachments 새로운 첨부파일
      */
-    @CacheEvict(value = {POST_CACHE, PHOTO_CACHE}, allEntries = true)
     public void registerPhoto(Photo photo, AddNewAttachments addNewAttachments) {
         photoService.registerPhoto(photo);
         attachmentService.saveAttachmentsWithThumbnail(
                 addNewAttachments, photo.getPostIdx(), AttachmentType.IMAGE);
+        postChangePublisher.publishCreated(PostGroup.PHOTO, photo.getPostIdx(), photo.getCategory());
     }
 
     /**
@@ -94,26 +113,80 @@ public class PhotoIntegratedService {
      * @param addNewAttachments         새로 추가되는 첨부 파일
      * @param updateExistingAttachments 기존 첨부 파일 업데이트 정보
      */
-    @CacheEvict(value = {POST_CACHE, PHOTO_CACHE}, allEntries = true)
     public void updatePhoto(Photo updatePhoto, UpdateOption updateOption,
                             AddNewAttachments addNewAttachments, UpdateExistingAttachments updateExistingAttachments) {
 
         photoService.hasUpdateAccess(updatePhoto.getPostIdx(), updatePhoto.getMemberId());
 
+        postChangePublisher.publishUpdated(PostGroup.PHOTO, updatePhoto.getPostIdx(), updatePhoto.getCategory());
         photoService.updatePhoto(updatePhoto);
         attachmentService.updateAttachmentsWithVerifiedIndexes(updateOption, addNewAttachments,
                 updateExistingAttachments, updatePhoto.getPostIdx(), AttachmentType.IMAGE);
     }
 
+    /**
+     * 사진 게시글에 multipart 요청 본문의 첨부파일을 임시 파일 없이 스트림으로 업로드해서 추가
+     * <p>
+     * 요청 본문을 읽는 동안 데이터베이스 커넥션을 점유하지 않도록 트랜잭션 없이 업로드한 후, 첨부파일 정보만 트랜잭션에서 저장
+     *
+     * @param postIdx     게시글 번호
+     * @param memberId    회원 아이디
+     * @param contentType 요청의 Content-Type 헤더 값
+     * @param requestBody 요청 본문
+     * @throws IOException 요청 본문을 읽는 도중 발생한 입출력 예외
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void addPhotoAttachments(Long postIdx, String memberId, String contentType, InputStream requestBody) throws IOException {
+        photoService.hasUpdateAccess(postIdx, memberId);
+
+        List<UploadedAttachment> uploadedAttachments = attachmentService.uploadStreamedAttachments(contentType, requestBody,
+                "attachments", AttachmentType.IMAGE);
+        attachmentService.saveUploadedAttachments(uploadedAttachments, postIdx, AttachmentType.IMAGE);
+        postChangePublisher.publishUpdated(PostGroup.PHOTO, postIdx);
+    }
+
+    /**
+     * 사진 게시글에 첨부파일을 여러 조각으로 나눠 업로드하는 세션 시작
+     *
+     * @param postIdx       게시글 번호
+     * @param memberId      회원 아이디
+     * @param uploadSession 첨부파일 이름과 크기를 담은 업로드 세션
+     * @return 시작된 업로드 세션
+     */
+    public UploadSession startPhotoUploadSession(Long postIdx, String memberId, UploadSession uploadSession) {
+        photoService.hasUpdateAccess(postIdx, memberId);
+
+        return uploadSessionService.startUploadSession(uploadSession, memberId, postIdx, AttachmentType.IMAGE);
+    }
+
+    /**
+     * 업로드 세션의 조각들을 하나의 첨부파일로 업로드한 후 사진 게시글에 추가
+     * <p>
+     * 조각을 이어 붙여 업로드하는 동안 데이터베이스 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     *
+     * @param postIdx         게시글 번호
+     * @param memberId        회원 아이디
+     * @param uploadSessionId 세션 번호
+     * @throws IOException 조각을 읽는 도중 발생한 입출력 예외
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void commitPhotoUploadSession(Long postIdx, String memberId, String uploadSessionId) throws IOException {
+        photoService.hasUpdateAccess(postIdx, memberId);
+
+        UploadedAttachment uploadedAttachment = uploadSessionService.assemble(uploadSessionId, memberId, postIdx, AttachmentType.IMAGE);
+        uploadSessionService.complete(uploadSessionId, uploadedAttachment, postIdx, AttachmentType.IMAGE);
+        postChangePublisher.publishUpdated(PostGroup.PHOTO, postIdx);
+    }
+
     /**
      * 사진 게시글 삭제 후 관련된 댓글 및 첨부 파일 삭제
      *
      * @param postIdx  게시글 번호
      * @param memberId 멤버 아이디
      */
-    @CacheEvict(value = {POST_CACHE, PHOTO_CACHE}, allEntries = true)
     public void deletePhoto(Long postIdx, String memberId) {
         photoService.hasDeleteAccess(postIdx, memberId);
+        postChangePublisher.publishDeleted(PostGroup.PHOTO, postIdx);
 
         postService.deleteAllPostReactionByPostIdx(postIdx);
         commentService.deleteAllByPostIdx(postIdx);
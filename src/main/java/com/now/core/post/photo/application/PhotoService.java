@@ -11,9 +11,9 @@ import com.now.core.post.photo.domain.Photo;
 import com.now.core.post.photo.domain.repository.PhotoRepository;
 import com.now.core.post.common.exception.InvalidPostException;
 import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Cursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -37,7 +37,7 @@ public class PhotoService {
      * @return 사진 게시글 정보 리스트
      */
     public List<Photo> getAllPhotos(Condition condition) {
-        return photoRepository.findAllPhotos(condition);
+        return Cursor.inSortOrder(condition, photoRepository.findAllPhotos(condition));
     }
 
     /**
@@ -60,7 +60,6 @@ public class PhotoService {
      *
      * @param photo 수정할 사진 게시글 정보
      */
-    @CacheEvict(value = {"postCache", "photoCache"}, allEntries = true)
     public void updatePhoto(Photo photo) {
         Member member = getMember(photo.getMemberId());
 
@@ -75,7 +74,6 @@ public class PhotoService {
      *
      * @param postIdx 게시글 번호
      */
-    @CacheEvict(value = {"postCache", "photoCache"}, allEntries = true)
     public void deletePhoto(Long postIdx) {
         photoRepository.deletePhoto(postIdx);
     }
@@ -9,6 +9,7 @@ import com.now.core.category.domain.constants.Category;
 import com.now.core.category.domain.constants.PostGroup;
 import com.now.core.comment.domain.Comment;
 import com.now.core.member.domain.Member;
+import com.now.core.post.common.domain.SortablePost;
 import com.now.core.post.common.domain.constants.PostValidationGroup;
 import com.now.core.post.common.exception.CannotDeletePostException;
 import com.now.core.post.common.exception.CannotUpdatePostException;
@@ -18,6 +19,7 @@ import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 사진 게시글을 나타내는 도메인 객체
@@ -28,7 +30,7 @@ import java.util.List;
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class Photo {
+public class Photo implements SortablePost {
 
     private final PostGroup postGroup = PostGroup.PHOTO;
 
@@ -61,10 +63,14 @@ public class Photo {
 
     private final List<Comment> comments;
 
+    private final Integer commentCount;
+
     private final Long thumbnailAttachmentIdx;
 
     private final String thumbnailSavedAttachmentName;
 
+    private final Map<Integer, String> thumbnailVariantNames; // 너비별 축소 이미지 이름, 목록 조회 시 만들어진 경우에만 설정
+
     private String memberNickname;
 
     @JsonIgnore
@@ -1,5 +1,9 @@
 package com.now.core.post.photo.domain.repository;
 
+import com.now.core.attachment.domain.constants.ThumbnailSize;
+import com.now.core.post.common.application.dto.PostListDetails;
+import com.now.core.post.common.application.dto.PostThumbnail;
+import com.now.core.post.common.domain.repository.PostRepository;
 import com.now.core.post.photo.domain.Photo;
 import com.now.core.post.photo.domain.mapper.PhotoMapper;
 import com.now.core.post.common.presentation.dto.Condition;
@@ -7,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 사진 게시글 관련 정보를 관리하는 레포지토리
@@ -16,15 +22,35 @@ import java.util.List;
 public class PhotoRepository {
 
     private final PhotoMapper photomapper;
+    private final PostRepository postRepository;
 
     /**
      * 모든 사진 게시글 정보를 조회 후 반환
+     * 게시글 페이지를 먼저 조회한 후 첫 번째 첨부파일, 가장 최근 댓글, 댓글 수, 썸네일을 게시글 번호 목록으로 한 번에 조회해서 채움
+     * 썸네일의 축소 이미지가 만들어졌다면 너비별 축소 이미지 이름도 채움
      *
      * @param condition 게시물 제한 정보를 담은 객체
      * @return 사진 게시글 정보 리스트
      */
     public List<Photo> findAllPhotos(Condition condition) {
-        return photomapper.findAllPhotos(condition);
+        List<Photo> photos = photomapper.findAllPhotos(condition);
+        PostListDetails details = postRepository.findPostListDetails(photos, true);
+        Map<Long, PostThumbnail> thumbnails = postRepository.findThumbnails(photos);
+
+        return photos.stream()
+                .map(photo -> {
+                    PostThumbnail thumbnail = thumbnails.get(photo.getPostIdx());
+                    return photo.toBuilder()
+                            .attachments(details.attachmentsOf(photo.getPostIdx()))
+                            .comments(details.commentsOf(photo.getPostIdx()))
+                            .commentCount(details.commentCountOf(photo.getPostIdx()))
+                            .thumbnailAttachmentIdx(thumbnail == null ? null : thumbnail.getThumbnailAttachmentIdx())
+                            .thumbnailSavedAttachmentName(thumbnail == null ? null : thumbnail.getThumbnailSavedAttachmentName())
+                            .thumbnailVariantNames(thumbnail == null || !thumbnail.isThumbnailVariantReady() ? null
+                                    : ThumbnailSize.getVariantNamesByWidth(thumbnail.getThumbnailSavedAttachmentName()))
+                            .build();
+                })
+                .collect(Collectors.toList());
     }
 
     /**
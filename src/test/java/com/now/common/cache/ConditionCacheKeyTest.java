@@ -0,0 +1,75 @@
+package com.now.common.cache;
+
+import com.now.core.category.domain.constants.Category;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("조회 조건 캐시 키는")
+class ConditionCacheKeyTest {
+
+    @Test
+    @DisplayName("같은 의미의 조회 조건이라면 같은 키로 정규화된다")
+    void normalize() {
+        // given
+        Condition condition = Condition.builder().postGroup(PostGroup.COMMUNITY).keyword(" ").sort(Sort.LATEST).build();
+        Condition defaultPageCondition = Condition.builder().postGroup(PostGroup.COMMUNITY).sort(Sort.LATEST)
+                .maxNumberOfPosts(10).pageNo(1).build();
+
+        // when
+        ConditionCacheKey key = ConditionCacheKey.of("getAll", condition);
+        ConditionCacheKey defaultPageKey = ConditionCacheKey.of("getAll", defaultPageCondition);
+
+        // then
+        assertThat(key).isEqualTo(defaultPageKey);
+    }
+
+    @Test
+    @DisplayName("조회 조건의 필터가 다르다면 다른 키를 가진다")
+    void differentFilter() {
+        // given
+        Condition studyCondition = Condition.builder().category(Category.COMMUNITY_STUDY).sort(Sort.LATEST).build();
+        Condition keywordCondition = Condition.builder().keyword("study").sort(Sort.LATEST).build();
+
+        // when
+        ConditionCacheKey studyKey = ConditionCacheKey.of("getAll", studyCondition);
+        ConditionCacheKey keywordKey = ConditionCacheKey.of("getAll", keywordCondition);
+
+        // then
+        assertThat(studyKey).isNotEqualTo(keywordKey);
+    }
+
+    @Test
+    @DisplayName("개수 조회 키는 정렬과 페이지 정보를 무시한다")
+    void withoutPage() {
+        // given
+        Condition firstPage = Condition.builder().postGroup(PostGroup.PHOTO).sort(Sort.LATEST).pageNo(1).build();
+        Condition secondPage = Condition.builder().postGroup(PostGroup.PHOTO).sort(Sort.RECOMMENDED).pageNo(2).build();
+
+        // when
+        ConditionCacheKey firstPageKey = ConditionCacheKey.withoutPage("getCount", firstPage);
+        ConditionCacheKey secondPageKey = ConditionCacheKey.withoutPage("getCount", secondPage);
+
+        // then
+        assertThat(firstPageKey).isEqualTo(secondPageKey);
+        assertThat(firstPageKey).isNotEqualTo(ConditionCacheKey.of("getCount", firstPage));
+    }
+
+    @Test
+    @DisplayName("형식은 맞지만 존재하지 않는 날짜도 예외 없이 키를 만든다")
+    void nonexistentDate() {
+        // given
+        Condition condition = Condition.builder().startDate("2023-02-31").endDate(" 2023-03-01 ").sort(Sort.LATEST).build();
+
+        // when
+        ConditionCacheKey key = ConditionCacheKey.of("getAll", condition);
+
+        // then
+        assertThat(key.getStartDate()).isEqualTo("2023-02-31");
+        assertThat(key.getEndDate()).isEqualTo("2023-03-01");
+    }
+}
@@ -0,0 +1,150 @@
+package com.now.common.cache;
+
+import com.now.core.category.domain.constants.Category;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.application.PostChangedEvent;
+import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import com.now.core.post.community.presentation.dto.CommunitiesResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.now.common.config.CachingConfig.*;
+import static com.now.config.fixtures.post.CommunityFixture.createCommunity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("게시글 캐시 무효화 객체는")
+class PostCacheInvalidatorTest {
+
+    private CacheManager cacheManager;
+    private CacheDependencyTracker tracker;
+    private PostCacheInvalidator postCacheInvalidator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(POST_CACHE, NOTICE_CACHE, COMMUNITY_CACHE, PHOTO_CACHE, INQUIRY_CACHE);
+        tracker = new CacheDependencyTracker();
+
+        ObjectProvider<CacheManager> cacheManagerProvider = mock(ObjectProvider.class);
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        postCacheInvalidator = new PostCacheInvalidator(cacheManagerProvider, tracker);
+    }
+
+    @Test
+    @DisplayName("댓글이 작성되면 해당 게시글을 포함한 목록만 제거한다")
+    void evictCommentedPost() {
+        // given
+        Cache communityCache = trackingCache(COMMUNITY_CACHE, Condition.builder().sort(Sort.LATEST).build());
+        communityCache.put("page-1", createCommunitiesResponse(1L, 2L));
+        communityCache.put("page-2", createCommunitiesResponse(3L, 4L));
+
+        // when
+        postCacheInvalidator.onPostChanged(PostChangedEvent.commented(1L));
+
+        // then
+        assertThat(communityCache.get("page-1")).isNull();
+        assertThat(communityCache.get("page-2")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("게시글이 등록되면 해당 게시물 그룹의 목록만 제거한다")
+    void evictCreatedPost() {
+        // given
+        Cache communityCache = trackingCache(COMMUNITY_CACHE, Condition.builder().sort(Sort.LATEST).build());
+        communityCache.put("page-1", createCommunitiesResponse(1L, 2L));
+
+        Cache postCache = trackingCache(POST_CACHE, Condition.builder().postGroup(PostGroup.NOTICE).sort(Sort.LATEST).build());
+        postCache.put("notice-count", 10L);
+
+        // when
+        postCacheInvalidator.evictCreatedPost(PostGroup.COMMUNITY);
+
+        // then
+        assertThat(communityCache.get("page-1")).isNull();
+        assertThat(postCache.get("notice-count")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("게시글이 수정되면 해당 게시글을 포함한 목록과 필터 조건이 있는 목록을 제거한다")
+    void evictUpdatedPost() {
+        // given
+        Cache latestCache = trackingCache(COMMUNITY_CACHE, Condition.builder().sort(Sort.LATEST).build());
+        latestCache.put("page-1", createCommunitiesResponse(1L, 2L));
+        latestCache.put("page-2", createCommunitiesResponse(3L, 4L));
+
+        Cache filteredCache = trackingCache(COMMUNITY_CACHE,
+                Condition.builder().category(Category.COMMUNITY_STUDY).sort(Sort.LATEST).build());
+        filteredCache.put("filtered-page-1", createCommunitiesResponse(5L));
+
+        // when
+        postCacheInvalidator.evictUpdatedPost(PostGroup.COMMUNITY, 1L);
+
+        // then
+        assertThat(latestCache.get("page-1")).isNull();
+        assertThat(latestCache.get("page-2")).isNotNull();
+        assertThat(filteredCache.get("filtered-page-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("회원의 반응이 저장되면 해당 게시글의 반응 조회 엔트리만 제거하고 추천순 목록은 유지한다")
+    void evictPostReactions() {
+        // given
+        Cache reactionCache = new DependencyTrackingCache(cacheManager.getCache(POST_CACHE), tracker, null, List.of(1L));
+        reactionCache.put("1-member1-false", "reaction");
+        Cache otherReactionCache = new DependencyTrackingCache(cacheManager.getCache(POST_CACHE), tracker, null, List.of(2L));
+        otherReactionCache.put("2-member1-false", "reaction");
+
+        Cache recommendedCache = trackingCache(COMMUNITY_CACHE, Condition.builder().sort(Sort.RECOMMENDED).build());
+        recommendedCache.put("recommended-page-1", createCommunitiesResponse(1L, 2L));
+
+        // when
+        postCacheInvalidator.evictPostReactions(1L);
+
+        // then
+        assertThat(reactionCache.get("1-member1-false")).isNull();
+        assertThat(otherReactionCache.get("2-member1-false")).isNotNull();
+        assertThat(recommendedCache.get("recommended-page-1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("좋아요, 싫어요 수가 반영되면 해당 게시글을 포함한 목록과 추천순 목록을 제거한다")
+    void evictReactedPosts() {
+        // given
+        Cache latestCache = trackingCache(COMMUNITY_CACHE, Condition.builder().sort(Sort.LATEST).build());
+        latestCache.put("latest-page-2", createCommunitiesResponse(3L, 4L));
+
+        Cache recommendedCache = trackingCache(COMMUNITY_CACHE, Condition.builder().sort(Sort.RECOMMENDED).build());
+        recommendedCache.put("recommended-page-2", createCommunitiesResponse(3L, 4L));
+
+        // when
+        postCacheInvalidator.evictReactedPosts(List.of(1L));
+
+        // then
+        assertThat(latestCache.get("latest-page-2")).isNotNull();
+        assertThat(recommendedCache.get("recommended-page-2")).isNull();
+    }
+
+    private Cache trackingCache(String cacheName, Condition condition) {
+        return new DependencyTrackingCache(cacheManager.getCache(cacheName), tracker, condition, List.of());
+    }
+
+    private CommunitiesResponse createCommunitiesResponse(Long... postIndexes) {
+        return CommunitiesResponse.builder()
+                .communities(Arrays.stream(postIndexes)
+                        .map(postIdx -> createCommunity(postIdx, null, null, null, null, null))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
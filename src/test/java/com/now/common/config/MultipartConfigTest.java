@@ -0,0 +1,97 @@
+package com.now.common.config;
+
+import com.now.config.annotations.ApplicationTest;
+import com.now.core.attachment.application.MultipartStreamReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ApplicationTest
+@DisplayName("multipart 설정은")
+class MultipartConfigTest {
+
+    private static final String CONTENT = "attachment content";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("DispatcherServlet 이 요청 본문을 미리 파싱하지 않아 핸들러가 본문을 직접 스트리밍할 수 있다")
+    void streamRequestBody() {
+        // when
+        ResponseEntity<String> response = restTemplate.postForEntity("/test/multipart/stream", createRequest(), String.class);
+
+        // then
+        assertThat(response.getBody()).isEqualTo("report.txt:" + CONTENT);
+    }
+
+    @Test
+    @DisplayName("지연 파싱하더라도 @RequestPart 로 파트를 받을 수 있다")
+    void resolveRequestPart() {
+        // when
+        ResponseEntity<String> response = restTemplate.postForEntity("/test/multipart/part", createRequest(), String.class);
+
+        // then
+        assertThat(response.getBody()).isEqualTo("report.txt:" + CONTENT);
+    }
+
+    private HttpEntity<MultiValueMap<String, Object>> createRequest() {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("attachments", new ByteArrayResource(CONTENT.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "report.txt";
+            }
+        });
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        return new HttpEntity<>(body, headers);
+    }
+
+    @TestConfiguration
+    static class MultipartTestConfig {
+
+        @Bean
+        MultipartTestController multipartTestController() {
+            return new MultipartTestController();
+        }
+    }
+
+    @ResponseBody
+    @RequestMapping("/test/multipart")
+    static class MultipartTestController {
+
+        @PostMapping(value = "/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+        String stream(HttpServletRequest request) throws IOException {
+            MultipartStreamReader.Part part = new MultipartStreamReader(request.getContentType(), request.getInputStream()).next();
+            return part.getFilename() + ":" + new String(part.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        @PostMapping(value = "/part", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+        String part(@RequestPart(name = "attachments") MultipartFile attachment) throws IOException {
+            return attachment.getOriginalFilename() + ":" + new String(attachment.getBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
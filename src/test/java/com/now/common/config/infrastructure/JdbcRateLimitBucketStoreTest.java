@@ -0,0 +1,88 @@
+package com.now.common.config.infrastructure;
+
+import com.now.config.annotations.RepositoryTest;
+import io.github.bucket4j.Bucket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+@DisplayName("JDBC Rate Limit 버킷 저장소는")
+class JdbcRateLimitBucketStoreTest {
+
+    private static final String BUCKET_KEY = RateLimitPolicy.ANONYMOUS.bucketKey("127.0.0.1");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RateLimitingBucketProvider rateLimitingBucketProvider;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tb_rate_limit_bucket ("
+                + "id BIGINT PRIMARY KEY, "
+                + "state BLOB, "
+                + "last_access_date DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("DELETE FROM tb_rate_limit_bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tb_rate_limit_bucket");
+    }
+
+    @Test
+    @DisplayName("같은 버킷 키라면 서로 다른 서버의 저장소도 하나의 허용량을 나누어 소비한다")
+    void getBucket_sharedAcrossStores() {
+        // given
+        Bucket server1Bucket = createStore().getBucket(BUCKET_KEY, RateLimitPolicy.ANONYMOUS);
+        Bucket server2Bucket = createStore().getBucket(BUCKET_KEY, RateLimitPolicy.ANONYMOUS);
+
+        // when
+        int consumedCount = 0;
+        for (int i = 0; i < RateLimitingBucketProvider.MAX_BANDWIDTH; i++) {
+            if ((i % 2 == 0 ? server1Bucket : server2Bucket).tryConsume(1)) {
+                consumedCount++;
+            }
+        }
+
+        // then
+        assertThat(consumedCount).isEqualTo(RateLimitingBucketProvider.MAX_BANDWIDTH);
+        assertThat(server1Bucket.tryConsume(1)).isFalse();
+        assertThat(server2Bucket.tryConsume(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관 기간 동안 상태가 변경되지 않은 버킷 상태만 삭제한다")
+    void deleteIdleBucketsAtIntervals() {
+        // given
+        JdbcRateLimitBucketStore store = createStore();
+        String activeBucketKey = RateLimitPolicy.MEMBER.bucketKey("tester");
+        store.getBucket(BUCKET_KEY, RateLimitPolicy.ANONYMOUS).tryConsume(1);
+        store.getBucket(activeBucketKey, RateLimitPolicy.MEMBER).tryConsume(1);
+        jdbcTemplate.update("UPDATE tb_rate_limit_bucket SET last_access_date = NOW() - INTERVAL 1 DAY WHERE id = ?",
+                JdbcRateLimitBucketStore.toBucketId(BUCKET_KEY));
+
+        // when
+        store.deleteIdleBucketsAtIntervals();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM tb_rate_limit_bucket", Long.class))
+                .containsExactly(JdbcRateLimitBucketStore.toBucketId(activeBucketKey));
+    }
+
+    private JdbcRateLimitBucketStore createStore() {
+        return new JdbcRateLimitBucketStore(dataSource, rateLimitingBucketProvider, 0, 1, 10, 100, 0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.now.common.config.infrastructure;
+
+import io.github.bucket4j.Bucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Rate Limit 버킷 맵은")
+class RateLimitBucketMapTest {
+
+    private final RateLimitingFactory rateLimitingFactory = new RateLimitingFactory();
+
+    @Test
+    @DisplayName("같은 IP 주소로 동시에 요청해도 버킷을 한 번만 생성한다")
+    void getBucket_concurrently() throws Exception {
+        // given
+        RateLimitBucketMap rateLimitBucketMap = new RateLimitBucketMap(10, 100);
+        AtomicInteger createdCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        List<Callable<Bucket>> tasks = IntStream.range(0, 100)
+                .mapToObj(i -> (Callable<Bucket>) () -> rateLimitBucketMap.getBucket("127.0.0.1", () -> {
+                    createdCount.incrementAndGet();
+                    return createBucket();
+                }))
+                .collect(Collectors.toList());
+
+        // when
+        List<Bucket> buckets;
+        try {
+            buckets = executorService.invokeAll(tasks).stream()
+                    .map(this::getResult)
+                    .collect(Collectors.toList());
+        } finally {
+            executorService.shutdown();
+        }
+
+        // then
+        assertThat(createdCount).hasValue(1);
+        assertThat(buckets).allMatch(bucket -> bucket == buckets.get(0));
+        assertThat(rateLimitBucketMap.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷을 제거하면 다음 요청에 새 버킷을 생성한다")
+    void removeBucket() {
+        // given
+        RateLimitBucketMap rateLimitBucketMap = new RateLimitBucketMap(10, 100);
+        Bucket bucket = rateLimitBucketMap.getBucket("127.0.0.1", this::createBucket);
+
+        // when
+        rateLimitBucketMap.removeBucket("127.0.0.1");
+
+        // then
+        assertThat(rateLimitBucketMap.getBucket("127.0.0.1", this::createBucket)).isNotSameAs(bucket);
+    }
+
+    private Bucket createBucket() {
+        return rateLimitingFactory.generateBucket(20, 20, 1);
+    }
+
+    private Bucket getResult(Future<Bucket> future) {
+        try {
+            return future.get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
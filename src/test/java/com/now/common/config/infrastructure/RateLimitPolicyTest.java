@@ -0,0 +1,43 @@
+package com.now.common.config.infrastructure;
+
+import com.now.core.authentication.constants.Authority;
+import io.github.bucket4j.Bucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Rate Limit 정책은")
+class RateLimitPolicyTest {
+
+    private final RateLimitingBucketProvider rateLimitingBucketProvider =
+            new RateLimitingBucketProvider(new RateLimitingFactory(), new RateLimitProperties());
+
+    @Test
+    @DisplayName("인증된 사용자의 권한에 해당하는 정책을 반환한다")
+    void of() {
+        // when, then
+        assertThat(RateLimitPolicy.of(null)).isEqualTo(RateLimitPolicy.ANONYMOUS);
+        assertThat(RateLimitPolicy.of(Authority.MEMBER)).isEqualTo(RateLimitPolicy.MEMBER);
+        assertThat(RateLimitPolicy.of(Authority.MANAGER)).isEqualTo(RateLimitPolicy.MANAGER);
+    }
+
+    @Test
+    @DisplayName("같은 키라도 정책이 다르면 다른 버킷 키를 반환한다")
+    void bucketKey() {
+        // when, then
+        assertThat(RateLimitPolicy.ANONYMOUS.bucketKey("tester"))
+                .isNotEqualTo(RateLimitPolicy.MEMBER.bucketKey("tester"));
+    }
+
+    @Test
+    @DisplayName("정책의 가장 작은 최대 토큰 수만큼만 소비할 수 있는 버킷을 생성한다")
+    void generateBucket() {
+        // given
+        Bucket bucket = rateLimitingBucketProvider.generateBucket(RateLimitPolicy.MEMBER);
+
+        // when, then
+        assertThat(bucket.tryConsume(60)).isTrue();
+        assertThat(bucket.tryConsume(1)).isFalse();
+    }
+}
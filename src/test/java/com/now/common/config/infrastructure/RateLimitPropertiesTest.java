@@ -0,0 +1,65 @@
+package com.now.common.config.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Rate Limit 설정은")
+class RateLimitPropertiesTest {
+
+    @Test
+    @DisplayName("설정하지 않으면 기본 대역폭 제한과 비용을 사용한다")
+    void defaults() {
+        // given
+        RateLimitProperties properties = new RateLimitProperties();
+
+        // when, then
+        assertThat(properties.getLimits(RateLimitPolicy.MEMBER)).hasSize(2);
+        assertThat(properties.getCost(RateLimitCost.PHOTO_WRITE)).isEqualTo(10);
+        assertThat(properties.getCost("")).isEqualTo(RateLimitProperties.DEFAULT_COST);
+        assertThat(properties.getMaxRefillDuration()).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("설정한 정책과 비용만 대체하고 나머지는 기본값을 유지한다")
+    void bind() {
+        // given
+        Map<String, String> source = Map.of(
+                "now.rate-limit.policies.member[0].capacity", "30",
+                "now.rate-limit.policies.member[0].refill-tokens", "10",
+                "now.rate-limit.policies.member[0].refill-period", "1m",
+                "now.rate-limit.costs.photo-write", "20");
+
+        // when
+        RateLimitProperties properties = new Binder(new MapConfigurationPropertySource(source))
+                .bind("now.rate-limit", Bindable.ofInstance(new RateLimitProperties()))
+                .get();
+
+        // then
+        assertThat(properties.getLimits(RateLimitPolicy.MEMBER))
+                .singleElement()
+                .satisfies(limit -> {
+                    assertThat(limit.getCapacity()).isEqualTo(30);
+                    assertThat(limit.getRefillTokens()).isEqualTo(10);
+                    assertThat(limit.getRefillPeriod()).isEqualTo(Duration.ofMinutes(1));
+                });
+        assertThat(properties.getLimits(RateLimitPolicy.MANAGER)).hasSize(1);
+        assertThat(properties.getCost(RateLimitCost.PHOTO_WRITE)).isEqualTo(20);
+        assertThat(properties.getCost(RateLimitCost.SEARCH)).isEqualTo(3);
+        assertThat(properties.getMaxRefillDuration()).isEqualTo(Duration.ofMinutes(3));
+    }
+
+    @Test
+    @DisplayName("비용 키가 설정되지 않았다면 토큰 1개를 소비한다")
+    void getCost_unknownKey() {
+        // when, then
+        assertThat(new RateLimitProperties().getCost("unknown")).isEqualTo(RateLimitProperties.DEFAULT_COST);
+    }
+}
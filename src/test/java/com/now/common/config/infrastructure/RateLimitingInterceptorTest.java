@@ -38,8 +38,7 @@ class RateLimitingInterceptorTest extends ControllerTest {
                         Refill.intervally(TOKEN_REFILL_COUNT_AT_ONCE, Duration.ofMinutes(TOKEN_REFILL_DURATION_MINUTES))))
                 .build();
 
-        given(rateLimitBucketMap.hasBucket(any())).willReturn(false);
-        given(rateLimitBucketMap.getBucket(any())).willReturn(bucket);
+        given(rateLimitBucketStore.getBucket(any(), any())).willReturn(bucket);
 
         // when
         for (int i = 0; i < MAX_BANDWIDTH; i++) {
@@ -71,8 +70,7 @@ class RateLimitingInterceptorTest extends ControllerTest {
                         Refill.intervally(TOKEN_REFILL_COUNT_AT_ONCE, Duration.ofMinutes(TOKEN_REFILL_DURATION_MINUTES))))
                 .build();
 
-        given(rateLimitBucketMap.hasBucket(any())).willReturn(false);
-        given(rateLimitBucketMap.getBucket(any())).willReturn(bucket);
+        given(rateLimitBucketStore.getBucket(any(), any())).willReturn(bucket);
 
         // when
         long startTime = System.currentTimeMillis();
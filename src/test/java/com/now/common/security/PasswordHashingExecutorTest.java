@@ -0,0 +1,90 @@
+package com.now.common.security;
+
+import com.now.common.exception.ServiceUnavailableException;
+import com.now.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("패스워드 해싱 실행 객체는")
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashingExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("해싱 작업을 스레드 풀에서 실행하고 해싱 시간과 대기 시간을 기록한다")
+    void execute() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 1, 1_000);
+        passwordHashingExecutor.bindTo(registry);
+
+        // when
+        String result = passwordHashingExecutor.execute("encode", () -> Thread.currentThread().getName());
+
+        // then
+        assertThat(result).startsWith("password-hashing-");
+        assertThat(registry.get("password.hashing.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(registry.get("password.hashing.queue.wait").tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찼다면 TooManyRequestsException이 발생한다")
+    void execute_queue_full() throws Exception {
+        // given
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 1, 5_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> passwordHashingExecutor.execute("encode", () -> {
+            started.countDown();
+            return await(release);
+        }));
+        started.await(1, TimeUnit.SECONDS);
+        CompletableFuture.runAsync(() -> passwordHashingExecutor.execute("encode", () -> await(release)));
+        waitUntilQueued();
+
+        // when, then
+        assertThatThrownBy(() -> passwordHashingExecutor.execute("matches", () -> true))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("설정된 시간 안에 해싱이 끝나지 않았다면 ServiceUnavailableException이 발생한다")
+    void execute_timeout() {
+        // given
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 1, 50);
+
+        // when, then
+        assertThatThrownBy(() -> passwordHashingExecutor.execute("matches", () -> await(release)))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 100 && passwordHashingExecutor.getQueuedTaskCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.now.config.document.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.now.common.config.infrastructure.RateLimitBucketMap;
+import com.now.common.config.infrastructure.RateLimitBucketStore;
+import com.now.common.config.infrastructure.RateLimitProperties;
 import com.now.common.config.infrastructure.RateLimitingBucketProvider;
 import com.now.common.mapper.EnumMapperFactory;
 import com.now.core.admin.authentication.application.ManagerAuthenticationService;
@@ -30,6 +31,7 @@ import com.now.core.post.community.application.CommunityService;
 import com.now.core.post.community.presentation.CommunityController;
 import com.now.core.post.inquiry.application.InquiryIntegratedService;
 import com.now.core.post.inquiry.application.InquiryService;
+import com.now.core.post.inquiry.application.InquiryViewGrantProvider;
 import com.now.core.post.inquiry.presentation.InquiryController;
 import com.now.core.post.notice.application.NoticeIntegratedService;
 import com.now.core.post.notice.application.NoticeService;
@@ -43,6 +45,7 @@ import org.mybatis.spring.boot.test.autoconfigure.AutoConfigureMybatis;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -62,6 +65,7 @@ import org.springframework.test.web.servlet.MockMvc;
         ReportController.class,
 })
 @AutoConfigureMybatis
+@Import(RateLimitProperties.class)
 @ActiveProfiles("test")
 public abstract class ControllerTest {
 
@@ -113,6 +117,9 @@ public abstract class ControllerTest {
     @MockBean
     protected InquiryService inquiryService;
 
+    @MockBean
+    protected InquiryViewGrantProvider inquiryViewGrantProvider;
+
     @MockBean
     protected StorageService storageService;
 
@@ -132,7 +139,7 @@ public abstract class ControllerTest {
     protected RateLimitingBucketProvider rateLimitingProvider;
 
     @MockBean
-    protected RateLimitBucketMap rateLimitBucketMap;
+    protected RateLimitBucketStore rateLimitBucketStore;
 
     @MockBean
     protected TokenBlackList tokenBlackList;
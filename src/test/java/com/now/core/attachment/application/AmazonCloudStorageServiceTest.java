@@ -0,0 +1,60 @@
+package com.now.core.attachment.application;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Amazon S3 저장소 서비스는")
+class AmazonCloudStorageServiceTest {
+
+    private static final String BUCKET = "now-bucket";
+
+    // 미리 서명된 URL은 클라이언트에서 계산하므로 S3 호환 로컬 엔드포인트로 충분
+    private final AmazonS3 amazonS3 = AmazonS3ClientBuilder.standard()
+            .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration("http://localhost:9000", "ap-northeast-2"))
+            .withPathStyleAccessEnabled(true)
+            .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("access-key", "secret-key")))
+            .build();
+    private final AmazonS3StreamUploader streamUploader = mock(AmazonS3StreamUploader.class);
+
+    @Test
+    @DisplayName("원본 첨부파일 이름을 Content-Disposition으로 지정한 만료되는 다운로드 URL을 생성한다")
+    void createDownloadUrl() {
+        // given
+        AmazonCloudStorageService storageService = new AmazonCloudStorageService(amazonS3, streamUploader, BUCKET, true, 300);
+
+        // when
+        Optional<URL> downloadUrl = storageService.createDownloadUrl("saved.png", "보고서 1.png");
+
+        // then
+        assertThat(downloadUrl).isPresent();
+        URL url = downloadUrl.get();
+        String query = URLDecoder.decode(url.getQuery(), StandardCharsets.UTF_8);
+        assertThat(url.getHost()).isEqualTo("localhost");
+        assertThat(url.getPath()).isEqualTo("/" + BUCKET + "/saved.png");
+        assertThat(query).contains("response-content-disposition=attachment; filename*=UTF-8''%EB%B3%B4%EA%B3%A0%EC%84%9C%201.png");
+        assertThat(query).contains("Expires=");
+    }
+
+    @Test
+    @DisplayName("미리 서명된 URL 다운로드가 비활성화되어 있다면 URL을 생성하지 않는다")
+    void createDownloadUrl_disabled() {
+        // given
+        AmazonCloudStorageService storageService = new AmazonCloudStorageService(amazonS3, streamUploader, BUCKET, false, 300);
+
+        // when, then
+        assertThat(storageService.createDownloadUrl("saved.png", "report.png")).isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.now.core.attachment.application;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("S3 스트림 업로더는")
+class AmazonS3StreamUploaderTest {
+
+    private static final String BUCKET = "now-bucket";
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonS3 amazonS3 = mock(AmazonS3.class);
+    private final AmazonS3StreamUploader streamUploader = new AmazonS3StreamUploader(amazonS3, BUCKET, PART_SIZE, 2, 2, 4);
+
+    @AfterEach
+    void tearDown() {
+        streamUploader.destroy();
+    }
+
+    @Test
+    @DisplayName("파트 크기보다 작은 내용은 길이를 지정한 한 번의 PUT 요청으로 업로드한다")
+    void upload_singlePut() throws IOException {
+        // when
+        long uploadedBytes = streamUploader.upload("small.png", new ObjectMetadata(), new ByteArrayInputStream(new byte[1_000]));
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        assertThat(uploadedBytes).isEqualTo(1_000);
+        assertThat(captor.getValue().getKey()).isEqualTo("small.png");
+        assertThat(captor.getValue().getMetadata().getContentLength()).isEqualTo(1_000);
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("파트 크기 이상의 내용은 파트 크기로 나눠 멀티파트 업로드한다")
+    void upload_multipart() throws IOException {
+        // given
+        givenMultipartUpload();
+        given(amazonS3.uploadPart(any())).willAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+
+        // when
+        long uploadedBytes = streamUploader.upload("large.png", new ObjectMetadata(), content(PART_SIZE * 2 + 100));
+
+        // then
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3, times(3)).uploadPart(partCaptor.capture());
+        assertThat(partCaptor.getAllValues())
+                .extracting(UploadPartRequest::getPartSize)
+                .containsExactlyInAnyOrder((long) PART_SIZE, (long) PART_SIZE, 100L);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(completeCaptor.capture());
+        assertThat(completeCaptor.getValue().getPartETags())
+                .extracting(PartETag::getETag)
+                .containsExactly("etag-1", "etag-2", "etag-3");
+        assertThat(uploadedBytes).isEqualTo(PART_SIZE * 2L + 100);
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("파트 업로드에 실패하면 멀티파트 업로드를 취소하고 예외를 던진다")
+    void upload_multipart_failed() {
+        // given
+        givenMultipartUpload();
+        given(amazonS3.uploadPart(any())).willThrow(new AmazonS3Exception("failed"));
+
+        // when, then
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> streamUploader.upload("large.png", new ObjectMetadata(), content(PART_SIZE * 2)));
+        verify(amazonS3).abortMultipartUpload(any());
+        verify(amazonS3, never()).completeMultipartUpload(any());
+    }
+
+    private void givenMultipartUpload() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        given(amazonS3.initiateMultipartUpload(any())).willReturn(initiateResult);
+    }
+
+    private static InputStream content(int size) {
+        return new ByteArrayInputStream(new byte[size]);
+    }
+}
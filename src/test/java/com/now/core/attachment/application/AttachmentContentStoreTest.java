@@ -0,0 +1,176 @@
+package com.now.core.attachment.application;
+
+import com.now.core.attachment.application.dto.UploadedAttachment;
+import com.now.core.attachment.domain.AttachmentContent;
+import com.now.core.attachment.domain.AttachmentContentRepository;
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("첨부파일 내용 저장소 객체는")
+class AttachmentContentStoreTest {
+
+    private static final String CONTENT_HASH = "a".repeat(64);
+    private static final String CONTENT_NAME = CONTENT_HASH + ".png";
+
+    private StorageService storageService;
+    private AttachmentContentRepository attachmentContentRepository;
+    private AttachmentDeletionRepository attachmentDeletionRepository;
+    private AttachmentContentStore attachmentContentStore;
+
+    @BeforeEach
+    void setUp() {
+        storageService = mock(StorageService.class);
+        attachmentContentRepository = mock(AttachmentContentRepository.class);
+        attachmentDeletionRepository = mock(AttachmentDeletionRepository.class);
+        attachmentContentStore = new AttachmentContentStore(storageService, attachmentContentRepository,
+                attachmentDeletionRepository, true);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("처음 업로드된 내용은 해시 이름으로 옮긴다")
+    void claim_newContent() {
+        // given
+        when(attachmentContentRepository.saveReference(CONTENT_NAME, CONTENT_HASH)).thenReturn(1);
+
+        // when
+        String savedAttachmentName = attachmentContentStore.claim(createUploadedAttachment("uuid.png", CONTENT_HASH));
+
+        // then
+        assertThat(savedAttachmentName).isEqualTo(CONTENT_NAME);
+        verify(storageService).move("uuid.png", CONTENT_NAME);
+    }
+
+    @Test
+    @DisplayName("이미 참조되고 있는 내용이라면 업로드된 파일을 삭제하고 해시 이름을 반환한다")
+    void claim_duplicateContent() {
+        // given
+        when(attachmentContentRepository.saveReference(CONTENT_NAME, CONTENT_HASH)).thenReturn(2);
+        when(storageService.delete("uuid.png")).thenReturn(true);
+
+        // when
+        String savedAttachmentName = attachmentContentStore.claim(createUploadedAttachment("uuid.png", CONTENT_HASH));
+
+        // then
+        assertThat(savedAttachmentName).isEqualTo(CONTENT_NAME);
+        verify(storageService, never()).move(anyString(), anyString());
+        verify(attachmentDeletionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 해시 이름의 파일을 참조되지 않는 파일로 기록하고 저장소 삭제 목록에 기록한다")
+    void claim_rollback() {
+        // given
+        when(attachmentContentRepository.saveReference(CONTENT_NAME, CONTENT_HASH)).thenReturn(1);
+        attachmentContentStore.claim(createUploadedAttachment("uuid.png", CONTENT_HASH));
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(attachmentContentRepository).saveUnreferenced(CONTENT_NAME, CONTENT_HASH);
+        verify(attachmentDeletionRepository).saveAll(List.of(CONTENT_NAME, "uuid.png"));
+    }
+
+    @Test
+    @DisplayName("해시가 없거나 비활성화되어 있다면 업로드된 이름을 그대로 반환한다")
+    void claim_withoutContentHash() {
+        // given
+        AttachmentContentStore disabledStore = new AttachmentContentStore(storageService, attachmentContentRepository,
+                attachmentDeletionRepository, false);
+
+        // when
+        String withoutHash = attachmentContentStore.claim(createUploadedAttachment("uuid.png", null));
+        String disabled = disabledStore.claim(createUploadedAttachment("uuid.png", CONTENT_HASH));
+
+        // then
+        assertThat(withoutHash).isEqualTo("uuid.png");
+        assertThat(disabled).isEqualTo("uuid.png");
+        verifyNoInteractions(attachmentContentRepository);
+    }
+
+    @Test
+    @DisplayName("해시 이름의 파일은 참조 수를 감소시킨 후 참조되지 않는 파일만 반환한다")
+    void release() {
+        // given
+        String otherContentName = "b".repeat(64) + ".png";
+        when(attachmentContentRepository.release(Map.of(CONTENT_NAME, 2, otherContentName, 1)))
+                .thenReturn(List.of(otherContentName));
+
+        // when
+        List<String> unreferencedNames = attachmentContentStore.release(
+                List.of("uuid.png", CONTENT_NAME, CONTENT_NAME, otherContentName));
+
+        // then
+        assertThat(unreferencedNames).containsExactly("uuid.png", otherContentName);
+    }
+
+    @Test
+    @DisplayName("다시 참조된 파일과 그 축소 이미지는 저장소에서 삭제하지 않는다")
+    void deleteUnreferenced_referencedAgain() {
+        // given
+        String variantName = CONTENT_HASH + "_w200.jpg";
+        when(attachmentContentRepository.findAllForUpdate(List.of(CONTENT_HASH)))
+                .thenReturn(List.of(createAttachmentContent(CONTENT_NAME, 1)));
+
+        // when
+        List<String> failedNames = attachmentContentStore.deleteUnreferenced(List.of(CONTENT_NAME, variantName));
+
+        // then
+        assertThat(failedNames).isEmpty();
+        verify(storageService, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("참조되지 않는 파일과 그 축소 이미지를 삭제하고 삭제에 성공한 파일의 참조 수 정보를 삭제한다")
+    void deleteUnreferenced() {
+        // given
+        String variantName = CONTENT_HASH + "_w200.jpg";
+        when(attachmentContentRepository.findAllForUpdate(List.of(CONTENT_HASH)))
+                .thenReturn(List.of(createAttachmentContent(CONTENT_NAME, 0)));
+        when(storageService.deleteAll(List.of(CONTENT_NAME, variantName))).thenReturn(List.of(variantName));
+
+        // when
+        List<String> failedNames = attachmentContentStore.deleteUnreferenced(List.of(CONTENT_NAME, variantName));
+
+        // then
+        assertThat(failedNames).containsExactly(variantName);
+        verify(attachmentContentRepository).deleteUnreferenced(List.of(CONTENT_NAME));
+    }
+
+    private static UploadedAttachment createUploadedAttachment(String systemName, String contentHash) {
+        return UploadedAttachment.builder()
+                .systemName(systemName)
+                .originalAttachmentName("photo.png")
+                .extension("png")
+                .attachmentSize(100)
+                .contentHash(contentHash)
+                .build();
+    }
+
+    private static AttachmentContent createAttachmentContent(String savedAttachmentName, int referenceCount) {
+        return AttachmentContent.builder()
+                .savedAttachmentName(savedAttachmentName)
+                .contentHash(CONTENT_HASH)
+                .referenceCount(referenceCount)
+                .build();
+    }
+}
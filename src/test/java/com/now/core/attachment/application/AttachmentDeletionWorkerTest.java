@@ -0,0 +1,89 @@
+package com.now.core.attachment.application;
+
+import com.now.core.attachment.domain.AttachmentDeletion;
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("첨부파일 삭제 작업 객체는")
+class AttachmentDeletionWorkerTest {
+
+    private StorageService storageService;
+    private AttachmentDeletionRepository attachmentDeletionRepository;
+    private AttachmentContentStore attachmentContentStore;
+    private AttachmentDeletionWorker attachmentDeletionWorker;
+
+    @BeforeEach
+    void setUp() {
+        storageService = mock(StorageService.class);
+        attachmentDeletionRepository = mock(AttachmentDeletionRepository.class);
+        attachmentContentStore = mock(AttachmentContentStore.class);
+        attachmentDeletionWorker = new AttachmentDeletionWorker(storageService, attachmentDeletionRepository,
+                attachmentContentStore);
+    }
+
+    @Test
+    @DisplayName("저장소에서 일괄 삭제 후 성공한 첨부파일은 목록에서 제거하고 실패한 첨부파일은 다음 시도를 미룬다")
+    void deleteAtIntervals() {
+        // given
+        when(attachmentDeletionRepository.findDueAttachmentDeletions(AttachmentDeletionWorker.BATCH_SIZE))
+                .thenReturn(List.of(createAttachmentDeletion(1L, "1.png"), createAttachmentDeletion(2L, "2.png"),
+                        createAttachmentDeletion(3L, "3.png")));
+        when(storageService.deleteAll(List.of("1.png", "2.png", "3.png"))).thenReturn(List.of("2.png"));
+
+        // when
+        attachmentDeletionWorker.deleteAtIntervals();
+
+        // then
+        verify(storageService, times(1)).deleteAll(any());
+        verify(attachmentDeletionRepository).deleteAll(List.of(1L, 3L));
+        verify(attachmentDeletionRepository).postponeAll(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("저장소 삭제 중 예외가 발생하면 모든 첨부파일의 다음 시도를 미룬다")
+    void deleteAtIntervals_storageFailure() {
+        // given
+        when(attachmentDeletionRepository.findDueAttachmentDeletions(AttachmentDeletionWorker.BATCH_SIZE))
+                .thenReturn(List.of(createAttachmentDeletion(1L, "1.png"), createAttachmentDeletion(2L, "2.png")));
+        when(storageService.deleteAll(any())).thenThrow(new IllegalStateException("storage unavailable"));
+
+        // when
+        attachmentDeletionWorker.deleteAtIntervals();
+
+        // then
+        verify(attachmentDeletionRepository).deleteAll(List.of());
+        verify(attachmentDeletionRepository).postponeAll(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("해시 이름의 첨부파일은 참조되지 않은 경우에만 삭제하도록 따로 처리한다")
+    void deleteAtIntervals_contentNames() {
+        // given
+        String contentName = "a".repeat(64) + ".png";
+        when(attachmentDeletionRepository.findDueAttachmentDeletions(AttachmentDeletionWorker.BATCH_SIZE))
+                .thenReturn(List.of(createAttachmentDeletion(1L, "1.png"), createAttachmentDeletion(2L, contentName)));
+        when(storageService.deleteAll(List.of("1.png"))).thenReturn(List.of());
+        when(attachmentContentStore.deleteUnreferenced(List.of(contentName))).thenReturn(List.of(contentName));
+
+        // when
+        attachmentDeletionWorker.deleteAtIntervals();
+
+        // then
+        verify(attachmentDeletionRepository).deleteAll(List.of(1L));
+        verify(attachmentDeletionRepository).postponeAll(List.of(2L));
+    }
+
+    private AttachmentDeletion createAttachmentDeletion(Long attachmentDeletionIdx, String savedAttachmentName) {
+        return AttachmentDeletion.builder()
+                .attachmentDeletionIdx(attachmentDeletionIdx)
+                .savedAttachmentName(savedAttachmentName)
+                .attemptCount(0)
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import com.now.common.exception.ErrorType;
 import com.now.config.annotations.ApplicationTest;
 import com.now.core.attachment.application.dto.ThumbNail;
 import com.now.core.attachment.domain.Attachment;
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
 import com.now.core.attachment.domain.AttachmentRepository;
 import com.now.core.attachment.domain.constants.AttachmentType;
 import com.now.core.attachment.exception.CannotUpdateThumbnailException;
@@ -31,6 +32,21 @@ class AttachmentServiceTest {
 
     @Autowired private AttachmentService attachmentService;
     @MockBean private AttachmentRepository attachmentRepository;
+    @MockBean private AttachmentDeletionRepository attachmentDeletionRepository;
+
+    @Test
+    @DisplayName("게시글의 모든 첨부 파일을 삭제하면 저장소 삭제 목록에 기록하고 첨부 파일 정보를 한 번에 삭제한다")
+    void deleteAllByPostIdxWithThumbNail() {
+        Long postIdx = 1L;
+        given(attachmentRepository.findSavedAttachmentNamesByPostIdx(postIdx)).willReturn(List.of("1.png", "2.png", "3.png"));
+
+        attachmentService.deleteAllByPostIdxWithThumbNail(postIdx);
+
+        verify(attachmentRepository, times(1)).deleteThumbNailByPostIdx(postIdx);
+        verify(attachmentDeletionRepository, times(1)).saveAll(List.of("1.png", "2.png", "3.png"));
+        verify(attachmentRepository, times(1)).deleteAllByPostIdx(postIdx);
+        verify(attachmentRepository, never()).deleteAttachmentIdx(any());
+    }
 
     @Nested
     @DisplayName("기존 업로드된 첨부 파일 수정")
@@ -313,7 +329,7 @@ class AttachmentServiceTest {
                     attachmentService.updateAttachmentsWithVerifiedIndexes(UpdateOption.ADD_NEW, addNewAttachments,
                             new UpdateExistingAttachments(), postIdx, AttachmentType.IMAGE);
 
-                    verify(attachmentRepository, times(3)).saveAttachment(any());
+                    verify(attachmentRepository, times(1)).saveAttachments(argThat(attachments -> attachments.size() == 3));
                     verify(attachmentRepository, times(1)).saveThumbNail(any());
                 }
 
@@ -356,7 +372,7 @@ class AttachmentServiceTest {
                     attachmentService.updateAttachmentsWithVerifiedIndexes(UpdateOption.ADD_NEW, addNewAttachments,
                             new UpdateExistingAttachments(), postIdx, AttachmentType.IMAGE);
 
-                    verify(attachmentRepository, times(3)).saveAttachment(any());
+                    verify(attachmentRepository, times(1)).saveAttachments(argThat(attachments -> attachments.size() == 3));
                     verify(attachmentRepository, times(1)).updateThumbnail(any());
                 }
 
@@ -391,7 +407,7 @@ class AttachmentServiceTest {
                 attachmentService.updateAttachmentsWithVerifiedIndexes(UpdateOption.ADD_NEW, addNewAttachments,
                         new UpdateExistingAttachments(), postIdx, AttachmentType.IMAGE);
 
-                verify(attachmentRepository, times(2)).saveAttachment(any());
+                verify(attachmentRepository, times(1)).saveAttachments(argThat(attachments -> attachments.size() == 2));
             }
         }
     }
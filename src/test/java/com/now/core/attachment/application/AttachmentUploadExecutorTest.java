@@ -0,0 +1,85 @@
+package com.now.core.attachment.application;
+
+import com.now.common.exception.FileInsertionException;
+import com.now.core.attachment.application.dto.UploadedAttachment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.now.config.fixtures.attachment.AttachmentFixture.createMockMultipartFile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+@DisplayName("첨부파일 업로드 실행 객체는")
+class AttachmentUploadExecutorTest {
+
+    private StorageService storageService;
+    private AttachmentUploadExecutor attachmentUploadExecutor;
+
+    @BeforeEach
+    void setUp() {
+        storageService = mock(StorageService.class);
+        attachmentUploadExecutor = new AttachmentUploadExecutor(storageService, 4, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        attachmentUploadExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("첨부파일들을 동시에 업로드 후 전달받은 순서대로 반환한다")
+    void uploadAll() {
+        // given
+        List<MultipartFile> multipartFiles = List.of(createMockMultipartFile("1.png"),
+                createMockMultipartFile("2.png"), createMockMultipartFile("3.png"));
+        when(storageService.upload(any())).thenAnswer(invocation -> {
+            MultipartFile multipartFile = invocation.getArgument(0);
+            return createUploadedAttachment(multipartFile.getOriginalFilename());
+        });
+
+        // when
+        List<UploadedAttachment> uploadedAttachments = attachmentUploadExecutor.uploadAll(multipartFiles);
+
+        // then
+        assertThat(uploadedAttachments.stream().map(UploadedAttachment::getSystemName).collect(Collectors.toList()))
+                .containsExactly("saved-1.png", "saved-2.png", "saved-3.png");
+    }
+
+    @Test
+    @DisplayName("하나라도 업로드에 실패하면 업로드된 첨부파일을 모두 삭제 후 예외를 던진다")
+    void uploadAll_failure() {
+        // given
+        List<MultipartFile> multipartFiles = List.of(createMockMultipartFile("1.png"),
+                createMockMultipartFile("2.png"), createMockMultipartFile("3.png"));
+        when(storageService.upload(any())).thenAnswer(invocation -> {
+            MultipartFile multipartFile = invocation.getArgument(0);
+            if ("2.png".equals(multipartFile.getOriginalFilename())) {
+                throw new FileInsertionException("첨부파일 업로드 중 에러가 발생했습니다.");
+            }
+            return createUploadedAttachment(multipartFile.getOriginalFilename());
+        });
+
+        // when, then
+        assertThatExceptionOfType(FileInsertionException.class)
+                .isThrownBy(() -> attachmentUploadExecutor.uploadAll(multipartFiles));
+        verify(storageService).delete("saved-1.png");
+        verify(storageService).delete("saved-3.png");
+        verify(storageService, times(2)).delete(any());
+    }
+
+    private UploadedAttachment createUploadedAttachment(String originalAttachmentName) {
+        return UploadedAttachment.builder()
+                .originalAttachmentName(originalAttachmentName)
+                .systemName("saved-" + originalAttachmentName)
+                .extension("png")
+                .attachmentSize(7777)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.now.core.attachment.application;
+
+import com.now.core.attachment.exception.InvalidAttachmentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("multipart 스트림 리더는")
+class MultipartStreamReaderTest {
+
+    private static final String BOUNDARY = "now-boundary";
+    private static final String CONTENT_TYPE = "multipart/form-data; boundary=" + BOUNDARY;
+
+    @Test
+    @DisplayName("파트의 이름, 파일 이름, 내용을 차례대로 읽는다")
+    void next() throws IOException {
+        // given
+        String body = "preamble\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+                + "제목\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"attachments\"; filename=\"보고서.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n"
+                + "line1\r\n--not-boundary\r\nline2\r\n"
+                + "--" + BOUNDARY + "--\r\n";
+        MultipartStreamReader reader = new MultipartStreamReader(CONTENT_TYPE, trickle(body));
+
+        // when
+        MultipartStreamReader.Part title = reader.next();
+        String titleContent = read(title.getInputStream());
+        MultipartStreamReader.Part attachment = reader.next();
+        String attachmentContent = read(attachment.getInputStream());
+
+        // then
+        assertThat(title.getName()).isEqualTo("title");
+        assertThat(title.isFile()).isFalse();
+        assertThat(titleContent).isEqualTo("제목");
+        assertThat(attachment.getName()).isEqualTo("attachments");
+        assertThat(attachment.getFilename()).isEqualTo("보고서.png");
+        assertThat(attachment.getContentType()).isEqualTo("image/png");
+        assertThat(attachmentContent).isEqualTo("line1\r\n--not-boundary\r\nline2");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("읽지 않은 파트의 내용은 버리고, 이전 파트의 스트림으로는 더 이상 읽을 수 없다")
+    void next_skipUnreadPart() throws IOException {
+        // given
+        String largeContent = "a".repeat(100_000);
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"attachments\"; filename=\"large.png\"\r\n\r\n"
+                + largeContent + "\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"attachments\"; filename=\"small.png\"\r\n\r\n"
+                + "small\r\n"
+                + "--" + BOUNDARY + "--";
+        MultipartStreamReader reader = new MultipartStreamReader(CONTENT_TYPE, trickle(body));
+
+        // when
+        MultipartStreamReader.Part large = reader.next();
+        MultipartStreamReader.Part small = reader.next();
+
+        // then
+        assertThat(large.getInputStream().read()).isEqualTo(-1);
+        assertThat(small.getFilename()).isEqualTo("small.png");
+        assertThat(read(small.getInputStream())).isEqualTo("small");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 구분자 전에 요청 본문이 끝나면 예외를 던진다")
+    void next_truncated() throws IOException {
+        // given
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"attachments\"; filename=\"file.png\"\r\n\r\n"
+                + "truncated content";
+        MultipartStreamReader reader = new MultipartStreamReader(CONTENT_TYPE, trickle(body));
+        MultipartStreamReader.Part part = reader.next();
+
+        // when, then
+        assertThatExceptionOfType(InvalidAttachmentException.class)
+                .isThrownBy(() -> read(part.getInputStream()));
+    }
+
+    @Test
+    @DisplayName("multipart/form-data 요청이 아니라면 예외를 던진다")
+    void create_notMultipart() {
+        // when, then
+        assertThatExceptionOfType(InvalidAttachmentException.class)
+                .isThrownBy(() -> new MultipartStreamReader("application/json", InputStream.nullInputStream()));
+        assertThatExceptionOfType(InvalidAttachmentException.class)
+                .isThrownBy(() -> new MultipartStreamReader("multipart/form-data", InputStream.nullInputStream()));
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 구분자가 버퍼 경계에 걸치도록 한 번에 최대 7바이트씩만 읽는 스트림 생성
+     */
+    private static InputStream trickle(String body) {
+        return new FilterInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                return super.read(bytes, offset, Math.min(length, 7));
+            }
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.now.core.attachment.application;
+
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
+import com.now.core.attachment.domain.AttachmentRepository;
+import com.now.core.attachment.presentation.dto.AttachmentResponse;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.application.PostChangePublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("대표 이미지 축소 객체는")
+class ThumbnailGeneratorTest {
+
+    private StorageService storageService;
+    private AttachmentRepository attachmentRepository;
+    private AttachmentDeletionRepository attachmentDeletionRepository;
+    private PostChangePublisher postChangePublisher;
+    private ThumbnailGenerator thumbnailGenerator;
+    private Map<String, BufferedImage> savedVariants;
+
+    @BeforeEach
+    void setUp() {
+        storageService = mock(StorageService.class);
+        attachmentRepository = mock(AttachmentRepository.class);
+        attachmentDeletionRepository = mock(AttachmentDeletionRepository.class);
+        postChangePublisher = mock(PostChangePublisher.class);
+        thumbnailGenerator = new ThumbnailGenerator(storageService, attachmentRepository, attachmentDeletionRepository,
+                postChangePublisher, 1, 1, 40_000_000, 0.8f);
+
+        savedVariants = new HashMap<>();
+        when(storageService.save(anyString(), any())).thenAnswer(invocation -> {
+            byte[] variant = invocation.getArgument(1, InputStream.class).readAllBytes();
+            savedVariants.put(invocation.getArgument(0), ImageIO.read(new ByteArrayInputStream(variant)));
+            return (long) variant.length;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailGenerator.destroy();
+    }
+
+    @Test
+    @DisplayName("크기별 축소 이미지를 비율을 유지해 저장하고 첨부파일에 표시한 후 사진 게시글 캐시를 제거한다")
+    void generate() throws IOException {
+        // given
+        givenAttachment(1L, "photo.png", createPng(2400, 1600));
+        when(attachmentRepository.updateThumbnailVariantDate(1L)).thenReturn(true);
+
+        // when
+        thumbnailGenerator.generate(1L);
+
+        // then
+        assertThat(savedVariants).containsOnlyKeys("photo_w200.jpg", "photo_w600.jpg", "photo_w1200.jpg");
+        assertThat(savedVariants.get("photo_w200.jpg").getWidth()).isEqualTo(200);
+        assertThat(savedVariants.get("photo_w200.jpg").getHeight()).isEqualTo(133);
+        assertThat(savedVariants.get("photo_w1200.jpg").getWidth()).isEqualTo(1200);
+        assertThat(savedVariants.get("photo_w1200.jpg").getHeight()).isEqualTo(800);
+        verify(postChangePublisher).publishUpdated(PostGroup.PHOTO, 10L);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 축소 이미지는 원본 크기로 저장한다")
+    void generate_smallSource() throws IOException {
+        // given
+        givenAttachment(1L, "photo.png", createPng(300, 150));
+        when(attachmentRepository.updateThumbnailVariantDate(1L)).thenReturn(true);
+
+        // when
+        thumbnailGenerator.generate(1L);
+
+        // then
+        assertThat(savedVariants.get("photo_w1200.jpg").getWidth()).isEqualTo(300);
+        assertThat(savedVariants.get("photo_w600.jpg").getWidth()).isEqualTo(300);
+        assertThat(savedVariants.get("photo_w200.jpg").getWidth()).isEqualTo(200);
+        assertThat(savedVariants.get("photo_w200.jpg").getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 이미지는 축소 이미지를 저장하지 않는다")
+    void generate_unreadableImage() throws IOException {
+        // given
+        givenAttachment(1L, "photo.png", new byte[]{1, 2, 3});
+
+        // when
+        thumbnailGenerator.generate(1L);
+
+        // then
+        verify(storageService, never()).save(anyString(), any());
+        verify(attachmentRepository, never()).updateThumbnailVariantDate(any());
+    }
+
+    @Test
+    @DisplayName("만드는 동안 첨부파일이 삭제되었다면 축소 이미지를 저장소 삭제 목록에 기록한다")
+    void generate_deletedAttachment() throws IOException {
+        // given
+        givenAttachment(1L, "photo.png", createPng(400, 400));
+        when(attachmentRepository.updateThumbnailVariantDate(1L)).thenReturn(false);
+
+        // when
+        thumbnailGenerator.generate(1L);
+
+        // then
+        verify(attachmentDeletionRepository).saveAll(List.of("photo_w200.jpg", "photo_w600.jpg", "photo_w1200.jpg"));
+        verify(postChangePublisher, never()).publishUpdated(any(), any());
+    }
+
+    private void givenAttachment(Long attachmentIdx, String savedAttachmentName, byte[] content) throws IOException {
+        when(attachmentRepository.findAttachmentResponseByAttachmentIdx(attachmentIdx)).thenReturn(AttachmentResponse.builder()
+                .attachmentIdx(attachmentIdx)
+                .savedAttachmentName(savedAttachmentName)
+                .postIdx(10L)
+                .build());
+        when(storageService.createStream(savedAttachmentName)).thenAnswer(invocation -> new ByteArrayInputStream(content));
+    }
+
+    private static byte[] createPng(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,160 @@
+package com.now.core.attachment.application;
+
+import com.now.common.exception.ErrorType;
+import com.now.core.attachment.domain.AttachmentDeletionRepository;
+import com.now.core.attachment.domain.UploadSession;
+import com.now.core.attachment.domain.UploadSessionRepository;
+import com.now.core.attachment.domain.constants.AttachmentType;
+import com.now.core.attachment.exception.InvalidAttachmentException;
+import com.now.core.authentication.application.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("업로드 세션 서비스는")
+class UploadSessionServiceTest {
+
+    private static final int CHUNK_SIZE = 10;
+    private static final String UPLOAD_SESSION_ID = "c0a8012e-7f1b-4c2d-9e3a-5b6c7d8e9f10";
+
+    private StorageService storageService;
+    private UploadSessionRepository uploadSessionRepository;
+    private UploadSessionService uploadSessionService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = mock(StorageService.class);
+        uploadSessionRepository = mock(UploadSessionRepository.class);
+        uploadSessionService = new UploadSessionService(storageService, mock(AttachmentService.class),
+                uploadSessionRepository, mock(AttachmentDeletionRepository.class), mock(JwtTokenProvider.class),
+                CHUNK_SIZE, 86400);
+
+        when(storageService.save(anyString(), any())).thenAnswer(invocation ->
+                (long) invocation.getArgument(1, InputStream.class).readAllBytes().length);
+    }
+
+    @Test
+    @DisplayName("첨부파일 크기를 조각 크기로 나눠 세션을 시작한다")
+    void startUploadSession() {
+        // given
+        UploadSession uploadSession = UploadSession.builder()
+                .originalAttachmentName("photo.png")
+                .attachmentSize(25L)
+                .build();
+
+        // when
+        UploadSession startedUploadSession = uploadSessionService.startUploadSession(uploadSession, "tester1", 1L, AttachmentType.IMAGE);
+
+        // then
+        assertThat(startedUploadSession.getUploadSessionId()).isNotNull();
+        assertThat(startedUploadSession.getChunkCount()).isEqualTo(3);
+        assertThat(startedUploadSession.getChunkNames()).containsExactly(
+                startedUploadSession.getUploadSessionId() + "-1.chunk",
+                startedUploadSession.getUploadSessionId() + "-2.chunk",
+                startedUploadSession.getUploadSessionId() + "-3.chunk");
+        verify(uploadSessionRepository).save(startedUploadSession, 86400);
+    }
+
+    @Test
+    @DisplayName("허용된 크기를 넘는 첨부파일은 세션을 시작하지 않는다")
+    void startUploadSession_tooLarge() {
+        // given
+        UploadSession uploadSession = UploadSession.builder()
+                .originalAttachmentName("photo.png")
+                .attachmentSize(AttachmentType.IMAGE.getMaxUploadSize() + 1L)
+                .build();
+
+        // when, then
+        assertThatThrownBy(() -> uploadSessionService.startUploadSession(uploadSession, "tester1", 1L, AttachmentType.IMAGE))
+                .isInstanceOf(InvalidAttachmentException.class)
+                .hasFieldOrPropertyWithValue("code", ErrorType.INVALID_ATTACHMENT_SIZE.getCode());
+        verify(uploadSessionRepository, never()).save(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("조각을 정해진 이름으로 저장하고 업로드된 조각으로 기록한다")
+    void saveChunk() {
+        // given
+        givenUploadSession(25L);
+
+        // when
+        uploadSessionService.saveChunk(UPLOAD_SESSION_ID, 3, "tester1", new ByteArrayInputStream(new byte[5]));
+
+        // then
+        verify(storageService).save(eq(UPLOAD_SESSION_ID + "-3.chunk"), any());
+        verify(uploadSessionRepository).saveChunk(UPLOAD_SESSION_ID, 3, 5L);
+    }
+
+    @Test
+    @DisplayName("조각 크기가 부족하면 업로드된 조각 기록을 지우고 예외를 던진다")
+    void saveChunk_shortChunk() {
+        // given
+        givenUploadSession(25L);
+
+        // when, then
+        assertThatThrownBy(() -> uploadSessionService.saveChunk(UPLOAD_SESSION_ID, 1, "tester1", new ByteArrayInputStream(new byte[4])))
+                .isInstanceOf(InvalidAttachmentException.class)
+                .hasFieldOrPropertyWithValue("code", ErrorType.INVALID_UPLOAD_CHUNK.getCode());
+        verify(uploadSessionRepository).deleteChunk(UPLOAD_SESSION_ID, 1);
+        verify(uploadSessionRepository, never()).saveChunk(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 조각 번호는 저장하지 않는다")
+    void saveChunk_outOfRange() {
+        // given
+        givenUploadSession(25L);
+
+        // when, then
+        assertThatThrownBy(() -> uploadSessionService.saveChunk(UPLOAD_SESSION_ID, 4, "tester1", new ByteArrayInputStream(new byte[5])))
+                .isInstanceOf(InvalidAttachmentException.class)
+                .hasFieldOrPropertyWithValue("code", ErrorType.INVALID_UPLOAD_CHUNK.getCode());
+        verify(storageService, never()).save(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 회원의 세션은 없는 세션으로 간주한다")
+    void saveChunk_otherMember() {
+        // given
+        givenUploadSession(25L);
+
+        // when, then
+        assertThatThrownBy(() -> uploadSessionService.saveChunk(UPLOAD_SESSION_ID, 1, "tester2", new ByteArrayInputStream(new byte[10])))
+                .isInstanceOf(InvalidAttachmentException.class)
+                .hasFieldOrPropertyWithValue("code", ErrorType.NOT_FOUND_UPLOAD_SESSION.getCode());
+        verify(storageService, never()).save(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("업로드되지 않은 조각이 있으면 첨부파일로 합치지 않는다")
+    void assemble_incomplete() {
+        // given
+        givenUploadSession(25L);
+        when(uploadSessionRepository.findUploadedChunkNumbers(UPLOAD_SESSION_ID)).thenReturn(List.of(1, 3));
+
+        // when, then
+        assertThatThrownBy(() -> uploadSessionService.assemble(UPLOAD_SESSION_ID, "tester1", 1L, AttachmentType.IMAGE))
+                .isInstanceOf(InvalidAttachmentException.class)
+                .hasFieldOrPropertyWithValue("code", ErrorType.INCOMPLETE_UPLOAD_SESSION.getCode());
+        verify(storageService, never()).upload(anyString(), any(InputStream.class));
+    }
+
+    private void givenUploadSession(long attachmentSize) {
+        UploadSession uploadSession = UploadSession.builder()
+                .originalAttachmentName("photo.png")
+                .attachmentSize(attachmentSize)
+                .build()
+                .start(UPLOAD_SESSION_ID, "tester1", 1L, AttachmentType.IMAGE, CHUNK_SIZE);
+        when(uploadSessionRepository.findUploadSession(UPLOAD_SESSION_ID)).thenReturn(uploadSession);
+        when(uploadSessionRepository.extend(UPLOAD_SESSION_ID, 86400)).thenReturn(true);
+    }
+}
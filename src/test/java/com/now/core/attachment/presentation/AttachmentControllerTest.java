@@ -10,18 +10,29 @@ import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
-import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.Optional;
 
 import static com.now.config.fixtures.attachment.AttachmentFixture.createAttachmentResponseForBinaryDownload;
-import static com.now.config.fixtures.attachment.AttachmentFixture.createMockMultipartFile;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 
 class AttachmentControllerTest extends RestDocsTestSupport {
 
+    private static final long ATTACHMENT_LENGTH = 7777L;
+
     @Test
     @DisplayName("바이너리 다운로드 응답")
     void serveDownloadFile() throws Exception {
@@ -29,15 +40,15 @@ class AttachmentControllerTest extends RestDocsTestSupport {
         String attachmentName = "NOW_ERD.PNG";
         AttachmentResponse attachment = createAttachmentResponseForBinaryDownload(attachmentName);
         given(attachmentService.getAttachment(attachmentIdx)).willReturn(attachment);
-
-        given(storageService.createStream(attachment.getSavedAttachmentName()))
-                .willReturn(createMockMultipartFile(attachmentName).getInputStream());
+        givenStoredAttachment(attachment.getSavedAttachmentName());
 
         ResultActions resultActions =
                 mockMvc.perform(RestDocumentationRequestBuilders.get("/api/attachments/{attachmentIdx}", attachmentIdx))
                         .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_OCTET_STREAM))
                         .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_DISPOSITION,
                                 "form-data; name=\"attachment\"; filename=\"NOW_ERD.PNG\"")) // 수정된 부분
+                        .andExpect(MockMvcResultMatchers.header().longValue(HttpHeaders.CONTENT_LENGTH, ATTACHMENT_LENGTH))
+                        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
                         .andExpect(MockMvcResultMatchers.status().isOk());
 
         resultActions
@@ -47,8 +58,116 @@ class AttachmentControllerTest extends RestDocsTestSupport {
                         ),
                         responseHeaders(
                                 headerWithName(HttpHeaders.CONTENT_TYPE).description("다운로드 응답의 콘텐츠 타입"),
-                                headerWithName(HttpHeaders.CONTENT_DISPOSITION).description("다운로드 응답의 Content-Disposition 헤더")
+                                headerWithName(HttpHeaders.CONTENT_DISPOSITION).description("다운로드 응답의 Content-Disposition 헤더"),
+                                headerWithName(HttpHeaders.ACCEPT_RANGES).description("구간 요청 지원 단위"),
+                                headerWithName(HttpHeaders.ETAG).description("If-Range 헤더에 사용할 첨부파일의 ETag")
+                        )
+                ));
+        verify(storageService).transferTo(eq(attachmentName), eq(0L), eq(ATTACHMENT_LENGTH), any());
+    }
+
+    @Test
+    @DisplayName("Range 헤더가 있다면 요청한 구간만 부분 응답")
+    void serveDownloadFile_partialContent() throws Exception {
+        Long attachmentIdx = 1L;
+        String attachmentName = "NOW_ERD.PNG";
+        AttachmentResponse attachment = createAttachmentResponseForBinaryDownload(attachmentName);
+        given(attachmentService.getAttachment(attachmentIdx)).willReturn(attachment);
+        givenStoredAttachment(attachment.getSavedAttachmentName());
+
+        ResultActions resultActions =
+                mockMvc.perform(RestDocumentationRequestBuilders.get("/api/attachments/{attachmentIdx}", attachmentIdx)
+                                .header(HttpHeaders.RANGE, "bytes=1000-1999"))
+                        .andExpect(MockMvcResultMatchers.status().isPartialContent())
+                        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_RANGE, "bytes 1000-1999/7777"))
+                        .andExpect(MockMvcResultMatchers.header().longValue(HttpHeaders.CONTENT_LENGTH, 1000L));
+
+        resultActions
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("attachmentIdx").description("첨부파일 ID")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.RANGE).description("요청할 구간")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.CONTENT_RANGE).description("응답한 구간과 첨부파일의 전체 크기")
+                        )
+                ));
+        verify(storageService).transferTo(eq(attachmentName), eq(1000L), eq(1000L), any());
+    }
+
+    @Test
+    @DisplayName("Range 헤더의 구간이 첨부파일 크기를 벗어난다면 416 응답")
+    void serveDownloadFile_rangeNotSatisfiable() throws Exception {
+        Long attachmentIdx = 1L;
+        String attachmentName = "NOW_ERD.PNG";
+        AttachmentResponse attachment = createAttachmentResponseForBinaryDownload(attachmentName);
+        given(attachmentService.getAttachment(attachmentIdx)).willReturn(attachment);
+        givenStoredAttachment(attachment.getSavedAttachmentName());
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/attachments/{attachmentIdx}", attachmentIdx)
+                        .header(HttpHeaders.RANGE, "bytes=8000-"))
+                .andExpect(MockMvcResultMatchers.status().isRequestedRangeNotSatisfiable())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_RANGE, "bytes */7777"));
+
+        verify(storageService, never()).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("If-Range 헤더의 ETag가 다르다면 Range 헤더를 무시하고 전체 파일 응답")
+    void serveDownloadFile_ifRangeMismatch() throws Exception {
+        Long attachmentIdx = 1L;
+        String attachmentName = "NOW_ERD.PNG";
+        AttachmentResponse attachment = createAttachmentResponseForBinaryDownload(attachmentName);
+        given(attachmentService.getAttachment(attachmentIdx)).willReturn(attachment);
+        givenStoredAttachment(attachment.getSavedAttachmentName());
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/attachments/{attachmentIdx}", attachmentIdx)
+                        .header(HttpHeaders.RANGE, "bytes=1000-1999")
+                        .header(HttpHeaders.IF_RANGE, "\"other.png\""))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().longValue(HttpHeaders.CONTENT_LENGTH, ATTACHMENT_LENGTH));
+
+        verify(storageService).transferTo(eq(attachmentName), eq(0L), eq(ATTACHMENT_LENGTH), any());
+    }
+
+    @Test
+    @DisplayName("저장소가 다운로드 URL을 제공한다면 내용을 전송하지 않고 해당 URL로 이동")
+    void serveDownloadFile_redirect() throws Exception {
+        Long attachmentIdx = 1L;
+        String attachmentName = "NOW_ERD.PNG";
+        String downloadUrl = "https://now-bucket.s3.ap-northeast-2.amazonaws.com/NOW_ERD.PNG?X-Amz-Signature=signature";
+        AttachmentResponse attachment = createAttachmentResponseForBinaryDownload(attachmentName);
+        given(attachmentService.getAttachment(attachmentIdx)).willReturn(attachment);
+        given(storageService.createDownloadUrl(attachmentName, attachmentName)).willReturn(Optional.of(new URL(downloadUrl)));
+
+        ResultActions resultActions =
+                mockMvc.perform(RestDocumentationRequestBuilders.get("/api/attachments/{attachmentIdx}", attachmentIdx))
+                        .andExpect(MockMvcResultMatchers.status().isFound())
+                        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LOCATION, downloadUrl))
+                        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+
+        resultActions
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("attachmentIdx").description("첨부파일 ID")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.LOCATION).description("만료되는 첨부파일 다운로드 URL")
                         )
                 ));
+        verify(storageService, never()).getSize(anyString());
+        verify(storageService, never()).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    private void givenStoredAttachment(String savedAttachmentName) throws Exception {
+        given(storageService.getSize(savedAttachmentName)).willReturn(ATTACHMENT_LENGTH);
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(3);
+            long count = invocation.getArgument(2);
+            outputStream.write(new byte[(int) count]);
+            return null;
+        }).given(storageService).transferTo(eq(savedAttachmentName), anyLong(), anyLong(), any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.now.core.authentication.application;
+
+import com.now.core.authentication.application.dto.TokenClaims;
+import com.now.core.authentication.application.dto.VerifiedClaims;
+import com.now.core.authentication.exception.InvalidTokenException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JWT 토큰 제공 객체는")
+class JwtTokenProviderTest {
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider("testSecurityKey", 100);
+
+    @Test
+    @DisplayName("토큰을 검증하고 검증된 클레임을 반환한다")
+    void verify() {
+        // given
+        String accessToken = jwtTokenProvider.createAccessToken(createTokenClaims());
+
+        // when
+        VerifiedClaims claims = jwtTokenProvider.verify(accessToken);
+
+        // then
+        assertThat(claims.get("id")).isEqualTo("tester");
+        assertThat(claims.get("role")).isEqualTo("MEMBER");
+        assertThat(jwtTokenProvider.getClaim(accessToken, "id")).isEqualTo("tester");
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 클레임을 반환한다")
+    void verify_cached() {
+        // given
+        String accessToken = jwtTokenProvider.createAccessToken(createTokenClaims());
+        VerifiedClaims claims = jwtTokenProvider.verify(accessToken);
+
+        // when, then
+        assertThat(jwtTokenProvider.verify(accessToken)).isSameAs(claims);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰이라면 InvalidTokenException이 발생한다")
+    void verify_tampered() {
+        // given
+        String accessToken = jwtTokenProvider.createAccessToken(createTokenClaims());
+        jwtTokenProvider.verify(accessToken);
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.verify(accessToken + "a"))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    private TokenClaims createTokenClaims() {
+        return TokenClaims.create(Map.of("id", "tester", "nickname", "tester", "role", "MEMBER"));
+    }
+}
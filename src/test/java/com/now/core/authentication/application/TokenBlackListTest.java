@@ -0,0 +1,131 @@
+package com.now.core.authentication.application;
+
+import com.now.core.authentication.application.dto.TokenClaims;
+import com.now.core.authentication.domain.RevokedToken;
+import com.now.core.authentication.domain.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("토큰 블랙리스트 객체는")
+class TokenBlackListTest {
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider("testSecurityKey", 100);
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenBlackList tokenBlackList;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        tokenBlackList = new TokenBlackList(revokedTokenRepository, jwtTokenProvider, 1_000, 5_000, 60_000);
+    }
+
+    @Test
+    @DisplayName("블룸 필터에 없는 토큰은 데이터베이스에 접근하지 않고 폐기되지 않은 토큰으로 판단한다")
+    void isAccessTokenBlacklisted_not_revoked() {
+        // given
+        when(revokedTokenRepository.findRevokedTokensSince(any(), anyLong(), anyInt())).thenReturn(List.of());
+        tokenBlackList.load();
+
+        // when
+        boolean blacklisted = tokenBlackList.isAccessTokenBlacklisted(createToken("tester"));
+
+        // then
+        assertThat(blacklisted).isFalse();
+        verify(revokedTokenRepository, never()).existsRevokedToken(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 만료 시각과 함께 저장하고 폐기된 토큰으로 판단한다")
+    void addToAccessTokenBlacklist() {
+        // given
+        String accessToken = createToken("tester");
+        when(revokedTokenRepository.findRevokedTokensSince(any(), anyLong(), anyInt())).thenReturn(List.of());
+        tokenBlackList.load();
+
+        // when
+        tokenBlackList.addToAccessTokenBlacklist(accessToken);
+
+        // then
+        assertThat(tokenBlackList.isAccessTokenBlacklisted(accessToken)).isTrue();
+        verify(revokedTokenRepository, times(1)).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 폐기된 토큰은 동기화 후 폐기된 토큰으로 판단한다")
+    void syncAtIntervals() {
+        // given
+        String accessToken = createToken("tester");
+        RevokedToken revokedToken = RevokedToken.builder()
+                .revokedTokenIdx(1L)
+                .fingerprint(TokenBlackList.fingerprint(accessToken))
+                .build();
+        when(revokedTokenRepository.findRevokedTokensSince(any(), anyLong(), anyInt())).thenReturn(List.of());
+        tokenBlackList.load();
+
+        when(revokedTokenRepository.findRevokedTokensSince(null, 0L, 1_000)).thenReturn(List.of(revokedToken));
+        when(revokedTokenRepository.existsRevokedToken(anyString())).thenReturn(true);
+
+        // when
+        tokenBlackList.syncAtIntervals();
+
+        // then
+        assertThat(tokenBlackList.isAccessTokenBlacklisted(accessToken)).isTrue();
+    }
+
+    @Test
+    @DisplayName("동기화할 때 마지막으로 조회한 등록 시각보다 겹침 구간만큼 이전부터 다시 조회해서 늦게 커밋된 토큰을 반영한다")
+    void syncAtIntervals_overlap() {
+        // given
+        LocalDateTime lastRegDate = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+        RevokedToken loadedToken = RevokedToken.builder()
+                .revokedTokenIdx(2L)
+                .fingerprint(TokenBlackList.fingerprint(createToken("loaded")))
+                .regDate(lastRegDate)
+                .build();
+        when(revokedTokenRepository.findRevokedTokensSince(any(), anyLong(), anyInt())).thenReturn(List.of());
+        when(revokedTokenRepository.findRevokedTokensSince(null, 0L, 1_000)).thenReturn(List.of(loadedToken));
+        tokenBlackList.load();
+
+        String accessToken = createToken("tester");
+        RevokedToken lateToken = RevokedToken.builder()
+                .revokedTokenIdx(1L)
+                .fingerprint(TokenBlackList.fingerprint(accessToken))
+                .regDate(lastRegDate.minusSeconds(1))
+                .build();
+        when(revokedTokenRepository.findRevokedTokensSince(lastRegDate.minusSeconds(60), 0L, 1_000))
+                .thenReturn(List.of(lateToken, loadedToken));
+        when(revokedTokenRepository.existsRevokedToken(anyString())).thenReturn(true);
+
+        // when
+        tokenBlackList.syncAtIntervals();
+
+        // then
+        assertThat(tokenBlackList.isAccessTokenBlacklisted(accessToken)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 유효하지 않은 토큰은 저장하지 않는다")
+    void addToAccessTokenBlacklist_invalid_token() {
+        // when
+        tokenBlackList.addToAccessTokenBlacklist("Bearer invalidToken");
+
+        // then
+        verify(revokedTokenRepository, never()).save(any(RevokedToken.class));
+    }
+
+    private String createToken(String id) {
+        return jwtTokenProvider.createAccessToken(TokenClaims.create(Map.of("id", id, "role", "MEMBER")));
+    }
+}
@@ -0,0 +1,118 @@
+package com.now.core.post.common.application;
+
+import com.now.core.category.domain.constants.Category;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Posts;
+import com.now.core.post.community.domain.Community;
+import com.now.core.post.community.domain.repository.CommunityRepository;
+import com.now.core.post.inquiry.domain.repository.InquiryRepository;
+import com.now.core.post.notice.domain.repository.NoticeRepository;
+import com.now.core.post.photo.domain.repository.PhotoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.now.config.fixtures.post.CommunityFixture.createCommunity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("홈 피드 객체는")
+class HomeFeedTest {
+
+    private NoticeRepository noticeRepository;
+    private CommunityRepository communityRepository;
+    private PhotoRepository photoRepository;
+    private InquiryRepository inquiryRepository;
+    private HomeFeed homeFeed;
+
+    @BeforeEach
+    void setUp() {
+        noticeRepository = mock(NoticeRepository.class);
+        communityRepository = mock(CommunityRepository.class);
+        photoRepository = mock(PhotoRepository.class);
+        inquiryRepository = mock(InquiryRepository.class);
+        homeFeed = new HomeFeed(noticeRepository, communityRepository, photoRepository, inquiryRepository);
+
+        when(noticeRepository.findAllNotices(any(Condition.class))).thenReturn(List.of());
+        when(photoRepository.findAllPhotos(any(Condition.class))).thenReturn(List.of());
+        when(inquiryRepository.findAllInquiries(any(Condition.class))).thenReturn(List.of());
+        when(communityRepository.findAllCommunity(any(Condition.class))).thenReturn(createCommunities(10));
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 게시글 목록 페이지 쿼리로 적재하고, 이후에는 메모리에서 반환한다")
+    void getLatestPosts() {
+        // when
+        List<Posts> firstPosts = homeFeed.getLatestPosts(3);
+        List<Posts> secondPosts = homeFeed.getLatestPosts(5);
+
+        // then
+        assertThat(postIndexes(firstPosts)).containsExactly(10L, 9L, 8L);
+        assertThat(postIndexes(secondPosts)).containsExactly(10L, 9L, 8L, 7L, 6L);
+        verify(communityRepository).findAllCommunity(argThat(condition -> condition.getPage() != null
+                && condition.getPage().getRecordsPerPage() == HomeFeed.FEED_SIZE * 2));
+        verify(noticeRepository, times(1)).findAllNotices(any(Condition.class));
+    }
+
+    @Test
+    @DisplayName("게시글이 등록되면 해당 게시물 그룹의 목록을 다시 조회해서 반영한다")
+    void savePost() {
+        // given
+        homeFeed.getLatestPosts(5);
+        when(communityRepository.findAllCommunity(any(Condition.class))).thenReturn(createCommunities(11));
+
+        // when
+        homeFeed.onPostChanged(PostChangedEvent.created(PostGroup.COMMUNITY, 11L, Category.LIFESTYLE));
+
+        // then
+        assertThat(postIndexes(homeFeed.getLatestPosts(3))).containsExactly(11L, 10L, 9L);
+        verify(photoRepository, times(1)).findAllPhotos(any(Condition.class));
+    }
+
+    @Test
+    @DisplayName("목록에 없는 게시글이 수정되면 다시 조회하지 않는다")
+    void updatePost_notInFeed() {
+        // given
+        homeFeed.getLatestPosts(5);
+
+        // when
+        homeFeed.onPostChanged(PostChangedEvent.updated(PostGroup.COMMUNITY, 1_000L));
+
+        // then
+        verify(communityRepository, times(1)).findAllCommunity(any(Condition.class));
+    }
+
+    @Test
+    @DisplayName("게시글이 삭제되면 목록에서 제거하고 다음 게시글로 채운다")
+    void deletePost() {
+        // given
+        homeFeed.getLatestPosts(5);
+
+        // when
+        homeFeed.onPostChanged(PostChangedEvent.deleted(PostGroup.COMMUNITY, 9L, Category.LIFESTYLE));
+
+        // then
+        assertThat(postIndexes(homeFeed.getLatestPosts(5))).containsExactly(10L, 8L, 7L, 6L, 5L);
+        verify(communityRepository, times(1)).findAllCommunity(any(Condition.class));
+    }
+
+    private List<Community> createCommunities(long latestPostIdx) {
+        return LongStream.range(0, 10)
+                .map(offset -> latestPostIdx - offset)
+                .mapToObj(postIdx -> createCommunity(postIdx, null, null, null, null, null))
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> postIndexes(List<Posts> postsList) {
+        return postsList.stream()
+                .map(posts -> posts.getCommunity().getPostIdx())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,91 @@
+package com.now.core.post.common.application;
+
+import com.now.core.category.domain.constants.Category;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.application.dto.PostCount;
+import com.now.core.post.common.domain.repository.PostRepository;
+import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("게시글 수 카운터 객체는")
+class PostCounterTest {
+
+    private PostRepository postRepository;
+    private PostCounter postCounter;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postCounter = new PostCounter(postRepository);
+
+        when(postRepository.findPostCountsByCategory()).thenReturn(List.of(
+                new PostCount(Category.LIFESTYLE, 3L),
+                new PostCount(Category.COMMUNITY_STUDY, 2L),
+                new PostCount(Category.EVENT, 1L)));
+        postCounter.load();
+    }
+
+    @Test
+    @DisplayName("게시물 그룹, 카테고리 조건에 맞는 게시글 수를 메모리에서 계산한다")
+    void count() {
+        // when, then
+        assertThat(postCounter.count(createCondition(PostGroup.COMMUNITY, null))).hasValue(5L);
+        assertThat(postCounter.count(createCondition(PostGroup.COMMUNITY, Category.LIFESTYLE))).hasValue(3L);
+        assertThat(postCounter.count(createCondition(PostGroup.NOTICE, Category.LIFESTYLE))).hasValue(0L);
+        assertThat(postCounter.count(createCondition(null, null))).hasValue(6L);
+    }
+
+    @Test
+    @DisplayName("키워드 조건이 있다면 계산하지 않는다")
+    void count_with_keyword() {
+        // given
+        Condition condition = createCondition(PostGroup.COMMUNITY, null).toBuilder()
+                .keyword("keyword")
+                .build();
+
+        // when, then
+        assertThat(postCounter.count(condition)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글 등록, 삭제, 카테고리 변경 시 게시글 수를 반영한다")
+    void onPostChanged() {
+        // when
+        postCounter.onPostChanged(PostChangedEvent.created(PostGroup.COMMUNITY, 10L, Category.LIFESTYLE));
+        postCounter.onPostChanged(PostChangedEvent.updated(PostGroup.COMMUNITY, 1L, Category.LIFESTYLE, Category.COMMUNITY_STUDY));
+        postCounter.onPostChanged(PostChangedEvent.deleted(PostGroup.COMMUNITY, 2L, Category.COMMUNITY_STUDY));
+        postCounter.onPostChanged(PostChangedEvent.updated(PostGroup.COMMUNITY, 3L));
+
+        // then
+        assertThat(postCounter.count(createCondition(PostGroup.COMMUNITY, Category.LIFESTYLE))).hasValue(3L);
+        assertThat(postCounter.count(createCondition(PostGroup.COMMUNITY, Category.COMMUNITY_STUDY))).hasValue(2L);
+        verify(postRepository, times(1)).findPostCountsByCategory();
+    }
+
+    @Test
+    @DisplayName("카테고리가 없는 게시글 등록, 수정 이벤트는 생성할 수 없다")
+    void onPostChanged_without_category() {
+        // when, then
+        assertThatThrownBy(() -> PostChangedEvent.created(PostGroup.COMMUNITY, 10L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PostChangedEvent.updated(PostGroup.COMMUNITY, 1L, Category.LIFESTYLE, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Condition createCondition(PostGroup postGroup, Category category) {
+        return Condition.builder()
+                .postGroup(postGroup)
+                .category(category)
+                .sort(Sort.LATEST)
+                .build();
+    }
+}
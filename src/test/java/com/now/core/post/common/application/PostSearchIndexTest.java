@@ -0,0 +1,153 @@
+package com.now.core.post.common.application;
+
+import com.now.core.category.domain.constants.Category;
+import com.now.core.category.domain.constants.PostGroup;
+import com.now.core.post.common.application.dto.SearchDocument;
+import com.now.core.post.common.domain.repository.PostRepository;
+import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("게시글 검색 색인 객체는")
+class PostSearchIndexTest {
+
+    private PostRepository postRepository;
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postSearchIndex = new PostSearchIndex(postRepository);
+
+        when(postRepository.findSearchDocuments(anyLong(), anyInt())).thenReturn(List.of());
+        when(postRepository.findSearchDocuments(0L, 1_000)).thenReturn(List.of(
+                createDocument(1L, "주말 등산 모임", "북한산에 같이 가실 분", "산악인"),
+                createDocument(2L, "스터디 모집", "주말에 자바 스터디 합니다", "개발자"),
+                createDocument(3L, "Spring Boot 질문", "캐시 설정 질문입니다", "newbie")));
+        postSearchIndex.load();
+    }
+
+    @Test
+    @DisplayName("검색어를 포함한 모든 게시글을 게시글 번호가 큰 순서대로 반환한다")
+    void search() {
+        // when
+        List<Long> postIndexes = postSearchIndex.search("주말");
+
+        // then
+        assertThat(postIndexes).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("단어의 일부나 대소문자가 다른 영문으로도 검색된다")
+    void search_partial_word() {
+        // when, then
+        assertThat(postSearchIndex.search("스터")).containsExactly(2L);
+        assertThat(postSearchIndex.search("spring")).containsExactly(3L);
+        assertThat(postSearchIndex.search("산")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색어의 토큰이 서로 다른 단어나 필드에 있는 게시글도 후보로 반환한다")
+    void search_candidates() {
+        // when, then
+        assertThat(postSearchIndex.search("주말 모임")).containsExactly(1L);
+        assertThat(postSearchIndex.search("spring 질문입니다")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("게시글이 수정, 삭제되면 색인에 반영한다")
+    void savePost_deletePost() {
+        // given
+        when(postRepository.findSearchDocument(2L))
+                .thenReturn(createDocument(2L, "스터디 모집 마감", "마감되었습니다", "개발자"));
+
+        // when
+        postSearchIndex.onPostChanged(PostChangedEvent.updated(PostGroup.COMMUNITY, 2L));
+        postSearchIndex.onPostChanged(PostChangedEvent.deleted(PostGroup.COMMUNITY, 1L, Category.LIFESTYLE));
+
+        // then
+        assertThat(postSearchIndex.search("주말")).containsExactly(2L); // 이전 토큰은 재색인 전까지 후보로 남음
+        assertThat(postSearchIndex.search("마감")).containsExactly(2L);
+        assertThat(postSearchIndex.search("북한산")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재색인하면 수정된 게시글의 이전 토큰을 정리한다")
+    void rebuild_cleansStaleTokens() {
+        // given
+        SearchDocument updatedDocument = createDocument(2L, "스터디 모집 마감", "마감되었습니다", "개발자");
+        when(postRepository.findSearchDocument(2L)).thenReturn(updatedDocument);
+        postSearchIndex.onPostChanged(PostChangedEvent.updated(PostGroup.COMMUNITY, 2L));
+        when(postRepository.findSearchDocuments(0L, 1_000)).thenReturn(List.of(updatedDocument));
+
+        // when
+        postSearchIndex.rebuildAtIntervals();
+
+        // then
+        assertThat(postSearchIndex.search("주말")).isEmpty();
+        assertThat(postSearchIndex.search("마감")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("조회 조건의 키워드로 검색한 게시글 번호를 조회 조건에 담는다")
+    void applyKeyword() {
+        // given
+        Condition condition = Condition.builder()
+                .sort(Sort.LATEST)
+                .keyword("캐시")
+                .build();
+
+        // when
+        postSearchIndex.applyKeyword(condition);
+
+        // then
+        assertThat(condition.getKeywordPostIndexes()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("검색된 게시글이 최대 게시글 수보다 많다면 일부만 담지 않고 LIKE 검색을 사용하도록 한다")
+    void applyKeyword_tooManyPosts() {
+        // given
+        List<SearchDocument> documents = LongStream.rangeClosed(1, PostSearchIndex.MAX_KEYWORD_POST_INDEXES + 1)
+                .mapToObj(postIdx -> createDocument(postIdx, "공지", "내용", "관리자"))
+                .collect(Collectors.toList());
+        when(postRepository.findSearchDocuments(anyLong(), anyInt())).thenReturn(List.of());
+        when(postRepository.findSearchDocuments(0L, 1_000)).thenReturn(documents.subList(0, 1_000));
+        for (int from = 1_000; from < documents.size(); from += 1_000) {
+            when(postRepository.findSearchDocuments((long) from, 1_000))
+                    .thenReturn(documents.subList(from, Math.min(from + 1_000, documents.size())));
+        }
+        postSearchIndex.load();
+        Condition condition = Condition.builder()
+                .sort(Sort.LATEST)
+                .keyword("공지")
+                .build();
+
+        // when
+        postSearchIndex.applyKeyword(condition);
+
+        // then
+        assertThat(postSearchIndex.search("공지")).hasSize(PostSearchIndex.MAX_KEYWORD_POST_INDEXES + 1);
+        assertThat(condition.getKeywordPostIndexes()).isNull();
+    }
+
+    private SearchDocument createDocument(Long postIdx, String title, String content, String memberNickname) {
+        return SearchDocument.builder()
+                .postIdx(postIdx)
+                .title(title)
+                .content(content)
+                .memberNickname(memberNickname)
+                .build();
+    }
+}
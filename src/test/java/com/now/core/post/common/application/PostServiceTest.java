@@ -38,6 +38,9 @@ public class PostServiceTest {
     @MockBean
     private MemberRepository memberRepository;
 
+    @MockBean
+    private ReactionCountBuffer reactionCountBuffer;
+
     @Nested
     @DisplayName("게시물 반응 정보를 조회할 때")
     class Find_PostReaction {
@@ -185,12 +188,14 @@ public class PostServiceTest {
             // given
             Long postIdx = 1L;
             String memberId = MemberFixture.SAMPLE_MEMBER_ID_1;
+            PostReaction newPostReaction = createPostReaction(postIdx, memberId, Reaction.LIKE);
+            when(postRepository.savePostReactionIfChangeable(newPostReaction)).thenReturn(false);
             when(memberRepository.findById(memberId)).thenReturn(null);
 
             // when, then
             assertThatExceptionOfType(InvalidMemberException.class)
                     .isThrownBy(() -> {
-                        postService.savePostReaction(createPostReaction(postIdx, memberId, Reaction.LIKE));
+                        postService.savePostReaction(newPostReaction);
                     })
                     .withMessage(ErrorType.NOT_FOUND_MEMBER.getMessage());
         }
@@ -200,108 +205,58 @@ public class PostServiceTest {
         void savePostReaction_when_post_null() {
             // given
             Long postIdx = 1L;
+            Long memberIdx = 1L;
             String memberId = MemberFixture.SAMPLE_MEMBER_ID_1;
-            Member member = createMember(memberId);
-            when(memberRepository.findById(memberId)).thenReturn(member);
+            PostReaction newPostReaction = createPostReaction(postIdx, memberId, Reaction.LIKE);
+            when(postRepository.savePostReactionIfChangeable(newPostReaction)).thenReturn(false);
+            when(memberRepository.findById(memberId)).thenReturn(createMember(memberIdx, memberId));
             when(postRepository.existPostByPostId(postIdx)).thenReturn(false);
 
             // when, then
             assertThatExceptionOfType(InvalidPostException.class)
                     .isThrownBy(() -> {
-                        postService.savePostReaction(createPostReaction(postIdx, memberId, Reaction.LIKE));
+                        postService.savePostReaction(newPostReaction);
                     })
                     .withMessage(ErrorType.NOT_FOUND_POST.getMessage());
         }
 
         @Test
-        @DisplayName("기존에 저장된 반응 정보가 없다면 반응 정보를 저장한다.")
-        void savePostReaction_nonExistingPostReaction() {
-            // given
-            Long postIdx = 1L;
-            Long memberIdx = 1L;
-            String memberId = MemberFixture.SAMPLE_MEMBER_ID_1;
-            Member member = createMember(memberIdx, memberId);
-            when(memberRepository.findById(memberId)).thenReturn(member);
-            when(postRepository.existPostByPostId(postIdx)).thenReturn(true);
-
-            PostReaction postReaction = PostReactionFixture.createPostReaction(postIdx, memberIdx, null);
-            PostReaction newPostReaction = PostReactionFixture.createPostReaction(postIdx, memberIdx, memberId, Reaction.LIKE);
-            when(postRepository.getPostReaction(postReaction)).thenReturn(PostReactionFixture.createPostReactionResponse(Reaction.NOTTING));
-
-            // when
-            postService.savePostReaction(createPostReaction(postIdx, memberId, Reaction.LIKE));
-
-            // then
-            verify(postRepository, times(1)).incrementLikeCount(newPostReaction.getPostIdx());
-            verify(postRepository, times(1)).savePostReaction(newPostReaction);
-        }
-
-        @Test
-        @DisplayName("기존에 저장된 반응 정보가 있다면 해당 반응 정보를 저장한다.")
-        void savePostReaction_existingPostReaction_1() {
-            // given
-            Long postIdx = 1L;
-            Long memberIdx = 1L;
-            String memberId = MemberFixture.SAMPLE_MEMBER_ID_1;
-            Member member = createMember(memberIdx, memberId);
-            when(memberRepository.findById(memberId)).thenReturn(member);
-            when(postRepository.existPostByPostId(postIdx)).thenReturn(true);
-
-            PostReaction postReaction = PostReactionFixture.createPostReaction(postIdx, memberIdx, null);
-            PostReaction newPostReaction = PostReactionFixture.createPostReaction(postIdx, memberIdx, memberId, Reaction.LIKE);
-            when(postRepository.getPostReaction(postReaction)).thenReturn(PostReactionFixture.createPostReactionResponse(Reaction.DISLIKE));
-
-            // when
-            postService.savePostReaction(createPostReaction(postIdx, memberId, Reaction.LIKE));
-
-            // then
-            verify(postRepository, times(1)).decrementDislikeCount(newPostReaction.getPostIdx());
-            verify(postRepository, times(1)).incrementLikeCount(newPostReaction.getPostIdx());
-            verify(postRepository, times(1)).updatePostReaction(newPostReaction);
-        }
-
-        @Test
-        @DisplayName("기존에 저장된 반응 정보가 있다면 해당 반응 정보를 저장한다.")
-        void savePostReaction_existingPostReaction_2() {
+        @DisplayName("반응 정보가 반영되면 회원과 게시글을 따로 조회하지 않고 좋아요, 싫어요 수를 다시 계산할 게시글로 기록한다.")
+        void savePostReaction() {
             // given
             Long postIdx = 1L;
-            Long memberIdx = 1L;
             String memberId = MemberFixture.SAMPLE_MEMBER_ID_1;
-            Member member = createMember(memberIdx, memberId);
-            when(memberRepository.findById(memberId)).thenReturn(member);
-            when(postRepository.existPostByPostId(postIdx)).thenReturn(true);
-
-            PostReaction postReaction = PostReactionFixture.createPostReaction(postIdx, memberIdx, null);
-            PostReaction newPostReaction = PostReactionFixture.createPostReaction(postIdx, memberIdx, memberId, Reaction.UNDISLIKE);
-            when(postRepository.getPostReaction(postReaction)).thenReturn(PostReactionFixture.createPostReactionResponse(Reaction.DISLIKE));
+            PostReaction newPostReaction = createPostReaction(postIdx, memberId, Reaction.LIKE);
+            when(postRepository.savePostReactionIfChangeable(newPostReaction)).thenReturn(true);
 
             // when
-            postService.savePostReaction(createPostReaction(postIdx, memberId, Reaction.UNDISLIKE));
+            postService.savePostReaction(newPostReaction);
 
             // then
-            verify(postRepository, times(1)).decrementDislikeCount(newPostReaction.getPostIdx());
-            verify(postRepository, times(1)).updatePostReaction(newPostReaction);
+            verify(postRepository, times(1)).savePostReactionIfChangeable(newPostReaction);
+            verify(memberRepository, never()).findById(anyString());
+            verify(postRepository, never()).existPostByPostId(anyLong());
+            verify(reactionCountBuffer, times(1)).add(postIdx);
         }
 
         @Test
-        @DisplayName("기존에 저장된 반응 정보가 있을 때 업데이트할 수 없다면 CannotUpdateReactionException을 던진다")
-        void savePostReaction_existingPostReaction_throw_cannotUpdateReactionException() {
+        @DisplayName("기존 반응에서 변경할 수 없거나 같은 회원의 다른 요청이 먼저 변경했다면 CannotUpdateReactionException을 던지고 게시글을 기록하지 않는다")
+        void savePostReaction_throw_cannotUpdateReactionException() {
             // given
             Long postIdx = 1L;
             Long memberIdx = 1L;
             String memberId = MemberFixture.SAMPLE_MEMBER_ID_1;
-            Member member = createMember(memberIdx, memberId);
-            when(memberRepository.findById(memberId)).thenReturn(member);
+            PostReaction newPostReaction = createPostReaction(postIdx, memberId, Reaction.UNLIKE);
+            when(postRepository.savePostReactionIfChangeable(newPostReaction)).thenReturn(false);
+            when(memberRepository.findById(memberId)).thenReturn(createMember(memberIdx, memberId));
             when(postRepository.existPostByPostId(postIdx)).thenReturn(true);
 
-            PostReaction postReaction = PostReactionFixture.createPostReaction(postIdx, memberIdx, null);
-            when(postRepository.getPostReaction(postReaction)).thenReturn(PostReactionFixture.createPostReactionResponse(Reaction.DISLIKE));
-
-            // when, thenm
+            // when, then
             assertThatExceptionOfType(CannotUpdateReactionException.class)
                     .isThrownBy(() -> {
-                        postService.savePostReaction(createPostReaction(postIdx, memberId, Reaction.UNLIKE));
+                        postService.savePostReaction(newPostReaction);
                     }).withMessageMatching(ErrorType.CAN_NOT_UPDATE_REACTION.getMessage());
+            verify(reactionCountBuffer, never()).add(anyLong());
         }
     }
 }
@@ -0,0 +1,116 @@
+package com.now.core.post.common.application;
+
+import com.now.core.post.common.domain.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@DisplayName("조회수 버퍼 객체는")
+class ViewCountBufferTest {
+
+    private PostRepository postRepository;
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        viewCountBuffer = new ViewCountBuffer(postRepository, 100);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수 증가량을 게시글별로 한 번에 반영한다")
+    void flush() {
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(postRepository, times(1)).incrementViewCounts(Map.of(1L, 3L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("반영된 증가량은 다음 반영에 포함되지 않는다")
+    void flush_twice() {
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.flush();
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(postRepository, times(1)).incrementViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가량은 다음 반영 때 다시 반영한다")
+    void flush_when_failed() {
+        // given
+        viewCountBuffer.increment(1L);
+        doThrow(new RuntimeException()).doNothing().when(postRepository).incrementViewCounts(anyMap());
+        viewCountBuffer.flush();
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(postRepository, times(2)).incrementViewCounts(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("반영된 게시글은 버퍼에서 제거한다")
+    void flush_removesDrainedPosts() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        viewCountBuffer.bindTo(registry);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(registry.get("post.view_count.buffer.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼에 쌓인 게시글 수가 임계치에 도달하면 별도 스레드에서 반영한다")
+    void flush_when_buffer_full() {
+        // given
+        ViewCountBuffer smallBuffer = new ViewCountBuffer(postRepository, 2);
+
+        // when
+        smallBuffer.increment(1L);
+        smallBuffer.increment(2L);
+
+        // then
+        verify(postRepository, timeout(1_000).times(1)).incrementViewCounts(Map.of(1L, 1L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("반영된 게시글은 임계치 계산에 포함하지 않는다")
+    void flush_when_buffer_full_afterDrain() {
+        // given
+        ViewCountBuffer smallBuffer = new ViewCountBuffer(postRepository, 2);
+        smallBuffer.increment(1L);
+        smallBuffer.flush();
+
+        // when
+        smallBuffer.increment(2L);
+
+        // then
+        verify(postRepository, after(200).times(1)).incrementViewCounts(anyMap());
+    }
+}
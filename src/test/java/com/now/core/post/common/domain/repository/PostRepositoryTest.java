@@ -12,9 +12,7 @@ import com.now.core.member.domain.MemberRepository;
 import com.now.core.post.common.presentation.dto.Condition;
 import com.now.core.post.common.presentation.dto.PostReaction;
 import com.now.core.post.common.presentation.dto.PostReactionResponse;
-import com.now.core.post.common.presentation.dto.Posts;
 import com.now.core.post.common.presentation.dto.constants.Reaction;
-import com.now.core.post.common.presentation.dto.constants.Sort;
 import com.now.core.post.community.domain.Community;
 import com.now.core.post.community.domain.repository.CommunityRepository;
 import com.now.core.post.inquiry.domain.Inquiry;
@@ -115,62 +113,6 @@ class PostRepositoryTest {
         assertThat(communityRepository.findCommunity(5L).getViewCount()).isEqualTo(expectedViewCount[4]);
     }
 
-    @Nested
-    @DisplayName("모든 게시물을 찾을 때")
-    class FindAll {
-
-        @Test
-        @DisplayName("전달받은 게시글의 최대 개수(maxNumberOfPosts)만큼 조회한다")
-        void findAllPosts_maxNumberOfPosts() {
-            // given
-            List<Manager> managers = Arrays.asList(
-                    createManager(MANAGER1_ID, MANAGER1_NAME, MANAGER1_NICKNAME),
-                    createManager(MANAGER2_ID, MANAGER2_NAME, MANAGER2_NICKNAME),
-                    createManager(MANAGER3_ID, MANAGER3_NAME, MANAGER3_NICKNAME),
-                    createManager(MANAGER4_ID, MANAGER4_NAME, MANAGER4_NICKNAME),
-                    createManager(MANAGER5_ID, MANAGER5_NAME, MANAGER5_NICKNAME));
-
-            List<Member> members = Arrays.asList(
-                    createMember(MEMBER1_ID, MEMBER1_NAME, MEMBER1_NICKNAME),
-                    createMember(MEMBER2_ID, MEMBER2_NAME, MEMBER2_NICKNAME),
-                    createMember(MEMBER3_ID, MEMBER3_NAME, MEMBER3_NICKNAME),
-                    createMember(MEMBER4_ID, MEMBER4_NAME, MEMBER4_NICKNAME),
-                    createMember(MEMBER5_ID, MEMBER5_NAME, MEMBER5_NICKNAME));
-
-            List<Notice> notPinnedNotices = managers.stream()
-                    .map(manager -> createNoticeForSave(Category.EVENT, manager.getId(), false))
-                    .collect(Collectors.toList());
-
-            List<Community> communities = members.stream()
-                    .map(member -> createCommunityForSave(member.getId())).collect(Collectors.toList());
-
-            List<Photo> photos = members.stream()
-                    .map(member -> createPhotoForSave(member.getId())).collect(Collectors.toList());
-
-            List<Inquiry> inquiries = members.stream()
-                    .map(member -> createInquiryForSave(member.getId())).collect(Collectors.toList());
-
-            Condition condition = createCondition(Sort.LATEST, 3);
-
-            // when
-            managers.forEach(manager -> managerRepository.saveManager(manager));
-            members.forEach(member -> memberRepository.saveMember(member));
-
-            notPinnedNotices.forEach(notice -> noticeRepository.saveNotice(notice));
-            communities.forEach(community -> communityRepository.saveCommunity(community));
-            photos.forEach(photo -> photoRepository.savePhoto(photo));
-            inquiries.forEach(inquiry -> {
-                inquiryRepository.savePost(inquiry);
-                inquiryRepository.saveInquirySecretSetting(inquiry);
-            });
-
-            List<Posts> actualPosts = postRepository.findAllPosts(condition);
-
-            // then
-            assertThat(actualPosts).hasSize(condition.getMaxNumberOfPosts() * 4);
-        }
-    }
-
     @Nested
     @DisplayName("특정 게시물의 개수를 찾을 때")
     class FindTotalPostCount {
@@ -699,4 +641,116 @@ class PostRepositoryTest {
             assertThat(hasAnyUnDislikeReactionsAfterUpdate).isTrue();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("게시글 반응을 변경할 수 있을 때만 저장할 때")
+    class SavePostReactionIfChangeable {
+
+        public Member member;
+        public Community community;
+
+        @BeforeEach
+        void setUp() {
+            // given
+            member = createMember(MEMBER1_ID, MEMBER1_NAME, MEMBER1_NICKNAME);
+            memberRepository.saveMember(member);
+            community = createCommunityForSave(member.getId());
+            communityRepository.saveCommunity(community);
+        }
+
+        @Test
+        @DisplayName("기존 반응이 없다면 저장한다")
+        void save_first_reaction() {
+            // when
+            boolean saved = postRepository.savePostReactionIfChangeable(reactionOf(member, Reaction.LIKE));
+
+            // then
+            assertThat(saved).isTrue();
+            assertThat(postRepository.getPostReaction(reactionOf(member, null)).getReaction()).isEqualTo(Reaction.LIKE);
+        }
+
+        @Test
+        @DisplayName("같은 회원이 같은 게시글에 다시 저장하면 유니크 키로 무시된다")
+        void ignore_duplicate_reaction() {
+            // given
+            postRepository.savePostReactionIfChangeable(reactionOf(member, Reaction.LIKE));
+
+            // when
+            boolean saved = postRepository.savePostReactionIfChangeable(reactionOf(member, Reaction.LIKE));
+            postRepository.recountReactions(List.of(community.getPostIdx()));
+
+            // then
+            assertThat(saved).isFalse();
+            assertThat(communityRepository.findCommunity(community.getPostIdx()).getLikeCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("좋아요, 좋아요 취소, 싫어요 순서로 기존 반응을 수정한다")
+        void update_reaction_transitions() {
+            // when
+            boolean liked = postRepository.savePostReactionIfChangeable(reactionOf(member, Reaction.LIKE));
+            boolean unliked = postRepository.savePostReactionIfChangeable(reactionOf(member, Reaction.UNLIKE));
+            Reaction reactionAfterUnlike = postRepository.getPostReaction(reactionOf(member, null)).getReaction();
+            boolean disliked = postRepository.savePostReactionIfChangeable(reactionOf(member, Reaction.DISLIKE));
+
+            // then
+            assertThat(liked).isTrue();
+            assertThat(unliked).isTrue();
+            assertThat(reactionAfterUnlike).isEqualTo(Reaction.UNLIKE);
+            assertThat(disliked).isTrue();
+            assertThat(postRepository.getPostReaction(reactionOf(member, null)).getReaction()).isEqualTo(Reaction.DISLIKE);
+        }
+
+        @Test
+        @DisplayName("변경할 수 없는 반응이라면 반영하지 않는다")
+        void reject_unchangeable_reaction() {
+            // when
+            boolean saved = postRepository.savePostReactionIfChangeable(reactionOf(member, Reaction.UNDISLIKE));
+
+            // then
+            assertThat(saved).isFalse();
+            assertThat(postRepository.getPostReaction(reactionOf(member, null))).isNull();
+        }
+
+        private PostReaction reactionOf(Member member, Reaction reaction) {
+            return createPostReaction(community.getPostIdx(), member.getMemberIdx(), member.getId(), reaction);
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글의 좋아요, 싫어요 수를 다시 계산할 때")
+    class RecountReactions {
+
+        @Test
+        @DisplayName("저장된 반응으로 다시 계산하고, 남은 반응이 없다면 0으로 계산한다")
+        void recountReactions() {
+            // given
+            List<Member> members = Arrays.asList(
+                    createMember(MEMBER1_ID, MEMBER1_NAME, MEMBER1_NICKNAME),
+                    createMember(MEMBER2_ID, MEMBER2_NAME, MEMBER2_NICKNAME),
+                    createMember(MEMBER3_ID, MEMBER3_NAME, MEMBER3_NICKNAME));
+            members.forEach(member -> memberRepository.saveMember(member));
+            Community reactedCommunity = createCommunityForSave(members.get(0).getId());
+            Community unreactedCommunity = createCommunityForSave(members.get(0).getId());
+            communityRepository.saveCommunity(reactedCommunity);
+            communityRepository.saveCommunity(unreactedCommunity);
+
+            postRepository.savePostReactionIfChangeable(createPostReaction(reactedCommunity.getPostIdx(), members.get(0).getId(), Reaction.LIKE));
+            postRepository.savePostReactionIfChangeable(createPostReaction(reactedCommunity.getPostIdx(), members.get(1).getId(), Reaction.LIKE));
+            postRepository.savePostReactionIfChangeable(createPostReaction(reactedCommunity.getPostIdx(), members.get(2).getId(), Reaction.DISLIKE));
+            postRepository.incrementLikeCount(unreactedCommunity.getPostIdx());
+            postRepository.incrementDislikeCount(unreactedCommunity.getPostIdx());
+
+            // when
+            postRepository.recountReactions(List.of(reactedCommunity.getPostIdx(), unreactedCommunity.getPostIdx()));
+            Community actualReactedCommunity = communityRepository.findCommunity(reactedCommunity.getPostIdx());
+            Community actualUnreactedCommunity = communityRepository.findCommunity(unreactedCommunity.getPostIdx());
+
+            // then
+            assertThat(actualReactedCommunity.getLikeCount()).isEqualTo(2);
+            assertThat(actualReactedCommunity.getDislikeCount()).isEqualTo(1);
+            assertThat(actualUnreactedCommunity.getLikeCount()).isZero();
+            assertThat(actualUnreactedCommunity.getDislikeCount()).isZero();
+        }
+    }
+}
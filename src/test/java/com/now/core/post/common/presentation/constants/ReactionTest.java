@@ -2,6 +2,7 @@ package com.now.core.post.common.presentation.constants;
 
 import com.now.core.post.common.presentation.dto.constants.Reaction;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -26,6 +27,15 @@ class ReactionTest {
         assertThat(currentReaction.canUpdate(newReaction)).isEqualTo(expected);
     }
 
+    @DisplayName("현재 객체로 수정이 가능한 기존 반응 목록을 반환한다")
+    @Test
+    void getPreviousReactions() {
+        assertThat(Reaction.LIKE.getPreviousReactions())
+                .containsExactly(Reaction.NOTTING, Reaction.UNLIKE, Reaction.DISLIKE, Reaction.UNDISLIKE);
+        assertThat(Reaction.UNLIKE.getPreviousReactions()).containsExactly(Reaction.LIKE);
+        assertThat(Reaction.NOTTING.getPreviousReactions()).isEmpty();
+    }
+
     private static Stream<Object[]> provideReactionsForUpdate() {
         return Stream.of(
                 new Object[]{Reaction.LIKE, Reaction.LIKE, false},
@@ -0,0 +1,26 @@
+package com.now.core.post.common.presentation.dto;
+
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("조건 객체")
+class ConditionTest {
+
+    @Test
+    @DisplayName("키워드의 앞뒤 공백을 제거하고, 공백뿐인 키워드는 null 로 정규화한다")
+    void normalizeKeyword() {
+        // given
+        Condition boundCondition = new Condition();
+
+        // when
+        boundCondition.setKeyword("  study ");
+        Condition blankCondition = Condition.builder().keyword("   ").sort(Sort.LATEST).build();
+
+        // then
+        assertThat(boundCondition.getKeyword()).isEqualTo("study");
+        assertThat(blankCondition.getKeyword()).isNull();
+    }
+}
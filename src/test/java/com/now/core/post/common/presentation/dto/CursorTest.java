@@ -0,0 +1,107 @@
+package com.now.core.post.common.presentation.dto;
+
+import com.now.core.post.common.exception.InvalidCursorException;
+import com.now.core.post.common.presentation.dto.constants.Sort;
+import com.now.core.post.community.domain.Community;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("페이지 커서 객체")
+class CursorTest {
+
+    @Test
+    @DisplayName("목록의 마지막 게시글로 만든 다음 페이지 커서는 정렬 기준 값과 게시글 번호를 가진다")
+    void nextOf() {
+        // given
+        Condition condition = Condition.builder()
+                .sort(Sort.RECOMMENDED)
+                .maxNumberOfPosts(2)
+                .build()
+                .updatePage();
+        List<Community> communities = List.of(createCommunity(5L, 10, 2), createCommunity(3L, 7, 1));
+
+        // when
+        Condition nextCondition = condition.toBuilder()
+                .cursor(Cursor.nextOf(condition, communities))
+                .build()
+                .updatePage();
+
+        // then
+        Cursor seek = nextCondition.getSeek();
+        assertThat(seek.getSortValue()).isEqualTo(6L);
+        assertThat(seek.getPostIdx()).isEqualTo(3L);
+        assertThat(seek.isBackward()).isFalse();
+    }
+
+    @Test
+    @DisplayName("첫 페이지이거나 페이지가 가득 차지 않았다면 이전, 다음 페이지 커서는 null 이다")
+    void prevOf_and_nextOf_when_no_more_page() {
+        // given
+        Condition condition = Condition.builder()
+                .sort(Sort.LATEST)
+                .maxNumberOfPosts(2)
+                .build()
+                .updatePage();
+        List<Community> communities = List.of(createCommunity(5L, 0, 0));
+
+        // when, then
+        assertThat(Cursor.prevOf(condition, communities)).isNull();
+        assertThat(Cursor.nextOf(condition, communities)).isNull();
+    }
+
+    @Test
+    @DisplayName("이전 페이지 커서로 조회된 목록은 정렬 순서대로 뒤집어진다")
+    void inSortOrder() {
+        // given
+        Condition condition = Condition.builder()
+                .sort(Sort.LATEST)
+                .maxNumberOfPosts(2)
+                .pageNo(2)
+                .build()
+                .updatePage();
+        Condition prevCondition = condition.toBuilder()
+                .cursor(Cursor.prevOf(condition, List.of(createCommunity(8L, 0, 0))))
+                .build()
+                .updatePage();
+
+        // when
+        List<Community> communities = Cursor.inSortOrder(prevCondition,
+                List.of(createCommunity(9L, 0, 0), createCommunity(10L, 0, 0)));
+
+        // then
+        assertThat(prevCondition.getSeek().isBackward()).isTrue();
+        assertThat(communities).extracting(Community::getPostIdx).containsExactly(10L, 9L);
+    }
+
+    @Test
+    @DisplayName("정렬 방식이 다르거나 해석할 수 없는 커서라면 InvalidCursorException 이 발생한다")
+    void decode_invalid_cursor() {
+        // given
+        Condition condition = Condition.builder()
+                .sort(Sort.LATEST)
+                .build()
+                .updatePage();
+        String cursor = Cursor.nextOf(condition.toBuilder().maxNumberOfPosts(1).build().updatePage(),
+                List.of(createCommunity(1L, 0, 0)));
+
+        // when, then
+        assertThatThrownBy(() -> Cursor.decode(cursor, Sort.MOST_VIEWED))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> Cursor.decode("invalid!", Sort.LATEST))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private Community createCommunity(Long postIdx, int likeCount, int dislikeCount) {
+        return Community.builder()
+                .postIdx(postIdx)
+                .viewCount(0)
+                .likeCount(likeCount)
+                .dislikeCount(dislikeCount)
+                .build();
+    }
+}
@@ -3,15 +3,18 @@ package com.now.core.post.community.domain.repository;
 import com.now.config.annotations.RepositoryTest;
 import com.now.core.attachment.domain.AttachmentRepository;
 import com.now.core.category.domain.constants.Category;
+import com.now.core.comment.domain.Comment;
 import com.now.core.comment.domain.CommentRepository;
 import com.now.core.member.domain.Member;
 import com.now.core.member.domain.MemberRepository;
 import com.now.core.post.common.domain.repository.PostRepository;
 import com.now.core.post.community.domain.Community;
 import com.now.core.post.common.presentation.dto.Condition;
+import com.now.core.post.common.presentation.dto.Cursor;
 import com.now.core.post.common.presentation.dto.PostReaction;
 import com.now.core.post.common.presentation.dto.constants.Reaction;
 import com.now.core.post.common.presentation.dto.constants.Sort;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,6 +27,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
+import static com.now.config.fixtures.comment.CommentFixture.createCommentByMemberId;
 import static com.now.config.fixtures.member.MemberFixture.*;
 import static com.now.config.fixtures.post.CommunityFixture.createCommunityForSave;
 import static com.now.config.fixtures.post.CommunityFixture.createCommunityForUpdate;
@@ -242,6 +246,40 @@ class CommunityRepositoryTest {
 
         }
 
+        @Nested
+        @DisplayName("댓글")
+        class Comment_of {
+
+            @Test
+            @DisplayName("댓글이 여러 개인 게시글도 한 번만 조회되고 가장 최근 댓글과 댓글 수가 채워진다")
+            void with_latest_comment_and_comment_count() {
+                // given
+                Member member = createMember(MEMBER1_ID, MEMBER1_NAME, MEMBER1_NICKNAME);
+                List<Community> expectedCommunities = Arrays.asList(
+                        createCommunityForSave(member.getId()),
+                        createCommunityForSave(member.getId()));
+
+                List<Comment> comments = Arrays.asList(
+                        createCommentByMemberId(1L, 1L, member.getId()),
+                        createCommentByMemberId(1L, 1L, member.getId()),
+                        createCommentByMemberId(1L, 1L, member.getId()));
+
+                // when
+                memberRepository.saveMember(member);
+                expectedCommunities.forEach(community -> communityRepository.saveCommunity(community));
+                comments.forEach(comment -> commentRepository.saveCommentByMember(comment));
+                List<Community> actualCommunities = communityRepository.findAllCommunity(createConditionOnlySort(Sort.LATEST).updatePage());
+
+                // then
+                assertThat(actualCommunities).hasSize(expectedCommunities.size());
+                assertThat(actualCommunities.get(0).getCommentCount()).isZero();
+                assertThat(actualCommunities.get(0).getComments()).isEmpty();
+                assertThat(actualCommunities.get(1).getCommentCount()).isEqualTo(comments.size());
+                assertThat(actualCommunities.get(1).getComments()).extracting(Comment::getCommentIdx)
+                        .containsExactly(comments.get(comments.size() - 1).getCommentIdx());
+            }
+        }
+
         @Nested
         @DisplayName("키워드")
         class Keyword_of {
@@ -365,6 +403,139 @@ class CommunityRepositoryTest {
                 // then
                 assertThat(actualCommunities).hasSize(expectedSize);
             }
+
+            @Test
+            @DisplayName("검색 색인의 후보 게시글 번호가 있어도 키워드가 포함된 게시글만 조회된다")
+            void filter_keyword_with_candidate_post_indexes() {
+                // given
+                Member member = createMember(MEMBER1_ID, MEMBER1_NAME, MEMBER1_NICKNAME);
+                List<Community> communities = Arrays.asList(
+                        createCommunityForSave(member.getId(), 1L, member.getNickname(), Category.LIFESTYLE, "홍길", "길동"),
+                        createCommunityForSave(member.getId(), 2L, member.getNickname(), Category.LIFESTYLE, "홍길동전", "고전 소설"));
+
+                // when
+                memberRepository.saveMember(member);
+                communities.forEach(community -> communityRepository.saveCommunity(community));
+                Condition condition = createCondition(Sort.LATEST, null, "홍길동")
+                        .updateKeywordPostIndexes(communities.stream()
+                                .map(Community::getPostIdx)
+                                .collect(Collectors.toList()));
+                List<Community> actualCommunities = communityRepository.findAllCommunity(condition.updatePage());
+
+                // then
+                assertThat(actualCommunities).extracting(Community::getPostIdx)
+                        .containsExactly(communities.get(1).getPostIdx());
+            }
+        }
+
+        @Nested
+        @DisplayName("페이지 커서")
+        class Cursor_of {
+
+            private static final int RECORDS_PER_PAGE = 2;
+
+            private List<Long> postIndexes;
+
+            @BeforeEach
+            void setUp() {
+                Member member = createMember(MEMBER1_ID, MEMBER1_NAME, MEMBER1_NICKNAME);
+                List<Community> communities = LongStream.range(0, 5)
+                        .mapToObj(i -> createCommunityForSave(member.getId()))
+                        .collect(Collectors.toList());
+
+                memberRepository.saveMember(member);
+                communities.forEach(community -> communityRepository.saveCommunity(community));
+                postIndexes = communities.stream()
+                        .map(Community::getPostIdx)
+                        .collect(Collectors.toList());
+            }
+
+            @Test
+            @DisplayName("조회수가 같은 게시글은 게시글 번호로 이어서 조회되고, 마지막 페이지에서는 다음 페이지 커서가 없다")
+            void seek_most_viewed_with_ties() {
+                // given
+                randomIncreaseViewCount(postRepository, postIndexes, new int[]{3, 3, 3, 1, 1});
+
+                // when
+                Condition firstCondition = createCursorCondition(Sort.MOST_VIEWED, null);
+                List<Community> firstPage = findPage(firstCondition);
+                Condition secondCondition = createCursorCondition(Sort.MOST_VIEWED, Cursor.nextOf(firstCondition, firstPage));
+                List<Community> secondPage = findPage(secondCondition);
+                Condition lastCondition = createCursorCondition(Sort.MOST_VIEWED, Cursor.nextOf(secondCondition, secondPage));
+                List<Community> lastPage = findPage(lastCondition);
+
+                // then
+                assertThat(postIndexesOf(firstPage)).containsExactly(postIndexes.get(2), postIndexes.get(1));
+                assertThat(postIndexesOf(secondPage)).containsExactly(postIndexes.get(0), postIndexes.get(4));
+                assertThat(postIndexesOf(lastPage)).containsExactly(postIndexes.get(3));
+                assertThat(Cursor.nextOf(lastCondition, lastPage)).isNull();
+            }
+
+            @Test
+            @DisplayName("이전 페이지 커서로 조회하면 직전 페이지가 정렬 순서대로 조회된다")
+            void seek_prev_cursor() {
+                // given
+                randomIncreaseViewCount(postRepository, postIndexes, new int[]{3, 3, 3, 1, 1});
+                Condition firstCondition = createCursorCondition(Sort.MOST_VIEWED, null);
+                List<Community> firstPage = findPage(firstCondition);
+                Condition secondCondition = createCursorCondition(Sort.MOST_VIEWED, Cursor.nextOf(firstCondition, firstPage));
+                List<Community> secondPage = findPage(secondCondition);
+                Condition lastCondition = createCursorCondition(Sort.MOST_VIEWED, Cursor.nextOf(secondCondition, secondPage));
+                List<Community> lastPage = findPage(lastCondition);
+
+                // when
+                Condition prevCondition = createCursorCondition(Sort.MOST_VIEWED, Cursor.prevOf(lastCondition, lastPage));
+                List<Community> prevPage = findPage(prevCondition);
+                Condition firstPrevCondition = createCursorCondition(Sort.MOST_VIEWED, Cursor.prevOf(prevCondition, prevPage));
+                List<Community> firstPrevPage = findPage(firstPrevCondition);
+
+                // then
+                assertThat(postIndexesOf(prevPage)).isEqualTo(postIndexesOf(secondPage));
+                assertThat(postIndexesOf(firstPrevPage)).isEqualTo(postIndexesOf(firstPage));
+            }
+
+            @Test
+            @DisplayName("추천 점수가 같은 게시글은 게시글 번호로 이어서 조회된다")
+            void seek_recommended_with_ties() {
+                // given
+                postRepository.incrementLikeCount(postIndexes.get(0));
+                postRepository.incrementLikeCount(postIndexes.get(1));
+                postRepository.incrementLikeCount(postIndexes.get(2));
+                postRepository.incrementDislikeCount(postIndexes.get(4));
+
+                // when
+                Condition firstCondition = createCursorCondition(Sort.RECOMMENDED, null);
+                List<Community> firstPage = findPage(firstCondition);
+                Condition secondCondition = createCursorCondition(Sort.RECOMMENDED, Cursor.nextOf(firstCondition, firstPage));
+                List<Community> secondPage = findPage(secondCondition);
+                Condition lastCondition = createCursorCondition(Sort.RECOMMENDED, Cursor.nextOf(secondCondition, secondPage));
+                List<Community> lastPage = findPage(lastCondition);
+
+                // then
+                assertThat(postIndexesOf(firstPage)).containsExactly(postIndexes.get(2), postIndexes.get(1));
+                assertThat(postIndexesOf(secondPage)).containsExactly(postIndexes.get(0), postIndexes.get(3));
+                assertThat(postIndexesOf(lastPage)).containsExactly(postIndexes.get(4));
+                assertThat(Cursor.nextOf(lastCondition, lastPage)).isNull();
+            }
+
+            private Condition createCursorCondition(Sort sort, String cursor) {
+                return Condition.builder()
+                        .sort(sort)
+                        .maxNumberOfPosts(RECORDS_PER_PAGE)
+                        .cursor(cursor)
+                        .build()
+                        .updatePage();
+            }
+
+            private List<Community> findPage(Condition condition) {
+                return Cursor.inSortOrder(condition, communityRepository.findAllCommunity(condition));
+            }
+
+            private List<Long> postIndexesOf(List<Community> communities) {
+                return communities.stream()
+                        .map(Community::getPostIdx)
+                        .collect(Collectors.toList());
+            }
         }
 
         @Nested
@@ -52,6 +52,7 @@ class CommunityControllerTest extends RestDocsTestSupport {
                         createCommunity(1L, SAMPLE_NICKNAME_1, SAMPLE_TITLE_1, SAMPLE_CONTENT_1, createAttachments(), createComments()),
                         createCommunity(2L, SAMPLE_NICKNAME_2, SAMPLE_TITLE_2, SAMPLE_CONTENT_2, createAttachments(), createComments())))
                 .page(createCondition(Category.COMMUNITY_STUDY).updatePage().getPage().calculatePageInfo(2L))
+                .nextCursor("TEFURVNUOk46MTox")
                 .build();
 
         given(communityIntegratedService.getAllCommunitiesWithPageInfo(condition)).willReturn(communitiesResponse);
@@ -79,7 +80,8 @@ class CommunityControllerTest extends RestDocsTestSupport {
                                 parameterWithName("keyword").description("키워드").optional(),
                                 parameterWithName("sort").description("정렬").optional(),
                                 parameterWithName("maxNumberOfPosts").description("페이지 개수 제한").optional(),
-                                parameterWithName("pageNo").description("페이지 번호").optional()
+                                parameterWithName("pageNo").description("페이지 번호").optional(),
+                                parameterWithName("cursor").description("페이지 커서, 전달되면 페이지 번호 대신 사용").optional()
                         ),
                         responseFields(
                                 fieldWithPath("communities[]").type(ARRAY).description("커뮤니티 게시글 목록"),
@@ -117,7 +119,9 @@ class CommunityControllerTest extends RestDocsTestSupport {
                                 fieldWithPath("page.recordStartIndex").type(NUMBER).description("레코드 시작 인덱스"),
                                 fieldWithPath("page.maxPage").type(NUMBER).description("최대 페이지 수"),
                                 fieldWithPath("page.startPage").type(NUMBER).description("시작 페이지"),
-                                fieldWithPath("page.endPage").type(NUMBER).description("종료 페이지")
+                                fieldWithPath("page.endPage").type(NUMBER).description("종료 페이지"),
+                                fieldWithPath("nextCursor").type(STRING).optional().description("다음 페이지 커서(null 가능)"),
+                                fieldWithPath("prevCursor").type(STRING).optional().description("이전 페이지 커서(null 가능)")
                         )));
     }
 
@@ -0,0 +1,48 @@
+package com.now.core.post.inquiry.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("문의 게시글 열람 권한 제공 객체는")
+class InquiryViewGrantProviderTest {
+
+    private static final String PASSWORD_HASH = "{bcrypt}$2a$10$passwordHash";
+
+    private final InquiryViewGrantProvider inquiryViewGrantProvider = new InquiryViewGrantProvider("testSecurityKey", 600);
+
+    @Test
+    @DisplayName("발급한 게시글의 열람 권한이라면 유효하다")
+    void isValid() {
+        // given
+        String viewGrant = inquiryViewGrantProvider.issue(1L, PASSWORD_HASH);
+
+        // when, then
+        assertThat(inquiryViewGrantProvider.isValid(viewGrant, 1L, PASSWORD_HASH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 게시글, 변경된 비밀번호, 변조된 서명의 열람 권한이라면 유효하지 않다")
+    void isValid_mismatch() {
+        // given
+        String viewGrant = inquiryViewGrantProvider.issue(1L, PASSWORD_HASH);
+
+        // when, then
+        assertThat(inquiryViewGrantProvider.isValid(viewGrant, 2L, PASSWORD_HASH)).isFalse();
+        assertThat(inquiryViewGrantProvider.isValid(viewGrant, 1L, "{bcrypt}$2a$10$changedHash")).isFalse();
+        assertThat(inquiryViewGrantProvider.isValid(viewGrant + "a", 1L, PASSWORD_HASH)).isFalse();
+        assertThat(inquiryViewGrantProvider.isValid(null, 1L, PASSWORD_HASH)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 열람 권한이라면 유효하지 않다")
+    void isValid_expired() {
+        // given
+        InquiryViewGrantProvider expiredGrantProvider = new InquiryViewGrantProvider("testSecurityKey", -1);
+        String viewGrant = expiredGrantProvider.issue(1L, PASSWORD_HASH);
+
+        // when, then
+        assertThat(expiredGrantProvider.isValid(viewGrant, 1L, PASSWORD_HASH)).isFalse();
+    }
+}
@@ -27,6 +27,7 @@ import static com.now.config.document.snippet.RequestCookiesSnippet.customReques
 import static com.now.config.document.utils.RestDocsConfig.field;
 import static com.now.config.fixtures.post.InquiryFixture.*;
 import static com.now.config.fixtures.post.dto.ConditionFixture.createCondition;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
@@ -169,7 +170,7 @@ class InquiryControllerTest extends RestDocsTestSupport {
         String password = "password1!";
         String accessToken = "Bearer AccessToken";
 
-        given(inquiryIntegratedService.getPrivateInquiryAndIncrementViewCount(postIdx, accessToken, password))
+        given(inquiryIntegratedService.getPrivateInquiryAndIncrementViewCount(postIdx, accessToken, password, null))
                 .willReturn(createSecretInquiry(
                         1L, InquiryFixture.SAMPLE_NICKNAME_1, InquiryFixture.SAMPLE_TITLE_1, InquiryFixture.SAMPLE_CONTENT_1));
 
@@ -211,6 +212,28 @@ class InquiryControllerTest extends RestDocsTestSupport {
                         )));
     }
 
+    @Test
+    @DisplayName("비밀글 열람 권한 쿠키는 열람 권한의 유효 시간이 지나면 만료된다")
+    void getPrivateInquiry_viewGrantCookie() throws Exception {
+        // given
+        Long postIdx = 1L;
+        String password = "password1!";
+        Inquiry inquiry = createSecretInquiry(
+                1L, InquiryFixture.SAMPLE_NICKNAME_1, InquiryFixture.SAMPLE_TITLE_1, InquiryFixture.SAMPLE_CONTENT_1)
+                .updateViewGrant("grant");
+
+        given(inquiryIntegratedService.getPrivateInquiryAndIncrementViewCount(postIdx, null, password, null))
+                .willReturn(inquiry);
+        given(inquiryViewGrantProvider.getTtlSeconds()).willReturn(600L);
+
+        // when, then
+        mockMvc.perform(RestDocumentationRequestBuilders.post("/api/inquiries/secret/{postIdx}", postIdx)
+                        .param("password", password))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.SET_COOKIE,
+                        containsString("Max-Age=600")));
+    }
+
     @Test
     @DisplayName("문의 게시글 등록")
     void registerInquiry() throws Exception {
@@ -34,7 +34,10 @@ import static com.now.config.fixtures.post.PhotoFixture.createPhoto;
 import static com.now.config.fixtures.post.PhotoFixture.createPhotoForSave;
 import static com.now.config.fixtures.post.dto.ConditionFixture.createCondition;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.payload.JsonFieldType.*;
@@ -366,6 +369,46 @@ class PhotoControllerTest extends RestDocsTestSupport {
                 ));
     }
 
+    @Test
+    @DisplayName("사진 게시글에 이미지 스트림 업로드")
+    void addPhotoAttachments() throws Exception {
+        Long postIdx = 1L;
+        String memberId = "tester1";
+        String accessToken = "Bearer accessToken";
+        given(jwtTokenProvider.getClaim(accessToken, "id")).willReturn(memberId);
+        given(jwtTokenProvider.getClaim(accessToken, "role")).willReturn(Authority.MEMBER.getValue());
+
+        String boundary = "now-boundary";
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"attachments\"; filename=\"file1.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n"
+                + "file1 content\r\n"
+                + "--" + boundary + "--\r\n";
+
+        ResultActions resultActions = mockMvc.perform(RestDocumentationRequestBuilders.post("/api/photos/{postIdx}/attachments", postIdx)
+                        .contentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=" + boundary)
+                        .content(body)
+                        .cookie(new Cookie(JwtTokenProvider.ACCESS_TOKEN_KEY, accessToken)))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LOCATION, "/api/photos/" + postIdx))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        then(photoIntegratedService).should()
+                .addPhotoAttachments(eq(postIdx), eq(memberId), startsWith(MediaType.MULTIPART_FORM_DATA_VALUE), any());
+
+        resultActions
+                .andDo(restDocs.document(
+                        customRequestHeaderCookies(
+                                cookieWithName(JwtTokenProvider.ACCESS_TOKEN_KEY).description("액세스 토큰")
+                        ),
+                        pathParameters(
+                                parameterWithName("postIdx").description("게시글 번호")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.LOCATION).description("이미지가 추가된 게시글 URI")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("사진 게시글 삭제")
     void deletePhoto() throws Exception {